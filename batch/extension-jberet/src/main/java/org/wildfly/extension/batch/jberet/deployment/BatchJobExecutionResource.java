@@ -22,15 +22,11 @@
 
 package org.wildfly.extension.batch.jberet.deployment;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashSet;
-import java.util.List;
 import java.util.Set;
 
 import javax.batch.operations.JobOperator;
-import javax.batch.runtime.JobExecution;
-import javax.batch.runtime.JobInstance;
 
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
@@ -50,8 +46,7 @@ public class BatchJobExecutionResource implements Resource {
     private final Resource delegate;
     private final JobOperator jobOperator;
     private final String jobName;
-    // Should be guarded by it's instance
-    private final Set<String> children = new LinkedHashSet<>();
+    private final JobExecutionCache children;
 
     public BatchJobExecutionResource(final JobOperator jobOperator, final String jobName) {
         this(Factory.create(true), jobOperator, jobName);
@@ -61,6 +56,12 @@ public class BatchJobExecutionResource implements Resource {
         this.delegate = delegate;
         this.jobOperator = jobOperator;
         this.jobName = jobName;
+        // Resources are cloned on each model change, the cache must outlive them
+        if (jobOperator instanceof JobOperatorService) {
+            this.children = ((JobOperatorService) jobOperator).getExecutionCache(jobName);
+        } else {
+            this.children = new JobExecutionCache(jobOperator, jobName);
+        }
     }
 
     @Override
@@ -137,10 +138,7 @@ public class BatchJobExecutionResource implements Resource {
     @Override
     public Set<String> getChildrenNames(final String childType) {
         if (BatchJobExecutionResourceDefinition.EXECUTION.equals(childType)) {
-            synchronized (children) {
-                refreshChildren();
-                return new LinkedHashSet<>(children);
-            }
+            return children.getExecutionNames();
         }
         return delegate.getChildrenNames(childType);
     }
@@ -202,31 +200,6 @@ public class BatchJobExecutionResource implements Resource {
     }
 
     private boolean hasJobExecution(final String executionName) {
-        synchronized (children) {
-            if (children.contains(executionName)) {
-                return true;
-            }
-            // Load a cache of the names
-            refreshChildren();
-            return children.contains(executionName);
-        }
-    }
-
-    /**
-     * Note the access to the {@link #children} is <strong>not</strong> guarded here and needs to be externally
-     * guarded.
-     */
-    private void refreshChildren() {
-        final List<JobExecution> executions = new ArrayList<>();
-        final List<JobInstance> instances = jobOperator.getJobInstances(jobName, 0, jobOperator.getJobInstanceCount(jobName));
-        for (JobInstance instance : instances) {
-            executions.addAll(jobOperator.getJobExecutions(instance));
-        }
-        for (JobExecution execution : executions) {
-            final String name = Long.toString(execution.getExecutionId());
-            if (!children.contains(name)) {
-                children.add(name);
-            }
-        }
+        return children.hasExecution(executionName);
     }
 }
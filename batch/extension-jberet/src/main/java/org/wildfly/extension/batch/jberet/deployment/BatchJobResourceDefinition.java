@@ -22,7 +22,15 @@
 
 package org.wildfly.extension.batch.jberet.deployment;
 
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import javax.batch.operations.JobOperator;
+import javax.batch.operations.JobSecurityException;
+import javax.batch.operations.NoSuchJobExecutionException;
+import javax.batch.runtime.BatchStatus;
+import javax.batch.runtime.JobExecution;
 
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
@@ -30,7 +38,11 @@ import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleListAttributeDefinition;
+import org.jboss.as.controller.SimpleOperationDefinition;
+import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
+import org.jboss.as.controller.descriptions.ResourceDescriptionResolver;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
@@ -60,10 +72,40 @@ public class BatchJobResourceDefinition extends SimpleResourceDefinition {
             .setStorageRuntime()
             .build();
 
+    private static final ResourceDescriptionResolver DEFAULT_RESOLVER = BatchResourceDescriptionResolver.getResourceDescriptionResolver("deployment", "job");
+
+    private static final SimpleAttributeDefinition OFFSET = SimpleAttributeDefinitionBuilder.create("offset", ModelType.INT, true)
+            .setDefaultValue(new ModelNode(0))
+            .setValidator(new IntRangeValidator(0, true))
+            .build();
+
+    private static final SimpleAttributeDefinition COUNT = SimpleAttributeDefinitionBuilder.create("count", ModelType.INT, true)
+            .setDefaultValue(new ModelNode(100))
+            .setValidator(new IntRangeValidator(1, true))
+            .build();
+
+    private static final SimpleAttributeDefinition RETENTION_DAYS = SimpleAttributeDefinitionBuilder.create("retention-days", ModelType.INT, false)
+            .setValidator(new IntRangeValidator(0, false))
+            .build();
+
+    private static final SimpleOperationDefinition LIST_EXECUTIONS = new SimpleOperationDefinitionBuilder("list-executions", DEFAULT_RESOLVER)
+            .setParameters(OFFSET, COUNT)
+            .setReplyType(ModelType.LIST)
+            .setReplyValueType(ModelType.OBJECT)
+            .setReadOnly()
+            .setRuntimeOnly()
+            .build();
+
+    private static final SimpleOperationDefinition PURGE_EXECUTIONS = new SimpleOperationDefinitionBuilder("purge-executions", DEFAULT_RESOLVER)
+            .setParameters(RETENTION_DAYS)
+            .setReplyType(ModelType.INT)
+            .setRuntimeOnly()
+            .build();
+
     public static final BatchJobResourceDefinition INSTANCE = new BatchJobResourceDefinition();
 
     private BatchJobResourceDefinition() {
-        super(new Parameters(PathElement.pathElement(JOB), BatchResourceDescriptionResolver.getResourceDescriptionResolver("deployment", "job")).setRuntime());
+        super(new Parameters(PathElement.pathElement(JOB), DEFAULT_RESOLVER).setRuntime());
     }
 
     @Override
@@ -94,4 +136,67 @@ public class BatchJobResourceDefinition extends SimpleResourceDefinition {
         });
     }
 
+    @Override
+    public void registerOperations(final ManagementResourceRegistration resourceRegistration) {
+        super.registerOperations(resourceRegistration);
+
+        resourceRegistration.registerOperationHandler(LIST_EXECUTIONS, new JobOperationStepHandler(false) {
+            @Override
+            protected void execute(final OperationContext context, final ModelNode operation, final JobOperator jobOperator) throws OperationFailedException {
+                final String jobName = context.getCurrentAddressValue();
+                final int offset = resolveValue(context, operation, OFFSET).asInt();
+                final int count = resolveValue(context, operation, COUNT).asInt();
+                final List<Long> executionIds;
+                if (jobOperator instanceof JobOperatorService) {
+                    executionIds = ((JobOperatorService) jobOperator).getExecutionCache(jobName).getExecutionIds(offset, count);
+                } else {
+                    executionIds = new JobExecutionCache(jobOperator, jobName).getExecutionIds(offset, count);
+                }
+                final SimpleDateFormat formatter = new SimpleDateFormat(BatchJobExecutionResourceDefinition.ISO_8601_FORMAT);
+                final ModelNode list = context.getResult().setEmptyList();
+                for (Long executionId : executionIds) {
+                    final JobExecution execution;
+                    try {
+                        execution = jobOperator.getJobExecution(executionId);
+                    } catch (NoSuchJobExecutionException | JobSecurityException e) {
+                        // Removed since the ids were read
+                        continue;
+                    }
+                    final ModelNode entry = new ModelNode();
+                    entry.get("execution-id").set(executionId);
+                    final BatchStatus status = execution.getBatchStatus();
+                    if (status != null) {
+                        entry.get(BatchJobExecutionResourceDefinition.BATCH_STATUS.getName()).set(status.toString());
+                    }
+                    if (execution.getExitStatus() != null) {
+                        entry.get(BatchJobExecutionResourceDefinition.EXIT_STATUS.getName()).set(execution.getExitStatus());
+                    }
+                    if (execution.getCreateTime() != null) {
+                        entry.get(BatchJobExecutionResourceDefinition.CREATE_TIME.getName()).set(formatter.format(execution.getCreateTime()));
+                    }
+                    if (execution.getEndTime() != null) {
+                        entry.get(BatchJobExecutionResourceDefinition.END_TIME.getName()).set(formatter.format(execution.getEndTime()));
+                    }
+                    list.add(entry);
+                }
+            }
+        });
+
+        resourceRegistration.registerOperationHandler(PURGE_EXECUTIONS, new JobOperationStepHandler() {
+            @Override
+            protected void execute(final OperationContext context, final ModelNode operation, final JobOperator jobOperator) throws OperationFailedException {
+                final int retentionDays = resolveValue(context, operation, RETENTION_DAYS).asInt();
+                final Date endedBefore = new Date(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(retentionDays));
+                if (jobOperator instanceof JobOperatorService) {
+                    try {
+                        context.getResult().set(((JobOperatorService) jobOperator).purgeJobExecutions(context.getCurrentAddressValue(), endedBefore).size());
+                    } catch (JobSecurityException e) {
+                        throw createOperationFailure(e);
+                    }
+                } else {
+                    context.getResult().set(0);
+                }
+            }
+        });
+    }
 }
@@ -0,0 +1,283 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.wildfly.extension.batch.jberet.deployment;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.batch.operations.JobOperator;
+import javax.batch.operations.JobSecurityException;
+import javax.batch.operations.NoSuchJobException;
+import javax.batch.operations.NoSuchJobExecutionException;
+import javax.batch.runtime.JobExecution;
+import javax.batch.runtime.JobInstance;
+
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * A cache of the execution ids of a job, shared by the management resources of the job.
+ * <p>
+ * Reading all the executions of a job queries the job repository once per job instance, which is slow with large job
+ * repositories. The cache is refreshed incrementally instead: only the job instances created since the last refresh
+ * and the running executions, which include the restarts of older instances, are read, at most once per
+ * {@value #REFRESH_INTERVAL} milliseconds (default 1000).
+ * </p>
+ * <p>
+ * To pick up the changes made outside of this server, the cache is rebuilt from scratch every
+ * {@value #FULL_REFRESH_INTERVAL} milliseconds (default 60000), or on the next read after {@link #invalidate()}. The
+ * rebuild reads the whole repository without holding the cache lock, the other readers keep using the current ids
+ * meanwhile. The readers arriving before the first build completed wait for it.
+ * </p>
+ */
+class JobExecutionCache {
+
+    static final String REFRESH_INTERVAL = "wildfly.batch.executions.refreshInterval";
+    static final String FULL_REFRESH_INTERVAL = "wildfly.batch.executions.fullRefreshInterval";
+
+    private static final long REFRESH_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(Long.parseLong(WildFlySecurityManager.getPropertyPrivileged(REFRESH_INTERVAL, "1000")));
+    private static final long FULL_REFRESH_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(Long.parseLong(WildFlySecurityManager.getPropertyPrivileged(FULL_REFRESH_INTERVAL, "60000")));
+    private static final int PAGE_SIZE = 100;
+
+    private final JobOperator jobOperator;
+    private final String jobName;
+    private final long refreshInterval;
+    private final long fullRefreshInterval;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    // Guarded by this
+    private final NavigableSet<Long> executionIds = new TreeSet<>(Collections.reverseOrder());
+    private long lastInstanceId = -1L;
+    private long lastRefresh;
+    private long lastFullRefresh;
+    private boolean initialized;
+    private boolean invalidated;
+
+    JobExecutionCache(final JobOperator jobOperator, final String jobName) {
+        this(jobOperator, jobName, REFRESH_INTERVAL_NANOS, FULL_REFRESH_INTERVAL_NANOS);
+    }
+
+    JobExecutionCache(final JobOperator jobOperator, final String jobName, final long refreshInterval, final long fullRefreshInterval) {
+        this.jobOperator = jobOperator;
+        this.jobName = jobName;
+        this.refreshInterval = refreshInterval;
+        this.fullRefreshInterval = fullRefreshInterval;
+    }
+
+    /**
+     * Returns the execution ids of the job, most recent first.
+     *
+     * @return the execution ids as resource names
+     */
+    Set<String> getExecutionNames() {
+        rebuildIfStale();
+        synchronized (this) {
+            refresh();
+            final Set<String> result = new LinkedHashSet<>(executionIds.size());
+            for (Long id : executionIds) {
+                result.add(id.toString());
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Returns a page of the execution ids of the job, most recent first.
+     *
+     * @param offset the number of executions to skip
+     * @param count  the maximum number of execution ids to return
+     *
+     * @return the execution ids
+     */
+    List<Long> getExecutionIds(final int offset, final int count) {
+        rebuildIfStale();
+        synchronized (this) {
+            refresh();
+            final List<Long> result = new ArrayList<>(Math.min(count, executionIds.size()));
+            int index = 0;
+            for (Long id : executionIds) {
+                if (result.size() >= count) {
+                    break;
+                }
+                if (index++ >= offset) {
+                    result.add(id);
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Checks whether the execution belongs to the job. Executions unknown to the cache are looked up directly, so that
+     * an execution is available as soon as it is started.
+     *
+     * @param executionName the execution id
+     *
+     * @return {@code true} if the execution exists for the job
+     */
+    boolean hasExecution(final String executionName) {
+        final long executionId;
+        try {
+            executionId = Long.parseLong(executionName);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        rebuildIfStale();
+        synchronized (this) {
+            refresh();
+            if (executionIds.contains(executionId)) {
+                return true;
+            }
+            try {
+                final JobInstance instance = jobOperator.getJobInstance(executionId);
+                if (instance != null && jobName.equals(instance.getJobName())) {
+                    executionIds.add(executionId);
+                    return true;
+                }
+            } catch (NoSuchJobExecutionException | NoSuchJobException | JobSecurityException ignore) {
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Rebuilds the cache from the job repository on the next read.
+     */
+    synchronized void invalidate() {
+        invalidated = true;
+    }
+
+    /**
+     * Rebuilds the cache if it was never built, was invalidated or is older than the full refresh interval. The job
+     * repository is read without holding the lock, only one thread rebuilds the cache at a time. The other threads keep
+     * using the current ids, except before the first build which they wait for.
+     */
+    private void rebuildIfStale() {
+        while (true) {
+            synchronized (this) {
+                if (initialized && !invalidated && System.nanoTime() - lastFullRefresh < fullRefreshInterval) {
+                    return;
+                }
+            }
+            if (rebuilding.compareAndSet(false, true)) {
+                break;
+            }
+            synchronized (this) {
+                if (initialized) {
+                    // Another thread rebuilds the cache, use the current ids meanwhile
+                    return;
+                }
+                // There are no current ids before the first build, wait for it
+                while (!initialized && rebuilding.get()) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+        }
+        try {
+            final long now = System.nanoTime();
+            final NavigableSet<Long> ids = new TreeSet<>(Collections.reverseOrder());
+            final long newestInstanceId = readInstances(-1L, ids);
+            synchronized (this) {
+                // Keep the executions started while the repository was read
+                if (!ids.isEmpty()) {
+                    ids.addAll(executionIds.headSet(ids.first(), false));
+                }
+                executionIds.clear();
+                executionIds.addAll(ids);
+                lastInstanceId = Math.max(newestInstanceId, initialized ? lastInstanceId : -1L);
+                lastFullRefresh = now;
+                // The incremental refresh still reads the running executions
+                lastRefresh = now - refreshInterval;
+                initialized = true;
+                invalidated = false;
+            }
+        } finally {
+            synchronized (this) {
+                rebuilding.set(false);
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Note the access to the cache is <strong>not</strong> guarded here and needs to be externally guarded.
+     */
+    private void refresh() {
+        final long now = System.nanoTime();
+        if (!initialized || now - lastRefresh < refreshInterval) {
+            return;
+        }
+        lastInstanceId = readInstances(lastInstanceId, executionIds);
+        try {
+            executionIds.addAll(jobOperator.getRunningExecutions(jobName));
+        } catch (NoSuchJobException ignore) {
+            // No execution of the job is running
+        }
+        lastRefresh = now;
+    }
+
+    /**
+     * Reads the executions of the job instances newer than the given instance.
+     *
+     * @param lastInstanceId the id of the newest instance already read, or -1 to read all the instances
+     * @param ids            the set to add the execution ids to
+     *
+     * @return the id of the newest job instance
+     */
+    private long readInstances(final long lastInstanceId, final Set<Long> ids) {
+        // Job instances are returned most recent first, stop at the first one already seen
+        long newestInstanceId = lastInstanceId;
+        int start = 0;
+        boolean done = false;
+        try {
+            while (!done) {
+                final List<JobInstance> instances = jobOperator.getJobInstances(jobName, start, PAGE_SIZE);
+                for (JobInstance instance : instances) {
+                    if (instance.getInstanceId() <= lastInstanceId) {
+                        done = true;
+                        break;
+                    }
+                    newestInstanceId = Math.max(newestInstanceId, instance.getInstanceId());
+                    for (JobExecution execution : jobOperator.getJobExecutions(instance)) {
+                        ids.add(execution.getExecutionId());
+                    }
+                }
+                start += instances.size();
+                done |= instances.size() < PAGE_SIZE;
+            }
+        } catch (NoSuchJobException ignore) {
+            // The job was never run
+        }
+        return newestInstanceId;
+    }
+}
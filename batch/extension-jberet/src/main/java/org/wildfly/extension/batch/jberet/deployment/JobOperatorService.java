@@ -22,10 +22,16 @@
 
 package org.wildfly.extension.batch.jberet.deployment;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.batch.operations.JobExecutionAlreadyCompleteException;
 import javax.batch.operations.JobExecutionIsRunningException;
 import javax.batch.operations.JobExecutionNotMostRecentException;
@@ -38,10 +44,15 @@ import javax.batch.operations.NoSuchJobException;
 import javax.batch.operations.NoSuchJobExecutionException;
 import javax.batch.operations.NoSuchJobInstanceException;
 import javax.batch.runtime.BatchRuntime;
+import javax.batch.runtime.BatchStatus;
 import javax.batch.runtime.JobExecution;
 import javax.batch.runtime.JobInstance;
 import javax.batch.runtime.StepExecution;
+import javax.batch.runtime.context.JobContext;
+import javax.batch.runtime.context.StepContext;
 
+import org.jberet.repository.JobExecutionSelector;
+import org.jberet.repository.JobRepository;
 import org.jberet.spi.BatchEnvironment;
 import org.jboss.msc.inject.Injector;
 import org.jboss.msc.service.Service;
@@ -74,6 +85,7 @@ public class JobOperatorService implements JobOperator, Service<JobOperator> {
     private ClassLoader classLoader;
     private JobOperator delegate;
     private final DeploymentJobDescriptors jobDescriptors;
+    private final Map<String, JobExecutionCache> executionCaches = new ConcurrentHashMap<>();
 
     public JobOperatorService() {
         jobDescriptors = new DeploymentJobDescriptors();
@@ -310,6 +322,84 @@ public class JobOperatorService implements JobOperator, Service<JobOperator> {
         }
     }
 
+    /**
+     * Removes the job instances of the job whose executions all ended before the date, along with their executions,
+     * from the job repository.
+     *
+     * @param jobName     the name of the job
+     * @param endedBefore the date the executions must have ended before
+     *
+     * @return the ids of the removed executions
+     */
+    List<Long> purgeJobExecutions(final String jobName, final Date endedBefore) throws JobSecurityException {
+        checkState(jobName);
+        final List<Long> removed;
+        final ClassLoader current = WildFlySecurityManager.getCurrentContextClassLoaderPrivileged();
+        try {
+            WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(classLoader);
+            removed = purgeJobExecutions(delegate, batchEnvironmentInjector.getValue().getJobRepository(), jobName, endedBefore);
+        } finally {
+            WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(current);
+        }
+        if (!removed.isEmpty()) {
+            getExecutionCache(jobName).invalidate();
+        }
+        return removed;
+    }
+
+    /**
+     * Removes the expired job executions through {@link JobRepository#removeJobExecutions(JobExecutionSelector)}, which
+     * deletes them from the persistent repositories, then removes their job instances.
+     */
+    static List<Long> purgeJobExecutions(final JobOperator jobOperator, final JobRepository jobRepository, final String jobName, final Date endedBefore) {
+        final List<JobInstance> instances;
+        try {
+            // Read all the instances first, removing them while paging would shift the pages
+            instances = jobOperator.getJobInstances(jobName, 0, jobOperator.getJobInstanceCount(jobName));
+        } catch (NoSuchJobException ignore) {
+            return Collections.emptyList();
+        }
+        final Set<Long> expiredInstances = new HashSet<>();
+        final Set<Long> expiredExecutions = new HashSet<>();
+        for (JobInstance instance : instances) {
+            final List<JobExecution> executions = jobOperator.getJobExecutions(instance);
+            boolean expired = true;
+            for (JobExecution execution : executions) {
+                final Date ended = execution.getEndTime() != null ? execution.getEndTime()
+                        : (execution.getBatchStatus() == BatchStatus.ABANDONED ? execution.getLastUpdatedTime() : null);
+                if (ended == null || !ended.before(endedBefore)) {
+                    expired = false;
+                    break;
+                }
+            }
+            if (expired) {
+                expiredInstances.add(instance.getInstanceId());
+                for (JobExecution execution : executions) {
+                    expiredExecutions.add(execution.getExecutionId());
+                }
+            }
+        }
+        if (expiredInstances.isEmpty()) {
+            return Collections.emptyList();
+        }
+        jobRepository.removeJobExecutions(new ExecutionIdSelector(expiredExecutions));
+        for (Long instanceId : expiredInstances) {
+            jobRepository.removeJobInstance(instanceId);
+        }
+        return new ArrayList<>(expiredExecutions);
+    }
+
+    /**
+     * Returns the cache of the execution ids of the job, shared by the management resources of the job.
+     *
+     * @param jobName the name of the job
+     *
+     * @return the execution cache
+     */
+    JobExecutionCache getExecutionCache(final String jobName) {
+        return executionCaches.computeIfAbsent(jobName, name -> new JobExecutionCache(this, name));
+    }
+
     /**
      * Adds the job XML and the job name to the allowed resources to use.
      *
@@ -356,4 +446,42 @@ public class JobOperatorService implements JobOperator, Service<JobOperator> {
             throw BatchLogger.LOGGER.noSuchJobException(name);
         }
     }
+
+    /**
+     * Selects the job executions with the given ids.
+     */
+    private static class ExecutionIdSelector implements JobExecutionSelector {
+        private final Set<Long> executionIds;
+        private JobContext jobContext;
+        private StepContext stepContext;
+
+        ExecutionIdSelector(final Set<Long> executionIds) {
+            this.executionIds = executionIds;
+        }
+
+        @Override
+        public boolean select(final JobExecution jobExecution, final Collection<Long> allJobExecutionIds) {
+            return executionIds.contains(jobExecution.getExecutionId());
+        }
+
+        @Override
+        public JobContext getJobContext() {
+            return jobContext;
+        }
+
+        @Override
+        public void setJobContext(final JobContext jobContext) {
+            this.jobContext = jobContext;
+        }
+
+        @Override
+        public StepContext getStepContext() {
+            return stepContext;
+        }
+
+        @Override
+        public void setStepContext(final StepContext stepContext) {
+            this.stepContext = stepContext;
+        }
+    }
 }
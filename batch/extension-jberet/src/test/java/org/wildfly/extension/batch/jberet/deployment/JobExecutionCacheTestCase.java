@@ -0,0 +1,365 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.wildfly.extension.batch.jberet.deployment;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.batch.operations.JobOperator;
+import javax.batch.operations.NoSuchJobException;
+import javax.batch.runtime.BatchStatus;
+import javax.batch.runtime.JobExecution;
+import javax.batch.runtime.JobInstance;
+
+import org.jberet.repository.JobExecutionSelector;
+import org.jberet.repository.JobRepository;
+import org.junit.Test;
+
+/**
+ * Tests the refreshes of {@link JobExecutionCache} and the purge of the job executions.
+ */
+public class JobExecutionCacheTestCase {
+
+    private static final String JOB_NAME = "test-job";
+
+    private final Repository repository = new Repository();
+    private final JobOperator jobOperator = repository.jobOperator();
+
+    @Test
+    public void testIncrementalRefresh() throws Exception {
+        final JobExecutionCache cache = new JobExecutionCache(jobOperator, JOB_NAME, 0L, TimeUnit.HOURS.toNanos(1));
+        repository.addInstance(1L, execution(10L, BatchStatus.COMPLETED, 1));
+        repository.addInstance(2L, execution(20L, BatchStatus.COMPLETED, 1));
+        assertEquals(Arrays.asList(20L, 10L), cache.getExecutionIds(0, 10));
+
+        repository.addInstance(3L, execution(30L, BatchStatus.COMPLETED, 1));
+        assertEquals(Arrays.asList(30L, 20L, 10L), cache.getExecutionIds(0, 10));
+        assertEquals(Arrays.asList(20L), cache.getExecutionIds(1, 1));
+        // The executions of an instance are only read once
+        assertEquals(1, repository.executionReads(1L));
+
+        // A restart of an old instance is found through the running executions
+        repository.addExecution(1L, execution(40L, BatchStatus.STARTED, 0));
+        assertEquals(new HashSet<>(Arrays.asList("40", "30", "20", "10")), cache.getExecutionNames());
+        assertEquals(1, repository.executionReads(1L));
+    }
+
+    @Test
+    public void testHasExecution() throws Exception {
+        final JobExecutionCache cache = new JobExecutionCache(jobOperator, JOB_NAME, TimeUnit.HOURS.toNanos(1), TimeUnit.HOURS.toNanos(1));
+        repository.addInstance(1L, execution(10L, BatchStatus.COMPLETED, 1));
+        assertTrue(cache.hasExecution("10"));
+        assertFalse(cache.hasExecution("11"));
+        assertFalse(cache.hasExecution("not-a-number"));
+
+        // Started since the last refresh, looked up directly
+        repository.addInstance(2L, execution(20L, BatchStatus.STARTED, 0));
+        assertTrue(cache.hasExecution("20"));
+    }
+
+    @Test
+    public void testInvalidate() throws Exception {
+        final JobExecutionCache cache = new JobExecutionCache(jobOperator, JOB_NAME, 0L, TimeUnit.HOURS.toNanos(1));
+        repository.addInstance(1L, execution(10L, BatchStatus.COMPLETED, 1));
+        repository.addInstance(2L, execution(20L, BatchStatus.COMPLETED, 1));
+        assertEquals(Arrays.asList(20L, 10L), cache.getExecutionIds(0, 10));
+
+        // Removed outside of the server, only a rebuild notices it
+        repository.removeInstance(1L);
+        assertEquals(Arrays.asList(20L, 10L), cache.getExecutionIds(0, 10));
+        cache.invalidate();
+        assertEquals(Arrays.asList(20L), cache.getExecutionIds(0, 10));
+    }
+
+    @Test
+    public void testRebuildDoesNotBlockReaders() throws Exception {
+        final JobExecutionCache cache = new JobExecutionCache(jobOperator, JOB_NAME, 0L, TimeUnit.HOURS.toNanos(1));
+        repository.addInstance(1L, execution(10L, BatchStatus.COMPLETED, 1));
+        assertEquals(Arrays.asList(10L), cache.getExecutionIds(0, 10));
+
+        cache.invalidate();
+        final CountDownLatch reading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        repository.blockNextRead(reading, release);
+        final AtomicReference<List<Long>> rebuilt = new AtomicReference<>();
+        final Thread rebuilder = new Thread(() -> rebuilt.set(cache.getExecutionIds(0, 10)));
+        rebuilder.start();
+        try {
+            assertTrue(reading.await(5, TimeUnit.SECONDS));
+            // The rebuild holds no lock, the current ids are served meanwhile
+            repository.addInstance(2L, execution(20L, BatchStatus.COMPLETED, 1));
+            assertEquals(Arrays.asList(20L, 10L), cache.getExecutionIds(0, 10));
+        } finally {
+            release.countDown();
+        }
+        rebuilder.join(5000);
+        assertEquals(Arrays.asList(20L, 10L), rebuilt.get());
+    }
+
+    @Test
+    public void testReadersWaitForFirstBuild() throws Exception {
+        final JobExecutionCache cache = new JobExecutionCache(jobOperator, JOB_NAME, TimeUnit.HOURS.toNanos(1), TimeUnit.HOURS.toNanos(1));
+        repository.addInstance(1L, execution(10L, BatchStatus.COMPLETED, 1));
+
+        final CountDownLatch reading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        repository.blockNextRead(reading, release);
+        final AtomicReference<List<Long>> built = new AtomicReference<>();
+        final Thread builder = new Thread(() -> built.set(cache.getExecutionIds(0, 10)));
+        builder.start();
+        final AtomicReference<List<Long>> waited = new AtomicReference<>();
+        final Thread reader = new Thread(() -> waited.set(cache.getExecutionIds(0, 10)));
+        try {
+            assertTrue(reading.await(5, TimeUnit.SECONDS));
+            // There are no ids to serve yet, the reader waits for the first build
+            reader.start();
+            reader.join(200);
+            assertTrue(reader.isAlive());
+        } finally {
+            release.countDown();
+        }
+        builder.join(5000);
+        reader.join(5000);
+        assertEquals(Arrays.asList(10L), built.get());
+        assertEquals(Arrays.asList(10L), waited.get());
+    }
+
+    @Test
+    public void testPurge() throws Exception {
+        repository.addInstance(1L, execution(10L, BatchStatus.COMPLETED, 10), execution(11L, BatchStatus.FAILED, 9));
+        repository.addInstance(2L, execution(20L, BatchStatus.COMPLETED, 10), execution(21L, BatchStatus.COMPLETED, 1));
+        repository.addInstance(3L, execution(30L, BatchStatus.ABANDONED, 8));
+        repository.addInstance(4L, execution(40L, BatchStatus.STARTED, 0));
+        final JobExecutionCache cache = new JobExecutionCache(jobOperator, JOB_NAME, TimeUnit.HOURS.toNanos(1), TimeUnit.HOURS.toNanos(1));
+        assertEquals(6, cache.getExecutionIds(0, 10).size());
+
+        final Date endedBefore = new Date(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(5));
+        final List<Long> removed = JobOperatorService.purgeJobExecutions(jobOperator, repository.jobRepository(), JOB_NAME, endedBefore);
+        assertEquals(new HashSet<>(Arrays.asList(10L, 11L, 30L)), new HashSet<>(removed));
+        // The executions are deleted through the repository purge, the instances afterwards
+        assertEquals(new HashSet<>(Arrays.asList(1L, 3L)), repository.removedInstances);
+        assertEquals(Arrays.asList(40L, 21L, 20L), repository.executionIds());
+
+        cache.invalidate();
+        assertEquals(Arrays.asList(40L, 21L, 20L), cache.getExecutionIds(0, 10));
+    }
+
+    @Test
+    public void testPurgeUnknownJob() throws Exception {
+        final List<Long> removed = JobOperatorService.purgeJobExecutions(jobOperator, repository.jobRepository(), "unknown", new Date());
+        assertTrue(removed.isEmpty());
+        assertTrue(repository.removedInstances.isEmpty());
+    }
+
+    /**
+     * Creates an execution which ended the given number of days ago, or a running one for 0.
+     */
+    private static JobExecution execution(final long id, final BatchStatus status, final int endedDaysAgo) {
+        final Date ended = endedDaysAgo == 0 ? null : new Date(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(endedDaysAgo));
+        return (JobExecution) Proxy.newProxyInstance(JobExecutionCacheTestCase.class.getClassLoader(), new Class<?>[] {JobExecution.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getExecutionId":
+                    return id;
+                case "getBatchStatus":
+                    return status;
+                case "getEndTime":
+                    return status == BatchStatus.ABANDONED ? null : ended;
+                case "getLastUpdatedTime":
+                    return ended;
+                case "hashCode":
+                    return (int) id;
+                case "equals":
+                    return proxy == args[0];
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+
+    /**
+     * An in-memory job repository of a single job, the instances are kept oldest first.
+     */
+    private static class Repository {
+        private final Map<Long, List<JobExecution>> instances = new LinkedHashMap<>();
+        private final Map<Long, AtomicInteger> executionReads = new LinkedHashMap<>();
+        private final Set<Long> removedInstances = new HashSet<>();
+        private volatile CountDownLatch reading;
+        private volatile CountDownLatch release;
+
+        synchronized void addInstance(final long instanceId, final JobExecution... executions) {
+            instances.put(instanceId, new ArrayList<>(Arrays.asList(executions)));
+        }
+
+        synchronized void addExecution(final long instanceId, final JobExecution execution) {
+            instances.get(instanceId).add(execution);
+        }
+
+        synchronized void removeInstance(final long instanceId) {
+            instances.remove(instanceId);
+        }
+
+        synchronized int executionReads(final long instanceId) {
+            return executionReads.get(instanceId).get();
+        }
+
+        synchronized List<Long> executionIds() {
+            final List<Long> ids = new ArrayList<>();
+            for (List<JobExecution> executions : instances.values()) {
+                for (JobExecution execution : executions) {
+                    ids.add(execution.getExecutionId());
+                }
+            }
+            ids.sort(Collections.reverseOrder());
+            return ids;
+        }
+
+        void blockNextRead(final CountDownLatch reading, final CountDownLatch release) {
+            this.release = release;
+            this.reading = reading;
+        }
+
+        JobOperator jobOperator() {
+            return (JobOperator) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {JobOperator.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "getJobInstances":
+                        return getJobInstances((String) args[0], (Integer) args[1], (Integer) args[2]);
+                    case "getJobInstanceCount":
+                        return getJobInstances((String) args[0], 0, Integer.MAX_VALUE).size();
+                    case "getJobExecutions":
+                        return getJobExecutions((JobInstance) args[0]);
+                    case "getRunningExecutions":
+                        return getRunningExecutions((String) args[0]);
+                    case "getJobInstance":
+                        return getJobInstance((Long) args[0]);
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            });
+        }
+
+        JobRepository jobRepository() {
+            return (JobRepository) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {JobRepository.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "removeJobExecutions":
+                        removeJobExecutions((JobExecutionSelector) args[0]);
+                        return null;
+                    case "removeJobInstance":
+                        synchronized (this) {
+                            // The executions were removed first
+                            assertTrue(instances.get(args[0]).isEmpty());
+                            removedInstances.add((Long) args[0]);
+                            instances.remove(args[0]);
+                        }
+                        return null;
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            });
+        }
+
+        private List<JobInstance> getJobInstances(final String jobName, final int start, final int count) throws InterruptedException {
+            final CountDownLatch reading = this.reading;
+            if (reading != null) {
+                this.reading = null;
+                reading.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            if (!JOB_NAME.equals(jobName)) {
+                throw new NoSuchJobException();
+            }
+            synchronized (this) {
+                final List<Long> ids = new ArrayList<>(instances.keySet());
+                Collections.reverse(ids);
+                final List<JobInstance> result = new ArrayList<>();
+                for (int i = start; i < ids.size() && result.size() < count; i++) {
+                    result.add(instance(ids.get(i)));
+                }
+                return result;
+            }
+        }
+
+        private synchronized List<JobExecution> getJobExecutions(final JobInstance instance) {
+            executionReads.computeIfAbsent(instance.getInstanceId(), id -> new AtomicInteger()).incrementAndGet();
+            return new ArrayList<>(instances.get(instance.getInstanceId()));
+        }
+
+        private synchronized List<Long> getRunningExecutions(final String jobName) {
+            final List<Long> running = new ArrayList<>();
+            for (List<JobExecution> executions : instances.values()) {
+                for (JobExecution execution : executions) {
+                    if (execution.getBatchStatus() == BatchStatus.STARTED) {
+                        running.add(execution.getExecutionId());
+                    }
+                }
+            }
+            return running;
+        }
+
+        private synchronized JobInstance getJobInstance(final long executionId) {
+            for (Map.Entry<Long, List<JobExecution>> entry : instances.entrySet()) {
+                for (JobExecution execution : entry.getValue()) {
+                    if (execution.getExecutionId() == executionId) {
+                        return instance(entry.getKey());
+                    }
+                }
+            }
+            return null;
+        }
+
+        private synchronized void removeJobExecutions(final JobExecutionSelector selector) {
+            final List<Long> all = executionIds();
+            for (List<JobExecution> executions : instances.values()) {
+                executions.removeIf(execution -> selector.select(execution, all));
+            }
+        }
+
+        private static JobInstance instance(final long id) {
+            return (JobInstance) Proxy.newProxyInstance(JobExecutionCacheTestCase.class.getClassLoader(), new Class<?>[] {JobInstance.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "getInstanceId":
+                        return id;
+                    case "getJobName":
+                        return JOB_NAME;
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            });
+        }
+    }
+}
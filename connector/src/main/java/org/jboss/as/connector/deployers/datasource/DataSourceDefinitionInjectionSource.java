@@ -23,6 +23,7 @@
 package org.jboss.as.connector.deployers.datasource;
 
 import org.jboss.as.connector.logging.ConnectorLogger;
+import org.jboss.as.connector.pool.MaintainedManagedConnectionPool;
 import org.jboss.as.connector.services.driver.registry.DriverRegistry;
 import org.jboss.as.connector.subsystems.datasources.AbstractDataSourceService;
 import org.jboss.as.connector.subsystems.datasources.DataSourceReferenceFactoryService;
@@ -157,7 +158,7 @@ public class DataSourceDefinitionInjectionSource extends ResourceDefinitionInjec
                 final ModifiableXaDataSource dataSource = new ModifiableXaDataSource(transactionIsolation(),
                         null, dsSecurity, null, null, null,
                         null, null, null, poolName, true,
-                        jndiName, false, false, Defaults.CONNECTABLE, Defaults.TRACKING, Defaults.MCP, Defaults.ENLISTMENT_TRACE, properties,
+                        jndiName, false, false, Defaults.CONNECTABLE, Defaults.TRACKING, MaintainedManagedConnectionPool.resolve(Defaults.MCP), Defaults.ENLISTMENT_TRACE, properties,
                         className, null, null,
                         xaPool, null);
                 final XaDataSourceService xds = new XaDataSourceService(bindInfo.getBinderServiceName().getCanonicalName(), bindInfo, module.getClassLoader());
@@ -170,7 +171,7 @@ public class DataSourceDefinitionInjectionSource extends ResourceDefinitionInjec
                                                              Defaults.PREFILL, Defaults.USE_STRICT_MIN, Defaults.FLUSH_STRATEGY, Boolean.FALSE, null, Defaults.FAIR, null);
                 final ModifiableDataSource dataSource = new ModifiableDataSource(url, null, className, null, transactionIsolation(), properties,
                         null, dsSecurity, null, null, null, null, null, false, poolName, true, jndiName, Defaults.SPY, Defaults.USE_CCM,
-                        transactional, Defaults.CONNECTABLE, Defaults.TRACKING, Defaults.MCP, Defaults.ENLISTMENT_TRACE, commonPool);
+                        transactional, Defaults.CONNECTABLE, Defaults.TRACKING, MaintainedManagedConnectionPool.resolve(Defaults.MCP), Defaults.ENLISTMENT_TRACE, commonPool);
                 final LocalDataSourceService ds = new LocalDataSourceService(bindInfo.getBinderServiceName().getCanonicalName(), bindInfo, module.getClassLoader());
                 ds.getDataSourceConfigInjector().inject(dataSource);
                 startDataSource(ds, bindInfo, eeModuleDescription, context, phaseContext.getServiceTarget(), serviceBuilder, injector, securityEnabled);
@@ -22,6 +22,7 @@
 
 package org.jboss.as.connector.dynamicresource;
 
+import org.jboss.as.connector.services.workmanager.LoadAwareSelector;
 import org.jboss.as.connector.subsystems.resourceadapters.Constants;
 import org.jboss.as.connector.subsystems.resourceadapters.ResourceAdaptersExtension;
 import org.jboss.as.controller.OperationContext;
@@ -30,6 +31,7 @@ import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.OperationStepHandler;
 import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
 import org.jboss.dmr.ModelNode;
+import org.jboss.jca.core.api.workmanager.DistributedWorkManager;
 import org.jboss.jca.core.api.workmanager.WorkManager;
 
 import static org.jboss.as.connector.subsystems.resourceadapters.Constants.STATISTICS_NAME;
@@ -56,6 +58,9 @@ public class ClearWorkManagerStatisticsHandler implements OperationStepHandler {
             context.addStep(new OperationStepHandler() {
                 public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
                     wm.getStatistics().clear();
+                    if (wm instanceof DistributedWorkManager && ((DistributedWorkManager) wm).getSelector() instanceof LoadAwareSelector) {
+                        ((LoadAwareSelector) ((DistributedWorkManager) wm).getSelector()).clearStatistics();
+                    }
                     context.completeStep(OperationContext.RollbackHandler.NOOP_ROLLBACK_HANDLER);
                 }
             }, OperationContext.Stage.RUNTIME);
@@ -41,6 +41,7 @@ import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.descriptions.ResourceDescriptionResolver;
 import org.jboss.as.controller.descriptions.StandardResourceDescriptionResolver;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 import org.jboss.jca.core.spi.statistics.StatisticsPlugin;
 
@@ -99,6 +100,9 @@ public class StatisticsResourceDefinition extends SimpleResourceDefinition {
             if (plugin.getType(name) == long.class) {
                 modelType = ModelType.LONG;
             }
+            if (plugin.getType(name) == ModelNode.class) {
+                modelType = ModelType.LIST;
+            }
             SimpleAttributeDefinition attribute = new SimpleAttributeDefinitionBuilder(name, modelType)
                     .setAllowNull(true)
                     .setStorageRuntime()
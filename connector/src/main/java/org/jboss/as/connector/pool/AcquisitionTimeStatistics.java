@@ -0,0 +1,140 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.connector.pool;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.as.ee.metrics.LatencyHistogram;
+import org.jboss.jca.core.spi.statistics.StatisticsPlugin;
+
+/**
+ * The statistics of a pool, extended with the connection acquisition times recorded by
+ * {@link ThreadAffineManagedConnectionPool}. The acquisition times stay at 0 for the pools using another
+ * implementation. All times are in nanoseconds.
+ */
+public final class AcquisitionTimeStatistics implements StatisticsPlugin {
+
+    private static final String COUNT = "AcquisitionCount";
+    private static final String AVERAGE = "AcquisitionTimeAverage";
+    private static final String MAX = "AcquisitionTimeMax";
+    private static final String P50 = "AcquisitionTimeP50";
+    private static final String P90 = "AcquisitionTimeP90";
+    private static final String P99 = "AcquisitionTimeP99";
+
+    private static final Map<String, String> DESCRIPTIONS;
+
+    static {
+        final Map<String, String> descriptions = new LinkedHashMap<>();
+        descriptions.put(COUNT, "The number of connections acquired from a thread affine pool");
+        descriptions.put(AVERAGE, "The average time in nanoseconds taken to acquire a connection from a thread affine pool");
+        descriptions.put(MAX, "The maximum time in nanoseconds taken to acquire a connection from a thread affine pool");
+        descriptions.put(P50, "The 50th percentile of the time in nanoseconds taken to acquire a connection from a thread affine pool");
+        descriptions.put(P90, "The 90th percentile of the time in nanoseconds taken to acquire a connection from a thread affine pool");
+        descriptions.put(P99, "The 99th percentile of the time in nanoseconds taken to acquire a connection from a thread affine pool");
+        DESCRIPTIONS = Collections.unmodifiableMap(descriptions);
+    }
+
+    private final StatisticsPlugin delegate;
+    private final String poolName;
+    private final Set<String> names;
+
+    /**
+     * @param delegate the statistics of the pool
+     * @param poolName the pool name
+     */
+    public AcquisitionTimeStatistics(final StatisticsPlugin delegate, final String poolName) {
+        this.delegate = delegate;
+        this.poolName = poolName;
+        final Set<String> names = new LinkedHashSet<>(delegate.getNames());
+        names.addAll(DESCRIPTIONS.keySet());
+        this.names = Collections.unmodifiableSet(names);
+    }
+
+    @Override
+    public Set<String> getNames() {
+        return names;
+    }
+
+    @Override
+    public Class getType(String name) {
+        return DESCRIPTIONS.containsKey(name) ? long.class : delegate.getType(name);
+    }
+
+    @Override
+    public String getDescription(String name) {
+        return DESCRIPTIONS.containsKey(name) ? DESCRIPTIONS.get(name) : delegate.getDescription(name);
+    }
+
+    @Override
+    public String getDescription(String name, Locale locale) {
+        return DESCRIPTIONS.containsKey(name) ? DESCRIPTIONS.get(name) : delegate.getDescription(name, locale);
+    }
+
+    @Override
+    public Object getValue(String name) {
+        if (!DESCRIPTIONS.containsKey(name)) {
+            return delegate.getValue(name);
+        }
+        final LatencyHistogram histogram = ThreadAffineManagedConnectionPool.getAcquisitionTimes(poolName);
+        final LatencyHistogram.Snapshot times = histogram == null ? LatencyHistogram.Snapshot.EMPTY : histogram.snapshot();
+        switch (name) {
+            case COUNT:
+                return times.getCount();
+            case AVERAGE:
+                return times.getAverage();
+            case MAX:
+                return times.getMax();
+            case P50:
+                return times.getPercentile(50);
+            case P90:
+                return times.getPercentile(90);
+            default:
+                return times.getPercentile(99);
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return delegate.isEnabled();
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        delegate.setEnabled(enabled);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        final LatencyHistogram histogram = ThreadAffineManagedConnectionPool.getAcquisitionTimes(poolName);
+        if (histogram != null) {
+            histogram.reset();
+        }
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.connector.pool;
+
+import static org.jboss.as.connector.logging.ConnectorLogger.ROOT_LOGGER;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.resource.ResourceException;
+import javax.resource.spi.ConnectionRequestInfo;
+import javax.resource.spi.ManagedConnection;
+import javax.resource.spi.ManagedConnectionFactory;
+import javax.resource.spi.ValidatingManagedConnectionFactory;
+import javax.security.auth.Subject;
+
+import org.jboss.jca.core.connectionmanager.ConnectionManager;
+import org.jboss.jca.core.connectionmanager.listener.ConnectionListener;
+import org.jboss.jca.core.connectionmanager.pool.api.Pool;
+import org.jboss.jca.core.connectionmanager.pool.api.PoolConfiguration;
+import org.jboss.jca.core.connectionmanager.pool.mcp.SemaphoreConcurrentLinkedDequeManagedConnectionPool;
+
+/**
+ * The managed connection pool used by default: IronJacamar's {@link SemaphoreConcurrentLinkedDequeManagedConnectionPool}
+ * handing its background validation and fill requests over to the {@link PoolMaintenance} scheduler when it is started.
+ * <p/>
+ * The scheduler validates the idle connections of the pool outside of the pool locks: it takes them out of the pool as
+ * requests do, validates them all at once with the {@link ValidatingManagedConnectionFactory} and gives them back,
+ * destroying the invalid ones. Requests meanwhile get the other connections of the pool or new ones. When the scheduler
+ * isn't started, or the managed connection factory doesn't validate connections, the pool validates as IronJacamar does.
+ * <p/>
+ * Data sources, connection definitions and pooled connection factories use this implementation unless their {@code mcp}
+ * attribute names another one than IronJacamar's default, see {@link #resolve(String)}.
+ */
+public class MaintainedManagedConnectionPool extends SemaphoreConcurrentLinkedDequeManagedConnectionPool {
+
+    private static final String DEFAULT_MCP = SemaphoreConcurrentLinkedDequeManagedConnectionPool.class.getName();
+
+    // the connections handed out and not returned yet, the others are idle in the pool
+    private final AtomicInteger inUse = new AtomicInteger();
+
+    private ManagedConnectionFactory mcf;
+    private Subject subject;
+    private ConnectionRequestInfo cri;
+    private PoolConfiguration pc;
+    private String poolName;
+
+    /**
+     * Get the managed connection pool implementation to use.
+     *
+     * @param mcp the configured implementation, may be null
+     * @return this implementation if the configured one is IronJacamar's default, the configured one otherwise
+     */
+    public static String resolve(final String mcp) {
+        return mcp == null || DEFAULT_MCP.equals(mcp) ? MaintainedManagedConnectionPool.class.getName() : mcp;
+    }
+
+    @Override
+    public void initialize(ManagedConnectionFactory mcf, ConnectionManager cm, Subject subject, ConnectionRequestInfo cri, PoolConfiguration pc, Pool p) {
+        super.initialize(mcf, cm, subject, cri, pc, p);
+        this.mcf = mcf;
+        this.subject = subject;
+        this.cri = cri;
+        this.pc = pc;
+        this.poolName = p == null ? null : p.getName();
+    }
+
+    @Override
+    public ConnectionListener getConnection(Subject subject, ConnectionRequestInfo cri) throws ResourceException {
+        final ConnectionListener cl = super.getConnection(subject, cri);
+        inUse.incrementAndGet();
+        return cl;
+    }
+
+    @Override
+    public void returnConnection(ConnectionListener cl, boolean kill, boolean cleanup) throws ResourceException {
+        inUse.decrementAndGet();
+        super.returnConnection(cl, kill, cleanup);
+    }
+
+    @Override
+    public void validateConnections() throws Exception {
+        beforeValidation();
+        if (!(mcf instanceof ValidatingManagedConnectionFactory) || !PoolMaintenance.getInstance().validate(this, this::validateIdleConnections)) {
+            super.validateConnections();
+        }
+    }
+
+    @Override
+    public void fillTo(int size) {
+        if (!PoolMaintenance.getInstance().fill(this, poolName, size, this::getActive, super::fillTo)) {
+            super.fillTo(size);
+        }
+    }
+
+    /**
+     * Called by the connection validator thread before the pool is validated.
+     */
+    protected void beforeValidation() {
+    }
+
+    protected ManagedConnectionFactory getManagedConnectionFactory() {
+        return mcf;
+    }
+
+    protected String getPoolName() {
+        return poolName;
+    }
+
+    /**
+     * Validate the idle connections of the pool outside of the pool locks.
+     */
+    private void validateIdleConnections() throws ResourceException {
+        final int idle = getActive() - inUse.get();
+        if (idle <= 0) {
+            return;
+        }
+        // the connections are kept out of the pool until all are validated, so none is taken twice
+        final List<ConnectionListener> taken = new ArrayList<>(idle);
+        try {
+            for (int i = 0; i < idle; i++) {
+                taken.add(super.getConnection(subject, cri));
+            }
+        } catch (ResourceException e) {
+            // the requests took the remaining idle connections
+            ROOT_LOGGER.tracef(e, "Stopped taking idle connections of %s to validate them", poolName);
+        }
+        if (taken.isEmpty()) {
+            return;
+        }
+        boolean destroyed = false;
+        try {
+            final Set<ManagedConnection> connections = new HashSet<>();
+            for (ConnectionListener cl : taken) {
+                connections.add(cl.getManagedConnection());
+            }
+            final Set<?> invalid = ((ValidatingManagedConnectionFactory) mcf).getInvalidConnections(connections);
+            for (ConnectionListener cl : taken) {
+                final boolean kill = invalid != null && invalid.contains(cl.getManagedConnection());
+                destroyed |= kill;
+                giveBack(cl, kill);
+            }
+            taken.clear();
+        } finally {
+            for (ConnectionListener cl : taken) {
+                giveBack(cl, false);
+            }
+        }
+        if (destroyed && pc != null && pc.getMinSize() > 0) {
+            fillTo(pc.getMinSize());
+        }
+    }
+
+    private void giveBack(final ConnectionListener cl, final boolean kill) {
+        try {
+            super.returnConnection(cl, kill, false);
+        } catch (ResourceException e) {
+            ROOT_LOGGER.debugf(e, "Unable to return validated connection %s to the pool", cl);
+        }
+    }
+}
@@ -0,0 +1,283 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.connector.pool;
+
+import static java.security.AccessController.doPrivileged;
+import static org.jboss.as.connector.logging.ConnectorLogger.ROOT_LOGGER;
+
+import java.security.PrivilegedAction;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+import org.jboss.threads.JBossThreadFactory;
+
+/**
+ * Runs the background validation and the fill requests of the managed connection pools in parallel.
+ * <p/>
+ * IronJacamar validates the pools one after the other on its connection validator thread and fills them one after
+ * the other on its pool filler thread, so a slow pool holds up every other pool. Pools using
+ * {@link MaintainedManagedConnectionPool}, the default, hand that work over to this scheduler instead, which runs it on
+ * its own threads, at most one validation and one fill per pool at a time. The number of connections created by the fills
+ * of all the pools can be limited to a rate, so refilling many pools after a database failover doesn't overload it.
+ * <p/>
+ * The scheduler is started by the /subsystem=jca/pool-maintenance=pool-maintenance resource. When it isn't started
+ * the pools do the work inline, as IronJacamar does.
+ */
+public final class PoolMaintenance {
+
+    private static final PoolMaintenance INSTANCE = new PoolMaintenance();
+
+    /**
+     * A maintenance task of a pool.
+     */
+    public interface Task {
+        void run() throws Exception;
+    }
+
+    /**
+     * A fill step of a pool, filling it up to the specified size.
+     */
+    public interface FillStep {
+        void fillTo(int size) throws Exception;
+    }
+
+    private final Set<Object> validating = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    private final Map<Object, FillProgress> filling = new ConcurrentHashMap<>();
+    private final LongAdder validationsCompleted = new LongAdder();
+    private final LongAdder fillStepsCompleted = new LongAdder();
+    private final AtomicLong nextFill = new AtomicLong();
+
+    private volatile ExecutorService executor;
+    private volatile long fillInterval;
+
+    private PoolMaintenance() {
+    }
+
+    public static PoolMaintenance getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Start the scheduler.
+     *
+     * @param threads the number of maintenance threads
+     * @param fillRate the maximum number of fill steps per second across all the pools, 0 for no limit
+     */
+    public synchronized void start(final int threads, final int fillRate) {
+        if (executor != null) {
+            return;
+        }
+        fillInterval = fillRate > 0 ? TimeUnit.SECONDS.toNanos(1) / fillRate : 0L;
+        nextFill.set(System.nanoTime());
+        final ThreadGroup threadGroup = new ThreadGroup("PoolMaintenance ThreadGroup");
+        final String namePattern = "PoolMaintenance Thread -- %t";
+        final ThreadFactory threadFactory = doPrivileged(new PrivilegedAction<JBossThreadFactory>() {
+            public JBossThreadFactory run() {
+                return new JBossThreadFactory(threadGroup, Boolean.TRUE, null, namePattern, null, null);
+            }
+        });
+        executor = Executors.newFixedThreadPool(threads, threadFactory);
+    }
+
+    public synchronized void stop() {
+        final ExecutorService executor = this.executor;
+        if (executor != null) {
+            this.executor = null;
+            executor.shutdownNow();
+        }
+        validating.clear();
+        filling.clear();
+    }
+
+    /**
+     * Validate the connections of a pool in the background.
+     *
+     * @param pool the pool
+     * @param validation the validation
+     * @return {@code false} if the scheduler isn't started and the caller has to validate the pool itself
+     */
+    public boolean validate(final Object pool, final Task validation) {
+        final ExecutorService executor = this.executor;
+        if (executor == null) {
+            return false;
+        }
+        // a validation of this pool is still running, it will do
+        if (!validating.add(pool)) {
+            return true;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    validation.run();
+                    validationsCompleted.increment();
+                } catch (Throwable t) {
+                    ROOT_LOGGER.debugf(t, "Background validation of %s failed", pool);
+                } finally {
+                    validating.remove(pool);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            validating.remove(pool);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Fill a pool in the background, one connection at a time and within the fill rate.
+     * <p/>
+     * The fill starts from the current size of the pool. Only the steps that create a connection are counted and
+     * take a fill permit, the fill stops at the first step that doesn't grow the pool (e.g. when it is full).
+     *
+     * @param pool the pool
+     * @param name the pool name reported in the progress
+     * @param size the size to fill the pool to
+     * @param currentSize the current number of connections of the pool
+     * @param step the fill step
+     * @return {@code false} if the scheduler isn't started and the caller has to fill the pool itself
+     */
+    public boolean fill(final Object pool, final String name, final int size, final IntSupplier currentSize, final FillStep step) {
+        final ExecutorService executor = this.executor;
+        if (executor == null) {
+            return false;
+        }
+        final FillProgress progress = new FillProgress(name, size);
+        final FillProgress running = filling.putIfAbsent(pool, progress);
+        if (running != null) {
+            // raise the target of the running fill
+            running.target.accumulateAndGet(size, Math::max);
+            return true;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    int filled = currentSize.getAsInt();
+                    progress.filled.set(filled);
+                    while (filled < progress.target.get()) {
+                        acquireFillPermit();
+                        step.fillTo(filled + 1);
+                        final int grown = currentSize.getAsInt();
+                        if (grown <= filled) {
+                            // no connection was created
+                            releaseFillPermit();
+                            break;
+                        }
+                        fillStepsCompleted.add(grown - filled);
+                        filled = grown;
+                        progress.filled.set(filled);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (Throwable t) {
+                    ROOT_LOGGER.debugf(t, "Background fill of %s failed", name);
+                } finally {
+                    filling.remove(pool, progress);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            filling.remove(pool, progress);
+            return false;
+        }
+        return true;
+    }
+
+    private void acquireFillPermit() throws InterruptedException {
+        final long interval = fillInterval;
+        if (interval == 0) {
+            return;
+        }
+        final long now = System.nanoTime();
+        long next;
+        long slot;
+        do {
+            next = nextFill.get();
+            slot = next - now > 0 ? next : now;
+        } while (!nextFill.compareAndSet(next, slot + interval));
+        final long wait = slot - now;
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+
+    /**
+     * Give back the permit of a fill step that didn't create a connection.
+     */
+    private void releaseFillPermit() {
+        final long interval = fillInterval;
+        if (interval != 0) {
+            nextFill.addAndGet(-interval);
+        }
+    }
+
+    public boolean isStarted() {
+        return executor != null;
+    }
+
+    public int getValidationsRunning() {
+        return validating.size();
+    }
+
+    public long getValidationsCompleted() {
+        return validationsCompleted.sum();
+    }
+
+    public long getFillStepsCompleted() {
+        return fillStepsCompleted.sum();
+    }
+
+    /**
+     * Get the progress of the running fills.
+     *
+     * @return the number of connections the pools were filled to so far and the size they are filled to, by pool name
+     */
+    public Map<String, int[]> getFillProgress() {
+        final Map<String, int[]> result = new ConcurrentHashMap<>();
+        for (FillProgress progress : filling.values()) {
+            result.merge(progress.name, new int[]{progress.filled.get(), progress.target.get()},
+                    (a, b) -> new int[]{a[0] + b[0], a[1] + b[1]});
+        }
+        return result;
+    }
+
+    private static final class FillProgress {
+        private final String name;
+        private final AtomicInteger target;
+        private final AtomicInteger filled = new AtomicInteger();
+
+        FillProgress(final String name, final int size) {
+            this.name = name;
+            this.target = new AtomicInteger(size);
+        }
+    }
+}
@@ -0,0 +1,342 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.connector.pool;
+
+import static org.jboss.as.connector.logging.ConnectorLogger.ROOT_LOGGER;
+
+import java.util.Collections;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.resource.ResourceException;
+import javax.resource.spi.ConnectionRequestInfo;
+import javax.resource.spi.ManagedConnection;
+import javax.resource.spi.ManagedConnectionFactory;
+import javax.security.auth.Subject;
+
+import org.jboss.as.ee.metrics.LatencyHistogram;
+import org.jboss.jca.core.connectionmanager.ConnectionManager;
+import org.jboss.jca.core.connectionmanager.listener.ConnectionListener;
+import org.jboss.jca.core.connectionmanager.listener.ConnectionState;
+import org.jboss.jca.core.connectionmanager.pool.api.Pool;
+import org.jboss.jca.core.connectionmanager.pool.api.PoolConfiguration;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * A managed connection pool that keeps connections affine to the thread that returned them.
+ * <p/>
+ * A returned connection is parked instead of going back through the pool semaphore and shared deque: the next
+ * request of the same thread reclaims it, and a request of any other thread takes it over with a single CAS, so hand-off
+ * between threads doesn't take any lock. At most {@code wildfly.jca.pool.affinity.maxParked} connections are parked per
+ * pool (number of CPUs by default) for at most {@code wildfly.jca.pool.affinity.maxParkTime} milliseconds (500 by default),
+ * anything older is returned to the underlying pool by the next request, by the idle remover or when the pool shuts down. While parked a connection
+ * is counted as in use by the pool statistics. Connections aren't parked while threads wait for the underlying pool, they
+ * are returned to it so that the waiting threads get them in turn.
+ * <p/>
+ * A reclaimed connection is matched with the managed connection factory when the pool validates on match, as the
+ * underlying pool does for the connections it hands out. The parked connections are returned to the underlying pool
+ * before the background validation, so they are validated with the others.
+ * <p/>
+ * The time taken to acquire a connection is recorded per pool, see {@link #getAcquisitionTimes(String)}, and reported
+ * by the pool statistics, see {@link AcquisitionTimeStatistics}.
+ * <p/>
+ * Background validation and fill requests are handed over to the {@link PoolMaintenance} scheduler when it is started,
+ * see {@link MaintainedManagedConnectionPool}.
+ * <p/>
+ * The implementation is selected with the {@code mcp} attribute of data sources, connection definitions and pooled
+ * connection factories:
+ * {@code mcp="org.jboss.as.connector.pool.ThreadAffineManagedConnectionPool"}
+ */
+public class ThreadAffineManagedConnectionPool extends MaintainedManagedConnectionPool {
+
+    public static final String MAX_PARKED = "wildfly.jca.pool.affinity.maxParked";
+    public static final String MAX_PARK_TIME = "wildfly.jca.pool.affinity.maxParkTime";
+
+    private static final ConcurrentMap<String, SharedAcquisitionTimes> ACQUISITION_TIMES = new ConcurrentHashMap<>();
+
+    private final int maxParked = Integer.parseInt(WildFlySecurityManager.getPropertyPrivileged(MAX_PARKED,
+            Integer.toString(Runtime.getRuntime().availableProcessors())));
+    private final long maxParkTime = TimeUnit.MILLISECONDS.toNanos(Long.parseLong(WildFlySecurityManager.getPropertyPrivileged(MAX_PARK_TIME, "500")));
+
+    // the entries left in the thread locals of other threads after a shutdown don't reference the connections
+    // any more, see Parked#claim
+    private final ThreadLocal<Parked> affinity = new ThreadLocal<>();
+    private final Queue<Parked> parked = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger parkedCount = new AtomicInteger();
+    // the threads getting a connection from the underlying pool, which may be waiting for a permit
+    private final AtomicInteger waiting = new AtomicInteger();
+    private volatile boolean shutdown;
+
+    private boolean validateOnMatch;
+    private LatencyHistogram acquisitionTimes = new LatencyHistogram();
+
+    /**
+     * Get the connection acquisition times of a pool using this implementation.
+     *
+     * @param poolName the pool name
+     * @return the acquisition times or null if there is no such pool
+     */
+    public static LatencyHistogram getAcquisitionTimes(final String poolName) {
+        final SharedAcquisitionTimes times = ACQUISITION_TIMES.get(poolName);
+        return times == null ? null : times.histogram;
+    }
+
+    static LatencyHistogram acquireAcquisitionTimes(final String poolName) {
+        return ACQUISITION_TIMES.compute(poolName, (name, times) -> (times == null ? new SharedAcquisitionTimes() : times).acquire()).histogram;
+    }
+
+    static void releaseAcquisitionTimes(final String poolName) {
+        ACQUISITION_TIMES.computeIfPresent(poolName, (name, times) -> times.release() ? null : times);
+    }
+
+    @Override
+    public void initialize(ManagedConnectionFactory mcf, ConnectionManager cm, Subject subject, ConnectionRequestInfo cri, PoolConfiguration pc, Pool p) {
+        super.initialize(mcf, cm, subject, cri, pc, p);
+        this.validateOnMatch = pc != null && pc.isValidateOnMatch();
+        // all the sub pools of a pool share its histogram, it is removed when the last one shuts down
+        if (getPoolName() != null) {
+            acquisitionTimes = acquireAcquisitionTimes(getPoolName());
+        }
+    }
+
+    @Override
+    public ConnectionListener getConnection(Subject subject, ConnectionRequestInfo cri) throws ResourceException {
+        final long start = System.nanoTime();
+        ConnectionListener cl = null;
+        final Parked own = affinity.get();
+        if (own != null) {
+            affinity.remove();
+            final ConnectionListener claimed = own.claim();
+            if (claimed != null) {
+                parked.remove(own);
+                cl = reclaim(claimed, own.parkedAt, start, subject, cri);
+            }
+        }
+        if (cl == null) {
+            // announce the wait before looking at the parked connections, a connection parked concurrently is then
+            // either found here or returned to the underlying pool by the parking thread, see #park
+            waiting.incrementAndGet();
+            try {
+                cl = takeOver(start, subject, cri);
+                if (cl == null) {
+                    cl = super.getConnection(subject, cri);
+                }
+            } finally {
+                waiting.decrementAndGet();
+            }
+        }
+        acquisitionTimes.record(System.nanoTime() - start);
+        return cl;
+    }
+
+    @Override
+    public void returnConnection(ConnectionListener cl, boolean kill, boolean cleanup) throws ResourceException {
+        if (kill || shutdown || !park(cl, cleanup)) {
+            super.returnConnection(cl, kill, cleanup);
+        }
+    }
+
+    @Override
+    protected void beforeValidation() {
+        releaseParked();
+    }
+
+    @Override
+    public void removeIdleConnections() {
+        releaseParked();
+        super.removeIdleConnections();
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        affinity.remove();
+        releaseParked();
+        super.shutdown();
+        if (getPoolName() != null) {
+            releaseAcquisitionTimes(getPoolName());
+        }
+    }
+
+    private boolean park(final ConnectionListener cl, final boolean cleanup) {
+        if (cl.getState() != ConnectionState.NORMAL || waiting.get() > 0) {
+            // hand the connection and its permit to the threads waiting for the underlying pool
+            return false;
+        }
+        if (parkedCount.incrementAndGet() > maxParked) {
+            parkedCount.decrementAndGet();
+            return false;
+        }
+        if (cleanup) {
+            try {
+                cl.getManagedConnection().cleanup();
+            } catch (ResourceException e) {
+                // let the pool deal with it
+                parkedCount.decrementAndGet();
+                return false;
+            }
+        }
+        final Parked entry = new Parked(cl, System.nanoTime());
+        parked.offer(entry);
+        if (shutdown || waiting.get() > 0) {
+            // the pool was shut down or a thread started waiting while the connection was parked, unless another
+            // thread already took it over the connection goes back to the underlying pool
+            final ConnectionListener claimed = entry.claim();
+            if (claimed != null) {
+                parked.remove(entry);
+                parkedCount.decrementAndGet();
+                release(claimed);
+            }
+            return true;
+        }
+        affinity.set(entry);
+        return true;
+    }
+
+    /**
+     * Take over a connection parked by another thread, releasing the expired ones found on the way.
+     */
+    private ConnectionListener takeOver(final long now, final Subject subject, final ConnectionRequestInfo cri) {
+        Parked entry;
+        while ((entry = parked.poll()) != null) {
+            final ConnectionListener claimed = entry.claim();
+            if (claimed != null) {
+                final ConnectionListener cl = reclaim(claimed, entry.parkedAt, now, subject, cri);
+                if (cl != null) {
+                    return cl;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the claimed connection if it can be handed out, null if it was returned to the underlying pool
+     */
+    private ConnectionListener reclaim(final ConnectionListener cl, final long parkedAt, final long now, final Subject subject, final ConnectionRequestInfo cri) {
+        parkedCount.decrementAndGet();
+        if (now - parkedAt > maxParkTime || cl.getState() != ConnectionState.NORMAL) {
+            release(cl);
+            return null;
+        }
+        if (validateOnMatch && !matches(cl, subject, cri)) {
+            destroy(cl);
+            return null;
+        }
+        return cl;
+    }
+
+    private boolean matches(final ConnectionListener cl, final Subject subject, final ConnectionRequestInfo cri) {
+        try {
+            final ManagedConnection mc = getManagedConnectionFactory().matchManagedConnections(Collections.singleton(cl.getManagedConnection()), subject, cri);
+            return mc != null;
+        } catch (ResourceException e) {
+            ROOT_LOGGER.debugf(e, "Parked connection %s failed validation", cl);
+            return false;
+        }
+    }
+
+    private void releaseParked() {
+        Parked entry;
+        while ((entry = parked.poll()) != null) {
+            final ConnectionListener claimed = entry.claim();
+            if (claimed != null) {
+                parkedCount.decrementAndGet();
+                release(claimed);
+            }
+        }
+    }
+
+    private void release(final ConnectionListener cl) {
+        try {
+            super.returnConnection(cl, false, false);
+        } catch (ResourceException e) {
+            ROOT_LOGGER.debugf(e, "Unable to return parked connection %s to the pool", cl);
+        }
+    }
+
+    private void destroy(final ConnectionListener cl) {
+        try {
+            super.returnConnection(cl, true, false);
+        } catch (ResourceException e) {
+            ROOT_LOGGER.debugf(e, "Unable to destroy parked connection %s", cl);
+        }
+    }
+
+    /**
+     * A parked connection, claimed by whoever first sets it.
+     */
+    static final class Parked extends AtomicBoolean {
+
+        private static final long serialVersionUID = 1L;
+
+        private transient ConnectionListener listener;
+        final long parkedAt;
+
+        Parked(final ConnectionListener listener, final long parkedAt) {
+            this.listener = listener;
+            this.parkedAt = parkedAt;
+        }
+
+        /**
+         * Claim the parked connection. The entry drops its reference to the connection once claimed, so an entry
+         * left in a thread local doesn't retain the connection nor its pool.
+         *
+         * @return the connection or null if it was already claimed
+         */
+        ConnectionListener claim() {
+            if (!compareAndSet(false, true)) {
+                return null;
+            }
+            final ConnectionListener claimed = listener;
+            listener = null;
+            return claimed;
+        }
+    }
+
+    /**
+     * The acquisition times shared by the sub pools of a pool, guarded by the {@link #ACQUISITION_TIMES} map.
+     */
+    private static final class SharedAcquisitionTimes {
+
+        final LatencyHistogram histogram = new LatencyHistogram();
+        private int users;
+
+        SharedAcquisitionTimes acquire() {
+            users++;
+            return this;
+        }
+
+        /**
+         * @return whether the last sub pool released the acquisition times
+         */
+        boolean release() {
+            return --users == 0;
+        }
+    }
+}
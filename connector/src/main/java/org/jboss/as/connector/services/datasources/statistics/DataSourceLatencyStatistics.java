@@ -0,0 +1,423 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.connector.services.datasources.statistics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import org.jboss.as.ee.metrics.LatencyHistogram;
+import org.jboss.dmr.ModelNode;
+import org.jboss.jca.core.spi.statistics.StatisticsPlugin;
+
+/**
+ * Opt-in latency statistics of a data source: connection acquisition, connection use and statement execution
+ * histograms, and the slowest SQL statements.
+ * <p/>
+ * The statistics are disabled by default, once enabled the connections handed out by the
+ * {@link org.jboss.as.connector.subsystems.datasources.WildFlyDataSource} are wrapped to time their use and the
+ * execution of their statements. Recording is lock-free and uses a bounded amount of memory: times are kept in fixed
+ * size histograms, and at most {@value #MAX_TRACKED_STATEMENTS} distinct normalized statements are tracked.
+ * <p/>
+ * The statistics are registered as /subsystem=datasources/data-source=*&#47;statistics=latency, all times are in
+ * microseconds.
+ */
+public final class DataSourceLatencyStatistics implements StatisticsPlugin {
+
+    static final int MAX_TRACKED_STATEMENTS = 1000;
+    static final int SLOW_STATEMENTS = 10;
+    static final int MAX_SQL_LENGTH = 1000;
+
+    private static final String ACQUISITION = "Acquisition";
+    private static final String USE = "Use";
+    private static final String STATEMENT = "Statement";
+    private static final String SLOW_STATEMENTS_NAME = "SlowStatements";
+
+    private static final ConcurrentMap<String, DataSourceLatencyStatistics> STATISTICS = new ConcurrentHashMap<>();
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.$])[-+]?\\d+(?:\\.\\d+)?(?:[eE][-+]?\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Map<String, Class> types;
+    private final Map<String, String> descriptions;
+
+    private final LatencyHistogram acquisitionTimes = new LatencyHistogram();
+    private final LatencyHistogram useTimes = new LatencyHistogram();
+    private final LatencyHistogram statementTimes = new LatencyHistogram();
+    private final ConcurrentMap<String, StatementMetrics> statements = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, String> normalizedStatements = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, Class<?>[]> statementInterfaces = new ConcurrentHashMap<>();
+
+    private volatile boolean enabled;
+
+    public DataSourceLatencyStatistics() {
+        final Map<String, Class> types = new LinkedHashMap<>();
+        final Map<String, String> descriptions = new LinkedHashMap<>();
+        for (String prefix : new String[]{ACQUISITION, USE, STATEMENT}) {
+            final String subject = describe(prefix);
+            types.put(prefix + "Count", long.class);
+            descriptions.put(prefix + "Count", "The number of " + subject + "s");
+            types.put(prefix + "TimeAverage", long.class);
+            descriptions.put(prefix + "TimeAverage", "The average " + subject + " time in microseconds");
+            types.put(prefix + "TimeMax", long.class);
+            descriptions.put(prefix + "TimeMax", "The maximum " + subject + " time in microseconds");
+            for (int percentile : new int[]{50, 90, 99}) {
+                types.put(prefix + "TimeP" + percentile, long.class);
+                descriptions.put(prefix + "TimeP" + percentile, "The " + percentile + "th percentile of the " + subject + " time in microseconds");
+            }
+        }
+        types.put(SLOW_STATEMENTS_NAME, ModelNode.class);
+        descriptions.put(SLOW_STATEMENTS_NAME, "The " + SLOW_STATEMENTS + " normalized SQL statements with the highest maximum execution time, "
+                + "with their sql, count, average-time and max-time in microseconds");
+        this.types = Collections.unmodifiableMap(types);
+        this.descriptions = Collections.unmodifiableMap(descriptions);
+    }
+
+    private static String describe(final String prefix) {
+        switch (prefix) {
+            case ACQUISITION:
+                return "connection acquisition";
+            case USE:
+                return "connection use";
+            default:
+                return "statement execution";
+        }
+    }
+
+    /**
+     * Register the latency statistics of a data source.
+     *
+     * @param jndiName the data source JNDI name
+     * @param statistics the statistics
+     */
+    public static void register(final String jndiName, final DataSourceLatencyStatistics statistics) {
+        STATISTICS.put(jndiName, statistics);
+    }
+
+    public static void unregister(final String jndiName, final DataSourceLatencyStatistics statistics) {
+        STATISTICS.remove(jndiName, statistics);
+    }
+
+    /**
+     * Get the latency statistics of a data source.
+     *
+     * @param jndiName the data source JNDI name
+     * @return the statistics or null if the data source isn't started
+     */
+    public static DataSourceLatencyStatistics forDataSource(final String jndiName) {
+        return STATISTICS.get(jndiName);
+    }
+
+    /**
+     * Track a connection that was just acquired.
+     *
+     * @param connection the connection
+     * @param start the {@link System#nanoTime()} at which the acquisition started
+     * @return the connection to hand out
+     */
+    public Connection track(final Connection connection, final long start) {
+        final long acquired = System.nanoTime();
+        acquisitionTimes.record(acquired - start);
+        return new TimedConnection(this, connection, acquired);
+    }
+
+    void recordUse(final long elapsed) {
+        useTimes.record(elapsed);
+    }
+
+    /**
+     * Wrap a statement to time its execution. The wrapper implements all the public interfaces of the statement, so a
+     * statement stays a {@link java.sql.PreparedStatement} or a {@link java.sql.CallableStatement}, as well as any
+     * vendor interface it implements.
+     */
+    @SuppressWarnings("unchecked")
+    <T extends Statement> T wrap(final Connection connection, final Class<T> type, final T statement, final String sql) {
+        final Class<?> statementClass = statement.getClass();
+        Class<?>[] interfaces = statementInterfaces.get(statementClass);
+        if (interfaces == null) {
+            interfaces = getInterfaces(statementClass, type);
+            statementInterfaces.putIfAbsent(statementClass, interfaces);
+        }
+        final StatementHandler handler = new StatementHandler(connection, statement, sql == null ? null : normalizeCached(sql));
+        try {
+            return (T) Proxy.newProxyInstance(statementClass.getClassLoader(), interfaces, handler);
+        } catch (IllegalArgumentException e) {
+            // an interface of the statement isn't visible from its class loader
+            return (T) Proxy.newProxyInstance(DataSourceLatencyStatistics.class.getClassLoader(), new Class<?>[]{type}, handler);
+        }
+    }
+
+    static Class<?>[] getInterfaces(final Class<?> statementClass, final Class<?> type) {
+        final Set<Class<?>> interfaces = new LinkedHashSet<>();
+        interfaces.add(type);
+        for (Class<?> c = statementClass; c != null; c = c.getSuperclass()) {
+            for (Class<?> i : c.getInterfaces()) {
+                if (Modifier.isPublic(i.getModifiers())) {
+                    interfaces.add(i);
+                }
+            }
+        }
+        return interfaces.toArray(new Class<?>[interfaces.size()]);
+    }
+
+    /**
+     * Record the execution of a statement.
+     *
+     * @param normalized the normalized SQL of the statement or null if it isn't known
+     * @param elapsed the execution time in nanoseconds
+     */
+    void recordStatement(final String normalized, final long elapsed) {
+        statementTimes.record(elapsed);
+        if (normalized == null) {
+            return;
+        }
+        StatementMetrics metrics = statements.get(normalized);
+        if (metrics == null) {
+            if (statements.size() >= MAX_TRACKED_STATEMENTS) {
+                return;
+            }
+            final StatementMetrics existing = statements.putIfAbsent(normalized, metrics = new StatementMetrics());
+            if (existing != null) {
+                metrics = existing;
+            }
+        }
+        metrics.record(elapsed);
+    }
+
+    /**
+     * Normalize a SQL statement once: the normalized forms of at most {@value #MAX_TRACKED_STATEMENTS} distinct
+     * statements are cached, as applications prepare and execute the same statements over and over.
+     */
+    String normalizeCached(final String sql) {
+        String normalized = normalizedStatements.get(sql);
+        if (normalized == null) {
+            normalized = normalize(sql);
+            if (normalizedStatements.size() < MAX_TRACKED_STATEMENTS) {
+                normalizedStatements.putIfAbsent(sql, normalized);
+            }
+        }
+        return normalized;
+    }
+
+    /**
+     * Normalize a SQL statement so statements that only differ by their literal values are tracked together.
+     */
+    static String normalize(final String sql) {
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = IN_LIST.matcher(normalized).replaceAll("(?)");
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+        return normalized.length() > MAX_SQL_LENGTH ? normalized.substring(0, MAX_SQL_LENGTH) : normalized;
+    }
+
+    ModelNode getSlowStatements() {
+        final List<Map.Entry<String, StatementMetrics>> entries = new ArrayList<>(statements.entrySet());
+        entries.sort(Comparator.comparingLong((Map.Entry<String, StatementMetrics> entry) -> entry.getValue().maxTime.get()).reversed());
+        final ModelNode result = new ModelNode().setEmptyList();
+        for (Map.Entry<String, StatementMetrics> entry : entries.subList(0, Math.min(SLOW_STATEMENTS, entries.size()))) {
+            final StatementMetrics metrics = entry.getValue();
+            final long count = metrics.count.sum();
+            final ModelNode node = result.add();
+            node.get("sql").set(entry.getKey());
+            node.get("count").set(count);
+            node.get("average-time").set(count == 0 ? 0 : micros(metrics.totalTime.sum() / count));
+            node.get("max-time").set(micros(metrics.maxTime.get()));
+        }
+        return result;
+    }
+
+    private static long micros(final long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+    @Override
+    public Set<String> getNames() {
+        return types.keySet();
+    }
+
+    @Override
+    public Class getType(String name) {
+        return types.get(name);
+    }
+
+    @Override
+    public String getDescription(String name) {
+        return descriptions.get(name);
+    }
+
+    @Override
+    public String getDescription(String name, Locale locale) {
+        return getDescription(name);
+    }
+
+    @Override
+    public Object getValue(String name) {
+        if (SLOW_STATEMENTS_NAME.equals(name)) {
+            return getSlowStatements();
+        }
+        final LatencyHistogram histogram;
+        final String metric;
+        if (name.startsWith(ACQUISITION)) {
+            histogram = acquisitionTimes;
+            metric = name.substring(ACQUISITION.length());
+        } else if (name.startsWith(USE)) {
+            histogram = useTimes;
+            metric = name.substring(USE.length());
+        } else if (name.startsWith(STATEMENT)) {
+            histogram = statementTimes;
+            metric = name.substring(STATEMENT.length());
+        } else {
+            return null;
+        }
+        switch (metric) {
+            case "Count":
+                return histogram.getCount();
+            case "TimeAverage":
+                return micros(histogram.getAverage());
+            case "TimeMax":
+                return micros(histogram.getMax());
+            case "TimeP50":
+                return micros(histogram.getPercentile(50));
+            case "TimeP90":
+                return micros(histogram.getPercentile(90));
+            case "TimeP99":
+                return micros(histogram.getPercentile(99));
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void clear() {
+        acquisitionTimes.reset();
+        useTimes.reset();
+        statementTimes.reset();
+        statements.clear();
+        normalizedStatements.clear();
+    }
+
+    private static final class StatementMetrics {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalTime = new LongAdder();
+        private final AtomicLong maxTime = new AtomicLong();
+
+        void record(final long elapsed) {
+            count.increment();
+            totalTime.add(elapsed);
+            long max = maxTime.get();
+            while (elapsed > max && !maxTime.compareAndSet(max, elapsed)) {
+                max = maxTime.get();
+            }
+        }
+    }
+
+    private static Object invoke(final Object target, final Method method, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Times the execute methods of a statement.
+     */
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Connection connection;
+        private final Statement statement;
+        // the normalized SQL of a prepared statement, normalized when the statement is prepared
+        private final String sql;
+
+        StatementHandler(final Connection connection, final Statement statement, final String sql) {
+            this.connection = connection;
+            this.statement = statement;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            final String name = method.getName();
+            if (name.startsWith("execute")) {
+                final long start = System.nanoTime();
+                try {
+                    return DataSourceLatencyStatistics.invoke(statement, method, args);
+                } finally {
+                    final long elapsed = System.nanoTime() - start;
+                    // batches and prepared statements report the prepared SQL, plain statements the executed one
+                    final String executed = args != null && args.length > 0 && args[0] instanceof String ? normalizeCached((String) args[0]) : sql;
+                    recordStatement(executed, elapsed);
+                }
+            }
+            switch (name) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "getConnection":
+                    return connection;
+                case "unwrap":
+                    // the statement of the pool, a WrappedStatement, is what the proxy stands for
+                    if (((Class<?>) args[0]).isInstance(statement)) {
+                        return statement;
+                    }
+                    return DataSourceLatencyStatistics.invoke(statement, method, args);
+                case "isWrapperFor":
+                    return ((Class<?>) args[0]).isInstance(statement) || (Boolean) DataSourceLatencyStatistics.invoke(statement, method, args);
+                default:
+                    return DataSourceLatencyStatistics.invoke(statement, method, args);
+            }
+        }
+    }
+}
@@ -25,6 +25,7 @@ package org.jboss.as.connector.services.datasources.statistics;
 import static org.jboss.as.connector.logging.ConnectorLogger.ROOT_LOGGER;
 
 import org.jboss.as.connector.dynamicresource.StatisticsResourceDefinition;
+import org.jboss.as.connector.pool.AcquisitionTimeStatistics;
 import org.jboss.as.connector.subsystems.datasources.DataSourcesSubsystemProviders;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
@@ -45,6 +46,7 @@ public class DataSourceStatisticsService implements Service<ManagementResourceRe
 
     private static final PathElement JDBC_STATISTICS = PathElement.pathElement("statistics", "jdbc");
     private static final PathElement POOL_STATISTICS = PathElement.pathElement("statistics", "pool");
+    private static final PathElement LATENCY_STATISTICS = PathElement.pathElement("statistics", "latency");
 
     private final ManagementResourceRegistration registration;
     private final boolean statsEnabled;
@@ -72,7 +74,8 @@ public class DataSourceStatisticsService implements Service<ManagementResourceRe
 
 
             StatisticsPlugin jdbcStats = deploymentMD.getDataSources()[0].getStatistics();
-            StatisticsPlugin poolStats = deploymentMD.getDataSources()[0].getPool().getStatistics();
+            StatisticsPlugin poolStats = new AcquisitionTimeStatistics(deploymentMD.getDataSources()[0].getPool().getStatistics(),
+                    deploymentMD.getDataSources()[0].getPool().getName());
             jdbcStats.setEnabled(statsEnabled);
             poolStats.setEnabled(statsEnabled);
 
@@ -98,6 +101,15 @@ public class DataSourceStatisticsService implements Service<ManagementResourceRe
                 }
 
             }
+
+            // the latency statistics are opt-in, they stay disabled until enabled on their own resource
+            DataSourceLatencyStatistics latencyStats = DataSourceLatencyStatistics.forDataSource(deploymentMD.getCfJndiNames()[0]);
+            if (latencyStats != null && registration != null) {
+                if (registration.getSubModel(PathAddress.pathAddress(LATENCY_STATISTICS)) == null) {
+                    ManagementResourceRegistration latencyRegistration = registration.registerSubModel(new StatisticsResourceDefinition(LATENCY_STATISTICS, DataSourcesSubsystemProviders.RESOURCE_NAME, latencyStats));
+                    latencyRegistration.setRuntimeOnly(true);
+                }
+            }
         }
     }
 
@@ -107,6 +119,7 @@ public class DataSourceStatisticsService implements Service<ManagementResourceRe
             if (registration != null) {
                 registration.unregisterSubModel(JDBC_STATISTICS);
                 registration.unregisterSubModel(POOL_STATISTICS);
+                registration.unregisterSubModel(LATENCY_STATISTICS);
             }
         }
     }
@@ -130,6 +143,9 @@ public class DataSourceStatisticsService implements Service<ManagementResourceRe
             if (!datasourceResource.hasChild(POOL_STATISTICS)) {
                 datasourceResource.registerChild(POOL_STATISTICS, new PlaceholderResource.PlaceholderResourceEntry(POOL_STATISTICS));
             }
+            if (!datasourceResource.hasChild(LATENCY_STATISTICS)) {
+                datasourceResource.registerChild(LATENCY_STATISTICS, new PlaceholderResource.PlaceholderResourceEntry(LATENCY_STATISTICS));
+            }
         }
     }
 
@@ -141,6 +157,9 @@ public class DataSourceStatisticsService implements Service<ManagementResourceRe
             if (datasourceResource.hasChild(POOL_STATISTICS)) {
                 datasourceResource.removeChild(POOL_STATISTICS);
             }
+            if (datasourceResource.hasChild(LATENCY_STATISTICS)) {
+                datasourceResource.removeChild(LATENCY_STATISTICS);
+            }
         }
     }
 
@@ -32,6 +32,7 @@ import java.util.Map;
 import javax.resource.spi.TransactionSupport;
 
 import org.jboss.as.connector.logging.ConnectorLogger;
+import org.jboss.as.connector.pool.MaintainedManagedConnectionPool;
 import org.jboss.as.connector.services.mdr.AS7MetadataRepository;
 import org.jboss.as.connector.services.resourceadapters.deployment.registry.ResourceAdapterDeploymentRegistry;
 import org.jboss.as.connector.subsystems.jca.JcaSubsystemConfiguration;
@@ -220,7 +221,7 @@ public class DirectConnectionFactoryActivatorService implements Service<ContextN
 
             org.jboss.jca.common.api.metadata.resourceadapter.ConnectionDefinition cd = new org.jboss.jca.common.metadata.resourceadapter.ConnectionDefinitionImpl(mcfConfigProperties, mcfClass, jndiName, poolName(cfInterface),
                     Boolean.TRUE, Boolean.TRUE, Boolean.TRUE, Boolean.TRUE, Boolean.TRUE, Defaults.CONNECTABLE, Defaults.TRACKING,
-                    Defaults.MCP, Defaults.ENLISTMENT_TRACE, pool, null, null, security, null, isXA);
+                    MaintainedManagedConnectionPool.resolve(Defaults.MCP), Defaults.ENLISTMENT_TRACE, pool, null, null, security, null, isXA);
 
             Activation activation = new ActivationImpl(null, null, transactionSupportValue, Collections.singletonList(cd), Collections.<AdminObject>emptyList(), raConfigProperties, Collections.<String>emptyList(), null, null);
 
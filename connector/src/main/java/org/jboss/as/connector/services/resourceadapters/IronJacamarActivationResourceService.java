@@ -31,6 +31,7 @@ import java.util.Map;
 import org.jboss.as.connector.dynamicresource.ClearStatisticsHandler;
 import org.jboss.as.connector.dynamicresource.StatisticsResourceDefinition;
 import org.jboss.as.connector.metadata.deployment.ResourceAdapterDeployment;
+import org.jboss.as.connector.pool.AcquisitionTimeStatistics;
 import org.jboss.as.connector.services.mdr.AS7MetadataRepository;
 import org.jboss.as.connector.subsystems.common.pool.PoolMetrics;
 import org.jboss.as.connector.subsystems.resourceadapters.CommonAttributes;
@@ -188,7 +189,7 @@ public class IronJacamarActivationResourceService implements Service<ManagementR
                             if (cm.getPool() != null) {
                                 PathElement peCD = PathElement.pathElement(Constants.CONNECTIONDEFINITIONS_NAME, cm.getJndiName());
                                 PathElement peCdStats = PathElement.pathElement(Constants.STATISTICS_NAME, "pool");
-                                StatisticsPlugin poolStats = cm.getPool().getStatistics();
+                                StatisticsPlugin poolStats = new AcquisitionTimeStatistics(cm.getPool().getStatistics(), cm.getPool().getName());
                                 poolStats.setEnabled(statsEnabled);
 
                                 if (poolStats.getNames().size() != 0) {
@@ -30,6 +30,7 @@ import java.util.Map;
 
 import org.jboss.as.connector.dynamicresource.StatisticsResourceDefinition;
 import org.jboss.as.connector.metadata.deployment.ResourceAdapterDeployment;
+import org.jboss.as.connector.pool.AcquisitionTimeStatistics;
 import org.jboss.as.connector.subsystems.resourceadapters.CommonAttributes;
 import org.jboss.as.connector.subsystems.resourceadapters.Constants;
 import org.jboss.as.controller.PathAddress;
@@ -117,7 +118,7 @@ public class ConnectionDefinitionStatisticsService implements Service<Management
             if (deploymentMD.getConnectionManagers() != null) {
                 for (ConnectionManager cm : deploymentMD.getConnectionManagers()) {
                     if (cm.getPool() != null && cm.getJndiName() != null && cm.getJndiName().equals(jndiName)) {
-                        StatisticsPlugin poolStats = cm.getPool().getStatistics();
+                        StatisticsPlugin poolStats = new AcquisitionTimeStatistics(cm.getPool().getStatistics(), cm.getPool().getName());
                         poolStats.setEnabled(statsEnabled);
 
                         if (poolStats.getNames().size() != 0) {
@@ -27,7 +27,6 @@ import org.jboss.as.connector.util.ConnectorServices;
 import org.jboss.jca.core.api.workmanager.DistributedWorkManager;
 import org.jboss.jca.core.tx.jbossts.XATerminatorImpl;
 import org.jboss.jca.core.workmanager.WorkManagerCoordinator;
-import org.jboss.jca.core.workmanager.transport.remote.jgroups.JGroupsTransport;
 import org.jboss.msc.inject.Injector;
 import org.jboss.msc.service.Service;
 import org.jboss.msc.service.StartContext;
@@ -60,15 +59,29 @@ public final class DistributedWorkManagerService implements Service<DistributedW
 
     private final InjectedValue<ChannelFactory> jGroupsChannelFactory = new InjectedValue<ChannelFactory>();
 
+    private final boolean workStealing;
+
+    private final int workStealingParallelism;
+
+    private final int workStealingCapacity;
+
+    private volatile WorkStealingBlockingExecutor workStealingExecutor;
+
     /**
      * create an instance
      *
      * @param value the work manager
+     * @param workStealing whether the short running work runs on a {@link WorkStealingBlockingExecutor}
+     * @param workStealingParallelism the number of threads of the work-stealing executor
+     * @param workStealingCapacity the maximum number of queued and running works of the work-stealing executor
      */
-    public DistributedWorkManagerService(DistributedWorkManager value) {
+    public DistributedWorkManagerService(DistributedWorkManager value, boolean workStealing, int workStealingParallelism, int workStealingCapacity) {
         super();
         ROOT_LOGGER.debugf("Building DistributedWorkManager");
         this.value = value;
+        this.workStealing = workStealing;
+        this.workStealingParallelism = workStealingParallelism;
+        this.workStealingCapacity = workStealingCapacity;
     }
 
     @Override
@@ -81,7 +94,7 @@ public final class DistributedWorkManagerService implements Service<DistributedW
         ROOT_LOGGER.debugf("Starting JCA DistributedWorkManager: ", value.getName());
 
         ChannelFactory factory = this.jGroupsChannelFactory.getValue();
-        JGroupsTransport transport = new ForkChannelTransport(factory);
+        ForkChannelTransport transport = new ForkChannelTransport(factory);
         try {
             transport.setChannel(factory.createChannel(this.value.getName()));
             transport.setClusterName(this.value.getName());
@@ -102,6 +115,12 @@ public final class DistributedWorkManagerService implements Service<DistributedW
 
         }
 
+        if (workStealing) {
+            // long running work keeps the configured pool, it would tie up the work-stealing workers
+            workStealingExecutor = new WorkStealingBlockingExecutor(value.getName(), workStealingParallelism, workStealingCapacity);
+            this.value.setShortRunningThreadPool(workStealingExecutor);
+        }
+
         this.value.setXATerminator(new XATerminatorImpl(xaTerminator.getValue()));
 
         WorkManagerCoordinator.getInstance().registerWorkManager(value);
@@ -113,6 +132,10 @@ public final class DistributedWorkManagerService implements Service<DistributedW
             throw ROOT_LOGGER.failedToStartDWMTransport(this.value.getName());
         }
 
+        if (this.value.getSelector() instanceof LoadAwareSelector) {
+            ((LoadAwareSelector) this.value.getSelector()).start(this.value, transport);
+        }
+
         ROOT_LOGGER.debugf("Started JCA DistributedWorkManager: ", value.getName());
     }
 
@@ -122,6 +145,10 @@ public final class DistributedWorkManagerService implements Service<DistributedW
 
         value.prepareShutdown();
 
+        if (value.getSelector() instanceof LoadAwareSelector) {
+            ((LoadAwareSelector) value.getSelector()).stop();
+        }
+
         try {
             value.getTransport().shutdown();
         } catch (Throwable throwable) {
@@ -131,6 +158,11 @@ public final class DistributedWorkManagerService implements Service<DistributedW
 
         value.shutdown();
 
+        if (workStealingExecutor != null) {
+            workStealingExecutor.shutdown();
+            workStealingExecutor = null;
+        }
+
         WorkManagerCoordinator.getInstance().unregisterWorkManager(value);
 
         ROOT_LOGGER.debugf("Stopped JCA DistributedWorkManager: ", value.getName());
@@ -0,0 +1,45 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.connector.services.workmanager;
+
+import javax.resource.spi.work.DistributableWork;
+
+import org.jboss.jca.core.api.workmanager.DistributedWorkManager;
+import org.jboss.jca.core.workmanager.policy.Always;
+
+/**
+ * A policy distributing the work only when another node reported a lower load than this node.
+ * <p/>
+ * The loads are known to the {@link LoadAwareSelector}, with another selector the policy behaves like {@link Always}.
+ */
+public class LoadAwarePolicy extends Always {
+
+    @Override
+    public boolean shouldDistribute(DistributedWorkManager dwm, DistributableWork work) {
+        if (dwm.getSelector() instanceof LoadAwareSelector) {
+            return ((LoadAwareSelector) dwm.getSelector()).shouldDistribute();
+        }
+        return super.shouldDistribute(dwm, work);
+    }
+}
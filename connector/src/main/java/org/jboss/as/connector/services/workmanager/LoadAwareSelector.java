@@ -0,0 +1,272 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.connector.services.workmanager;
+
+import static java.security.AccessController.doPrivileged;
+import static org.jboss.as.connector.logging.ConnectorLogger.ROOT_LOGGER;
+
+import java.security.PrivilegedAction;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.resource.spi.work.DistributableWork;
+
+import org.jboss.as.connector.services.workmanager.transport.ForkChannelTransport;
+import org.jboss.as.connector.services.workmanager.transport.LoadReport;
+import org.jboss.as.ee.metrics.LatencyHistogram;
+import org.jboss.as.threads.ManagedQueueExecutorService;
+import org.jboss.jca.core.api.workmanager.DistributedWorkManager;
+import org.jboss.jca.core.api.workmanager.WorkManagerStatistics;
+import org.jboss.jca.core.spi.workmanager.Address;
+import org.jboss.jca.core.workmanager.selector.MaxFreeThreads;
+import org.jboss.threads.JBossThreadFactory;
+
+/**
+ * A selector sending the work to the least loaded node of the distributed work manager.
+ * <p/>
+ * The nodes periodically broadcast their load, the number of busy threads plus the works queued in the short running
+ * thread pool, over the fork channel of the work manager. The work is sent to the node with the lowest reported load if
+ * it is lower than the load of this node, and kept local otherwise. Reports older than three intervals are ignored,
+ * so that a node leaving the cluster stops receiving work. Until the first reports arrive, the selection falls back
+ * to {@link MaxFreeThreads}.
+ * <p/>
+ * The broadcast interval in milliseconds is set with the {@code interval} selector option (default 1000), a new
+ * interval applies to the running broadcasts.
+ */
+public class LoadAwareSelector extends MaxFreeThreads implements ForkChannelTransport.LoadListener {
+
+    private static final long DEFAULT_INTERVAL = 1000L;
+
+    private final ConcurrentMap<Address, Load> loads = new ConcurrentHashMap<>();
+    private final LongAdder localDispatches = new LongAdder();
+    private final LongAdder remoteDispatches = new LongAdder();
+    private final LatencyHistogram transferTimes = new LatencyHistogram();
+
+    private volatile long interval = DEFAULT_INTERVAL;
+    private volatile DistributedWorkManager workManager;
+    private volatile Address own;
+    private ForkChannelTransport transport;
+    private ScheduledExecutorService scheduler;
+    private ScheduledFuture<?> broadcasts;
+
+    public long getInterval() {
+        return interval;
+    }
+
+    /**
+     * Set the load broadcast interval.
+     *
+     * @param interval the interval in milliseconds
+     */
+    public synchronized void setInterval(long interval) {
+        final long previous = this.interval;
+        this.interval = interval > 0 ? interval : DEFAULT_INTERVAL;
+        if (broadcasts != null && this.interval != previous) {
+            broadcasts.cancel(false);
+            scheduleBroadcasts();
+        }
+    }
+
+    /**
+     * Start exchanging the load with the other nodes.
+     *
+     * @param workManager the work manager using this selector
+     * @param transport the started transport of the work manager
+     */
+    public synchronized void start(final DistributedWorkManager workManager, final ForkChannelTransport transport) {
+        if (scheduler != null) {
+            return;
+        }
+        this.own = new Address(workManager.getId(), workManager.getName(), transport.getId());
+        this.transport = transport;
+        transport.setLoadListener(this);
+        startBroadcasts(workManager);
+    }
+
+    synchronized void startBroadcasts(final DistributedWorkManager workManager) {
+        this.workManager = workManager;
+        final ThreadGroup threadGroup = new ThreadGroup("DistributedWorkManager LoadAwareSelector ThreadGroup");
+        final String namePattern = "DistributedWorkManager " + workManager.getName() + " LoadAwareSelector Thread -- %t";
+        final ThreadFactory threadFactory = doPrivileged(new PrivilegedAction<JBossThreadFactory>() {
+            public JBossThreadFactory run() {
+                return new JBossThreadFactory(threadGroup, Boolean.TRUE, null, namePattern, null, null);
+            }
+        });
+        scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        scheduleBroadcasts();
+    }
+
+    private void scheduleBroadcasts() {
+        broadcasts = scheduler.scheduleWithFixedDelay(this::broadcastLoad, 0L, interval, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void stop() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        scheduler = null;
+        broadcasts = null;
+        if (transport != null) {
+            transport.setLoadListener(null);
+            transport = null;
+        }
+        loads.clear();
+    }
+
+    void broadcastLoad() {
+        final ForkChannelTransport transport;
+        synchronized (this) {
+            transport = this.transport;
+        }
+        if (transport == null) {
+            return;
+        }
+        try {
+            transport.broadcastLoad(new LoadReport(own, getLocalLoad()));
+        } catch (Throwable t) {
+            ROOT_LOGGER.debugf(t, "Failed to broadcast the load of distributed work manager %s", own);
+        }
+    }
+
+    long getLocalLoad() {
+        final DistributedWorkManager workManager = this.workManager;
+        if (workManager == null) {
+            return 0L;
+        }
+        final Executor executor = workManager instanceof NamedDistributedWorkManager
+                ? ((NamedDistributedWorkManager) workManager).getConfiguredShortRunningThreadPool()
+                : workManager.getShortRunningThreadPool();
+        if (executor instanceof WorkStealingBlockingExecutor) {
+            final WorkStealingBlockingExecutor workStealing = (WorkStealingBlockingExecutor) executor;
+            return workStealing.getActiveCount() + workStealing.getQueueDepth();
+        }
+        if (executor instanceof ManagedQueueExecutorService) {
+            final ManagedQueueExecutorService pool = (ManagedQueueExecutorService) executor;
+            return pool.getCurrentThreadCount() + pool.getQueueSize();
+        }
+        // the statistics only count the active works when they are enabled
+        final WorkManagerStatistics statistics = workManager.getStatistics();
+        return statistics != null ? statistics.getWorkActive() : 0L;
+    }
+
+    @Override
+    public void loadReported(final LoadReport report) {
+        if (!report.getAddress().equals(own)) {
+            loads.put(report.getAddress(), new Load(report.getLoad(), System.nanoTime()));
+        }
+    }
+
+    @Override
+    public void remotelyDispatched(final long transferTime) {
+        remoteDispatches.increment();
+        if (transferTime >= 0) {
+            transferTimes.record(transferTime);
+        }
+    }
+
+    /**
+     * Tell whether another node is less loaded than this one, work kept local is counted as a local dispatch.
+     *
+     * @return true if the work should be distributed
+     */
+    public boolean shouldDistribute() {
+        if (leastLoaded() != null) {
+            return true;
+        }
+        localDispatches.increment();
+        return false;
+    }
+
+    @Override
+    public Address selectDistributedWorkManager(final Address own, final DistributableWork work) {
+        Address selected;
+        if (loads.isEmpty()) {
+            selected = super.selectDistributedWorkManager(own, work);
+        } else {
+            selected = leastLoaded();
+        }
+        if (selected == null || selected.equals(own)) {
+            localDispatches.increment();
+        }
+        return selected;
+    }
+
+    private Address leastLoaded() {
+        final long staleBefore = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(3 * interval);
+        long min = getLocalLoad();
+        Address selected = null;
+        for (Iterator<Map.Entry<Address, Load>> it = loads.entrySet().iterator(); it.hasNext(); ) {
+            final Map.Entry<Address, Load> entry = it.next();
+            final Load load = entry.getValue();
+            if (load.reportedAt - staleBefore < 0) {
+                it.remove();
+            } else if (load.value < min) {
+                min = load.value;
+                selected = entry.getKey();
+            }
+        }
+        return selected;
+    }
+
+    public long getLocalDispatches() {
+        return localDispatches.sum();
+    }
+
+    public long getRemoteDispatches() {
+        return remoteDispatches.sum();
+    }
+
+    /**
+     * @return the times it took the remote nodes to accept the scheduled and started works, in nanoseconds
+     */
+    public LatencyHistogram getTransferTimes() {
+        return transferTimes;
+    }
+
+    public void clearStatistics() {
+        localDispatches.reset();
+        remoteDispatches.reset();
+        transferTimes.reset();
+    }
+
+    private static final class Load {
+        private final long value;
+        private final long reportedAt;
+
+        Load(final long value, final long reportedAt) {
+            this.value = value;
+            this.reportedAt = reportedAt;
+        }
+    }
+}
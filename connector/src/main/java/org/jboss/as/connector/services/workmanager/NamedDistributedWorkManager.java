@@ -23,6 +23,7 @@
 package org.jboss.as.connector.services.workmanager;
 
 import org.jboss.jca.core.workmanager.DistributedWorkManagerImpl;
+import org.jboss.threads.BlockingExecutor;
 
 /**
  * A named WorkManager.
@@ -30,6 +31,8 @@ import org.jboss.jca.core.workmanager.DistributedWorkManagerImpl;
  */
 public class NamedDistributedWorkManager extends DistributedWorkManagerImpl {
 
+    private volatile BlockingExecutor configuredShortRunningThreadPool;
+
     /**
      * Constructor
      * @param name The name of the WorkManager
@@ -38,4 +41,18 @@ public class NamedDistributedWorkManager extends DistributedWorkManagerImpl {
         super();
         setName(name);
     }
+
+    @Override
+    public void setShortRunningThreadPool(BlockingExecutor executor) {
+        super.setShortRunningThreadPool(executor);
+        this.configuredShortRunningThreadPool = executor;
+    }
+
+    /**
+     * Get the short running thread pool as it was set, the work manager may have wrapped it.
+     * @return The executor
+     */
+    public BlockingExecutor getConfiguredShortRunningThreadPool() {
+        return configuredShortRunningThreadPool;
+    }
 }
@@ -57,15 +57,29 @@ public final class WorkManagerService implements Service<WorkManager> {
 
     private final InjectedValue<JBossXATerminator> xaTerminator = new InjectedValue<JBossXATerminator>();
 
+    private final boolean workStealing;
+
+    private final int workStealingParallelism;
+
+    private final int workStealingCapacity;
+
+    private volatile WorkStealingBlockingExecutor workStealingExecutor;
+
     /**
      * create an instance
      *
      * @param value the work manager
+     * @param workStealing whether the short running work runs on a {@link WorkStealingBlockingExecutor}
+     * @param workStealingParallelism the number of threads of the work-stealing executor
+     * @param workStealingCapacity the maximum number of queued and running works of the work-stealing executor
      */
-    public WorkManagerService(WorkManager value) {
+    public WorkManagerService(WorkManager value, boolean workStealing, int workStealingParallelism, int workStealingCapacity) {
         super();
         ROOT_LOGGER.debugf("Building WorkManager");
         this.value = value;
+        this.workStealing = workStealing;
+        this.workStealingParallelism = workStealingParallelism;
+        this.workStealingCapacity = workStealingCapacity;
     }
 
     @Override
@@ -87,6 +101,12 @@ public final class WorkManagerService implements Service<WorkManager> {
 
         }
 
+        if (workStealing) {
+            // long running work keeps the configured pool, it would tie up the work-stealing workers
+            workStealingExecutor = new WorkStealingBlockingExecutor(value.getName(), workStealingParallelism, workStealingCapacity);
+            this.value.setShortRunningThreadPool(workStealingExecutor);
+        }
+
         this.value.setXATerminator(new XATerminatorImpl(xaTerminator.getValue()));
 
         if (value.getName().equals(DEFAULT_NAME)) {
@@ -110,6 +130,11 @@ public final class WorkManagerService implements Service<WorkManager> {
         //shutting down immediately (synchronous method) the workmanager and release all works
         value.shutdown();
 
+        if (workStealingExecutor != null) {
+            workStealingExecutor.shutdown();
+            workStealingExecutor = null;
+        }
+
         if (value.getName().equals(DEFAULT_NAME)) {
             WorkManagerCoordinator.getInstance().setDefaultWorkManager(null);
         } else {
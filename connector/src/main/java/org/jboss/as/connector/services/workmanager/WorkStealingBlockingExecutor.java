@@ -0,0 +1,258 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.connector.services.workmanager;
+
+import static java.security.AccessController.doPrivileged;
+
+import java.security.PrivilegedAction;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.jca.core.api.workmanager.StatisticsExecutor;
+import org.jboss.threads.BlockingExecutor;
+import org.jboss.threads.JBossThreadFactory;
+
+/**
+ * A {@link BlockingExecutor} backed by a work-stealing {@link ForkJoinPool}.
+ * <p/>
+ * It is a {@link StatisticsExecutor}, so that the work manager uses it as is instead of wrapping it, and the free
+ * threads seen by the policies and selectors are the idle workers.
+ * <p/>
+ * Each worker thread has its own deque, so work submitted by a running work lands on the submitting worker's deque,
+ * and idle workers steal from busy ones instead of all threads contending on a single queue. Tasks are run in
+ * submission order ({@code asyncMode}), which suits the event style work submitted by inbound resource adapters.
+ * <p/>
+ * The executor runs the work wrappers of the IronJacamar work manager, which take care of the work lifecycle events,
+ * the transaction inflow and the security context, like it does with the bounded queue thread pools. The number of
+ * queued and running tasks is bounded: {@link #execute} and {@link #executeNonBlocking} reject tasks beyond the
+ * capacity, {@link #executeBlocking} waits for room.
+ * <p/>
+ * The work managers with the {@code work-stealing} attribute enabled run their short running work on such an executor,
+ * their long running work stays on the configured thread pool.
+ */
+public final class WorkStealingBlockingExecutor implements StatisticsExecutor {
+
+    private final WorkerThreadFactory workerFactory;
+    private final ForkJoinPool pool;
+    private final int parallelism;
+    private final int capacity;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private final Object room = new Object();
+
+    /**
+     * Create an instance
+     *
+     * @param name the work manager name, used to name the threads
+     * @param parallelism the number of worker threads
+     * @param capacity the maximum number of queued and running tasks
+     */
+    public WorkStealingBlockingExecutor(final String name, final int parallelism, final int capacity) {
+        this.workerFactory = new WorkerThreadFactory(name);
+        this.pool = new ForkJoinPool(parallelism, workerFactory, null, true);
+        this.parallelism = parallelism;
+        this.capacity = capacity;
+    }
+
+    @Override
+    public void execute(final Runnable task) throws RejectedExecutionException {
+        executeNonBlocking(task);
+    }
+
+    @Override
+    public void executeNonBlocking(final Runnable task) throws RejectedExecutionException {
+        if (!reserve()) {
+            rejected.increment();
+            throw new RejectedExecutionException();
+        }
+        submit(task);
+    }
+
+    @Override
+    public void executeBlocking(final Runnable task) throws RejectedExecutionException, InterruptedException {
+        while (!reserve()) {
+            synchronized (room) {
+                if (pending.get() >= capacity) {
+                    room.wait();
+                }
+            }
+        }
+        submit(task);
+    }
+
+    @Override
+    public void executeBlocking(final Runnable task, final long timeout, final TimeUnit unit) throws RejectedExecutionException, InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!reserve()) {
+            final long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                rejected.increment();
+                throw new RejectedExecutionException();
+            }
+            synchronized (room) {
+                if (pending.get() >= capacity) {
+                    TimeUnit.NANOSECONDS.timedWait(room, remaining);
+                }
+            }
+        }
+        submit(task);
+    }
+
+    private boolean reserve() {
+        if (pool.isShutdown()) {
+            throw new RejectedExecutionException();
+        }
+        int current;
+        do {
+            current = pending.get();
+            if (current >= capacity) {
+                return false;
+            }
+        } while (!pending.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private void submit(final Runnable task) {
+        try {
+            pool.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            release();
+            rejected.increment();
+            throw e;
+        }
+    }
+
+    private void release() {
+        // only take the monitor if the pool was full, i.e. someone may be waiting for room
+        if (pending.getAndDecrement() >= capacity) {
+            synchronized (room) {
+                room.notifyAll();
+            }
+        }
+    }
+
+    public void shutdown() {
+        pool.shutdownNow();
+        workerFactory.shutdown();
+        synchronized (room) {
+            room.notifyAll();
+        }
+    }
+
+    /**
+     * @return the number of tasks waiting to run, in the worker deques and in the submission queues
+     */
+    public long getQueueDepth() {
+        return pool.getQueuedTaskCount() + pool.getQueuedSubmissionCount();
+    }
+
+    /**
+     * @return the number of tasks stolen from the deque of another worker
+     */
+    public long getStealCount() {
+        return pool.getStealCount();
+    }
+
+    @Override
+    public long getNumberOfFreeThreads() {
+        return Math.max(0, parallelism - pool.getActiveThreadCount());
+    }
+
+    public int getActiveCount() {
+        return pool.getActiveThreadCount();
+    }
+
+    public int getPoolSize() {
+        return pool.getPoolSize();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * Creates the workers like the JBoss thread factories of the other JCA thread pools: the worker threads are not
+     * created by the thread which happens to submit work, which would make them inherit its thread group, access
+     * control context and context class loader (usually the one of a deployment), but by a dedicated thread of a
+     * {@link JBossThreadFactory}, and they run with the class loader of this module.
+     */
+    private static final class WorkerThreadFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
+
+        private final String name;
+        private final AtomicInteger threadCount = new AtomicInteger();
+        private final ExecutorService creator;
+
+        WorkerThreadFactory(final String name) {
+            this.name = name;
+            final ThreadFactory threadFactory = doPrivileged(new PrivilegedAction<JBossThreadFactory>() {
+                public JBossThreadFactory run() {
+                    return new JBossThreadFactory(new ThreadGroup("JCA WorkManager " + name + " work-stealing"),
+                            Boolean.TRUE, null, "JCA WorkManager " + name + " work-stealing creator -- %t", null, null);
+                }
+            });
+            this.creator = Executors.newSingleThreadExecutor(threadFactory);
+        }
+
+        @Override
+        public ForkJoinWorkerThread newThread(final ForkJoinPool pool) {
+            final String threadName = "JCA WorkManager " + name + " work-stealing thread " + threadCount.incrementAndGet();
+            try {
+                return creator.submit(() -> new WorkerThread(pool, threadName)).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                // the pool runs the work with the workers it has
+                return null;
+            } catch (ExecutionException | RejectedExecutionException e) {
+                return null;
+            }
+        }
+
+        void shutdown() {
+            creator.shutdown();
+        }
+    }
+
+    private static final class WorkerThread extends ForkJoinWorkerThread {
+
+        WorkerThread(final ForkJoinPool pool, final String name) {
+            super(pool);
+            setName(name);
+            setDaemon(true);
+            setContextClassLoader(WorkStealingBlockingExecutor.class.getClassLoader());
+        }
+    }
+}
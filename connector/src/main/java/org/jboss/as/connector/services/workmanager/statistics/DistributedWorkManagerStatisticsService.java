@@ -27,6 +27,7 @@ import java.util.Locale;
 import java.util.Map;
 
 import org.jboss.as.connector.dynamicresource.ClearWorkManagerStatisticsHandler;
+import org.jboss.as.connector.services.workmanager.WorkStealingBlockingExecutor;
 import org.jboss.as.connector.subsystems.resourceadapters.CommonAttributes;
 import org.jboss.as.connector.subsystems.resourceadapters.Constants;
 import org.jboss.as.connector.subsystems.resourceadapters.WorkManagerRuntimeAttributeReadHandler;
@@ -102,6 +103,15 @@ public class DistributedWorkManagerStatisticsService implements Service<Manageme
                 for (SimpleAttributeDefinition metric : Constants.WORKMANAGER_METRICS) {
                     dwmSubRegistration.registerMetric(metric, metricHandler);
                 }
+                // registered whatever the selector, it can be switched to the load-aware one at runtime
+                for (SimpleAttributeDefinition metric : Constants.DISTRIBUTED_WORKMANAGER_LOAD_AWARE_METRICS) {
+                    dwmSubRegistration.registerMetric(metric, metricHandler);
+                }
+                if (dwm.getShortRunningThreadPool() instanceof WorkStealingBlockingExecutor) {
+                    for (SimpleAttributeDefinition metric : Constants.WORKMANAGER_WORK_STEALING_METRICS) {
+                        dwmSubRegistration.registerMetric(metric, metricHandler);
+                    }
+                }
 
                 OperationStepHandler readHandler = new WorkManagerRuntimeAttributeReadHandler(dwm, dwm.getDistributedStatistics(), false);
                 OperationStepHandler writeHandler = new WorkManagerRuntimeAttributeWriteHandler(dwm, false, Constants.DISTRIBUTED_WORKMANAGER_RW_ATTRIBUTES);
@@ -27,6 +27,7 @@ import java.util.Locale;
 import java.util.Map;
 
 import org.jboss.as.connector.dynamicresource.ClearWorkManagerStatisticsHandler;
+import org.jboss.as.connector.services.workmanager.WorkStealingBlockingExecutor;
 import org.jboss.as.connector.subsystems.resourceadapters.CommonAttributes;
 import org.jboss.as.connector.subsystems.resourceadapters.Constants;
 import org.jboss.as.connector.subsystems.resourceadapters.WorkManagerRuntimeAttributeReadHandler;
@@ -99,6 +100,11 @@ public class WorkManagerStatisticsService implements Service<ManagementResourceR
                 for (SimpleAttributeDefinition metric : Constants.WORKMANAGER_METRICS) {
                     wmSubRegistration.registerMetric(metric, metricHandler);
                 }
+                if (wm.getShortRunningThreadPool() instanceof WorkStealingBlockingExecutor) {
+                    for (SimpleAttributeDefinition metric : Constants.WORKMANAGER_WORK_STEALING_METRICS) {
+                        wmSubRegistration.registerMetric(metric, metricHandler);
+                    }
+                }
 
                 OperationStepHandler readHandler = new WorkManagerRuntimeAttributeReadHandler(wm, wm.getStatistics(), false);
                 OperationStepHandler writeHandler = new WorkManagerRuntimeAttributeWriteHandler(wm, false, Constants.WORKMANAGER_RW_ATTRIBUTES);
@@ -22,9 +22,17 @@
 
 package org.jboss.as.connector.services.workmanager.transport;
 
+import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
 
+import javax.resource.spi.work.DistributableWork;
+import javax.resource.spi.work.WorkException;
+
+import org.jboss.jca.core.spi.workmanager.Address;
 import org.jboss.jca.core.workmanager.transport.remote.jgroups.JGroupsTransport;
+import org.jgroups.blocks.MethodCall;
+import org.jgroups.blocks.MethodLookup;
+import org.jgroups.blocks.RequestOptions;
 import org.jgroups.blocks.RpcDispatcher;
 import org.jgroups.blocks.RpcDispatcher.Marshaller;
 import org.jgroups.util.Buffer;
@@ -33,11 +41,42 @@ import org.wildfly.clustering.jgroups.spi.ChannelFactory;
 
 /**
  * A {@link JGroupsTransport} capable of handling unknown fork responses.
+ * <p/>
+ * The transport also carries the {@link LoadReport}s of the nodes, and reports the remote dispatches, to the
+ * {@link LoadListener} of a load-aware selector.
  * @author Paul Ferraro
  */
 public class ForkChannelTransport extends JGroupsTransport implements Marshaller {
 
+    // method id of the load reports, away from the ids of the JGroupsTransport requests
+    private static final short UPDATE_LOAD = 1000;
+    private static final Method UPDATE_LOAD_METHOD;
+
+    static {
+        try {
+            UPDATE_LOAD_METHOD = ForkChannelTransport.class.getMethod("updateLoad", LoadReport.class);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Receives the load reports of the other nodes and the remote dispatches of this node.
+     */
+    public interface LoadListener {
+
+        void loadReported(LoadReport report);
+
+        /**
+         * @param transferTime the time it took the remote node to accept the work in nanoseconds, or -1 if
+         *                     the work was run synchronously
+         */
+        void remotelyDispatched(long transferTime);
+    }
+
     private final ChannelFactory factory;
+    private volatile RpcDispatcher dispatcher;
+    private volatile LoadListener loadListener;
 
     public ForkChannelTransport(ChannelFactory factory) {
         this.factory = factory;
@@ -47,9 +86,79 @@ public class ForkChannelTransport extends JGroupsTransport implements Marshaller
     protected RpcDispatcher createRpcDispatcher() {
         RpcDispatcher dispatcher = super.createRpcDispatcher();
         dispatcher.setResponseMarshaller(this);
+        this.dispatcher = dispatcher;
         return dispatcher;
     }
 
+    @Override
+    public void startup() throws Throwable {
+        super.startup();
+        final RpcDispatcher dispatcher = this.dispatcher;
+        if (dispatcher != null) {
+            final MethodLookup lookup = dispatcher.getMethodLookup();
+            dispatcher.setMethodLookup(id -> id == UPDATE_LOAD ? UPDATE_LOAD_METHOD : lookup.findMethod(id));
+        }
+    }
+
+    public void setLoadListener(LoadListener loadListener) {
+        this.loadListener = loadListener;
+    }
+
+    /**
+     * Send the load of this node to the other nodes, without waiting for them.
+     *
+     * @param report the load report
+     * @throws Exception if the report can't be sent
+     */
+    public void broadcastLoad(LoadReport report) throws Exception {
+        final RpcDispatcher dispatcher = this.dispatcher;
+        if (dispatcher != null) {
+            dispatcher.callRemoteMethods(null, new MethodCall(UPDATE_LOAD, report), RequestOptions.ASYNC());
+        }
+    }
+
+    /**
+     * Invoked by the dispatcher when another node broadcasts its load.
+     *
+     * @param report the load report
+     */
+    public void updateLoad(LoadReport report) {
+        final LoadListener listener = this.loadListener;
+        if (listener != null) {
+            listener.loadReported(report);
+        }
+    }
+
+    @Override
+    public void doWork(Address address, DistributableWork work) throws WorkException {
+        super.doWork(address, work);
+        final LoadListener listener = this.loadListener;
+        if (listener != null) {
+            listener.remotelyDispatched(-1L);
+        }
+    }
+
+    @Override
+    public void scheduleWork(Address address, DistributableWork work) throws WorkException {
+        final LoadListener listener = this.loadListener;
+        final long start = listener != null ? System.nanoTime() : 0L;
+        super.scheduleWork(address, work);
+        if (listener != null) {
+            listener.remotelyDispatched(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public long startWork(Address address, DistributableWork work) throws WorkException {
+        final LoadListener listener = this.loadListener;
+        final long start = listener != null ? System.nanoTime() : 0L;
+        final long result = super.startWork(address, work);
+        if (listener != null) {
+            listener.remotelyDispatched(System.nanoTime() - start);
+        }
+        return result;
+    }
+
     @Override
     public Buffer objectToBuffer(Object obj) throws Exception {
         return new Buffer(Util.objectToByteBuffer(obj));
@@ -0,0 +1,63 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.connector.services.workmanager.transport;
+
+import java.io.Serializable;
+
+import org.jboss.jca.core.spi.workmanager.Address;
+
+/**
+ * The load of a distributed work manager node, exchanged between the nodes over the fork channel.
+ */
+public final class LoadReport implements Serializable {
+
+    private static final long serialVersionUID = -2925542207637470713L;
+
+    private final Address address;
+    private final long load;
+
+    public LoadReport(Address address, long load) {
+        this.address = address;
+        this.load = load;
+    }
+
+    /**
+     * @return the address of the reporting work manager
+     */
+    public Address getAddress() {
+        return address;
+    }
+
+    /**
+     * @return the number of active and queued works of the reporting work manager
+     */
+    public long getLoad() {
+        return load;
+    }
+
+    @Override
+    public String toString() {
+        return "LoadReport[" + address + ", load=" + load + "]";
+    }
+}
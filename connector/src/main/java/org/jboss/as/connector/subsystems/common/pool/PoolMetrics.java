@@ -116,6 +116,8 @@ public abstract class PoolMetrics implements OperationStepHandler {
                 result.set((Integer) stats.getValue(attributeName));
             } else if (stats.getType(attributeName) == long.class) {
                 result.set((Long) stats.getValue(attributeName));
+            } else if (stats.getType(attributeName) == ModelNode.class) {
+                result.set((ModelNode) stats.getValue(attributeName));
             } else {
                 result.set("" + stats.getValue(attributeName));
             }
@@ -43,6 +43,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
 
 import org.jboss.as.connector.logging.ConnectorLogger;
+import org.jboss.as.connector.services.datasources.statistics.DataSourceLatencyStatistics;
 import org.jboss.as.connector.services.driver.InstalledDriver;
 import org.jboss.as.connector.services.driver.registry.DriverRegistry;
 import org.jboss.as.connector.util.Injection;
@@ -130,6 +131,7 @@ public abstract class AbstractDataSourceService implements Service<DataSource> {
 
     protected CommonDeployment deploymentMD;
     private WildFlyDataSource sqlDataSource;
+    private DataSourceLatencyStatistics latencyStatistics;
 
     /**
      * The class loader to use. If null the Driver class loader will be used instead.
@@ -150,7 +152,9 @@ public abstract class AbstractDataSourceService implements Service<DataSource> {
             if (deploymentMD.getCfs().length != 1) {
                 throw ConnectorLogger.ROOT_LOGGER.cannotStartDs();
             }
-            sqlDataSource = new WildFlyDataSource((javax.sql.DataSource) deploymentMD.getCfs()[0], jndiName.getAbsoluteJndiName());
+            latencyStatistics = new DataSourceLatencyStatistics();
+            DataSourceLatencyStatistics.register(deploymentMD.getCfJndiNames()[0], latencyStatistics);
+            sqlDataSource = new WildFlyDataSource((javax.sql.DataSource) deploymentMD.getCfs()[0], jndiName.getAbsoluteJndiName(), latencyStatistics);
             DS_DEPLOYER_LOGGER.debugf("Adding datasource: %s", deploymentMD.getCfJndiNames()[0]);
             CommonDeploymentService cdService = new CommonDeploymentService(deploymentMD);
             final ServiceName cdServiceName = CommonDeploymentService.getServiceName(jndiName);
@@ -227,6 +231,10 @@ public abstract class AbstractDataSourceService implements Service<DataSource> {
             }
         }
 
+        if (latencyStatistics != null) {
+            DataSourceLatencyStatistics.unregister(deploymentMD.getCfJndiNames()[0], latencyStatistics);
+            latencyStatistics = null;
+        }
         sqlDataSource = null;
 
     }
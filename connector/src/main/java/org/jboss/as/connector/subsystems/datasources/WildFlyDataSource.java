@@ -32,6 +32,8 @@ import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.util.logging.Logger;
 
+import org.jboss.as.connector.services.datasources.statistics.DataSourceLatencyStatistics;
+
 /**
  * WildFly DataSource implementation
  *
@@ -48,6 +50,9 @@ public class WildFlyDataSource implements DataSource, Serializable {
     /** Service name */
     private transient String jndiName;
 
+    /** Latency statistics */
+    private transient DataSourceLatencyStatistics latencyStatistics;
+
 
     /**
      * Constructor
@@ -59,10 +64,26 @@ public class WildFlyDataSource implements DataSource, Serializable {
         this.jndiName = jndiName;
     }
 
+    /**
+     * Constructor
+     * @param delegate The datasource
+     * @param jndiName The service name
+     * @param latencyStatistics The latency statistics
+     */
+    public WildFlyDataSource(DataSource delegate, String jndiName, DataSourceLatencyStatistics latencyStatistics) {
+        this(delegate, jndiName);
+        this.latencyStatistics = latencyStatistics;
+    }
+
     /**
      * {@inheritDoc}
      */
     public Connection getConnection() throws SQLException {
+        final DataSourceLatencyStatistics statistics = latencyStatistics;
+        if (statistics != null && statistics.isEnabled()) {
+            final long start = System.nanoTime();
+            return statistics.track(delegate.getConnection(), start);
+        }
         return delegate.getConnection();
     }
 
@@ -70,6 +91,11 @@ public class WildFlyDataSource implements DataSource, Serializable {
      * {@inheritDoc}
      */
     public Connection getConnection(String username, String password) throws SQLException {
+        final DataSourceLatencyStatistics statistics = latencyStatistics;
+        if (statistics != null && statistics.isEnabled()) {
+            final long start = System.nanoTime();
+            return statistics.track(delegate.getConnection(username, password), start);
+        }
         return delegate.getConnection(username, password);
     }
 
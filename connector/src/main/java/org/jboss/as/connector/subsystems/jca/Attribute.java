@@ -62,7 +62,17 @@ public enum Attribute {
 
     JGROUPS_CLUSTER("jgroups-cluster"),
 
-    REQUEST_TIMEOUT("request-timeout");
+    REQUEST_TIMEOUT("request-timeout"),
+
+    THREADS("threads"),
+
+    FILL_RATE("fill-rate"),
+
+    WORK_STEALING("work-stealing"),
+
+    WORK_STEALING_PARALLELISM("work-stealing-parallelism"),
+
+    WORK_STEALING_CAPACITY("work-stealing-capacity");
 
     private final String name;
 
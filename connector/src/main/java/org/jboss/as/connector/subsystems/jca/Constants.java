@@ -36,6 +36,8 @@ public class Constants {
 
     static final String CACHED_CONNECTION_MANAGER = "cached-connection-manager";
 
+    static final String POOL_MAINTENANCE = "pool-maintenance";
+
     public static final String DEFAULT_NAME = "default";
     static final String WORKMANAGER_SHORT_RUNNING = "short-running-threads";
     static final String WORKMANAGER_LONG_RUNNING = "long-running-threads";
@@ -31,6 +31,8 @@ import java.util.concurrent.Executor;
 import org.jboss.as.connector.services.workmanager.statistics.DistributedWorkManagerStatisticsService;
 import org.jboss.as.connector.services.workmanager.statistics.WorkManagerStatisticsService;
 import org.jboss.as.connector.services.workmanager.DistributedWorkManagerService;
+import org.jboss.as.connector.services.workmanager.LoadAwarePolicy;
+import org.jboss.as.connector.services.workmanager.LoadAwareSelector;
 import org.jboss.as.connector.services.workmanager.NamedDistributedWorkManager;
 import org.jboss.as.connector.subsystems.resourceadapters.IronJacamarResource;
 import org.jboss.as.connector.util.ConnectorServices;
@@ -81,6 +83,10 @@ public class DistributedWorkManagerAdd extends AbstractAddStepHandler {
 
         String policy = JcaDistributedWorkManagerDefinition.DWmParameters.POLICY.getAttribute().resolveModelAttribute(context, model).asString();
         String selector = JcaDistributedWorkManagerDefinition.DWmParameters.SELECTOR.getAttribute().resolveModelAttribute(context, model).asString();
+        boolean workStealing = JcaDistributedWorkManagerDefinition.DWmParameters.WORK_STEALING.getAttribute().resolveModelAttribute(context, model).asBoolean();
+        ModelNode parallelism = JcaDistributedWorkManagerDefinition.DWmParameters.WORK_STEALING_PARALLELISM.getAttribute().resolveModelAttribute(context, model);
+        int workStealingParallelism = parallelism.isDefined() ? parallelism.asInt() : Runtime.getRuntime().availableProcessors();
+        int workStealingCapacity = JcaDistributedWorkManagerDefinition.DWmParameters.WORK_STEALING_CAPACITY.getAttribute().resolveModelAttribute(context, model).asInt();
 
         ServiceTarget serviceTarget = context.getServiceTarget();
         NamedDistributedWorkManager namedDistributedWorkManager = new NamedDistributedWorkManager(name);
@@ -99,6 +105,10 @@ public class DistributedWorkManagerAdd extends AbstractAddStepHandler {
                     namedDistributedWorkManager.setPolicy(new WaterMark());
                     break;
                 }
+                case LOAD_AWARE: {
+                    namedDistributedWorkManager.setPolicy(new LoadAwarePolicy());
+                    break;
+                }
                 default:
                     throw ROOT_LOGGER.unsupportedPolicy(policy);
 
@@ -129,6 +139,10 @@ public class DistributedWorkManagerAdd extends AbstractAddStepHandler {
                     namedDistributedWorkManager.setSelector(new PingTime());
                     break;
                 }
+                case LOAD_AWARE: {
+                    namedDistributedWorkManager.setSelector(new LoadAwareSelector());
+                    break;
+                }
                 default:
                     throw ROOT_LOGGER.unsupportedSelector(selector);
             }
@@ -144,7 +158,8 @@ public class DistributedWorkManagerAdd extends AbstractAddStepHandler {
             namedDistributedWorkManager.setSelector(new PingTime());
         }
 
-        DistributedWorkManagerService wmService = new DistributedWorkManagerService(namedDistributedWorkManager);
+        DistributedWorkManagerService wmService = new DistributedWorkManagerService(namedDistributedWorkManager, workStealing, workStealingParallelism,
+                workStealingCapacity);
         ServiceBuilder<DistributedWorkManager> builder = serviceTarget
                 .addService(ConnectorServices.WORKMANAGER_SERVICE.append(name), wmService);
         builder.addDependency(ChannelServiceName.FACTORY.getServiceName(), ChannelFactory.class, wmService.getJGroupsChannelFactoryInjector());
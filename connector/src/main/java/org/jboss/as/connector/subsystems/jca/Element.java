@@ -71,7 +71,10 @@ public enum Element {
 
     OPTION("option"),
 
-    TRACER("tracer");
+    TRACER("tracer"),
+
+    /** pool-maintenance element **/
+    POOL_MAINTENANCE("pool-maintenance");
 
 
 
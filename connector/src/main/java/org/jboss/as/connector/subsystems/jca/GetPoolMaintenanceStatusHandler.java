@@ -0,0 +1,79 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.connector.subsystems.jca;
+
+import java.util.Map;
+
+import org.jboss.as.connector.pool.PoolMaintenance;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationDefinition;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+
+/**
+ * Reports the background validations and the progress of the pool fills run by the {@link PoolMaintenance} scheduler.
+ */
+public class GetPoolMaintenanceStatusHandler implements OperationStepHandler {
+
+    public static final OperationDefinition DEFINITION = new SimpleOperationDefinitionBuilder("get-pool-maintenance-status", JcaExtension.getResourceDescriptionResolver())
+            .setRuntimeOnly()
+            .setReadOnly()
+            .setReplyType(ModelType.OBJECT)
+            .build();
+
+    public static final GetPoolMaintenanceStatusHandler INSTANCE = new GetPoolMaintenanceStatusHandler();
+
+    private GetPoolMaintenanceStatusHandler() {
+    }
+
+    @Override
+    public void execute(final OperationContext context, final ModelNode operation) throws OperationFailedException {
+
+        if (context.isNormalServer()) {
+            context.addStep(new OperationStepHandler() {
+
+                @Override
+                public void execute(final OperationContext context, final ModelNode operation) throws OperationFailedException {
+                    final PoolMaintenance maintenance = PoolMaintenance.getInstance();
+                    final ModelNode result = new ModelNode();
+                    result.get("started").set(maintenance.isStarted());
+                    result.get("validations-running").set(maintenance.getValidationsRunning());
+                    result.get("validations-completed").set(maintenance.getValidationsCompleted());
+                    result.get("fill-steps-completed").set(maintenance.getFillStepsCompleted());
+                    final ModelNode fills = result.get("fills").setEmptyObject();
+                    for (Map.Entry<String, int[]> fill : maintenance.getFillProgress().entrySet()) {
+                        fills.get(fill.getKey(), "filled").set(fill.getValue()[0]);
+                        fills.get(fill.getKey(), "target").set(fill.getValue()[1]);
+                    }
+                    context.getResult().set(result);
+                    context.stepCompleted();
+                }
+            }, OperationContext.Stage.RUNTIME);
+        }
+
+        context.stepCompleted();
+    }
+}
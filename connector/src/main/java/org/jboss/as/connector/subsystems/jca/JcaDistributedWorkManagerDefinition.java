@@ -29,6 +29,7 @@ import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.PropertiesAttributeDefinition;
 import org.jboss.as.controller.ReadResourceNameOperationStepHandler;
 import org.jboss.as.controller.ReloadRequiredRemoveStepHandler;
+import org.jboss.as.controller.ReloadRequiredWriteAttributeHandler;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.client.helpers.MeasurementUnit;
@@ -36,6 +37,7 @@ import org.jboss.as.controller.operations.validation.EnumValidator;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.transform.OperationTransformer;
 import org.jboss.as.controller.transform.TransformationContext;
+import org.jboss.as.controller.transform.description.RejectAttributeChecker;
 import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
 import org.jboss.as.threads.BoundedQueueThreadPoolResourceDefinition;
 import org.jboss.as.threads.ThreadsServices;
@@ -77,6 +79,12 @@ public class JcaDistributedWorkManagerDefinition extends SimpleResourceDefinitio
             resourceRegistration.registerReadWriteAttribute(ad, null, JcaDistributedWorkManagerWriteHandler.INSTANCE);
         }
 
+        final AttributeDefinition[] workStealing = DWmParameters.getWorkStealingAttributeDefinitions();
+        final ReloadRequiredWriteAttributeHandler writeHandler = new ReloadRequiredWriteAttributeHandler(workStealing);
+        for (final AttributeDefinition ad : workStealing) {
+            resourceRegistration.registerReadWriteAttribute(ad, null, writeHandler);
+        }
+
     }
 
     @Override
@@ -88,8 +96,16 @@ public class JcaDistributedWorkManagerDefinition extends SimpleResourceDefinitio
 
     }
 
+    static void registerTransformers200(ResourceTransformationDescriptionBuilder parentBuilder) {
+        ResourceTransformationDescriptionBuilder builder = parentBuilder.addChildResource(PATH_DISTRIBUTED_WORK_MANAGER);
+        rejectLoadAware(builder);
+        JcaWorkManagerDefinition.rejectWorkStealing(builder);
+    }
+
     static void registerTransformers300(ResourceTransformationDescriptionBuilder parentBuilder) {
         ResourceTransformationDescriptionBuilder builder = parentBuilder.addChildResource(PATH_DISTRIBUTED_WORK_MANAGER);
+        rejectLoadAware(builder);
+        JcaWorkManagerDefinition.rejectWorkStealing(builder);
         builder.addOperationTransformationOverride("add")
                 .inheritResourceAttributeDefinitions()
                 .setCustomOperationTransformer(new OperationTransformer() {
@@ -103,6 +119,22 @@ public class JcaDistributedWorkManagerDefinition extends SimpleResourceDefinitio
                 }).end();
     }
 
+    static void registerTransformers400(ResourceTransformationDescriptionBuilder parentBuilder) {
+        ResourceTransformationDescriptionBuilder builder = parentBuilder.addChildResource(PATH_DISTRIBUTED_WORK_MANAGER);
+        rejectLoadAware(builder);
+        JcaWorkManagerDefinition.rejectWorkStealing(builder);
+    }
+
+    /**
+     * The LOAD_AWARE policy and selector were added in 4.1.0.
+     */
+    private static void rejectLoadAware(ResourceTransformationDescriptionBuilder builder) {
+        builder.getAttributeBuilder()
+                .addRejectCheck(new RejectAttributeChecker.SimpleRejectAttributeChecker(new ModelNode(PolicyValue.LOAD_AWARE.name())),
+                        DWmParameters.POLICY.getAttribute(), DWmParameters.SELECTOR.getAttribute())
+                .end();
+    }
+
     public static enum DWmParameters {
         NAME(SimpleAttributeDefinitionBuilder.create("name", ModelType.STRING)
                 .setAllowExpression(false)
@@ -136,7 +168,10 @@ public class JcaDistributedWorkManagerDefinition extends SimpleResourceDefinitio
         SELECTOR_OPTIONS(new PropertiesAttributeDefinition.Builder("selector-options", true)
                 .setAllowExpression(true)
                 .setXmlName(Element.OPTION.getLocalName())
-                .build());
+                .build()),
+        WORK_STEALING(JcaWorkManagerDefinition.WmParameters.WORK_STEALING.getAttribute()),
+        WORK_STEALING_PARALLELISM(JcaWorkManagerDefinition.WmParameters.WORK_STEALING_PARALLELISM.getAttribute()),
+        WORK_STEALING_CAPACITY(JcaWorkManagerDefinition.WmParameters.WORK_STEALING_CAPACITY.getAttribute());
 
         public static AttributeDefinition[] getAttributeDefinitions() {
             final AttributeDefinition[] returnValue = new AttributeDefinition[DWmParameters.values().length];
@@ -157,6 +192,10 @@ public class JcaDistributedWorkManagerDefinition extends SimpleResourceDefinitio
             };
         }
 
+        public static AttributeDefinition[] getWorkStealingAttributeDefinitions() {
+            return JcaWorkManagerDefinition.WmParameters.getWorkStealingAttributeDefinitions();
+        }
+
         public static AttributeDefinition[] getReadOnlyAttributeDefinitions() {
             return new AttributeDefinition[]{
                     NAME.getAttribute()
@@ -177,12 +216,14 @@ public class JcaDistributedWorkManagerDefinition extends SimpleResourceDefinitio
     public static enum PolicyValue {
         NEVER,
         ALWAYS,
-        WATERMARK;
+        WATERMARK,
+        LOAD_AWARE;
     }
 
     public static enum SelectorValue {
         FIRST_AVAILABLE,
         PING_TIME,
-        MAX_FREE_THREADS;
+        MAX_FREE_THREADS,
+        LOAD_AWARE;
     }
 }
@@ -23,7 +23,10 @@
 package org.jboss.as.connector.subsystems.jca;
 
 import org.jboss.as.connector.logging.ConnectorLogger;
+import org.jboss.as.connector.services.workmanager.LoadAwarePolicy;
+import org.jboss.as.connector.services.workmanager.LoadAwareSelector;
 import org.jboss.as.connector.services.workmanager.NamedDistributedWorkManager;
+import org.jboss.as.connector.services.workmanager.transport.ForkChannelTransport;
 import org.jboss.as.connector.util.ConnectorServices;
 import org.jboss.as.connector.util.Injection;
 import org.jboss.as.controller.AbstractWriteAttributeHandler;
@@ -51,7 +54,7 @@ public class JcaDistributedWorkManagerWriteHandler extends AbstractWriteAttribut
     static JcaDistributedWorkManagerWriteHandler INSTANCE = new JcaDistributedWorkManagerWriteHandler();
 
     private JcaDistributedWorkManagerWriteHandler() {
-        super(JcaDistributedWorkManagerDefinition.DWmParameters.getAttributeDefinitions());
+        super(JcaDistributedWorkManagerDefinition.DWmParameters.getRuntimeAttributeDefinitions());
     }
 
     @Override
@@ -84,11 +87,16 @@ public class JcaDistributedWorkManagerWriteHandler extends AbstractWriteAttribut
                     namedDistributedWorkManager.setPolicy(new WaterMark());
                     break;
                 }
+                case LOAD_AWARE: {
+                    namedDistributedWorkManager.setPolicy(new LoadAwarePolicy());
+                    break;
+                }
                 default: {
                     throw ROOT_LOGGER.unsupportedPolicy(resolvedValue.asString());
                 }
             }
         } else if (attributeName.equals(JcaDistributedWorkManagerDefinition.DWmParameters.SELECTOR.getAttribute().getName())) {
+            final Object previousSelector = namedDistributedWorkManager.getSelector();
             switch (JcaDistributedWorkManagerDefinition.SelectorValue.valueOf(resolvedValue.asString())) {
                 case FIRST_AVAILABLE: {
                     namedDistributedWorkManager.setSelector(new FirstAvailable());
@@ -102,10 +110,20 @@ public class JcaDistributedWorkManagerWriteHandler extends AbstractWriteAttribut
                     namedDistributedWorkManager.setSelector(new PingTime());
                     break;
                 }
+                case LOAD_AWARE: {
+                    namedDistributedWorkManager.setSelector(new LoadAwareSelector());
+                    break;
+                }
                 default: {
                     throw ROOT_LOGGER.unsupportedSelector(resolvedValue.asString());
                 }
             }
+            if (previousSelector instanceof LoadAwareSelector) {
+                ((LoadAwareSelector) previousSelector).stop();
+            }
+            if (namedDistributedWorkManager.getSelector() instanceof LoadAwareSelector && namedDistributedWorkManager.getTransport() instanceof ForkChannelTransport) {
+                ((LoadAwareSelector) namedDistributedWorkManager.getSelector()).start(namedDistributedWorkManager, (ForkChannelTransport) namedDistributedWorkManager.getTransport());
+            }
         } else if (attributeName.equals(JcaDistributedWorkManagerDefinition.DWmParameters.POLICY_OPTIONS.getAttribute().getName()) && namedDistributedWorkManager.getPolicy() != null) {
             for (Map.Entry<String, String> entry : ((PropertiesAttributeDefinition) JcaDistributedWorkManagerDefinition.DWmParameters.POLICY_OPTIONS.getAttribute()).unwrap(context, operation).entrySet()) {
                 try {
@@ -29,6 +29,7 @@ import static org.jboss.as.connector.subsystems.jca.Constants.CACHED_CONNECTION_
 import static org.jboss.as.connector.subsystems.jca.Constants.DEFAULT_NAME;
 import static org.jboss.as.connector.subsystems.jca.Constants.DISTRIBUTED_WORKMANAGER;
 import static org.jboss.as.connector.subsystems.jca.Constants.JCA;
+import static org.jboss.as.connector.subsystems.jca.Constants.POOL_MAINTENANCE;
 import static org.jboss.as.connector.subsystems.jca.Constants.TRACER;
 import static org.jboss.as.connector.subsystems.jca.Constants.WORKMANAGER;
 import static org.jboss.as.connector.subsystems.jca.Constants.WORKMANAGER_LONG_RUNNING;
@@ -79,7 +80,7 @@ public class JcaExtension implements Extension {
 
     public static final String SUBSYSTEM_NAME = "jca";
 
-    private static final ModelVersion CURRENT_MODEL_VERSION = ModelVersion.create(4, 0, 0);
+    private static final ModelVersion CURRENT_MODEL_VERSION = ModelVersion.create(4, 1, 0);
 
     private static final String RESOURCE_NAME = JcaExtension.class.getPackage().getName() + ".LocalDescriptions";
 
@@ -115,6 +116,7 @@ public class JcaExtension implements Extension {
         context.setSubsystemXmlMapping(SUBSYSTEM_NAME, Namespace.JCA_2_0.getUriString(), ConnectorSubsystemParser.INSTANCE);
         context.setSubsystemXmlMapping(SUBSYSTEM_NAME, Namespace.JCA_3_0.getUriString(), ConnectorSubsystemParser.INSTANCE);
         context.setSubsystemXmlMapping(SUBSYSTEM_NAME, Namespace.JCA_4_0.getUriString(), ConnectorSubsystemParser.INSTANCE);
+        context.setSubsystemXmlMapping(SUBSYSTEM_NAME, Namespace.JCA_4_1.getUriString(), ConnectorSubsystemParser.INSTANCE);
     }
 
     static final class ConnectorSubsystemParser implements XMLStreamConstants, XMLElementReader<List<ModelNode>>,
@@ -137,6 +139,7 @@ public class JcaExtension implements Extension {
             writeDistributedWorkManagers(writer, node);
             writeBootstrapContexts(writer, node);
             writeCachedConnectionManager(writer, node);
+            writePoolMaintenance(writer, node);
             writer.writeEndElement();
         }
 
@@ -192,6 +195,16 @@ public class JcaExtension implements Extension {
             }
         }
 
+        private void writePoolMaintenance(XMLExtendedStreamWriter writer, ModelNode parentNode) throws XMLStreamException {
+            if (parentNode.hasDefined(POOL_MAINTENANCE)) {
+                ModelNode node = parentNode.get(POOL_MAINTENANCE).get(POOL_MAINTENANCE);
+
+                writer.writeEmptyElement(Element.POOL_MAINTENANCE.getLocalName());
+                JcaPoolMaintenanceDefinition.PoolMaintenanceParameters.THREADS.getAttribute().marshallAsAttribute(node, writer);
+                JcaPoolMaintenanceDefinition.PoolMaintenanceParameters.FILL_RATE.getAttribute().marshallAsAttribute(node, writer);
+            }
+        }
+
         private void writeDistributedWorkManagers(XMLExtendedStreamWriter writer, ModelNode parentNode) throws XMLStreamException {
             if (parentNode.hasDefined(DISTRIBUTED_WORKMANAGER) && parentNode.get(DISTRIBUTED_WORKMANAGER).asList().size() != 0) {
                 ModelNode workManagers = parentNode.get(DISTRIBUTED_WORKMANAGER);
@@ -199,6 +212,7 @@ public class JcaExtension implements Extension {
                     ModelNode workManager = workManagers.get(name);
                     writer.writeStartElement(Element.DISTRIBUTED_WORKMANAGER.getLocalName());
                     ((SimpleAttributeDefinition) JcaDistributedWorkManagerDefinition.DWmParameters.NAME.getAttribute()).marshallAsAttribute(workManager, writer);
+                    writeWorkStealing(writer, workManager);
 
                     for (Property prop : workManager.asPropertyList()) {
                         if (WORKMANAGER_LONG_RUNNING.equals(prop.getName()) && prop.getValue().isDefined() && prop.getValue().asPropertyList().size() != 0) {
@@ -252,6 +266,7 @@ public class JcaExtension implements Extension {
                         JcaWorkManagerDefinition.WmParameters.NAME.getAttribute().marshallAsAttribute(workManager, writer);
 
                     }
+                    writeWorkStealing(writer, workManager);
                     for (String propName : workManager.keys()) {
                         ModelNode propVal = workManager.get(propName);
                         if (WORKMANAGER_LONG_RUNNING.equals(propName) && propVal.isDefined() && propVal.asPropertyList().size() != 0) {
@@ -267,6 +282,12 @@ public class JcaExtension implements Extension {
         }
 
 
+        private void writeWorkStealing(XMLExtendedStreamWriter writer, ModelNode workManager) throws XMLStreamException {
+            for (AttributeDefinition attribute : JcaWorkManagerDefinition.WmParameters.getWorkStealingAttributeDefinitions()) {
+                ((SimpleAttributeDefinition) attribute).marshallAsAttribute(workManager, writer);
+            }
+        }
+
         private void writeBootstrapContexts(XMLExtendedStreamWriter writer, ModelNode parentNode) throws XMLStreamException {
             if (parentNode.hasDefined(BOOTSTRAP_CONTEXT) && parentNode.get(BOOTSTRAP_CONTEXT).asList().size() != 0) {
 
@@ -313,6 +334,7 @@ public class JcaExtension implements Extension {
             while (reader.hasNext() && reader.nextTag() != END_ELEMENT) {
 
                 switch (Namespace.forUri(reader.getNamespaceURI())) {
+                    case JCA_4_1:
                     case JCA_4_0:
                     case JCA_3_0:
                     case JCA_2_0:
@@ -371,13 +393,22 @@ public class JcaExtension implements Extension {
                             }
                             case TRACER: {
                                 if (Namespace.forUri(reader.getNamespaceURI()).equals(Namespace.JCA_3_0) ||
-                                    Namespace.forUri(reader.getNamespaceURI()).equals(Namespace.JCA_4_0)) {
+                                    Namespace.forUri(reader.getNamespaceURI()).equals(Namespace.JCA_4_0) ||
+                                    Namespace.forUri(reader.getNamespaceURI()).equals(Namespace.JCA_4_1)) {
                                     list.add(parseTracer(reader, address));
                                 } else {
                                     throw unexpectedElement(reader);
                                 }
                                 break;
                             }
+                            case POOL_MAINTENANCE: {
+                                if (Namespace.forUri(reader.getNamespaceURI()).equals(Namespace.JCA_4_1)) {
+                                    list.add(parsePoolMaintenance(reader, address));
+                                } else {
+                                    throw unexpectedElement(reader);
+                                }
+                                break;
+                            }
                             default:
                                 throw unexpectedElement(reader);
                         }
@@ -462,6 +493,12 @@ public class JcaExtension implements Extension {
                         JcaWorkManagerDefinition.WmParameters.NAME.getAttribute().parseAndSetParameter(name, workManagerOperation, reader);
                         break;
                     }
+                    case WORK_STEALING:
+                    case WORK_STEALING_PARALLELISM:
+                    case WORK_STEALING_CAPACITY: {
+                        parseWorkStealing(reader, i, attribute, workManagerOperation);
+                        break;
+                    }
                     default: {
                         throw unexpectedAttribute(reader, i);
                     }
@@ -531,6 +568,12 @@ public class JcaExtension implements Extension {
                         ((SimpleAttributeDefinition) attributeDefinition).parseAndSetParameter(name, distributedWorkManagerOperation, reader);
                         break;
                     }
+                    case WORK_STEALING:
+                    case WORK_STEALING_PARALLELISM:
+                    case WORK_STEALING_CAPACITY: {
+                        parseWorkStealing(reader, i, attribute, distributedWorkManagerOperation);
+                        break;
+                    }
                     default: {
                         throw unexpectedAttribute(reader, i);
                     }
@@ -571,7 +614,8 @@ public class JcaExtension implements Extension {
                         switch (readerNS) {
                             case JCA_2_0:
                             case JCA_3_0:
-                            case JCA_4_0: {
+                            case JCA_4_0:
+                            case JCA_4_1: {
                                 parsePolicy(reader, distributedWorkManagerOperation);
                                 break;
                             }
@@ -585,7 +629,8 @@ public class JcaExtension implements Extension {
                         switch (readerNS) {
                             case JCA_2_0:
                             case JCA_3_0:
-                            case JCA_4_0: {
+                            case JCA_4_0:
+                            case JCA_4_1: {
                                 parseSelector(reader, distributedWorkManagerOperation);
                                 break;
                             }
@@ -605,6 +650,29 @@ public class JcaExtension implements Extension {
         }
 
 
+        private void parseWorkStealing(final XMLExtendedStreamReader reader, final int index, final Attribute attribute,
+                                       final ModelNode operation) throws XMLStreamException {
+            if (Namespace.forUri(reader.getNamespaceURI()) != Namespace.JCA_4_1) {
+                throw unexpectedAttribute(reader, index);
+            }
+            final SimpleAttributeDefinition attributeDefinition;
+            switch (attribute) {
+                case WORK_STEALING: {
+                    attributeDefinition = JcaWorkManagerDefinition.WmParameters.WORK_STEALING.getAttribute();
+                    break;
+                }
+                case WORK_STEALING_PARALLELISM: {
+                    attributeDefinition = JcaWorkManagerDefinition.WmParameters.WORK_STEALING_PARALLELISM.getAttribute();
+                    break;
+                }
+                default: {
+                    attributeDefinition = JcaWorkManagerDefinition.WmParameters.WORK_STEALING_CAPACITY.getAttribute();
+                }
+            }
+            final String value = rawAttributeText(reader, attributeDefinition.getXmlName());
+            attributeDefinition.parseAndSetParameter(value, operation, reader);
+        }
+
         private void parsePolicy(final XMLExtendedStreamReader reader, final ModelNode operation) throws XMLStreamException {
 
 
@@ -615,6 +683,10 @@ public class JcaExtension implements Extension {
                 switch (attribute) {
                     case NAME: {
                         String policy = rawAttributeText(reader, attribute.getLocalName());
+                        if (JcaDistributedWorkManagerDefinition.PolicyValue.LOAD_AWARE.name().equals(policy) &&
+                                !Namespace.forUri(reader.getNamespaceURI()).equals(Namespace.JCA_4_1)) {
+                            throw ParseUtils.invalidAttributeValue(reader, i);
+                        }
                         ((SimpleAttributeDefinition) JcaDistributedWorkManagerDefinition.DWmParameters.POLICY.getAttribute()).parseAndSetParameter(policy, operation, reader);
                         break;
                     }
@@ -653,6 +725,10 @@ public class JcaExtension implements Extension {
 
                     case NAME: {
                         String selector = rawAttributeText(reader, attribute.getLocalName());
+                        if (JcaDistributedWorkManagerDefinition.SelectorValue.LOAD_AWARE.name().equals(selector) &&
+                                !Namespace.forUri(reader.getNamespaceURI()).equals(Namespace.JCA_4_1)) {
+                            throw ParseUtils.invalidAttributeValue(reader, i);
+                        }
                         ((SimpleAttributeDefinition) JcaDistributedWorkManagerDefinition.DWmParameters.SELECTOR.getAttribute()).parseAndSetParameter(selector, operation, reader);
                         break;
                     }
@@ -745,6 +821,43 @@ public class JcaExtension implements Extension {
 
         }
 
+        private ModelNode parsePoolMaintenance(final XMLExtendedStreamReader reader, final ModelNode parentOperation) throws XMLStreamException {
+            final ModelNode poolMaintenanceOperation = new ModelNode();
+            poolMaintenanceOperation.get(OP).set(ADD);
+
+            final ModelNode poolMaintenanceAddress = parentOperation.clone();
+            poolMaintenanceAddress.add(POOL_MAINTENANCE, POOL_MAINTENANCE);
+            poolMaintenanceAddress.protect();
+
+            poolMaintenanceOperation.get(OP_ADDR).set(poolMaintenanceAddress);
+
+
+            final int cnt = reader.getAttributeCount();
+            for (int i = 0; i < cnt; i++) {
+                final Attribute attribute = Attribute.forName(reader.getAttributeLocalName(i));
+                switch (attribute) {
+                    case THREADS: {
+                        String value = rawAttributeText(reader, JcaPoolMaintenanceDefinition.PoolMaintenanceParameters.THREADS.getAttribute().getXmlName());
+                        JcaPoolMaintenanceDefinition.PoolMaintenanceParameters.THREADS.getAttribute().parseAndSetParameter(value, poolMaintenanceOperation, reader);
+                        break;
+                    }
+                    case FILL_RATE: {
+                        String value = rawAttributeText(reader, JcaPoolMaintenanceDefinition.PoolMaintenanceParameters.FILL_RATE.getAttribute().getXmlName());
+                        JcaPoolMaintenanceDefinition.PoolMaintenanceParameters.FILL_RATE.getAttribute().parseAndSetParameter(value, poolMaintenanceOperation, reader);
+                        break;
+                    }
+                    default: {
+                        throw unexpectedAttribute(reader, i);
+                    }
+                }
+            }
+            // Handle elements
+            requireNoContent(reader);
+
+            return poolMaintenanceOperation;
+
+        }
+
         private ModelNode parseCcm(final XMLExtendedStreamReader reader, final ModelNode parentOperation) throws XMLStreamException {
             final ModelNode ccmOperation = new ModelNode();
             ccmOperation.get(OP).set(ADD);
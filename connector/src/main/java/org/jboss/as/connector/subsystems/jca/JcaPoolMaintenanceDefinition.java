@@ -0,0 +1,95 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.connector.subsystems.jca;
+
+import static org.jboss.as.connector.subsystems.jca.Constants.POOL_MAINTENANCE;
+
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.ReloadRequiredRemoveStepHandler;
+import org.jboss.as.controller.ReloadRequiredWriteAttributeHandler;
+import org.jboss.as.controller.SimpleAttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.SimpleResourceDefinition;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+
+/**
+ * The pool maintenance scheduler running the background validation and fill requests of the connection pools in
+ * parallel, see {@link org.jboss.as.connector.pool.PoolMaintenance}.
+ */
+public class JcaPoolMaintenanceDefinition extends SimpleResourceDefinition {
+    protected static final PathElement PATH_POOL_MAINTENANCE = PathElement.pathElement(POOL_MAINTENANCE, POOL_MAINTENANCE);
+    static final JcaPoolMaintenanceDefinition INSTANCE = new JcaPoolMaintenanceDefinition();
+
+    private JcaPoolMaintenanceDefinition() {
+        super(PATH_POOL_MAINTENANCE,
+                JcaExtension.getResourceDescriptionResolver(PATH_POOL_MAINTENANCE.getKey()),
+                PoolMaintenanceAdd.INSTANCE,
+                ReloadRequiredRemoveStepHandler.INSTANCE);
+    }
+
+    @Override
+    public void registerAttributes(ManagementResourceRegistration resourceRegistration) {
+        super.registerAttributes(resourceRegistration);
+
+        for (final PoolMaintenanceParameters parameter : PoolMaintenanceParameters.values()) {
+            resourceRegistration.registerReadWriteAttribute(parameter.getAttribute(), null, new ReloadRequiredWriteAttributeHandler(parameter.getAttribute()));
+        }
+
+    }
+
+    public static enum PoolMaintenanceParameters {
+        THREADS(SimpleAttributeDefinitionBuilder.create("threads", ModelType.INT)
+                .setAllowExpression(true)
+                .setAllowNull(true)
+                .setValidator(new IntRangeValidator(1, true, true))
+                .setMeasurementUnit(MeasurementUnit.NONE)
+                .setRestartAllServices()
+                .setXmlName(Attribute.THREADS.getLocalName())
+                .build()),
+        FILL_RATE(SimpleAttributeDefinitionBuilder.create("fill-rate", ModelType.INT)
+                .setAllowExpression(true)
+                .setAllowNull(true)
+                .setDefaultValue(new ModelNode().set(0))
+                .setValidator(new IntRangeValidator(0, true, true))
+                .setMeasurementUnit(MeasurementUnit.PER_SECOND)
+                .setRestartAllServices()
+                .setXmlName(Attribute.FILL_RATE.getLocalName())
+                .build());
+
+        private PoolMaintenanceParameters(SimpleAttributeDefinition attribute) {
+            this.attribute = attribute;
+        }
+
+        public SimpleAttributeDefinition getAttribute() {
+            return attribute;
+        }
+
+        private SimpleAttributeDefinition attribute;
+    }
+
+}
@@ -58,6 +58,9 @@ public class JcaSubsystemRootDefinition extends SimpleResourceDefinition {
     public void registerOperations(ManagementResourceRegistration resourceRegistration) {
         super.registerOperations(resourceRegistration);
         resourceRegistration.registerOperationHandler(GenericSubsystemDescribeHandler.DEFINITION, GenericSubsystemDescribeHandler.INSTANCE);
+        if (registerRuntimeOnly) {
+            resourceRegistration.registerOperationHandler(GetPoolMaintenanceStatusHandler.DEFINITION, GetPoolMaintenanceStatusHandler.INSTANCE);
+        }
 
 
     }
@@ -72,6 +75,8 @@ public class JcaSubsystemRootDefinition extends SimpleResourceDefinition {
 
         resourceRegistration.registerSubModel(JcaCachedConnectionManagerDefinition.INSTANCE);
 
+        resourceRegistration.registerSubModel(JcaPoolMaintenanceDefinition.INSTANCE);
+
         resourceRegistration.registerSubModel(JcaWorkManagerDefinition.createInstance(registerRuntimeOnly));
 
         resourceRegistration.registerSubModel(JcaDistributedWorkManagerDefinition.createInstance(registerRuntimeOnly));
@@ -84,12 +89,24 @@ public class JcaSubsystemRootDefinition extends SimpleResourceDefinition {
         ResourceTransformationDescriptionBuilder builder12 = TransformationDescriptionBuilder.Factory.createSubsystemInstance();
         builder12.rejectChildResource(JcaDistributedWorkManagerDefinition.PATH_DISTRIBUTED_WORK_MANAGER);
         builder12.discardChildResource(TracerDefinition.PATH_TRACER);
+        builder12.discardChildResource(JcaPoolMaintenanceDefinition.PATH_POOL_MAINTENANCE);
+        JcaWorkManagerDefinition.registerTransformers(builder12);
         TransformationDescription.Tools.register(builder12.build(), subsystem, ModelVersion.create(1, 2, 0));
         ResourceTransformationDescriptionBuilder builder20 = TransformationDescriptionBuilder.Factory.createSubsystemInstance();
         builder20.discardChildResource(TracerDefinition.PATH_TRACER);
+        builder20.discardChildResource(JcaPoolMaintenanceDefinition.PATH_POOL_MAINTENANCE);
+        JcaDistributedWorkManagerDefinition.registerTransformers200(builder20);
+        JcaWorkManagerDefinition.registerTransformers(builder20);
         TransformationDescription.Tools.register(builder20.build(), subsystem, ModelVersion.create(2, 0, 0));
         ResourceTransformationDescriptionBuilder builder30 = TransformationDescriptionBuilder.Factory.createSubsystemInstance();
+        builder30.discardChildResource(JcaPoolMaintenanceDefinition.PATH_POOL_MAINTENANCE);
         JcaDistributedWorkManagerDefinition.registerTransformers300(builder30);
+        JcaWorkManagerDefinition.registerTransformers(builder30);
         TransformationDescription.Tools.register(builder30.build(), subsystem, ModelVersion.create(3, 0, 0));
+        ResourceTransformationDescriptionBuilder builder40 = TransformationDescriptionBuilder.Factory.createSubsystemInstance();
+        builder40.discardChildResource(JcaPoolMaintenanceDefinition.PATH_POOL_MAINTENANCE);
+        JcaDistributedWorkManagerDefinition.registerTransformers400(builder40);
+        JcaWorkManagerDefinition.registerTransformers(builder40);
+        TransformationDescription.Tools.register(builder40.build(), subsystem, ModelVersion.create(4, 0, 0));
     }
 }
@@ -30,13 +30,19 @@ import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.ReadResourceNameOperationStepHandler;
 import org.jboss.as.controller.ReloadRequiredRemoveStepHandler;
+import org.jboss.as.controller.ReloadRequiredWriteAttributeHandler;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.controller.transform.description.DiscardAttributeChecker;
+import org.jboss.as.controller.transform.description.RejectAttributeChecker;
+import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
 import org.jboss.as.threads.BoundedQueueThreadPoolResourceDefinition;
 import org.jboss.as.threads.ThreadsServices;
+import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 
 /**
@@ -62,9 +68,12 @@ public class JcaWorkManagerDefinition extends SimpleResourceDefinition {
     public void registerAttributes(ManagementResourceRegistration resourceRegistration) {
         super.registerAttributes(resourceRegistration);
 
-        for (final WmParameters parameter : WmParameters.values()) {
-            AttributeDefinition ad = parameter.getAttribute();
-            resourceRegistration.registerReadOnlyAttribute(ad, ReadResourceNameOperationStepHandler.INSTANCE);
+        resourceRegistration.registerReadOnlyAttribute(WmParameters.NAME.getAttribute(), ReadResourceNameOperationStepHandler.INSTANCE);
+
+        final AttributeDefinition[] workStealing = WmParameters.getWorkStealingAttributeDefinitions();
+        final ReloadRequiredWriteAttributeHandler writeHandler = new ReloadRequiredWriteAttributeHandler(workStealing);
+        for (final AttributeDefinition ad : workStealing) {
+            resourceRegistration.registerReadWriteAttribute(ad, null, writeHandler);
         }
 
     }
@@ -78,6 +87,21 @@ public class JcaWorkManagerDefinition extends SimpleResourceDefinition {
 
     }
 
+    static void registerTransformers(ResourceTransformationDescriptionBuilder parentBuilder) {
+        rejectWorkStealing(parentBuilder.addChildResource(PATH_WORK_MANAGER));
+    }
+
+    /**
+     * The work-stealing attributes were added in 4.1.0.
+     */
+    static void rejectWorkStealing(ResourceTransformationDescriptionBuilder builder) {
+        builder.getAttributeBuilder()
+                .setDiscard(new DiscardAttributeChecker.DiscardAttributeValueChecker(false, true, new ModelNode(false)), WmParameters.WORK_STEALING.getAttribute())
+                .setDiscard(DiscardAttributeChecker.UNDEFINED, WmParameters.WORK_STEALING_PARALLELISM.getAttribute(), WmParameters.WORK_STEALING_CAPACITY.getAttribute())
+                .addRejectCheck(RejectAttributeChecker.DEFINED, WmParameters.getWorkStealingAttributeDefinitions())
+                .end();
+    }
+
     public enum WmParameters {
         NAME(SimpleAttributeDefinitionBuilder.create("name", ModelType.STRING)
                 .setAllowExpression(false)
@@ -85,8 +109,41 @@ public class JcaWorkManagerDefinition extends SimpleResourceDefinition {
                 .setMeasurementUnit(MeasurementUnit.NONE)
                 .setRestartAllServices()
                 .setXmlName("name")
+                .build()),
+        WORK_STEALING(SimpleAttributeDefinitionBuilder.create("work-stealing", ModelType.BOOLEAN)
+                .setAllowExpression(true)
+                .setAllowNull(true)
+                .setDefaultValue(new ModelNode(false))
+                .setMeasurementUnit(MeasurementUnit.NONE)
+                .setRestartAllServices()
+                .setXmlName(Attribute.WORK_STEALING.getLocalName())
+                .build()),
+        WORK_STEALING_PARALLELISM(SimpleAttributeDefinitionBuilder.create("work-stealing-parallelism", ModelType.INT)
+                .setAllowExpression(true)
+                .setAllowNull(true)
+                .setValidator(new IntRangeValidator(1, true, true))
+                .setMeasurementUnit(MeasurementUnit.NONE)
+                .setRestartAllServices()
+                .setXmlName(Attribute.WORK_STEALING_PARALLELISM.getLocalName())
+                .build()),
+        WORK_STEALING_CAPACITY(SimpleAttributeDefinitionBuilder.create("work-stealing-capacity", ModelType.INT)
+                .setAllowExpression(true)
+                .setAllowNull(true)
+                .setDefaultValue(new ModelNode(10000))
+                .setValidator(new IntRangeValidator(1, true, true))
+                .setMeasurementUnit(MeasurementUnit.NONE)
+                .setRestartAllServices()
+                .setXmlName(Attribute.WORK_STEALING_CAPACITY.getLocalName())
                 .build());
 
+        public static AttributeDefinition[] getWorkStealingAttributeDefinitions() {
+            return new AttributeDefinition[]{
+                    WORK_STEALING.getAttribute(),
+                    WORK_STEALING_PARALLELISM.getAttribute(),
+                    WORK_STEALING_CAPACITY.getAttribute()
+            };
+        }
+
 
         private WmParameters(SimpleAttributeDefinition attribute) {
             this.attribute = attribute;
@@ -40,12 +40,14 @@ public enum Namespace {
 
     JCA_3_0("urn:jboss:domain:jca:3.0"),
 
-    JCA_4_0("urn:jboss:domain:jca:4.0");
+    JCA_4_0("urn:jboss:domain:jca:4.0"),
+
+    JCA_4_1("urn:jboss:domain:jca:4.1");
 
     /**
      * The current namespace version.
      */
-    public static final Namespace CURRENT = JCA_4_0;
+    public static final Namespace CURRENT = JCA_4_1;
 
     private final String name;
 
@@ -0,0 +1,59 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.connector.subsystems.jca;
+
+import org.jboss.as.connector.util.ConnectorServices;
+import org.jboss.as.controller.AbstractBoottimeAddStepHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+
+/**
+ * Adds the pool maintenance scheduler, by default it runs one thread per CPU and doesn't limit the fill rate.
+ */
+public class PoolMaintenanceAdd extends AbstractBoottimeAddStepHandler {
+
+    public static final PoolMaintenanceAdd INSTANCE = new PoolMaintenanceAdd();
+
+    @Override
+    protected void populateModel(final ModelNode operation, final ModelNode model) throws OperationFailedException {
+        for (JcaPoolMaintenanceDefinition.PoolMaintenanceParameters parameter : JcaPoolMaintenanceDefinition.PoolMaintenanceParameters.values()) {
+            parameter.getAttribute().validateAndSet(operation, model);
+        }
+    }
+
+    @Override
+    protected void performBoottime(final OperationContext context, final ModelNode operation, final ModelNode model) throws OperationFailedException {
+
+        final ModelNode threadsNode = JcaPoolMaintenanceDefinition.PoolMaintenanceParameters.THREADS.getAttribute().resolveModelAttribute(context, model);
+        final int threads = threadsNode.isDefined() ? threadsNode.asInt() : Runtime.getRuntime().availableProcessors();
+        final int fillRate = JcaPoolMaintenanceDefinition.PoolMaintenanceParameters.FILL_RATE.getAttribute().resolveModelAttribute(context, model).asInt();
+
+        final PoolMaintenanceService service = new PoolMaintenanceService(threads, fillRate);
+        context.getServiceTarget().addService(ConnectorServices.POOL_MAINTENANCE_SERVICE, service)
+                .setInitialMode(ServiceController.Mode.ACTIVE)
+                .install();
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.connector.subsystems.jca;
+
+import org.jboss.as.connector.pool.PoolMaintenance;
+import org.jboss.msc.service.Service;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StartException;
+import org.jboss.msc.service.StopContext;
+
+/**
+ * Pool maintenance service, runs the background validation and fill requests of the pools in parallel.
+ */
+final class PoolMaintenanceService implements Service<PoolMaintenance> {
+
+    private final int threads;
+    private final int fillRate;
+
+    /**
+     * @param threads the number of maintenance threads
+     * @param fillRate the maximum number of fill steps per second across all the pools, 0 for no limit
+     */
+    PoolMaintenanceService(final int threads, final int fillRate) {
+        this.threads = threads;
+        this.fillRate = fillRate;
+    }
+
+    @Override
+    public PoolMaintenance getValue() throws IllegalStateException {
+        return PoolMaintenance.getInstance();
+    }
+
+    @Override
+    public void start(StartContext context) throws StartException {
+        try {
+            PoolMaintenance.getInstance().start(threads, fillRate);
+        } catch (Throwable t) {
+            throw new StartException(t);
+        }
+    }
+
+    @Override
+    public void stop(StopContext context) {
+        PoolMaintenance.getInstance().stop();
+    }
+}
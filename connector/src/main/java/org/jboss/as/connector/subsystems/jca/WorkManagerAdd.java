@@ -64,14 +64,19 @@ public class WorkManagerAdd extends AbstractAddStepHandler {
     @Override
     protected void performRuntime(final OperationContext context, final ModelNode operation, final Resource resource) throws OperationFailedException {
 
-        String name = JcaWorkManagerDefinition.WmParameters.NAME.getAttribute().resolveModelAttribute(context, resource.getModel()).asString();
+        ModelNode model = resource.getModel();
+        String name = JcaWorkManagerDefinition.WmParameters.NAME.getAttribute().resolveModelAttribute(context, model).asString();
+        boolean workStealing = JcaWorkManagerDefinition.WmParameters.WORK_STEALING.getAttribute().resolveModelAttribute(context, model).asBoolean();
+        ModelNode parallelism = JcaWorkManagerDefinition.WmParameters.WORK_STEALING_PARALLELISM.getAttribute().resolveModelAttribute(context, model);
+        int workStealingParallelism = parallelism.isDefined() ? parallelism.asInt() : Runtime.getRuntime().availableProcessors();
+        int workStealingCapacity = JcaWorkManagerDefinition.WmParameters.WORK_STEALING_CAPACITY.getAttribute().resolveModelAttribute(context, model).asInt();
 
 
         ServiceTarget serviceTarget = context.getServiceTarget();
 
 
         WorkManager wm = new NamedWorkManager(name);
-        WorkManagerService wmService = new WorkManagerService(wm);
+        WorkManagerService wmService = new WorkManagerService(wm, workStealing, workStealingParallelism, workStealingCapacity);
         ServiceBuilder builder = serviceTarget
                 .addService(ConnectorServices.WORKMANAGER_SERVICE.append(name), wmService);
 
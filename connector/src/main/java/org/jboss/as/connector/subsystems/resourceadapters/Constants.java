@@ -547,6 +547,22 @@ public class Constants {
 
     static final String START_WORK_REJECTED_NAME = "startwork-rejected";
 
+    static final String WORK_QUEUE_DEPTH_NAME = "work-queue-depth";
+
+    static final String WORK_STEAL_COUNT_NAME = "work-steal-count";
+
+    static final String WORK_EXECUTOR_REJECTED_NAME = "work-executor-rejected";
+
+    static final String LOCAL_DISPATCHES_NAME = "local-dispatches";
+
+    static final String REMOTE_DISPATCHES_NAME = "remote-dispatches";
+
+    static final String TRANSFER_TIME_AVERAGE_NAME = "transfer-time-average";
+
+    static final String TRANSFER_TIME_MAX_NAME = "transfer-time-max";
+
+    static final String TRANSFER_TIME_P99_NAME = "transfer-time-p99";
+
 
     static SimpleAttributeDefinition WORK_ACTIVE = new SimpleAttributeDefinitionBuilder(WORK_ACTIVE_NAME, ModelType.INT)
             .setStorageRuntime()
@@ -597,6 +613,60 @@ public class Constants {
     public static SimpleAttributeDefinition[] WORKMANAGER_METRICS = new SimpleAttributeDefinition[]{WORK_ACTIVE, WORK_SUCCESSFUL, WORK_FAILED, DO_WORK_ACCEPTED,
             DO_WORK_REJECTED, SCHEDULED_WORK_ACCEPTED, SCHEDULED_WORK_REJECTED, START_WORK_ACCEPTED, START_WORK_REJECTED};
 
+    static SimpleAttributeDefinition WORK_QUEUE_DEPTH = new SimpleAttributeDefinitionBuilder(WORK_QUEUE_DEPTH_NAME, ModelType.LONG)
+            .setStorageRuntime()
+            .setUndefinedMetricValue(new ModelNode(0L))
+            .build();
+
+    static SimpleAttributeDefinition WORK_STEAL_COUNT = new SimpleAttributeDefinitionBuilder(WORK_STEAL_COUNT_NAME, ModelType.LONG)
+            .setStorageRuntime()
+            .setUndefinedMetricValue(new ModelNode(0L))
+            .build();
+
+    static SimpleAttributeDefinition WORK_EXECUTOR_REJECTED = new SimpleAttributeDefinitionBuilder(WORK_EXECUTOR_REJECTED_NAME, ModelType.LONG)
+            .setStorageRuntime()
+            .setUndefinedMetricValue(new ModelNode(0L))
+            .build();
+
+    /**
+     * Metrics of the work managers running their short running work on a work-stealing executor.
+     */
+    public static SimpleAttributeDefinition[] WORKMANAGER_WORK_STEALING_METRICS = new SimpleAttributeDefinition[]{WORK_QUEUE_DEPTH, WORK_STEAL_COUNT, WORK_EXECUTOR_REJECTED};
+
+    static SimpleAttributeDefinition LOCAL_DISPATCHES = new SimpleAttributeDefinitionBuilder(LOCAL_DISPATCHES_NAME, ModelType.LONG)
+            .setStorageRuntime()
+            .setUndefinedMetricValue(new ModelNode(0L))
+            .build();
+
+    static SimpleAttributeDefinition REMOTE_DISPATCHES = new SimpleAttributeDefinitionBuilder(REMOTE_DISPATCHES_NAME, ModelType.LONG)
+            .setStorageRuntime()
+            .setUndefinedMetricValue(new ModelNode(0L))
+            .build();
+
+    static SimpleAttributeDefinition TRANSFER_TIME_AVERAGE = new SimpleAttributeDefinitionBuilder(TRANSFER_TIME_AVERAGE_NAME, ModelType.LONG)
+            .setStorageRuntime()
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+            .setUndefinedMetricValue(new ModelNode(0L))
+            .build();
+
+    static SimpleAttributeDefinition TRANSFER_TIME_MAX = new SimpleAttributeDefinitionBuilder(TRANSFER_TIME_MAX_NAME, ModelType.LONG)
+            .setStorageRuntime()
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+            .setUndefinedMetricValue(new ModelNode(0L))
+            .build();
+
+    static SimpleAttributeDefinition TRANSFER_TIME_P99 = new SimpleAttributeDefinitionBuilder(TRANSFER_TIME_P99_NAME, ModelType.LONG)
+            .setStorageRuntime()
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+            .setUndefinedMetricValue(new ModelNode(0L))
+            .build();
+
+    /**
+     * Metrics of the distributed work managers using the load-aware selector.
+     */
+    public static SimpleAttributeDefinition[] DISTRIBUTED_WORKMANAGER_LOAD_AWARE_METRICS = new SimpleAttributeDefinition[]{LOCAL_DISPATCHES, REMOTE_DISPATCHES,
+            TRANSFER_TIME_AVERAGE, TRANSFER_TIME_MAX, TRANSFER_TIME_P99};
+
     public static final String WORKMANAGER_STATISTICS_ENABLED_NAME = "workmanager-statistics-enabled";
     public static SimpleAttributeDefinition WORKMANAGER_STATISTICS_ENABLED = new SimpleAttributeDefinitionBuilder(ModelDescriptionConstants.STATISTICS_ENABLED, ModelType.BOOLEAN)
             .setStorageRuntime()
@@ -23,6 +23,8 @@
 package org.jboss.as.connector.subsystems.resourceadapters;
 
 import org.jboss.as.connector.logging.ConnectorLogger;
+import org.jboss.as.connector.services.workmanager.LoadAwareSelector;
+import org.jboss.as.connector.services.workmanager.WorkStealingBlockingExecutor;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.OperationStepHandler;
@@ -32,6 +34,8 @@ import org.jboss.jca.core.api.workmanager.DistributedWorkManager;
 import org.jboss.jca.core.api.workmanager.WorkManager;
 import org.jboss.jca.core.api.workmanager.WorkManagerStatistics;
 
+import java.util.concurrent.TimeUnit;
+
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
 
 public class WorkManagerRuntimeAttributeReadHandler implements OperationStepHandler {
@@ -92,6 +96,59 @@ public class WorkManagerRuntimeAttributeReadHandler implements OperationStepHand
                                 result.set(wmStat.getStartWorkRejected());
                                 break;
                             }
+                            case Constants.WORK_QUEUE_DEPTH_NAME: {
+                                if (wm.getShortRunningThreadPool() instanceof WorkStealingBlockingExecutor) {
+                                    result.set(((WorkStealingBlockingExecutor) wm.getShortRunningThreadPool()).getQueueDepth());
+                                }
+                                break;
+                            }
+                            case Constants.WORK_STEAL_COUNT_NAME: {
+                                if (wm.getShortRunningThreadPool() instanceof WorkStealingBlockingExecutor) {
+                                    result.set(((WorkStealingBlockingExecutor) wm.getShortRunningThreadPool()).getStealCount());
+                                }
+                                break;
+                            }
+                            case Constants.WORK_EXECUTOR_REJECTED_NAME: {
+                                if (wm.getShortRunningThreadPool() instanceof WorkStealingBlockingExecutor) {
+                                    result.set(((WorkStealingBlockingExecutor) wm.getShortRunningThreadPool()).getRejectedCount());
+                                }
+                                break;
+                            }
+                            case Constants.LOCAL_DISPATCHES_NAME: {
+                                final LoadAwareSelector selector = loadAwareSelector();
+                                if (selector != null) {
+                                    result.set(selector.getLocalDispatches());
+                                }
+                                break;
+                            }
+                            case Constants.REMOTE_DISPATCHES_NAME: {
+                                final LoadAwareSelector selector = loadAwareSelector();
+                                if (selector != null) {
+                                    result.set(selector.getRemoteDispatches());
+                                }
+                                break;
+                            }
+                            case Constants.TRANSFER_TIME_AVERAGE_NAME: {
+                                final LoadAwareSelector selector = loadAwareSelector();
+                                if (selector != null) {
+                                    result.set(TimeUnit.NANOSECONDS.toMicros(selector.getTransferTimes().getAverage()));
+                                }
+                                break;
+                            }
+                            case Constants.TRANSFER_TIME_MAX_NAME: {
+                                final LoadAwareSelector selector = loadAwareSelector();
+                                if (selector != null) {
+                                    result.set(TimeUnit.NANOSECONDS.toMicros(selector.getTransferTimes().getMax()));
+                                }
+                                break;
+                            }
+                            case Constants.TRANSFER_TIME_P99_NAME: {
+                                final LoadAwareSelector selector = loadAwareSelector();
+                                if (selector != null) {
+                                    result.set(TimeUnit.NANOSECONDS.toMicros(selector.getTransferTimes().getPercentile(99)));
+                                }
+                                break;
+                            }
                             case ModelDescriptionConstants.STATISTICS_ENABLED: {
                                 if (distributed) {
                                     result.set(((DistributedWorkManager) wm).isDistributedStatisticsEnabled());
@@ -136,4 +193,10 @@ public class WorkManagerRuntimeAttributeReadHandler implements OperationStepHand
 
     }
 
+    private LoadAwareSelector loadAwareSelector() {
+        if (wm instanceof DistributedWorkManager && ((DistributedWorkManager) wm).getSelector() instanceof LoadAwareSelector) {
+            return (LoadAwareSelector) ((DistributedWorkManager) wm).getSelector();
+        }
+        return null;
+    }
 }
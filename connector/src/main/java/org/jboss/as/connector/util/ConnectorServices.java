@@ -117,6 +117,8 @@ public class ConnectorServices {
     public static final ServiceName CONNECTION_VALIDATOR_SERVICE = ServiceName.JBOSS.append("ironjacamar",
             "connection-validator");
 
+    public static final ServiceName POOL_MAINTENANCE_SERVICE = ServiceName.JBOSS.append("ironjacamar", "pool-maintenance");
+
     /**
      * convenient method to check notNull of value
      *
@@ -0,0 +1,173 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.connector.pool;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests the background fills of {@link PoolMaintenance}.
+ */
+public class PoolMaintenanceTestCase {
+
+    private final PoolMaintenance maintenance = PoolMaintenance.getInstance();
+
+    @After
+    public void stop() {
+        maintenance.stop();
+    }
+
+    @Test
+    public void testFillStartsFromCurrentSize() throws Exception {
+        maintenance.start(1, 0);
+        final TestPool pool = new TestPool(3, 10);
+        final long completed = maintenance.getFillStepsCompleted();
+
+        pool.fill(5);
+        pool.awaitFill();
+
+        assertEquals(5, pool.size.get());
+        assertEquals(Arrays.asList(4, 5), pool.steps);
+        assertEquals(completed + 2, maintenance.getFillStepsCompleted());
+    }
+
+    @Test
+    public void testFillStopsWhenPoolIsFull() throws Exception {
+        maintenance.start(1, 0);
+        final TestPool pool = new TestPool(0, 2);
+        final long completed = maintenance.getFillStepsCompleted();
+
+        pool.fill(5);
+        pool.awaitFill();
+
+        assertEquals(2, pool.size.get());
+        // the step that didn't create a connection isn't counted
+        assertEquals(Arrays.asList(1, 2, 3), pool.steps);
+        assertEquals(completed + 2, maintenance.getFillStepsCompleted());
+    }
+
+    @Test
+    public void testFillOfFullPoolTakesNoPermit() throws Exception {
+        maintenance.start(1, 1);
+        final TestPool full = new TestPool(5, 5);
+        full.fill(5);
+        full.awaitFill();
+        assertTrue(full.steps.isEmpty());
+
+        // with one fill step per second, a permit taken by the full pool would delay this fill by a second
+        final TestPool pool = new TestPool(0, 1);
+        final long start = System.nanoTime();
+        pool.fill(1);
+        pool.awaitFill();
+        assertEquals(1, pool.size.get());
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(900));
+    }
+
+    @Test
+    public void testFillRate() throws Exception {
+        // 50 fill steps per second, a step every 20 ms
+        maintenance.start(1, 50);
+        final TestPool pool = new TestPool(0, 10);
+        final long start = System.nanoTime();
+
+        pool.fill(10);
+        pool.awaitFill();
+
+        assertEquals(10, pool.size.get());
+        // the first step doesn't wait
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(9 * 20 - 10));
+    }
+
+    @Test
+    public void testFillProgress() throws Exception {
+        maintenance.start(1, 0);
+        final CountDownLatch stepping = new CountDownLatch(1);
+        final CountDownLatch proceed = new CountDownLatch(1);
+        final TestPool pool = new TestPool(2, 10) {
+            @Override
+            void step(int size) throws InterruptedException {
+                if (size == 4) {
+                    stepping.countDown();
+                    proceed.await();
+                }
+                super.step(size);
+            }
+        };
+
+        pool.fill(6);
+        assertTrue(stepping.await(10, TimeUnit.SECONDS));
+        assertArrayEquals(new int[]{3, 6}, maintenance.getFillProgress().get(pool.name));
+
+        // a fill request of a pool being filled raises the target of the running fill
+        pool.fill(8);
+        assertArrayEquals(new int[]{3, 8}, maintenance.getFillProgress().get(pool.name));
+
+        proceed.countDown();
+        pool.awaitFill();
+        assertEquals(8, pool.size.get());
+    }
+
+    private class TestPool {
+        final String name = "pool-" + System.identityHashCode(this);
+        final AtomicInteger size;
+        final int max;
+        final List<Integer> steps = Collections.synchronizedList(new ArrayList<>());
+
+        TestPool(final int size, final int max) {
+            this.size = new AtomicInteger(size);
+            this.max = max;
+        }
+
+        void fill(final int size) {
+            assertTrue(maintenance.fill(this, name, size, this.size::get, this::step));
+        }
+
+        void step(final int size) throws InterruptedException {
+            steps.add(size);
+            if (this.size.get() < size && this.size.get() < max) {
+                this.size.incrementAndGet();
+            }
+        }
+
+        void awaitFill() throws InterruptedException {
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (maintenance.getFillProgress().containsKey(name)) {
+                assertTrue(System.nanoTime() < deadline);
+                Thread.sleep(5);
+            }
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.connector.pool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.as.ee.metrics.LatencyHistogram;
+import org.jboss.jca.core.connectionmanager.listener.ConnectionListener;
+import org.jboss.jca.core.spi.statistics.StatisticsPlugin;
+import org.junit.Test;
+
+/**
+ * Tests the parking and the acquisition times of {@link ThreadAffineManagedConnectionPool}.
+ */
+public class ThreadAffineManagedConnectionPoolTestCase {
+
+    @Test
+    public void testParkedConnectionIsClaimedOnce() throws Exception {
+        final ConnectionListener cl = listener();
+        final ThreadAffineManagedConnectionPool.Parked parked = new ThreadAffineManagedConnectionPool.Parked(cl, System.nanoTime());
+        final int threads = 8;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final CountDownLatch start = new CountDownLatch(1);
+            final AtomicInteger claims = new AtomicInteger();
+            final Future<?>[] futures = new Future<?>[threads];
+            for (int i = 0; i < threads; i++) {
+                futures[i] = executor.submit(() -> {
+                    start.await();
+                    final ConnectionListener claimed = parked.claim();
+                    if (claimed != null) {
+                        assertSame(cl, claimed);
+                        claims.incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+            assertEquals(1, claims.get());
+        } finally {
+            executor.shutdownNow();
+        }
+        // a claimed entry left in a thread local doesn't retain the connection
+        assertNull(parked.claim());
+    }
+
+    @Test
+    public void testAcquisitionTimesSharedBySubPools() {
+        final String poolName = "testAcquisitionTimesSharedBySubPools";
+        final LatencyHistogram first = ThreadAffineManagedConnectionPool.acquireAcquisitionTimes(poolName);
+        final LatencyHistogram second = ThreadAffineManagedConnectionPool.acquireAcquisitionTimes(poolName);
+        assertSame(first, second);
+        assertSame(first, ThreadAffineManagedConnectionPool.getAcquisitionTimes(poolName));
+
+        // the shutdown of a sub pool keeps the histogram of the other sub pools
+        ThreadAffineManagedConnectionPool.releaseAcquisitionTimes(poolName);
+        assertSame(first, ThreadAffineManagedConnectionPool.getAcquisitionTimes(poolName));
+
+        ThreadAffineManagedConnectionPool.releaseAcquisitionTimes(poolName);
+        assertNull(ThreadAffineManagedConnectionPool.getAcquisitionTimes(poolName));
+    }
+
+    @Test
+    public void testAcquisitionTimeStatistics() {
+        final String poolName = "testAcquisitionTimeStatistics";
+        final StatisticsPlugin statistics = new AcquisitionTimeStatistics(new PoolStatistics(), poolName);
+        assertEquals(7, statistics.getNames().size());
+        assertEquals(int.class, statistics.getType("ActiveCount"));
+        assertEquals(3, statistics.getValue("ActiveCount"));
+        assertEquals(long.class, statistics.getType("AcquisitionCount"));
+        // the pool doesn't use the thread affine implementation
+        assertEquals(0L, statistics.getValue("AcquisitionCount"));
+
+        final LatencyHistogram times = ThreadAffineManagedConnectionPool.acquireAcquisitionTimes(poolName);
+        try {
+            times.record(100);
+            times.record(1000);
+            assertEquals(2L, statistics.getValue("AcquisitionCount"));
+            assertEquals(550L, statistics.getValue("AcquisitionTimeAverage"));
+            assertEquals(1000L, statistics.getValue("AcquisitionTimeMax"));
+            assertEquals(1000L, statistics.getValue("AcquisitionTimeP99"));
+            assertNotNull(statistics.getDescription("AcquisitionTimeP50"));
+
+            statistics.clear();
+            assertEquals(0L, statistics.getValue("AcquisitionCount"));
+        } finally {
+            ThreadAffineManagedConnectionPool.releaseAcquisitionTimes(poolName);
+        }
+    }
+
+    private static ConnectionListener listener() {
+        return (ConnectionListener) Proxy.newProxyInstance(ConnectionListener.class.getClassLoader(), new Class<?>[]{ConnectionListener.class},
+                (proxy, method, args) -> {
+                    if ("equals".equals(method.getName())) {
+                        return proxy == args[0];
+                    } else if ("hashCode".equals(method.getName())) {
+                        return System.identityHashCode(proxy);
+                    }
+                    return null;
+                });
+    }
+
+    private static final class PoolStatistics implements StatisticsPlugin {
+
+        @Override
+        public Set<String> getNames() {
+            return Collections.singleton("ActiveCount");
+        }
+
+        @Override
+        public Class getType(String name) {
+            return int.class;
+        }
+
+        @Override
+        public String getDescription(String name) {
+            return "The active count";
+        }
+
+        @Override
+        public String getDescription(String name, Locale locale) {
+            return getDescription(name);
+        }
+
+        @Override
+        public Object getValue(String name) {
+            return 3;
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return true;
+        }
+
+        @Override
+        public void setEnabled(boolean enabled) {
+        }
+
+        @Override
+        public void clear() {
+        }
+    }
+}
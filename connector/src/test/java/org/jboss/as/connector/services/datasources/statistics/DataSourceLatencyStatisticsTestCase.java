@@ -0,0 +1,138 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.connector.services.datasources.statistics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.junit.Test;
+
+/**
+ * Tests the SQL normalization and the slow statements of {@link DataSourceLatencyStatistics}.
+ */
+public class DataSourceLatencyStatisticsTestCase {
+
+    @Test
+    public void testNormalizeLiterals() {
+        assertEquals("SELECT * FROM person WHERE name = ? AND age > ?",
+                DataSourceLatencyStatistics.normalize("SELECT * FROM person WHERE name = 'O''Brien' AND age > 42"));
+        assertEquals("UPDATE account SET balance = ? WHERE id = ?",
+                DataSourceLatencyStatistics.normalize("UPDATE account SET balance = -12.5e3 WHERE id = 7"));
+    }
+
+    @Test
+    public void testNormalizeKeepsIdentifiers() {
+        assertEquals("SELECT t1.col2 FROM table3 t1 WHERE t1.id = ?",
+                DataSourceLatencyStatistics.normalize("SELECT t1.col2 FROM table3 t1 WHERE t1.id = 1"));
+    }
+
+    @Test
+    public void testNormalizeInLists() {
+        assertEquals("SELECT * FROM item WHERE id IN (?)",
+                DataSourceLatencyStatistics.normalize("SELECT * FROM item WHERE id IN (1, 2, 3)"));
+        assertEquals(DataSourceLatencyStatistics.normalize("SELECT * FROM item WHERE id IN (?, ?)"),
+                DataSourceLatencyStatistics.normalize("SELECT * FROM item WHERE id IN (?,?,?,?)"));
+    }
+
+    @Test
+    public void testNormalizeWhitespace() {
+        assertEquals("SELECT a FROM b", DataSourceLatencyStatistics.normalize("  SELECT\ta\n  FROM   b \n"));
+    }
+
+    @Test
+    public void testNormalizeTruncates() {
+        final StringBuilder sql = new StringBuilder("SELECT ");
+        while (sql.length() <= DataSourceLatencyStatistics.MAX_SQL_LENGTH) {
+            sql.append("column, ");
+        }
+        assertEquals(DataSourceLatencyStatistics.MAX_SQL_LENGTH, DataSourceLatencyStatistics.normalize(sql.toString()).length());
+    }
+
+    @Test
+    public void testNormalizedStatementsAreCached() {
+        final DataSourceLatencyStatistics statistics = new DataSourceLatencyStatistics();
+        final String normalized = statistics.normalizeCached("SELECT * FROM person WHERE id = 1");
+        assertEquals("SELECT * FROM person WHERE id = ?", normalized);
+        assertSame(normalized, statistics.normalizeCached("SELECT * FROM person WHERE id = 1"));
+    }
+
+    @Test
+    public void testSlowStatements() {
+        final DataSourceLatencyStatistics statistics = new DataSourceLatencyStatistics();
+        for (int i = 0; i < DataSourceLatencyStatistics.SLOW_STATEMENTS + 5; i++) {
+            statistics.recordStatement("SELECT " + i, TimeUnit.MICROSECONDS.toNanos(i + 1));
+        }
+        statistics.recordStatement("SELECT 0", TimeUnit.MICROSECONDS.toNanos(3));
+
+        final ModelNode slowStatements = (ModelNode) statistics.getValue("SlowStatements");
+        assertEquals(ModelType.LIST, slowStatements.getType());
+        assertEquals(DataSourceLatencyStatistics.SLOW_STATEMENTS, slowStatements.asInt());
+        final ModelNode slowest = slowStatements.get(0);
+        assertEquals("SELECT " + (DataSourceLatencyStatistics.SLOW_STATEMENTS + 4), slowest.get("sql").asString());
+        assertEquals(1, slowest.get("count").asLong());
+        assertEquals(DataSourceLatencyStatistics.SLOW_STATEMENTS + 5, slowest.get("max-time").asLong());
+
+        assertEquals(16L, statistics.getValue("StatementCount"));
+        assertEquals(ModelNode.class, statistics.getType("SlowStatements"));
+    }
+
+    @Test
+    public void testWrappedStatementKeepsItsInterfaces() throws Exception {
+        final DataSourceLatencyStatistics statistics = new DataSourceLatencyStatistics();
+        final CallableStatement statement = (CallableStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{CallableStatement.class, VendorStatement.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "execute":
+                            return true;
+                        case "unwrap":
+                            throw new UnsupportedOperationException();
+                        case "isWrapperFor":
+                            return false;
+                        default:
+                            return null;
+                    }
+                });
+
+        final PreparedStatement wrapped = statistics.wrap(null, PreparedStatement.class, statement, "{call p(1)}");
+        assertTrue(wrapped instanceof CallableStatement);
+        assertTrue(wrapped instanceof VendorStatement);
+        assertSame(statement, wrapped.unwrap(VendorStatement.class));
+        assertTrue(wrapped.isWrapperFor(CallableStatement.class));
+
+        assertTrue(wrapped.execute());
+        assertEquals(1L, statistics.getValue("StatementCount"));
+        assertEquals("{call p(?)}", statistics.getSlowStatements().get(0).get("sql").asString());
+    }
+
+    public interface VendorStatement {
+    }
+}
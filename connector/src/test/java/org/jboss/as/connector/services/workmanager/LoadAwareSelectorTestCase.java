@@ -0,0 +1,156 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.connector.services.workmanager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.connector.services.workmanager.transport.LoadReport;
+import org.jboss.jca.core.api.workmanager.DistributedWorkManager;
+import org.jboss.jca.core.api.workmanager.WorkManagerStatistics;
+import org.jboss.jca.core.spi.workmanager.Address;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests the load accounting and the node selection of {@link LoadAwareSelector}.
+ */
+public class LoadAwareSelectorTestCase {
+
+    private static final Address NODE1 = new Address("node1", "dwm", "transport1");
+    private static final Address NODE2 = new Address("node2", "dwm", "transport2");
+
+    private final CountDownLatch blocker = new CountDownLatch(1);
+    private final WorkStealingBlockingExecutor executor = new WorkStealingBlockingExecutor("dwm", 1, 10);
+    private final LoadAwareSelector selector = new LoadAwareSelector();
+
+    @After
+    public void stop() {
+        blocker.countDown();
+        selector.stop();
+        executor.shutdown();
+    }
+
+    @Test
+    public void testLocalLoadWithoutStatistics() throws Exception {
+        selector.startBroadcasts(workManager());
+        assertEquals(0, selector.getLocalLoad());
+
+        // one running and one queued work, the disabled statistics report no active work
+        busy(2);
+        assertEquals(2, selector.getLocalLoad());
+    }
+
+    @Test
+    public void testSelectsLeastLoadedNode() throws Exception {
+        selector.startBroadcasts(workManager());
+        busy(2);
+
+        selector.loadReported(new LoadReport(NODE1, 5));
+        selector.loadReported(new LoadReport(NODE2, 1));
+        assertTrue(selector.shouldDistribute());
+        assertEquals(NODE2, selector.selectDistributedWorkManager(null, null));
+        assertEquals(0, selector.getLocalDispatches());
+
+        // no node is less loaded than this one, the work stays local
+        selector.loadReported(new LoadReport(NODE2, 3));
+        assertNull(selector.selectDistributedWorkManager(null, null));
+        assertEquals(1, selector.getLocalDispatches());
+        assertTrue(!selector.shouldDistribute());
+        assertEquals(2, selector.getLocalDispatches());
+    }
+
+    @Test
+    public void testIgnoresStaleReports() throws Exception {
+        selector.setInterval(10);
+        selector.startBroadcasts(workManager());
+        busy(2);
+
+        selector.loadReported(new LoadReport(NODE1, 0));
+        assertEquals(NODE1, selector.selectDistributedWorkManager(null, null));
+        Thread.sleep(100);
+        assertNull(selector.selectDistributedWorkManager(null, null));
+    }
+
+    @Test
+    public void testIntervalChangeReschedulesBroadcasts() throws Exception {
+        final CountDownLatch first = new CountDownLatch(1);
+        final CountDownLatch rescheduled = new CountDownLatch(5);
+        final LoadAwareSelector selector = new LoadAwareSelector() {
+            @Override
+            void broadcastLoad() {
+                first.countDown();
+                rescheduled.countDown();
+            }
+        };
+        selector.setInterval(TimeUnit.HOURS.toMillis(1));
+        selector.startBroadcasts(workManager());
+        try {
+            assertTrue(first.await(5, TimeUnit.SECONDS));
+            selector.setInterval(10);
+            assertEquals(10, selector.getInterval());
+            assertTrue(rescheduled.await(5, TimeUnit.SECONDS));
+        } finally {
+            selector.stop();
+        }
+    }
+
+    private void busy(final int works) throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        for (int i = 0; i < works; i++) {
+            executor.execute(() -> {
+                started.countDown();
+                try {
+                    blocker.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+    }
+
+    private DistributedWorkManager workManager() {
+        final WorkManagerStatistics statistics = (WorkManagerStatistics) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] {WorkManagerStatistics.class}, (proxy, method, args) -> 0);
+        return (DistributedWorkManager) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] {DistributedWorkManager.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getName":
+                            return "dwm";
+                        case "getShortRunningThreadPool":
+                            return executor;
+                        case "getStatistics":
+                            return statistics;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.connector.services.workmanager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests the capacity accounting and the worker threads of {@link WorkStealingBlockingExecutor}.
+ */
+public class WorkStealingBlockingExecutorTestCase {
+
+    private final CountDownLatch blocker = new CountDownLatch(1);
+    private WorkStealingBlockingExecutor executor;
+
+    @After
+    public void shutdown() {
+        blocker.countDown();
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testRejectsBeyondCapacity() throws Exception {
+        executor = new WorkStealingBlockingExecutor("test", 2, 2);
+        final CountDownLatch done = new CountDownLatch(2);
+        executor.execute(blocking(done));
+        executor.executeNonBlocking(blocking(done));
+        try {
+            executor.executeNonBlocking(() -> { });
+            fail("the executor is full");
+        } catch (RejectedExecutionException expected) {
+        }
+        assertEquals(1, executor.getRejectedCount());
+
+        blocker.countDown();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        // the room is released once the tasks have run
+        awaitRun(executor, 2);
+        assertEquals(1, executor.getRejectedCount());
+    }
+
+    @Test
+    public void testReleasesFailedTask() throws Exception {
+        executor = new WorkStealingBlockingExecutor("test", 1, 1);
+        final CountDownLatch done = new CountDownLatch(1);
+        executor.execute(() -> {
+            done.countDown();
+            throw new IllegalStateException();
+        });
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        awaitRun(executor, 1);
+        assertEquals(0, executor.getRejectedCount());
+    }
+
+    @Test
+    public void testExecuteBlockingWaitsForRoom() throws Exception {
+        executor = new WorkStealingBlockingExecutor("test", 1, 1);
+        executor.execute(blocking(new CountDownLatch(1)));
+
+        final CountDownLatch ran = new CountDownLatch(1);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final Thread submitter = new Thread(() -> {
+            try {
+                executor.executeBlocking(ran::countDown);
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        });
+        submitter.start();
+        assertFalse(ran.await(200, TimeUnit.MILLISECONDS));
+
+        blocker.countDown();
+        assertTrue(ran.await(5, TimeUnit.SECONDS));
+        submitter.join(5000);
+        assertNull(failure.get());
+        assertEquals(0, executor.getRejectedCount());
+    }
+
+    @Test
+    public void testTimedExecuteBlockingRejects() throws Exception {
+        executor = new WorkStealingBlockingExecutor("test", 1, 1);
+        assertEquals(1, executor.getNumberOfFreeThreads());
+        final CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            blocking(new CountDownLatch(1)).run();
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertEquals(0, executor.getNumberOfFreeThreads());
+
+        final long start = System.nanoTime();
+        try {
+            executor.executeBlocking(() -> { }, 100, TimeUnit.MILLISECONDS);
+            fail("the executor is full");
+        } catch (RejectedExecutionException expected) {
+        }
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(100));
+        assertEquals(1, executor.getRejectedCount());
+    }
+
+    @Test
+    public void testWorkerThreads() throws Exception {
+        final ClassLoader deploymentLoader = new URLClassLoader(new URL[0], null);
+        final AtomicReference<Thread> worker = new AtomicReference<>();
+        final AtomicReference<ClassLoader> workerLoader = new AtomicReference<>();
+        final CountDownLatch ran = new CountDownLatch(1);
+        final Thread submitter = new Thread(() -> {
+            executor = new WorkStealingBlockingExecutor("test", 1, 1);
+            executor.execute(() -> {
+                worker.set(Thread.currentThread());
+                workerLoader.set(Thread.currentThread().getContextClassLoader());
+                ran.countDown();
+            });
+        });
+        // the workers must not inherit the context of the thread submitting the first work
+        submitter.setContextClassLoader(deploymentLoader);
+        submitter.start();
+        submitter.join(5000);
+        assertTrue(ran.await(5, TimeUnit.SECONDS));
+
+        assertEquals("JCA WorkManager test work-stealing thread 1", worker.get().getName());
+        assertEquals("JCA WorkManager test work-stealing", worker.get().getThreadGroup().getName());
+        assertTrue(worker.get().isDaemon());
+        assertEquals(WorkStealingBlockingExecutor.class.getClassLoader(), workerLoader.get());
+    }
+
+    @Test
+    public void testShutdownRejects() throws Exception {
+        executor = new WorkStealingBlockingExecutor("test", 1, 1);
+        executor.shutdown();
+        try {
+            executor.executeBlocking(() -> { });
+            fail("the executor is shut down");
+        } catch (RejectedExecutionException expected) {
+        }
+    }
+
+    private Runnable blocking(final CountDownLatch done) {
+        return () -> {
+            try {
+                blocker.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            done.countDown();
+        };
+    }
+
+    /**
+     * Waits until the executor has room for the given number of tasks again, and runs them.
+     */
+    private static void awaitRun(final WorkStealingBlockingExecutor executor, final int count) throws InterruptedException {
+        final CountDownLatch ran = new CountDownLatch(count);
+        for (int i = 0; i < count; i++) {
+            executor.executeBlocking(ran::countDown, 5, TimeUnit.SECONDS);
+        }
+        assertTrue(ran.await(5, TimeUnit.SECONDS));
+    }
+}
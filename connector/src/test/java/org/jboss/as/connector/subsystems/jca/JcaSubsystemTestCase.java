@@ -27,6 +27,7 @@ import java.io.IOException;
 import java.util.List;
 
 import org.jboss.as.connector.logging.ConnectorLogger;
+import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.ModelVersion;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
@@ -40,6 +41,7 @@ import org.jboss.as.subsystem.test.AdditionalInitialization;
 import org.jboss.as.subsystem.test.KernelServices;
 import org.jboss.as.subsystem.test.KernelServicesBuilder;
 import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ValueExpression;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -60,7 +62,7 @@ public class JcaSubsystemTestCase extends AbstractSubsystemBaseTest {
 
     @Override
     protected String getSubsystemXsdPath() throws Exception {
-        return "schema/wildfly-jca_4_0.xsd";
+        return "schema/wildfly-jca_4_1.xsd";
     }
 
     @Override
@@ -111,6 +113,117 @@ public class JcaSubsystemTestCase extends AbstractSubsystemBaseTest {
         testTransformerWF(ModelTestControllerVersion.WILDFLY_8_2_0_FINAL, ModelVersion.create(3, 0, 0), "jca-full-expression.xml");
     }
 
+    @Test
+    public void testTransformer400() throws Exception {
+        testTransformerWF(ModelTestControllerVersion.WILDFLY_10_0_0_FINAL, ModelVersion.create(4, 0, 0), "jca-full.xml");
+    }
+
+    @Test
+    public void testTransformer400WithExpressions() throws Exception {
+        testTransformerWF(ModelTestControllerVersion.WILDFLY_10_0_0_FINAL, ModelVersion.create(4, 0, 0), "jca-full-expression.xml");
+    }
+
+    @Test
+    public void testLoadAwareConfig() throws Exception {
+        standardSubsystemTest("jca-load-aware.xml");
+    }
+
+    @Test
+    public void testRejectLoadAwareWF8() throws Exception {
+        testRejectLoadAware(ModelTestControllerVersion.WILDFLY_8_0_0_FINAL, ModelVersion.create(2, 0, 0));
+    }
+
+    @Test
+    public void testRejectLoadAware300() throws Exception {
+        testRejectLoadAware(ModelTestControllerVersion.WILDFLY_8_2_0_FINAL, ModelVersion.create(3, 0, 0));
+    }
+
+    @Test
+    public void testRejectLoadAware400() throws Exception {
+        testRejectLoadAware(ModelTestControllerVersion.WILDFLY_10_0_0_FINAL, ModelVersion.create(4, 0, 0));
+    }
+
+    /**
+     * Tests the rejection of the LOAD_AWARE distributed work manager policy and selector by the versions before 4.1.0.
+     *
+     * @throws Exception
+     */
+    private void testRejectLoadAware(ModelTestControllerVersion controllerVersion, ModelVersion modelVersion) throws Exception {
+        KernelServicesBuilder builder = createKernelServicesBuilder(createAdditionalInitialization());
+
+        builder.createLegacyKernelServicesBuilder(null, controllerVersion, modelVersion)
+                .addMavenResourceURL("org.wildfly:wildfly-connector:" + controllerVersion.getMavenGavVersion())
+                .addMavenResourceURL("org.wildfly:wildfly-threads:" + controllerVersion.getMavenGavVersion())
+                .setExtensionClassName("org.jboss.as.connector.subsystems.jca.JcaExtension")
+                .excludeFromParent(SingleClassFilter.createFilter(ConnectorLogger.class))
+                .dontPersistXml();
+
+        KernelServices mainServices = builder.build();
+        KernelServices legacyServices = mainServices.getLegacyServices(modelVersion);
+        Assert.assertNotNull(legacyServices);
+        Assert.assertTrue("main services did not boot", mainServices.isSuccessfulBoot());
+        Assert.assertTrue(legacyServices.isSuccessfulBoot());
+
+        List<ModelNode> xmlOps = builder.parseXmlResource("jca-load-aware.xml");
+
+        ModelTestUtils.checkFailedTransformedBootOperations(mainServices, modelVersion, xmlOps,
+                new FailedOperationTransformationConfig()
+                        .addFailedAttribute(PathAddress.pathAddress(JcaSubsystemRootDefinition.PATH_SUBSYSTEM, JcaDistributedWorkManagerDefinition.PATH_DISTRIBUTED_WORK_MANAGER),
+                                new RejectLoadAwareConfig(JcaDistributedWorkManagerDefinition.DWmParameters.POLICY.getAttribute(),
+                                        JcaDistributedWorkManagerDefinition.DWmParameters.SELECTOR.getAttribute())));
+    }
+
+    @Test
+    public void testWorkStealingConfig() throws Exception {
+        standardSubsystemTest("jca-work-stealing.xml");
+    }
+
+    @Test
+    public void testRejectWorkStealingWF8() throws Exception {
+        testRejectWorkStealing(ModelTestControllerVersion.WILDFLY_8_0_0_FINAL, ModelVersion.create(2, 0, 0));
+    }
+
+    @Test
+    public void testRejectWorkStealing300() throws Exception {
+        testRejectWorkStealing(ModelTestControllerVersion.WILDFLY_8_2_0_FINAL, ModelVersion.create(3, 0, 0));
+    }
+
+    @Test
+    public void testRejectWorkStealing400() throws Exception {
+        testRejectWorkStealing(ModelTestControllerVersion.WILDFLY_10_0_0_FINAL, ModelVersion.create(4, 0, 0));
+    }
+
+    /**
+     * Tests the rejection of the work-stealing attributes of the work managers by the versions before 4.1.0.
+     *
+     * @throws Exception
+     */
+    private void testRejectWorkStealing(ModelTestControllerVersion controllerVersion, ModelVersion modelVersion) throws Exception {
+        KernelServicesBuilder builder = createKernelServicesBuilder(createAdditionalInitialization());
+
+        builder.createLegacyKernelServicesBuilder(null, controllerVersion, modelVersion)
+                .addMavenResourceURL("org.wildfly:wildfly-connector:" + controllerVersion.getMavenGavVersion())
+                .addMavenResourceURL("org.wildfly:wildfly-threads:" + controllerVersion.getMavenGavVersion())
+                .setExtensionClassName("org.jboss.as.connector.subsystems.jca.JcaExtension")
+                .excludeFromParent(SingleClassFilter.createFilter(ConnectorLogger.class))
+                .dontPersistXml();
+
+        KernelServices mainServices = builder.build();
+        KernelServices legacyServices = mainServices.getLegacyServices(modelVersion);
+        Assert.assertNotNull(legacyServices);
+        Assert.assertTrue("main services did not boot", mainServices.isSuccessfulBoot());
+        Assert.assertTrue(legacyServices.isSuccessfulBoot());
+
+        List<ModelNode> xmlOps = builder.parseXmlResource("jca-work-stealing.xml");
+
+        ModelTestUtils.checkFailedTransformedBootOperations(mainServices, modelVersion, xmlOps,
+                new FailedOperationTransformationConfig()
+                        .addFailedAttribute(PathAddress.pathAddress(JcaSubsystemRootDefinition.PATH_SUBSYSTEM, JcaWorkManagerDefinition.PATH_WORK_MANAGER),
+                                new RejectWorkStealingConfig(JcaWorkManagerDefinition.WmParameters.getWorkStealingAttributeDefinitions()))
+                        .addFailedAttribute(PathAddress.pathAddress(JcaSubsystemRootDefinition.PATH_SUBSYSTEM, JcaDistributedWorkManagerDefinition.PATH_DISTRIBUTED_WORK_MANAGER),
+                                new RejectWorkStealingConfig(JcaDistributedWorkManagerDefinition.DWmParameters.getWorkStealingAttributeDefinitions())));
+    }
+
     /**
      * Tests transformation of model from 1.2.0 version into 1.1.0 version.
      *
@@ -150,7 +263,7 @@ public class JcaSubsystemTestCase extends AbstractSubsystemBaseTest {
      *
      * @throws Exception
      */
-    private void testTransformerWF(ModelTestControllerVersion controllerVersion, ModelVersion modelVersion, String xmlResourceName) throws Exception {
+    private void testTransformerWF(ModelTestControllerVersion controllerVersion, ModelVersion modelVersion, final String xmlResourceName) throws Exception {
         // create builder for current subsystem version
         KernelServicesBuilder builder = createKernelServicesBuilder(createAdditionalInitialization()).setSubsystemXmlResource(xmlResourceName);
 
@@ -168,6 +281,13 @@ public class JcaSubsystemTestCase extends AbstractSubsystemBaseTest {
                 //modelNode.get(Constants.TRACER, Constants.TRACER). add(new ModelNode(Constants.TRACER));
                 //.add(Constants.TRACER);
                 modelNode.get(Constants.TRACER, Constants.TRACER, TracerDefinition.TracerParameters.TRACER_ENABLED.getAttribute().getName()).set(true);
+                //The pool maintenance is discarded by the transformers, add it back
+                final boolean expressions = xmlResourceName.contains("expression");
+                final ModelNode poolMaintenance = modelNode.get(Constants.POOL_MAINTENANCE, Constants.POOL_MAINTENANCE);
+                poolMaintenance.get(JcaPoolMaintenanceDefinition.PoolMaintenanceParameters.THREADS.getAttribute().getName())
+                        .set(expressions ? new ModelNode(new ValueExpression("${test.expr:4}")) : new ModelNode(4));
+                poolMaintenance.get(JcaPoolMaintenanceDefinition.PoolMaintenanceParameters.FILL_RATE.getAttribute().getName())
+                        .set(expressions ? new ModelNode(new ValueExpression("${test.expr:20}")) : new ModelNode(20));
                 return modelNode;
 
             }
@@ -182,6 +302,52 @@ public class JcaSubsystemTestCase extends AbstractSubsystemBaseTest {
         checkSubsystemModelTransformation(mainServices, modelVersion);
     }
 
+    private static class RejectLoadAwareConfig extends FailedOperationTransformationConfig.AttributesPathAddressConfig<RejectLoadAwareConfig> {
+
+        RejectLoadAwareConfig(AttributeDefinition... defs) {
+            super(convert(defs));
+        }
+
+        @Override
+        protected boolean isAttributeWritable(String attributeName) {
+            return true;
+        }
+
+        @Override
+        protected boolean checkValue(String attrName, ModelNode attribute, boolean isWriteAttribute) {
+            return attribute.isDefined() && attribute.asString().equals(JcaDistributedWorkManagerDefinition.PolicyValue.LOAD_AWARE.name());
+        }
+
+        @Override
+        protected ModelNode correctValue(ModelNode toResolve, boolean isWriteAttribute) {
+            // fall back to the default policy and selector
+            return new ModelNode();
+        }
+    }
+
+    private static class RejectWorkStealingConfig extends FailedOperationTransformationConfig.AttributesPathAddressConfig<RejectWorkStealingConfig> {
+
+        RejectWorkStealingConfig(AttributeDefinition... defs) {
+            super(convert(defs));
+        }
+
+        @Override
+        protected boolean isAttributeWritable(String attributeName) {
+            return true;
+        }
+
+        @Override
+        protected boolean checkValue(String attrName, ModelNode attribute, boolean isWriteAttribute) {
+            return attribute.isDefined() && !attribute.equals(new ModelNode(false));
+        }
+
+        @Override
+        protected ModelNode correctValue(ModelNode toResolve, boolean isWriteAttribute) {
+            // fall back to the short running thread pool
+            return new ModelNode();
+        }
+    }
+
     @Override
     protected void compareXml(String configId, String original, String marshalled) throws Exception {
         super.compareXml(configId, original, marshalled, true);
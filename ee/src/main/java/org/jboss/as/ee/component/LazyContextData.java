@@ -0,0 +1,96 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.ee.component;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The public context data of an invocation, most invocations never write to it so the backing map is created on the
+ * first write.
+ */
+final class LazyContextData extends AbstractMap<String, Object> {
+
+    private Map<String, Object> delegate;
+
+    private Map<String, Object> delegate() {
+        Map<String, Object> delegate = this.delegate;
+        if (delegate == null) {
+            this.delegate = delegate = new HashMap<>();
+        }
+        return delegate;
+    }
+
+    @Override
+    public int size() {
+        return delegate == null ? 0 : delegate.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return delegate == null || delegate.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return delegate != null && delegate.containsKey(key);
+    }
+
+    @Override
+    public Object get(final Object key) {
+        return delegate == null ? null : delegate.get(key);
+    }
+
+    @Override
+    public Object put(final String key, final Object value) {
+        return delegate().put(key, value);
+    }
+
+    @Override
+    public void putAll(final Map<? extends String, ?> map) {
+        if (!map.isEmpty()) {
+            delegate().putAll(map);
+        }
+    }
+
+    @Override
+    public Object remove(final Object key) {
+        return delegate == null ? null : delegate.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        if (delegate != null) {
+            delegate.clear();
+        }
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return delegate == null ? Collections.<Entry<String, Object>>emptySet() : delegate.entrySet();
+    }
+}
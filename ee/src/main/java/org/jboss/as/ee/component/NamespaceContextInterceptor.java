@@ -22,9 +22,9 @@
 
 package org.jboss.as.ee.component;
 
+import org.jboss.as.ee.component.interceptors.FusibleInterceptor;
 import org.jboss.as.naming.WritableServiceBasedNamingStore;
 import org.jboss.as.naming.context.NamespaceContextSelector;
-import org.jboss.invocation.Interceptor;
 import org.jboss.invocation.InterceptorContext;
 import org.jboss.msc.service.ServiceName;
 
@@ -33,7 +33,7 @@ import org.jboss.msc.service.ServiceName;
  *
  * @author <a href="mailto:david.lloyd@redhat.com">David M. Lloyd</a>
  */
-public final class NamespaceContextInterceptor implements Interceptor {
+public final class NamespaceContextInterceptor implements FusibleInterceptor {
     private final NamespaceContextSelector selector;
     private final ServiceName deploymentUnitServiceName;
 
@@ -42,15 +42,19 @@ public final class NamespaceContextInterceptor implements Interceptor {
         this.deploymentUnitServiceName = deploymentUnitServiceName;
     }
 
-    public Object processInvocation(final InterceptorContext context) throws Exception {
+    public void before(final InterceptorContext context) {
         NamespaceContextSelector.pushCurrentSelector(selector);
         try {
             WritableServiceBasedNamingStore.pushOwner(deploymentUnitServiceName);
-            try {
-                return context.proceed();
-            } finally {
-                WritableServiceBasedNamingStore.popOwner();
-            }
+        } catch (RuntimeException | Error e) {
+            NamespaceContextSelector.popCurrentSelector();
+            throw e;
+        }
+    }
+
+    public void after(final InterceptorContext context) {
+        try {
+            WritableServiceBasedNamingStore.popOwner();
         } finally {
             NamespaceContextSelector.popCurrentSelector();
         }
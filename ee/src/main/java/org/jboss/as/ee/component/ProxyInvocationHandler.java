@@ -24,7 +24,6 @@ package org.jboss.as.ee.component;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
-import java.util.HashMap;
 import java.util.Map;
 
 import org.jboss.invocation.Interceptor;
@@ -32,6 +31,10 @@ import org.jboss.invocation.InterceptorContext;
 
 /**
  * An invocation handler for a component proxy.
+ * <p/>
+ * The component is resolved once per proxy, and the public context data map of an invocation is only allocated if an
+ * interceptor writes to it. The client interceptor chain of the method is the only per invocation lookup, the chain
+ * ends with the view interceptor of the method (see {@link ViewDescription#CLIENT_DISPATCHER_INTERCEPTOR_FACTORY}).
  *
  * @author <a href="mailto:david.lloyd@redhat.com">David M. Lloyd</a>
  */
@@ -39,6 +42,7 @@ public final class ProxyInvocationHandler implements InvocationHandler {
 
     private final Map<Method, Interceptor> interceptors;
     private final ComponentView componentView;
+    private final Component component;
     private final ComponentClientInstance instance;
 
     /**
@@ -52,6 +56,7 @@ public final class ProxyInvocationHandler implements InvocationHandler {
         this.interceptors = interceptors;
         this.instance = instance;
         this.componentView = componentView;
+        this.component = componentView.getComponent();
     }
 
     /** {@inheritDoc} */
@@ -63,13 +68,13 @@ public final class ProxyInvocationHandler implements InvocationHandler {
         final InterceptorContext context = new InterceptorContext();
         // special location for original proxy
         context.putPrivateData(Object.class, proxy);
-        context.putPrivateData(Component.class, componentView.getComponent());
+        context.putPrivateData(Component.class, component);
         context.putPrivateData(ComponentView.class, componentView);
         instance.prepareInterceptorContext(context);
         context.setParameters(args);
         context.setMethod(method);
         // setup the public context data
-        context.setContextData(new HashMap<String, Object>());
+        context.setContextData(new LazyContextData());
         context.setBlockingCaller(true);
         return interceptor.processInvocation(context);
     }
@@ -41,6 +41,8 @@ import org.jboss.as.server.deployment.reflect.DeploymentReflectionIndex;
 import org.jboss.invocation.ImmediateInterceptorFactory;
 import org.jboss.invocation.Interceptor;
 import org.jboss.invocation.InterceptorContext;
+import org.jboss.invocation.InterceptorFactory;
+import org.jboss.invocation.InterceptorFactoryContext;
 import org.jboss.invocation.Interceptors;
 import org.jboss.invocation.proxy.MethodIdentifier;
 import org.jboss.invocation.proxy.ProxyFactory;
@@ -179,12 +181,31 @@ public class ViewDescription {
         return new ViewBindingInjectionSource(serviceName);
     }
 
-    public static final ImmediateInterceptorFactory CLIENT_DISPATCHER_INTERCEPTOR_FACTORY = new ImmediateInterceptorFactory(new Interceptor() {
+    private static final Interceptor CLIENT_DISPATCHER_INTERCEPTOR = new Interceptor() {
         public Object processInvocation(final InterceptorContext context) throws Exception {
             ComponentView view = context.getPrivateData(ComponentView.class);
             return view.invoke(context);
         }
-    });
+    };
+
+    /**
+     * Dispatches the client invocations to the view. The client chains of the view methods, built by the view service
+     * with the method in the factory context, are bound to the view interceptor of their method, so that it is not
+     * looked up again on every invocation.
+     */
+    public static final InterceptorFactory CLIENT_DISPATCHER_INTERCEPTOR_FACTORY = new InterceptorFactory() {
+        public Interceptor create(final InterceptorFactoryContext context) {
+            final Object view = context.getContextData().get(ComponentView.class);
+            final Object method = context.getContextData().get(Method.class);
+            if (view instanceof ViewService.View && method instanceof Method) {
+                final Interceptor dispatcher = ((ViewService.View) view).getDispatcher((Method) method);
+                if (dispatcher != null) {
+                    return dispatcher;
+                }
+            }
+            return CLIENT_DISPATCHER_INTERCEPTOR;
+        }
+    };
 
     private static class DefaultConfigurator implements ViewConfigurator {
 
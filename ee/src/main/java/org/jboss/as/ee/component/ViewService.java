@@ -30,6 +30,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.jboss.as.ee.component.interceptors.InterceptorFusion;
 import org.jboss.as.ee.logging.EeLogger;
 import org.jboss.as.ee.utils.DescriptorUtils;
 import org.jboss.as.naming.ManagedReference;
@@ -85,8 +86,8 @@ public final class ViewService implements Service<ComponentView> {
             if (method.getName().equals("finalize") && method.getParameterTypes().length == 0) {
                 viewInterceptorFactories.put(method, Interceptors.getTerminalInterceptorFactory());
             } else {
-                viewInterceptorFactories.put(method, Interceptors.getChainedInterceptorFactory(viewConfiguration.getViewInterceptors(method)));
-                clientInterceptorFactories.put(method, Interceptors.getChainedInterceptorFactory(viewConfiguration.getClientInterceptors(method)));
+                viewInterceptorFactories.put(method, InterceptorFusion.getChainedInterceptorFactory(viewConfiguration.getViewInterceptors(method)));
+                clientInterceptorFactories.put(method, InterceptorFusion.getChainedInterceptorFactory(viewConfiguration.getClientInterceptors(method)));
             }
         }
         this.viewInterceptorFactories = viewInterceptorFactories;
@@ -121,8 +122,11 @@ public final class ViewService implements Service<ComponentView> {
         final Map<Method, InterceptorFactory> clientInterceptorFactories = ViewService.this.clientInterceptorFactories;
         clientInterceptors = new IdentityHashMap<Method, Interceptor>(clientInterceptorFactories.size());
         for (Method method : clientInterceptorFactories.keySet()) {
+            // lets the client dispatcher bind the chain to the view interceptor of the method
+            factoryContext.getContextData().put(Method.class, method);
             clientInterceptors.put(method, clientInterceptorFactories.get(method).create(factoryContext));
         }
+        factoryContext.getContextData().remove(Method.class);
 
 
     }
@@ -142,6 +146,7 @@ public final class ViewService implements Service<ComponentView> {
     class View implements ComponentView {
 
         private final Component component;
+        private final BasicComponent basicComponent;
         private final Map<Method, Interceptor> viewInterceptors;
         private final Map<MethodDescription, Method> methods;
         private final Map<Class<?>, Object> privateData;
@@ -149,6 +154,7 @@ public final class ViewService implements Service<ComponentView> {
         View(final Map<Class<?>, Object> privateData) {
             this.privateData = privateData;
             component = componentInjector.getValue();
+            basicComponent = component instanceof BasicComponent ? (BasicComponent) component : null;
             //we need to build the view interceptor chain
             this.viewInterceptors = new IdentityHashMap<Method, Interceptor>();
             this.methods = new HashMap<MethodDescription, Method>();
@@ -190,14 +196,40 @@ public final class ViewService implements Service<ComponentView> {
 
         @Override
         public Object invoke(InterceptorContext interceptorContext) throws Exception {
-            if(component instanceof BasicComponent) {
-                ((BasicComponent) component).waitForComponentStart();
+            if(basicComponent != null) {
+                basicComponent.waitForComponentStart();
             }
             final Method method = interceptorContext.getMethod();
             final Interceptor interceptor = viewInterceptors.get(method);
             return interceptor.processInvocation(interceptorContext);
         }
 
+        /**
+         * Get an interceptor dispatching the client invocations of a method to its view interceptor, which is resolved
+         * once here instead of on every invocation.
+         *
+         * @param method the view method
+         * @return the dispatcher, or {@code null} if the method is not a view method
+         */
+        Interceptor getDispatcher(final Method method) {
+            final Interceptor interceptor = viewInterceptors.get(method);
+            if (interceptor == null) {
+                return null;
+            }
+            return new Interceptor() {
+                public Object processInvocation(final InterceptorContext context) throws Exception {
+                    if (context.getMethod() != method) {
+                        // a client interceptor redirected the invocation
+                        return invoke(context);
+                    }
+                    if (basicComponent != null) {
+                        basicComponent.waitForComponentStart();
+                    }
+                    return interceptor.processInvocation(context);
+                }
+            };
+        }
+
         public Component getComponent() {
             return component;
         }
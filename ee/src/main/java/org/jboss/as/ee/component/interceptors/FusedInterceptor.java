@@ -0,0 +1,77 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.ee.component.interceptors;
+
+import org.jboss.invocation.Interceptor;
+import org.jboss.invocation.InterceptorContext;
+
+/**
+ * Runs adjacent {@link FusibleInterceptor}s as a single interceptor.
+ * <p/>
+ * Behaves as if the interceptors were nested: when an {@code after} callback throws, its exception replaces the
+ * outcome of the invocation and the remaining callbacks still run, like the {@code finally} blocks they replace.
+ */
+final class FusedInterceptor implements Interceptor {
+
+    private final FusibleInterceptor[] interceptors;
+
+    FusedInterceptor(final FusibleInterceptor[] interceptors) {
+        this.interceptors = interceptors;
+    }
+
+    FusibleInterceptor[] getInterceptors() {
+        return interceptors.clone();
+    }
+
+    @Override
+    public Object processInvocation(final InterceptorContext context) throws Exception {
+        final FusibleInterceptor[] interceptors = this.interceptors;
+        int entered = 0;
+        Object result = null;
+        Throwable failure = null;
+        try {
+            while (entered < interceptors.length) {
+                interceptors[entered].before(context);
+                entered++;
+            }
+            result = context.proceed();
+        } catch (Throwable t) {
+            failure = t;
+        }
+        for (int i = entered - 1; i >= 0; i--) {
+            try {
+                interceptors[i].after(context);
+            } catch (Throwable t) {
+                failure = t;
+            }
+        }
+        if (failure != null) {
+            if (failure instanceof Exception) {
+                throw (Exception) failure;
+            }
+            throw (Error) failure;
+        }
+        return result;
+    }
+}
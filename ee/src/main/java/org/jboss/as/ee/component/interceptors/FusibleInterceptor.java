@@ -0,0 +1,66 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.ee.component.interceptors;
+
+import org.jboss.invocation.Interceptor;
+import org.jboss.invocation.InterceptorContext;
+
+/**
+ * A container interceptor that only sets up some state before the invocation proceeds and restores it afterwards.
+ * <p/>
+ * Adjacent fusible interceptors of a view chain are replaced by a single interceptor running the {@link #before}
+ * callbacks in order and the {@link #after} callbacks in reverse order, see {@link InterceptorFusion}. The result
+ * is the same as running them nested, as {@link #processInvocation} does.
+ *
+ * @see InterceptorFusion
+ */
+public interface FusibleInterceptor extends Interceptor {
+
+    /**
+     * Set up the state of the invocation. If this method throws, it must have undone its own partial setup,
+     * {@link #after} is not invoked.
+     *
+     * @param context the invocation context
+     * @throws Exception if the setup fails
+     */
+    void before(InterceptorContext context) throws Exception;
+
+    /**
+     * Restore the state once the invocation completed, normally or not. Only invoked if {@link #before} completed
+     * normally.
+     *
+     * @param context the invocation context
+     */
+    void after(InterceptorContext context);
+
+    @Override
+    default Object processInvocation(final InterceptorContext context) throws Exception {
+        before(context);
+        try {
+            return context.proceed();
+        } finally {
+            after(context);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.ee.component.interceptors;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.invocation.Interceptor;
+import org.jboss.invocation.InterceptorFactory;
+import org.jboss.invocation.InterceptorFactoryContext;
+import org.jboss.invocation.Interceptors;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Compiles view interceptor chains, fusing the runs of adjacent {@link FusibleInterceptor}s into a single
+ * interceptor so that an invocation goes through fewer frames and {@code try/finally} blocks.
+ * <p/>
+ * Fusion is enabled by default and disabled by setting the {@value #INTERCEPTOR_FUSION} system property to
+ * {@code false}.
+ */
+public final class InterceptorFusion {
+
+    public static final String INTERCEPTOR_FUSION = "wildfly.ee.interceptor.fusion";
+
+    private static final boolean ENABLED = Boolean.parseBoolean(WildFlySecurityManager.getPropertyPrivileged(INTERCEPTOR_FUSION, "true"));
+
+    private InterceptorFusion() {
+    }
+
+    /**
+     * Get a factory for the chain of the interceptors created by the given factories, with the adjacent fusible
+     * interceptors fused.
+     *
+     * @param factories the interceptor factories, in invocation order
+     * @return the chained interceptor factory
+     */
+    public static InterceptorFactory getChainedInterceptorFactory(final List<InterceptorFactory> factories) {
+        if (!ENABLED) {
+            return Interceptors.getChainedInterceptorFactory(factories);
+        }
+        final InterceptorFactory[] array = factories.toArray(new InterceptorFactory[factories.size()]);
+        return new InterceptorFactory() {
+            @Override
+            public Interceptor create(final InterceptorFactoryContext context) {
+                final List<Interceptor> interceptors = new ArrayList<>(array.length);
+                for (InterceptorFactory factory : array) {
+                    interceptors.add(factory.create(context));
+                }
+                return Interceptors.getChainedInterceptor(fuse(interceptors));
+            }
+        };
+    }
+
+    /**
+     * Replace the runs of at least two adjacent fusible interceptors by a single interceptor.
+     *
+     * @param interceptors the interceptors, in invocation order
+     * @return the fused interceptors
+     */
+    public static List<Interceptor> fuse(final List<Interceptor> interceptors) {
+        final List<Interceptor> result = new ArrayList<>(interceptors.size());
+        final List<FusibleInterceptor> run = new ArrayList<>();
+        for (Interceptor interceptor : interceptors) {
+            if (interceptor instanceof FusibleInterceptor) {
+                run.add((FusibleInterceptor) interceptor);
+            } else {
+                flush(run, result);
+                result.add(interceptor);
+            }
+        }
+        flush(run, result);
+        return result;
+    }
+
+    private static void flush(final List<FusibleInterceptor> run, final List<Interceptor> result) {
+        if (run.size() == 1) {
+            result.add(run.get(0));
+        } else if (run.size() > 1) {
+            result.add(new FusedInterceptor(run.toArray(new FusibleInterceptor[run.size()])));
+        }
+        run.clear();
+    }
+}
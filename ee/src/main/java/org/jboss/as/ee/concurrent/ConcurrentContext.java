@@ -43,7 +43,6 @@ import java.security.PrivilegedAction;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.SortedSet;
@@ -96,7 +95,7 @@ public class ConcurrentContext {
     }
 
     private final Map<String, ContextHandleFactory> factoryMap = new HashMap<>();
-    private List<ContextHandleFactory> factoryOrderedList;
+    private volatile ContextHandleFactory[] factoryOrderedArray = new ContextHandleFactory[0];
 
     private volatile ServiceName serviceName;
 
@@ -126,19 +125,22 @@ public class ConcurrentContext {
         };
         SortedSet<ContextHandleFactory> sortedSet = new TreeSet<>(comparator);
         sortedSet.addAll(factoryMap.values());
-        factoryOrderedList = new ArrayList<>(sortedSet);
+        factoryOrderedArray = sortedSet.toArray(new ContextHandleFactory[sortedSet.size()]);
     }
 
     /**
-     * Saves the current invocation context on a chained context handle.
+     * Saves the current invocation context on a chained context handle. Factories whose context is immutable per component
+     * (such as the classloader, naming and EE setup actions ones) return a shared handle, so only the per invocation parts of
+     * the context are actually captured here.
      * @param contextService
      * @param contextObjectProperties
      * @return
      */
     public SetupContextHandle saveContext(ContextService contextService, Map<String, String> contextObjectProperties) {
-        final List<SetupContextHandle> handles = new ArrayList<>(factoryOrderedList.size());
-        for (ContextHandleFactory factory : factoryOrderedList) {
-            handles.add(factory.saveContext(contextService, contextObjectProperties));
+        final ContextHandleFactory[] factories = factoryOrderedArray;
+        final SetupContextHandle[] handles = new SetupContextHandle[factories.length];
+        for (int i = 0; i < factories.length; i++) {
+            handles[i] = factories[i].saveContext(contextService, contextObjectProperties);
         }
         return new ChainedSetupContextHandle(this, handles);
     }
@@ -149,21 +151,23 @@ public class ConcurrentContext {
     private static class ChainedSetupContextHandle implements SetupContextHandle {
 
         private transient ConcurrentContext concurrentContext;
-        private transient List<SetupContextHandle> setupHandles;
+        private transient SetupContextHandle[] setupHandles;
 
-        private ChainedSetupContextHandle(ConcurrentContext concurrentContext, List<SetupContextHandle> setupHandles) {
+        private ChainedSetupContextHandle(ConcurrentContext concurrentContext, SetupContextHandle[] setupHandles) {
             this.concurrentContext = concurrentContext;
             this.setupHandles = setupHandles;
         }
 
         @Override
         public ResetContextHandle setup() throws IllegalStateException {
-            final LinkedList<ResetContextHandle> resetHandles = new LinkedList<>();
+            // reset handles are stored in reverse setup order, a failed setup leaves the leading slots empty
+            final SetupContextHandle[] setupHandles = this.setupHandles;
+            final ResetContextHandle[] resetHandles = new ResetContextHandle[setupHandles.length];
             final ResetContextHandle resetContextHandle = new ChainedResetContextHandle(resetHandles);
             try {
                 ConcurrentContext.pushCurrent(concurrentContext);
-                for (SetupContextHandle handle : setupHandles) {
-                    resetHandles.addFirst(handle.setup());
+                for (int i = 0; i < setupHandles.length; i++) {
+                    resetHandles[resetHandles.length - 1 - i] = setupHandles[i].setup();
                 }
             } catch (Error | RuntimeException e) {
                 resetContextHandle.reset();
@@ -182,7 +186,7 @@ public class ConcurrentContext {
             // write the concurrent context service name
             out.writeObject(concurrentContext.serviceName);
             // write the number of setup handles
-            out.write(setupHandles.size());
+            out.write(setupHandles.length);
             // write each handle
             ContextHandleFactory factory = null;
             String factoryName = null;
@@ -238,7 +242,7 @@ public class ConcurrentContext {
                 }
                 concurrentContext = (ConcurrentContext) serviceController.getValue();
                 // read setup handles
-                setupHandles = new ArrayList<>();
+                final List<SetupContextHandle> setupHandles = new ArrayList<>();
                 ContextHandleFactory factory = null;
                 String factoryName = null;
                 for(int i = in.read(); i > 0; i--) {
@@ -249,6 +253,7 @@ public class ConcurrentContext {
                     }
                     setupHandles.add(factory.readSetupContextHandle(in));
                 }
+                this.setupHandles = setupHandles.toArray(new SetupContextHandle[setupHandles.size()]);
             } finally {
                 if (sm == null) {
                     currentThread().setContextClassLoader(classLoader);
@@ -270,9 +275,9 @@ public class ConcurrentContext {
      */
     private static class ChainedResetContextHandle implements ResetContextHandle {
 
-        private transient List<ResetContextHandle> resetHandles;
+        private transient ResetContextHandle[] resetHandles;
 
-        private ChainedResetContextHandle(List<ResetContextHandle> resetHandles) {
+        private ChainedResetContextHandle(ResetContextHandle[] resetHandles) {
             this.resetHandles = resetHandles;
         }
 
@@ -280,6 +285,9 @@ public class ConcurrentContext {
         public void reset() {
             if(resetHandles != null) {
                 for (ResetContextHandle handle : resetHandles) {
+                    if (handle == null) {
+                        continue;
+                    }
                     try {
                         handle.reset();
                     } catch (Throwable e) {
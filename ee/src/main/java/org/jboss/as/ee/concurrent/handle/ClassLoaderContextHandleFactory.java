@@ -39,15 +39,18 @@ public class ClassLoaderContextHandleFactory implements ContextHandleFactory {
 
     public static final String NAME = "CLASSLOADER";
 
-    private final ClassLoader classLoader;
+    /**
+     * the classloader context is immutable, thus all saved contexts share the same handle
+     */
+    private final ClassLoaderSetupContextHandle setupContextHandle;
 
     public ClassLoaderContextHandleFactory(ClassLoader classLoader) {
-        this.classLoader = classLoader;
+        this.setupContextHandle = new ClassLoaderSetupContextHandle(classLoader);
     }
 
     @Override
     public SetupContextHandle saveContext(ContextService contextService, Map<String, String> contextObjectProperties) {
-        return new ClassLoaderSetupContextHandle(classLoader);
+        return setupContextHandle;
     }
 
     @Override
@@ -66,7 +69,7 @@ public class ClassLoaderContextHandleFactory implements ContextHandleFactory {
 
     @Override
     public SetupContextHandle readSetupContextHandle(ObjectInputStream in) throws IOException, ClassNotFoundException {
-        return new ClassLoaderSetupContextHandle(classLoader);
+        return setupContextHandle;
     }
 
     private static class ClassLoaderSetupContextHandle implements SetupContextHandle {
@@ -41,17 +41,18 @@ public class NamingContextHandleFactory implements ContextHandleFactory {
 
     public static final String NAME = "NAMING";
 
-    private final NamespaceContextSelector namespaceContextSelector;
-    private final ServiceName duServiceName;
+    /**
+     * the naming context is immutable, thus all saved contexts share the same handle
+     */
+    private final NamingContextHandle contextHandle;
 
     public NamingContextHandleFactory(NamespaceContextSelector namespaceContextSelector, ServiceName duServiceName) {
-        this.namespaceContextSelector = namespaceContextSelector;
-        this.duServiceName = duServiceName;
+        this.contextHandle = new NamingContextHandle(namespaceContextSelector, duServiceName);
     }
 
     @Override
     public SetupContextHandle saveContext(ContextService contextService, Map<String, String> contextObjectProperties) {
-        return new NamingContextHandle(namespaceContextSelector,duServiceName);
+        return contextHandle;
     }
 
     @Override
@@ -70,7 +71,7 @@ public class NamingContextHandleFactory implements ContextHandleFactory {
 
     @Override
     public SetupContextHandle readSetupContextHandle(ObjectInputStream in) throws IOException, ClassNotFoundException {
-        return new NamingContextHandle(namespaceContextSelector,duServiceName);
+        return contextHandle;
     }
 
     private static class NamingContextHandle implements SetupContextHandle, ResetContextHandle {
@@ -42,15 +42,18 @@ public class OtherEESetupActionsContextHandleFactory implements ContextHandleFac
 
     public static final String NAME = "EE_SETUP_ACTIONS";
 
-    private final List<SetupAction> setupActions;
+    /**
+     * the deployment's setup actions do not change, thus all saved contexts share the same handle
+     */
+    private final OtherEESetupActionsSetupContextHandle setupContextHandle;
 
     public OtherEESetupActionsContextHandleFactory(List<SetupAction> setupActions) {
-        this.setupActions = setupActions;
+        this.setupContextHandle = new OtherEESetupActionsSetupContextHandle(setupActions);
     }
 
     @Override
     public SetupContextHandle saveContext(ContextService contextService, Map<String, String> contextObjectProperties) {
-        return new OtherEESetupActionsSetupContextHandle(setupActions);
+        return setupContextHandle;
     }
 
     @Override
@@ -69,7 +72,7 @@ public class OtherEESetupActionsContextHandleFactory implements ContextHandleFac
 
     @Override
     public SetupContextHandle readSetupContextHandle(ObjectInputStream in) throws IOException, ClassNotFoundException {
-        return new OtherEESetupActionsSetupContextHandle(setupActions);
+        return setupContextHandle;
     }
 
     private static class OtherEESetupActionsSetupContextHandle implements SetupContextHandle {
@@ -0,0 +1,231 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.ee.utils;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CONTENT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.HASH;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+import org.jboss.as.controller.registry.Resource;
+import org.jboss.as.server.deployment.DeploymentModelUtils;
+import org.jboss.as.server.deployment.DeploymentUnit;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceContainer;
+import org.jboss.msc.service.ServiceRegistry;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * A file caching information computed from the content of a deployment module across server restarts.
+ * <p/>
+ * The file starts with the format version of the cache and the content repository hash of the top level deployment,
+ * a file whose header does not match is ignored. The cache files of a deployment are stored in a directory named
+ * after the deployment, which is deleted when the deployment is undeployed.
+ */
+public final class DeploymentCacheFile {
+
+    /**
+     * Reads the content of a cache file.
+     */
+    public interface Reader {
+
+        /**
+         * @param in the input, positioned after the header
+         * @return {@code false} if the cached content cannot be used
+         * @throws IOException if the content cannot be read
+         */
+        boolean read(DataInputStream in) throws IOException;
+    }
+
+    /**
+     * Writes the content of a cache file.
+     */
+    public interface Writer {
+
+        /**
+         * @param out the output, positioned after the header
+         * @throws IOException if the content cannot be written
+         */
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    private final File file;
+    private final int formatVersion;
+    private final String contentHash;
+
+    public DeploymentCacheFile(final File file, final int formatVersion, final String contentHash) {
+        this.file = file;
+        this.formatVersion = formatVersion;
+        this.contentHash = contentHash;
+    }
+
+    /**
+     * Get the cache file of a deployment module.
+     *
+     * @param directory the cache directory
+     * @param deploymentName the name of the top level deployment
+     * @param moduleName the name of the deployment module, the deployment name for the top level module
+     * @param formatVersion the format version of the cache
+     * @param contentHash the content repository hash of the top level deployment
+     * @return the cache file
+     */
+    public static DeploymentCacheFile forModule(final File directory, final String deploymentName, final String moduleName,
+            final int formatVersion, final String contentHash) {
+        return new DeploymentCacheFile(new File(new File(directory, fileName(deploymentName)), fileName(moduleName) + ".cache"),
+                formatVersion, contentHash);
+    }
+
+    /**
+     * Get the cache directory configured by system properties.
+     *
+     * @param enabledProperty the property enabling the cache
+     * @param directoryProperty the property naming the cache directory
+     * @param defaultDirectory the name of the cache directory in the server data directory
+     * @return the cache directory, or {@code null} if the cache is disabled
+     */
+    public static File getDirectory(final String enabledProperty, final String directoryProperty, final String defaultDirectory) {
+        if (!Boolean.parseBoolean(WildFlySecurityManager.getPropertyPrivileged(enabledProperty, "false"))) {
+            return null;
+        }
+        final String dir = WildFlySecurityManager.getPropertyPrivileged(directoryProperty, null);
+        if (dir != null) {
+            return new File(dir);
+        }
+        final String dataDir = WildFlySecurityManager.getPropertyPrivileged("jboss.server.data.dir", null);
+        return dataDir == null ? null : new File(dataDir, defaultDirectory);
+    }
+
+    /**
+     * Get the hash the content repository computed for the content of a deployment. Unmanaged deployments have no
+     * such hash, their content can change without the server being aware of it.
+     *
+     * @param deploymentUnit the deployment unit, or one of its sub deployments
+     * @return the hexadecimal content hash, or {@code null} if the deployment content is not managed
+     */
+    public static String getContentHash(final DeploymentUnit deploymentUnit) {
+        final DeploymentUnit topLevel = deploymentUnit.getParent() == null ? deploymentUnit : deploymentUnit.getParent();
+        final Resource resource = topLevel.getAttachment(DeploymentModelUtils.DEPLOYMENT_RESOURCE);
+        if (resource == null) {
+            return null;
+        }
+        final ModelNode content = resource.getModel().get(CONTENT);
+        if (!content.isDefined() || content.asList().size() != 1 || !content.get(0).hasDefined(HASH)) {
+            return null;
+        }
+        final StringBuilder hash = new StringBuilder();
+        for (byte b : content.get(0).get(HASH).asBytes()) {
+            hash.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hash.toString();
+    }
+
+    /**
+     * Delete the cache files of an undeployed deployment. The files are kept if the deployment is only stopped
+     * because the server shuts down.
+     *
+     * @param directory the cache directory
+     * @param deploymentUnit the top level deployment unit
+     */
+    public static void delete(final File directory, final DeploymentUnit deploymentUnit) {
+        final ServiceRegistry registry = deploymentUnit.getServiceRegistry();
+        if (registry instanceof ServiceContainer && ((ServiceContainer) registry).isShutdown()) {
+            return;
+        }
+        delete(new File(directory, fileName(deploymentUnit.getName())));
+    }
+
+    static void delete(final File file) {
+        final File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+
+    private static String fileName(final String name) {
+        return name.replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * @return {@code true} if the cache file exists
+     */
+    public boolean exists() {
+        return file.isFile();
+    }
+
+    /**
+     * Read the cache file.
+     *
+     * @param reader the reader of the cached content
+     * @return {@code false} if the file does not exist, was written with a different format version or from different
+     *         deployment content, or if the reader rejected it
+     * @throws IOException if the file cannot be read
+     */
+    public boolean read(final Reader reader) throws IOException {
+        if (!file.isFile()) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            return in.readInt() == formatVersion && contentHash.equals(in.readUTF()) && reader.read(in);
+        }
+    }
+
+    /**
+     * Write the cache file. The content is written to a temporary file first, which then replaces the cache file, so
+     * a failed write never leaves a partial cache file behind.
+     *
+     * @param writer the writer of the cached content
+     * @throws IOException if the file cannot be written
+     */
+    public void write(final Writer writer) throws IOException {
+        final File tmp = new File(file.getPath() + ".tmp");
+        try {
+            file.getParentFile().mkdirs();
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+                out.writeInt(formatVersion);
+                out.writeUTF(contentHash);
+                writer.write(out);
+            }
+            Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            tmp.delete();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.ee.component;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Tests that {@link LazyContextData} behaves like a plain map whether or not it was written to.
+ */
+public class LazyContextDataTestCase {
+
+    @Test
+    public void testEmpty() {
+        final LazyContextData data = new LazyContextData();
+        assertEquals(0, data.size());
+        assertTrue(data.isEmpty());
+        assertFalse(data.containsKey("key"));
+        assertNull(data.get("key"));
+        assertNull(data.remove("key"));
+        assertTrue(data.entrySet().isEmpty());
+        assertTrue(data.keySet().isEmpty());
+        data.clear();
+        data.putAll(Collections.<String, Object>emptyMap());
+        assertTrue(data.isEmpty());
+        assertEquals(new HashMap<String, Object>(), data);
+        assertEquals(0, data.hashCode());
+    }
+
+    @Test
+    public void testWrites() {
+        final LazyContextData data = new LazyContextData();
+        assertNull(data.put("key", "value"));
+        assertEquals("value", data.put("key", "other"));
+        final Map<String, Object> more = new HashMap<>();
+        more.put("a", 1);
+        more.put("b", null);
+        data.putAll(more);
+
+        final Map<String, Object> expected = new HashMap<>(more);
+        expected.put("key", "other");
+        assertEquals(expected, data);
+        assertEquals(expected.hashCode(), data.hashCode());
+        assertEquals(3, data.size());
+        assertTrue(data.containsKey("b"));
+        assertTrue(data.containsValue(1));
+        assertNull(data.get("b"));
+
+        assertEquals(1, data.remove("a"));
+        assertEquals(2, data.size());
+        data.clear();
+        assertTrue(data.isEmpty());
+        assertNull(data.get("key"));
+    }
+
+    @Test
+    public void testEntrySetWritesThrough() {
+        final LazyContextData data = new LazyContextData();
+        data.put("a", 1);
+        data.put("b", 2);
+        for (Map.Entry<String, Object> entry : data.entrySet()) {
+            if (entry.getKey().equals("a")) {
+                entry.setValue(10);
+            }
+        }
+        assertEquals(10, data.get("a"));
+        for (Iterator<String> it = data.keySet().iterator(); it.hasNext(); ) {
+            if (it.next().equals("b")) {
+                it.remove();
+            }
+        }
+        assertEquals(Collections.<String, Object>singletonMap("a", 10), data);
+    }
+}
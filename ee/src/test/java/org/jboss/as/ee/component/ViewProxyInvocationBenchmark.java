@@ -0,0 +1,209 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.ee.component;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.naming.ManagedReference;
+import org.jboss.invocation.Interceptor;
+import org.jboss.invocation.InterceptorContext;
+import org.jboss.invocation.Interceptors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the cost of a local view invocation through the {@link ProxyInvocationHandler}, with a short client and
+ * view interceptor chain and no component behind them, against a handler allocating the public context data map of
+ * every invocation up front and dispatching through the view, which looks up the view interceptor of the method again.
+ * <p/>
+ * Run {@link #main(String[])} from the test class path, the GC profiler reports the bytes allocated per invocation
+ * ({@code gc.alloc.rate.norm}) next to the time per invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ViewProxyInvocationBenchmark {
+
+    public interface Greeter {
+        String greet(String name);
+    }
+
+    private Greeter proxy;
+    private Greeter eagerContextDataProxy;
+
+    @Setup
+    public void setup() throws Exception {
+        final Method greet = Greeter.class.getMethod("greet", String.class);
+        final Map<Method, Interceptor> viewInterceptors = new IdentityHashMap<>();
+        viewInterceptors.put(greet, Interceptors.getChainedInterceptor(new PassThroughInterceptor(), new Interceptor() {
+            public Object processInvocation(final InterceptorContext context) throws Exception {
+                return "Hello " + context.getParameters()[0];
+            }
+        }));
+        final ComponentView view = new StubComponentView(viewInterceptors);
+        // the client chains of the view service are bound to the view interceptor of their method
+        final Interceptor viewInterceptor = viewInterceptors.get(greet);
+        final Map<Method, Interceptor> clientInterceptors = new IdentityHashMap<>();
+        clientInterceptors.put(greet, Interceptors.getChainedInterceptor(new PassThroughInterceptor(), new Interceptor() {
+            public Object processInvocation(final InterceptorContext context) throws Exception {
+                return viewInterceptor.processInvocation(context);
+            }
+        }));
+        // the client chains dispatching through the view, which looks up the view interceptor again
+        final Map<Method, Interceptor> lookupClientInterceptors = new IdentityHashMap<>();
+        lookupClientInterceptors.put(greet, Interceptors.getChainedInterceptor(new PassThroughInterceptor(), new Interceptor() {
+            public Object processInvocation(final InterceptorContext context) throws Exception {
+                return context.getPrivateData(ComponentView.class).invoke(context);
+            }
+        }));
+        proxy = newProxy(new ProxyInvocationHandler(clientInterceptors, new ComponentClientInstance(), view));
+        eagerContextDataProxy = newProxy(new EagerContextDataInvocationHandler(lookupClientInterceptors, new ComponentClientInstance(), view));
+    }
+
+    @Benchmark
+    public String proxyInvocationHandler() {
+        return proxy.greet("world");
+    }
+
+    @Benchmark
+    public String eagerContextDataAndViewLookup() {
+        return eagerContextDataProxy.greet("world");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ViewProxyInvocationBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+
+    private static Greeter newProxy(final InvocationHandler handler) {
+        return (Greeter) Proxy.newProxyInstance(Greeter.class.getClassLoader(), new Class<?>[] {Greeter.class}, handler);
+    }
+
+    /**
+     * The {@link ProxyInvocationHandler} with a context data map allocated for every invocation.
+     */
+    private static final class EagerContextDataInvocationHandler implements InvocationHandler {
+        private final Map<Method, Interceptor> interceptors;
+        private final ComponentClientInstance instance;
+        private final ComponentView componentView;
+
+        EagerContextDataInvocationHandler(final Map<Method, Interceptor> interceptors, final ComponentClientInstance instance, final ComponentView componentView) {
+            this.interceptors = interceptors;
+            this.instance = instance;
+            this.componentView = componentView;
+        }
+
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            final InterceptorContext context = new InterceptorContext();
+            context.putPrivateData(Object.class, proxy);
+            context.putPrivateData(Component.class, componentView.getComponent());
+            context.putPrivateData(ComponentView.class, componentView);
+            instance.prepareInterceptorContext(context);
+            context.setParameters(args);
+            context.setMethod(method);
+            context.setContextData(new HashMap<String, Object>());
+            context.setBlockingCaller(true);
+            return interceptors.get(method).processInvocation(context);
+        }
+    }
+
+    private static final class PassThroughInterceptor implements Interceptor {
+        public Object processInvocation(final InterceptorContext context) throws Exception {
+            return context.proceed();
+        }
+    }
+
+    private static final class StubComponentView implements ComponentView {
+        private final Map<Method, Interceptor> viewInterceptors;
+
+        StubComponentView(final Map<Method, Interceptor> viewInterceptors) {
+            this.viewInterceptors = viewInterceptors;
+        }
+
+        public ManagedReference createInstance() {
+            throw new UnsupportedOperationException();
+        }
+
+        public ManagedReference createInstance(final Map<Object, Object> contextData) {
+            throw new UnsupportedOperationException();
+        }
+
+        public Object invoke(final InterceptorContext interceptorContext) throws Exception {
+            return viewInterceptors.get(interceptorContext.getMethod()).processInvocation(interceptorContext);
+        }
+
+        public Component getComponent() {
+            return null;
+        }
+
+        public Class<?> getProxyClass() {
+            return null;
+        }
+
+        public Class<?> getViewClass() {
+            return Greeter.class;
+        }
+
+        public Set<Method> getViewMethods() {
+            return Collections.unmodifiableSet(viewInterceptors.keySet());
+        }
+
+        public Method getMethod(final String name, final String descriptor) {
+            throw new UnsupportedOperationException();
+        }
+
+        public <T> T getPrivateData(final Class<T> clazz) {
+            return null;
+        }
+
+        public boolean isAsynchronous(final Method method) {
+            return false;
+        }
+    }
+}
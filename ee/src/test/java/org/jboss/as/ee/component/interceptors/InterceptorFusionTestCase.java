@@ -0,0 +1,140 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.ee.component.interceptors;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jboss.invocation.Interceptor;
+import org.jboss.invocation.InterceptorContext;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Checks that a fused chain behaves exactly like the nested chain it replaces.
+ */
+public class InterceptorFusionTestCase {
+
+    @Test
+    public void testFuseAdjacentOnly() {
+        final List<String> events = new ArrayList<>();
+        final Interceptor plain = context -> context.proceed();
+        final List<Interceptor> fused = InterceptorFusion.fuse(Arrays.asList(
+                new Recording("a", events, null, null), new Recording("b", events, null, null), plain,
+                new Recording("c", events, null, null), plain));
+        Assert.assertEquals(4, fused.size());
+        Assert.assertTrue(fused.get(0) instanceof FusedInterceptor);
+        Assert.assertEquals(2, ((FusedInterceptor) fused.get(0)).getInterceptors().length);
+        Assert.assertSame(plain, fused.get(1));
+        Assert.assertTrue(fused.get(2) instanceof Recording);
+        Assert.assertSame(plain, fused.get(3));
+    }
+
+    @Test
+    public void testNormalCompletion() throws Exception {
+        assertEquivalent(null, null, null);
+    }
+
+    @Test
+    public void testExceptionFromInvocation() throws Exception {
+        assertEquivalent(null, null, new IllegalStateException("target"));
+    }
+
+    @Test
+    public void testExceptionInBefore() throws Exception {
+        assertEquivalent("b", null, null);
+    }
+
+    @Test
+    public void testExceptionInAfter() throws Exception {
+        assertEquivalent(null, "b", new IllegalStateException("target"));
+        assertEquivalent(null, "a", null);
+    }
+
+    private static void assertEquivalent(final String failBefore, final String failAfter, final Exception targetFailure) throws Exception {
+        final List<String> nestedEvents = new ArrayList<>();
+        final Object nestedOutcome = invoke(chain(nestedEvents, failBefore, failAfter, targetFailure));
+        final List<String> fusedEvents = new ArrayList<>();
+        final Object fusedOutcome = invoke(InterceptorFusion.fuse(chain(fusedEvents, failBefore, failAfter, targetFailure)));
+        Assert.assertEquals(nestedEvents, fusedEvents);
+        Assert.assertEquals(nestedOutcome, fusedOutcome);
+    }
+
+    private static List<Interceptor> chain(final List<String> events, final String failBefore, final String failAfter, final Exception targetFailure) {
+        final List<Interceptor> interceptors = new ArrayList<>();
+        for (String name : new String[] {"a", "b", "c"}) {
+            interceptors.add(new Recording(name, events, name.equals(failBefore) ? name : null, name.equals(failAfter) ? name : null));
+        }
+        interceptors.add(context -> {
+            events.add("target");
+            if (targetFailure != null) {
+                throw targetFailure;
+            }
+            return "result";
+        });
+        return interceptors;
+    }
+
+    private static Object invoke(final List<Interceptor> interceptors) {
+        final InterceptorContext context = new InterceptorContext();
+        context.setInterceptors(interceptors);
+        try {
+            return context.proceed();
+        } catch (Exception e) {
+            return e.getMessage();
+        }
+    }
+
+    private static final class Recording implements FusibleInterceptor {
+
+        private final String name;
+        private final List<String> events;
+        private final String failBefore;
+        private final String failAfter;
+
+        Recording(final String name, final List<String> events, final String failBefore, final String failAfter) {
+            this.name = name;
+            this.events = events;
+            this.failBefore = failBefore;
+            this.failAfter = failAfter;
+        }
+
+        @Override
+        public void before(final InterceptorContext context) throws Exception {
+            events.add("before-" + name);
+            if (failBefore != null) {
+                throw new IllegalStateException(failBefore);
+            }
+        }
+
+        @Override
+        public void after(final InterceptorContext context) {
+            events.add("after-" + name);
+            if (failAfter != null) {
+                throw new IllegalStateException(failAfter);
+            }
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.ee.concurrent;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.concurrent.ContextService;
+
+import org.jboss.as.ee.concurrent.handle.ClassLoaderContextHandleFactory;
+import org.jboss.as.ee.concurrent.handle.ContextHandleFactory;
+import org.jboss.as.ee.concurrent.handle.NamingContextHandleFactory;
+import org.jboss.as.ee.concurrent.handle.OtherEESetupActionsContextHandleFactory;
+import org.jboss.as.ee.concurrent.handle.ResetContextHandle;
+import org.jboss.as.ee.concurrent.handle.SetupContextHandle;
+import org.jboss.as.server.deployment.SetupAction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures {@link ConcurrentContext#saveContext(ContextService, Map)}, as done for every task submitted to a managed
+ * executor, and the setup and reset of the saved context, as done when the task runs. The context has the classloader,
+ * naming and EE setup actions factories of a component, and a factory creating a new handle per saved context that
+ * stands for the per invocation ones.
+ * <p/>
+ * Run {@link #main(String[])} from the test class path, the GC profiler reports the bytes allocated per operation
+ * ({@code gc.alloc.rate.norm}) next to the time per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentContextBenchmark {
+
+    private ConcurrentContext concurrentContext;
+    private SetupContextHandle savedContext;
+
+    @Setup
+    public void setup() {
+        concurrentContext = new ConcurrentContext();
+        concurrentContext.addFactory(new ClassLoaderContextHandleFactory(ConcurrentContextBenchmark.class.getClassLoader()));
+        concurrentContext.addFactory(new NamingContextHandleFactory(null, null));
+        concurrentContext.addFactory(new OtherEESetupActionsContextHandleFactory(Collections.<SetupAction>emptyList()));
+        concurrentContext.addFactory(new PerInvocationContextHandleFactory());
+        savedContext = concurrentContext.saveContext(null, Collections.<String, String>emptyMap());
+    }
+
+    @Benchmark
+    public SetupContextHandle saveContext() {
+        return concurrentContext.saveContext(null, Collections.<String, String>emptyMap());
+    }
+
+    @Benchmark
+    public void setupAndResetContext() {
+        savedContext.setup().reset();
+    }
+
+    @Benchmark
+    public void saveSetupAndResetContext() {
+        concurrentContext.saveContext(null, Collections.<String, String>emptyMap()).setup().reset();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ConcurrentContextBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+
+    private static final class PerInvocationContextHandleFactory implements ContextHandleFactory {
+
+        private static final String NAME = "PER_INVOCATION";
+
+        @Override
+        public SetupContextHandle saveContext(final ContextService contextService, final Map<String, String> contextObjectProperties) {
+            final Object state = new Object();
+            return new SetupContextHandle() {
+                @Override
+                public ResetContextHandle setup() throws IllegalStateException {
+                    return new ResetContextHandle() {
+                        @Override
+                        public void reset() {
+                            state.hashCode();
+                        }
+
+                        @Override
+                        public String getFactoryName() {
+                            return NAME;
+                        }
+                    };
+                }
+
+                @Override
+                public String getFactoryName() {
+                    return NAME;
+                }
+            };
+        }
+
+        @Override
+        public String getName() {
+            return NAME;
+        }
+
+        @Override
+        public int getChainPriority() {
+            return 1000;
+        }
+
+        @Override
+        public void writeSetupContextHandle(final SetupContextHandle contextHandle, final ObjectOutputStream out) throws IOException {
+        }
+
+        @Override
+        public SetupContextHandle readSetupContextHandle(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.ee.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DeploymentCacheFileTestCase {
+
+    private File directory;
+
+    @Before
+    public void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("deployment-cache").toFile();
+    }
+
+    @After
+    public void deleteDirectory() {
+        DeploymentCacheFile.delete(directory);
+    }
+
+    @Test
+    public void testReadWritten() throws IOException {
+        final DeploymentCacheFile file = DeploymentCacheFile.forModule(directory, "app.ear", "web/app.war", 1, "abc");
+        Assert.assertFalse(file.exists());
+        Assert.assertFalse(file.read(in -> true));
+        file.write(out -> out.writeUTF("cached"));
+        Assert.assertTrue(file.exists());
+        Assert.assertEquals(new File(new File(directory, "app.ear"), "web_app.war.cache"), file.getFile());
+        Assert.assertFalse(new File(file.getFile().getPath() + ".tmp").exists());
+
+        final String[] read = new String[1];
+        Assert.assertTrue(DeploymentCacheFile.forModule(directory, "app.ear", "web/app.war", 1, "abc").read(in -> {
+            read[0] = in.readUTF();
+            return true;
+        }));
+        Assert.assertEquals("cached", read[0]);
+    }
+
+    @Test
+    public void testHeaderMismatch() throws IOException {
+        DeploymentCacheFile.forModule(directory, "app.war", "app.war", 1, "abc").write(out -> out.writeUTF("cached"));
+        Assert.assertFalse(DeploymentCacheFile.forModule(directory, "app.war", "app.war", 1, "def").read(in -> true));
+        Assert.assertFalse(DeploymentCacheFile.forModule(directory, "app.war", "app.war", 2, "abc").read(in -> true));
+        Assert.assertFalse(DeploymentCacheFile.forModule(directory, "app.war", "app.war", 1, "abc").read(in -> false));
+    }
+
+    @Test
+    public void testFailedWriteKeepsPreviousFile() throws IOException {
+        final DeploymentCacheFile file = DeploymentCacheFile.forModule(directory, "app.war", "app.war", 1, "abc");
+        file.write(out -> out.writeUTF("previous"));
+        try {
+            file.write(out -> {
+                out.writeUTF("partial");
+                throw new IOException();
+            });
+            Assert.fail();
+        } catch (IOException expected) {
+        }
+        Assert.assertFalse(new File(file.getFile().getPath() + ".tmp").exists());
+        Assert.assertTrue(file.read(in -> "previous".equals(in.readUTF())));
+    }
+}
@@ -107,7 +107,7 @@ public abstract class EJBComponent extends BasicComponent implements ServerActiv
     private final String policyContextID;
     private final EJBRemoteTransactionsRepository ejbRemoteTransactionsRepository;
 
-    private final InvocationMetrics invocationMetrics = new InvocationMetrics();
+    private final InvocationMetrics invocationMetrics;
     private final ShutDownInterceptorFactory shutDownInterceptorFactory;
     private final TransactionManager transactionManager;
     private final TransactionSynchronizationRegistry transactionSynchronizationRegistry;
@@ -135,6 +135,7 @@ public abstract class EJBComponent extends BasicComponent implements ServerActiv
     protected EJBComponent(final EJBComponentCreateService ejbComponentCreateService) {
         super(ejbComponentCreateService);
 
+        this.invocationMetrics = new InvocationMetrics(ejbComponentCreateService.getOverloadedViewMethodNames());
 
         this.applicationExceptions = Collections.unmodifiableMap(ejbComponentCreateService.getApplicationExceptions().getApplicationExceptions());
 
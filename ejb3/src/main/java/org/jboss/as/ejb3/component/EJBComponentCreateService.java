@@ -31,6 +31,7 @@ import javax.transaction.UserTransaction;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -47,6 +48,7 @@ import org.jboss.as.ee.component.ComponentConfiguration;
 import org.jboss.as.ee.component.ViewConfiguration;
 import org.jboss.as.ee.component.ViewDescription;
 import org.jboss.as.ejb3.component.interceptors.ShutDownInterceptorFactory;
+import org.jboss.as.ejb3.component.invocationmetrics.InvocationMetrics;
 import org.jboss.as.ejb3.component.messagedriven.MessageDrivenComponentDescription;
 import org.jboss.as.ejb3.deployment.ApplicationExceptions;
 import org.jboss.as.ejb3.remote.EJBRemoteTransactionsRepository;
@@ -90,6 +92,8 @@ public class EJBComponentCreateService extends BasicComponentCreateService {
 
     private final Method timeoutMethod;
 
+    private final Set<String> overloadedViewMethodNames;
+
     private final ServiceName ejbLocalHome;
     private final ServiceName ejbHome;
     private final ServiceName ejbObject;
@@ -156,6 +160,7 @@ public class EJBComponentCreateService extends BasicComponentCreateService {
             timeoutInterceptors = Collections.emptyMap();
         }
 
+        final List<Method> viewMethods = new ArrayList<Method>();
         List<ViewConfiguration> views = componentConfiguration.getViews();
         if (views != null) {
             for (ViewConfiguration view : views) {
@@ -166,6 +171,7 @@ public class EJBComponentCreateService extends BasicComponentCreateService {
                     // TODO: proxy factory exposes non-public methods, is this a bug in the no-interface view?
                     if (!Modifier.isPublic(method.getModifiers()))
                         continue;
+                    viewMethods.add(method);
                     final Method componentMethod = getComponentMethod(componentConfiguration, method.getName(), method.getParameterTypes());
                     if (componentMethod != null) {
                         this.processTxAttr(ejbComponentDescription, viewType, componentMethod);
@@ -176,6 +182,8 @@ public class EJBComponentCreateService extends BasicComponentCreateService {
             }
         }
 
+        this.overloadedViewMethodNames = InvocationMetrics.getOverloadedMethodNames(viewMethods);
+
         this.timeoutMethod = ejbComponentDescription.getTimeoutMethod();
 
         // FIXME: TODO: a temporary measure until EJBTHREE-2120 is fully resolved, let's create tx attribute map
@@ -322,6 +330,10 @@ public class EJBComponentCreateService extends BasicComponentCreateService {
         return timeoutMethod;
     }
 
+    Set<String> getOverloadedViewMethodNames() {
+        return overloadedViewMethodNames;
+    }
+
     public ServiceName getEjbHome() {
         return ejbHome;
     }
@@ -25,9 +25,9 @@ package org.jboss.as.ejb3.component.interceptors;
 import java.util.Collections;
 import java.util.List;
 
+import org.jboss.as.ee.component.interceptors.FusibleInterceptor;
 import org.jboss.as.server.deployment.SetupAction;
 import org.jboss.invocation.ImmediateInterceptorFactory;
-import org.jboss.invocation.Interceptor;
 import org.jboss.invocation.InterceptorContext;
 import org.jboss.invocation.InterceptorFactory;
 
@@ -37,7 +37,7 @@ import org.jboss.invocation.InterceptorFactory;
  *
  * @author Stuart Douglas
  */
-public class AdditionalSetupInterceptor implements Interceptor {
+public class AdditionalSetupInterceptor implements FusibleInterceptor {
 
     private final SetupAction[] actions;
 
@@ -46,26 +46,32 @@ public class AdditionalSetupInterceptor implements Interceptor {
     }
 
     @Override
-    public Object processInvocation(final InterceptorContext context) throws Exception {
+    public void before(final InterceptorContext context) {
         try {
             for (int i = 0; i < actions.length; ++i) {
                 actions[i].setup(Collections.<String, Object>emptyMap());
             }
-            return context.proceed();
-        } finally {
-            Throwable error = null;
-            for (int i = actions.length - 1; i >=0; --i) {
-                SetupAction action = actions[i];
-                try {
-                    action.teardown(Collections.<String, Object>emptyMap());
-                } catch (Throwable e) {
-                    error = e;
-                }
-            }
-            if (error != null) {
-                throw new RuntimeException(error);
+        } catch (Throwable t) {
+            // all the actions are torn down, like the invocation would
+            after(context);
+            throw t;
+        }
+    }
+
+    @Override
+    public void after(final InterceptorContext context) {
+        Throwable error = null;
+        for (int i = actions.length - 1; i >=0; --i) {
+            SetupAction action = actions[i];
+            try {
+                action.teardown(Collections.<String, Object>emptyMap());
+            } catch (Throwable e) {
+                error = e;
             }
         }
+        if (error != null) {
+            throw new RuntimeException(error);
+        }
     }
 
     public static InterceptorFactory factory(final List<SetupAction> actions) {
@@ -21,27 +21,26 @@
  */
 package org.jboss.as.ejb3.component.interceptors;
 
+import org.jboss.as.ee.component.interceptors.FusibleInterceptor;
 import org.jboss.as.ejb3.context.CurrentInvocationContext;
 import org.jboss.invocation.ImmediateInterceptorFactory;
-import org.jboss.invocation.Interceptor;
 import org.jboss.invocation.InterceptorContext;
 import org.jboss.invocation.InterceptorFactory;
 
 /**
  * @author <a href="mailto:cdewolf@redhat.com">Carlo de Wolf</a>
  */
-public class CurrentInvocationContextInterceptor implements Interceptor {
+public class CurrentInvocationContextInterceptor implements FusibleInterceptor {
 
     public static final InterceptorFactory FACTORY = new ImmediateInterceptorFactory(new CurrentInvocationContextInterceptor());
 
     @Override
-    public Object processInvocation(InterceptorContext context) throws Exception {
+    public void before(InterceptorContext context) {
         CurrentInvocationContext.push(context);
-        try {
-            return context.proceed();
-        } finally {
-            CurrentInvocationContext.pop();
-        }
     }
 
+    @Override
+    public void after(InterceptorContext context) {
+        CurrentInvocationContext.pop();
+    }
 }
@@ -22,33 +22,41 @@
 package org.jboss.as.ejb3.component.invocationmetrics;
 
 import java.lang.reflect.Method;
-import java.util.AbstractMap;
-import java.util.AbstractSet;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.as.ee.metrics.LatencyHistogram;
 
 /**
+ * Invocation statistics of an EJB component.
+ * <p/>
+ * Recording an invocation doesn't allocate and doesn't contend on a single memory location: the counters are
+ * {@link LongAdder}s (striped cells that are only summed when read) and the wait and execution times are
+ * kept in {@link LatencyHistogram}s, from which percentiles are estimated.
+ *
  * @author <a href="mailto:cdewolf@redhat.com">Carlo de Wolf</a>
  */
 public class InvocationMetrics {
     public static class Values {
         final long invocations;
-        final long executionTime;
-        final long waitTime;
+        final LatencyHistogram.Snapshot executionTime;
+        final LatencyHistogram.Snapshot waitTime;
 
-        private Values(final long invocations, final long waitTime, final long executionTime) {
+        private Values(final long invocations, final LatencyHistogram.Snapshot waitTime, final LatencyHistogram.Snapshot executionTime) {
             this.invocations = invocations;
             this.executionTime = executionTime;
             this.waitTime = waitTime;
         }
 
         public long getExecutionTime() {
-            return executionTime;
+            return executionTime.getTotal();
         }
 
         public long getInvocations() {
@@ -56,42 +64,72 @@ public class InvocationMetrics {
         }
 
         public long getWaitTime() {
-            return waitTime;
+            return waitTime.getTotal();
+        }
+
+        /**
+         * @param percentile the percentile, between 0 and 100
+         * @return the estimated execution time percentile in milliseconds
+         */
+        public long getExecutionTimePercentile(final double percentile) {
+            return executionTime.getPercentile(percentile);
+        }
+
+        /**
+         * @param percentile the percentile, between 0 and 100
+         * @return the estimated wait time percentile in milliseconds
+         */
+        public long getWaitTimePercentile(final double percentile) {
+            return waitTime.getPercentile(percentile);
+        }
+    }
+
+    /**
+     * Accumulates the invocations of the component or of a single method, times are in milliseconds.
+     */
+    private static class Accumulator {
+        final LongAdder invocations = new LongAdder();
+        final LatencyHistogram executionTime = new LatencyHistogram();
+        final LatencyHistogram waitTime = new LatencyHistogram();
+
+        void record(final long invocationWaitTime, final long invocationExecutionTime) {
+            invocations.increment();
+            waitTime.record(invocationWaitTime);
+            executionTime.record(invocationExecutionTime);
+        }
+
+        Values values() {
+            return new Values(invocations.sum(), waitTime.snapshot(), executionTime.snapshot());
         }
     }
 
-    private final AtomicReference<Values> values = new AtomicReference<Values>(new Values(0, 0, 0));
+    private final Accumulator values = new Accumulator();
     private final AtomicLong concurrent = new AtomicLong(0);
     private final AtomicLong peakConcurrent = new AtomicLong(0);
 
-    private final ConcurrentMap<String, AtomicReference<Values>> methods = new ConcurrentHashMap<String, AtomicReference<Values>>();
+    private final ConcurrentMap<Method, Accumulator> methods = new ConcurrentHashMap<Method, Accumulator>();
+    private final Set<String> overloadedMethodNames;
 
-    void finishInvocation(final Method method, final long invocationWaitTime, final long invocationExecutionTime) {
-        concurrent.decrementAndGet();
-        for(;;) {
-            final Values oldv = values.get();
-            final Values newv = new Values(oldv.invocations + 1, oldv.waitTime + invocationWaitTime, oldv.executionTime + invocationExecutionTime);
-            if (values.compareAndSet(oldv, newv))
-                break;
-        }
-        final AtomicReference<Values> methodValues = ref(methods, method.getName());
-        for (;;) {
-            final Values oldv = methodValues.get();
-            final Values newv = new Values(oldv.invocations + 1, oldv.waitTime + invocationWaitTime, oldv.executionTime + invocationExecutionTime);
-            if (methodValues.compareAndSet(oldv, newv))
-                break;
-        }
+    public InvocationMetrics() {
+        this(Collections.<String>emptySet());
+    }
+
+    /**
+     * @param overloadedMethodNames the names of the overloaded methods of the component views, see
+     *                              {@link #getOverloadedMethodNames(Iterable)}
+     */
+    public InvocationMetrics(final Set<String> overloadedMethodNames) {
+        this.overloadedMethodNames = overloadedMethodNames;
     }
 
-    private static AtomicReference<Values> ref(final ConcurrentMap<String, AtomicReference<Values>> map, final String key) {
-        AtomicReference<Values> ref = map.get(key);
-        if (ref == null) {
-            ref = new AtomicReference<Values>(new Values(0, 0, 0));
-            final AtomicReference<Values> prevRef = map.putIfAbsent(key, ref);
-            if (prevRef != null)
-                ref = prevRef;
+    void finishInvocation(final Method method, final long invocationWaitTime, final long invocationExecutionTime) {
+        concurrent.decrementAndGet();
+        values.record(invocationWaitTime, invocationExecutionTime);
+        Accumulator methodValues = methods.get(method);
+        if (methodValues == null) {
+            methodValues = methods.computeIfAbsent(method, m -> new Accumulator());
         }
-        return ref;
+        methodValues.record(invocationWaitTime, invocationExecutionTime);
     }
 
     public long getConcurrent() {
@@ -99,62 +137,68 @@ public class InvocationMetrics {
     }
 
     public long getExecutionTime() {
-        return values.get().executionTime;
+        return values.executionTime.getTotal();
     }
 
     public long getInvocations() {
-        return values.get().invocations;
+        return values.invocations.sum();
+    }
+
+    /**
+     * Get a snapshot of the invocation metrics of the component, including the time histograms.
+     */
+    public Values getValues() {
+        return values.values();
     }
 
+    /**
+     * Get a snapshot of the invocation metrics per method. Methods are keyed by name, unless the name is overloaded
+     * in the component views, then they are keyed by their signature (e.g. {@code echo(java.lang.String)}).
+     * Methods with the same signature declared by several view interfaces are reported together.
+     */
     public Map<String, Values> getMethods() {
-        return new AbstractMap<String, Values>() {
-            @Override
-            public Set<Entry<String, Values>> entrySet() {
-                return new AbstractSet<Entry<String, Values>>() {
-                    @Override
-                    public Iterator<Entry<String, Values>> iterator() {
-                        final Iterator<Entry<String, AtomicReference<Values>>> delegate = methods.entrySet().iterator();
-                        return new Iterator<Entry<String, Values>>() {
-                            @Override
-                            public boolean hasNext() {
-                                return delegate.hasNext();
-                            }
-
-                            @Override
-                            public Entry<String, Values> next() {
-                                final Entry<String, AtomicReference<Values>> next = delegate.next();
-                                return new Entry<String, Values>() {
-                                    @Override
-                                    public String getKey() {
-                                        return next.getKey();
-                                    }
-
-                                    @Override
-                                    public Values getValue() {
-                                        return next.getValue().get();
-                                    }
-
-                                    @Override
-                                    public Values setValue(final Values value) {
-                                        throw new UnsupportedOperationException("NYI");
-                                    }
-                                };
-                            }
-
-                            @Override
-                            public void remove() {
-                                throw new UnsupportedOperationException("NYI");
-                            }
-                        };
-                    }
-
-                    @Override
-                    public int size() {
-                        return methods.size();
-                    }
-                };
+        final Map<String, Values> result = new HashMap<String, Values>();
+        for (Map.Entry<Method, Accumulator> entry : methods.entrySet()) {
+            final Method method = entry.getKey();
+            final String key = overloadedMethodNames.contains(method.getName()) ? signature(method) : method.getName();
+            result.merge(key, entry.getValue().values(), InvocationMetrics::sum);
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Get the names of the overloaded methods, the methods with these names are reported by signature.
+     *
+     * @param methods the methods of the component views
+     * @return the names shared by methods with different signatures
+     */
+    public static Set<String> getOverloadedMethodNames(final Iterable<Method> methods) {
+        final Map<String, String> signaturePerName = new HashMap<String, String>();
+        final Set<String> result = new HashSet<String>();
+        for (Method method : methods) {
+            final String signature = signature(method);
+            final String previous = signaturePerName.putIfAbsent(method.getName(), signature);
+            if (previous != null && !previous.equals(signature)) {
+                result.add(method.getName());
             }
-        };
+        }
+        return result;
+    }
+
+    private static String signature(final Method method) {
+        final StringBuilder signature = new StringBuilder(method.getName()).append('(');
+        final Class<?>[] parameterTypes = method.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (i > 0) {
+                signature.append(',');
+            }
+            signature.append(parameterTypes[i].getName());
+        }
+        return signature.append(')').toString();
+    }
+
+    private static Values sum(final Values v1, final Values v2) {
+        return new Values(v1.invocations + v2.invocations, v1.waitTime.merge(v2.waitTime), v1.executionTime.merge(v2.executionTime));
     }
 
     public long getPeakConcurrent() {
@@ -162,13 +206,15 @@ public class InvocationMetrics {
     }
 
     public long getWaitTime() {
-        return values.get().waitTime;
+        return values.waitTime.getTotal();
     }
 
     void startInvocation() {
         final long v = concurrent.incrementAndGet();
         // concurrent might decrement here, but we take that missing peak for granted.
-        if (peakConcurrent.get() < v)
-            peakConcurrent.incrementAndGet();
+        long peak = peakConcurrent.get();
+        while (peak < v && !peakConcurrent.compareAndSet(peak, v)) {
+            peak = peakConcurrent.get();
+        }
     }
 }
@@ -21,6 +21,7 @@
  */
 package org.jboss.as.ejb3.component.invocationmetrics;
 
+import org.jboss.as.ee.component.interceptors.FusibleInterceptor;
 import org.jboss.as.ejb3.component.EJBComponent;
 import org.jboss.as.ejb3.component.interceptors.AbstractEJBInterceptor;
 import org.jboss.invocation.ImmediateInterceptorFactory;
@@ -30,7 +31,7 @@ import org.jboss.invocation.InterceptorFactory;
 /**
  * @author <a href="mailto:cdewolf@redhat.com">Carlo de Wolf</a>
  */
-public class WaitTimeInterceptor extends AbstractEJBInterceptor {
+public class WaitTimeInterceptor extends AbstractEJBInterceptor implements FusibleInterceptor {
     public static final InterceptorFactory FACTORY = new ImmediateInterceptorFactory(new WaitTimeInterceptor());
 
     static final Object START_WAIT_TIME = new Object();
@@ -39,11 +40,20 @@ public class WaitTimeInterceptor extends AbstractEJBInterceptor {
     }
 
     @Override
-    public Object processInvocation(final InterceptorContext context) throws Exception {
+    public void before(final InterceptorContext context) {
         final EJBComponent component = getComponent(context, EJBComponent.class);
         if (component.isStatisticsEnabled()) {
             context.putPrivateData(START_WAIT_TIME, System.currentTimeMillis());
         }
+    }
+
+    @Override
+    public void after(final InterceptorContext context) {
+    }
+
+    @Override
+    public Object processInvocation(final InterceptorContext context) throws Exception {
+        before(context);
         return context.proceed();
     }
 }
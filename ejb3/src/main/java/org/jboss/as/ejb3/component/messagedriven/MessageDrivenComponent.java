@@ -22,7 +22,10 @@
 package org.jboss.as.ejb3.component.messagedriven;
 
 import java.lang.reflect.Method;
+import java.security.PrivilegedAction;
 import java.util.Map;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
 import javax.ejb.TransactionAttributeType;
@@ -37,6 +40,7 @@ import org.jboss.as.ejb3.component.EJBComponent;
 import org.jboss.as.ejb3.component.allowedmethods.AllowedMethodsInformation;
 import org.jboss.as.ejb3.component.pool.PoolConfig;
 import org.jboss.as.ejb3.component.pool.PooledComponent;
+import org.jboss.as.ejb3.inflow.DeliveryBatching;
 import org.jboss.as.ejb3.inflow.JBossMessageEndpointFactory;
 import org.jboss.as.ejb3.inflow.MessageEndpointService;
 import org.jboss.as.ejb3.pool.Pool;
@@ -48,6 +52,7 @@ import org.wildfly.security.manager.action.GetClassLoaderAction;
 import org.jboss.invocation.Interceptor;
 import org.jboss.jca.core.spi.rar.Endpoint;
 import org.jboss.msc.service.ServiceName;
+import org.jboss.threads.JBossThreadFactory;
 import org.wildfly.security.manager.WildFlySecurityManager;
 
 import static java.security.AccessController.doPrivileged;
@@ -62,6 +67,12 @@ import static org.jboss.as.ejb3.component.MethodIntf.MESSAGE_ENDPOINT;
  */
 public class MessageDrivenComponent extends EJBComponent implements PooledComponent<MessageDrivenComponentInstance> {
 
+    private static final ThreadFactory DELIVERY_BATCH_THREAD_FACTORY = doPrivileged(new PrivilegedAction<JBossThreadFactory>() {
+        public JBossThreadFactory run() {
+            return new JBossThreadFactory(new ThreadGroup("MDB delivery batch timer"), Boolean.TRUE, null, "%G - %t", null, null);
+        }
+    });
+
     private final Pool<MessageDrivenComponentInstance> pool;
     private final String poolName;
 
@@ -74,6 +85,8 @@ public class MessageDrivenComponent extends EJBComponent implements PooledCompon
     private final ServiceName deliveryControllerName;
     private Endpoint endpoint;
     private String activationName;
+    private final DeliveryBatching deliveryBatching;
+    private final ScheduledThreadPoolExecutor deliveryBatchTimer;
 
     /**
      * Server activity that stops delivery before suspend starts.
@@ -139,6 +152,17 @@ public class MessageDrivenComponent extends EJBComponent implements PooledCompon
             this.pool = poolConfig.createPool(factory);
             this.poolName = poolConfig.getPoolName();
         }
+        if (ejbComponentCreateService.getDeliveryBatchSize() > 1) {
+            ROOT_LOGGER.debugf("Using delivery batches of up to %d messages (timeout %d ms) for MDB %s", ejbComponentCreateService.getDeliveryBatchSize(),
+                    ejbComponentCreateService.getDeliveryBatchTimeout(), ejbComponentCreateService.getComponentName());
+            this.deliveryBatchTimer = new ScheduledThreadPoolExecutor(1, DELIVERY_BATCH_THREAD_FACTORY);
+            this.deliveryBatchTimer.setRemoveOnCancelPolicy(true);
+            this.deliveryBatching = new DeliveryBatching(ejbComponentCreateService.getDeliveryBatchSize(),
+                    ejbComponentCreateService.getDeliveryBatchTimeout(), deliveryBatchTimer);
+        } else {
+            this.deliveryBatchTimer = null;
+            this.deliveryBatching = null;
+        }
         this.classLoader = ejbComponentCreateService.getModuleClassLoader();
         this.suspendController = ejbComponentCreateService.getSuspendControllerInjectedValue().getValue();
         this.activationSpec = activationSpec;
@@ -193,6 +217,11 @@ public class MessageDrivenComponent extends EJBComponent implements PooledCompon
             public ClassLoader getClassLoader() {
                 return componentClassLoader;
             }
+
+            @Override
+            public DeliveryBatching getDeliveryBatching() {
+                return deliveryBatching;
+            }
         };
         this.endpointFactory = new JBossMessageEndpointFactory(componentClassLoader, service, (Class<Object>) getComponentClass(), messageListenerInterface);
         this.started = false;
@@ -253,6 +282,10 @@ public class MessageDrivenComponent extends EJBComponent implements PooledCompon
         if (this.pool != null) {
             this.pool.stop();
         }
+        if (this.deliveryBatchTimer != null) {
+            // open batches were completed when the endpoints were released on deactivation
+            this.deliveryBatchTimer.shutdownNow();
+        }
 
         suspendController.unRegisterActivity(serverActivity);
         super.done();
@@ -311,6 +344,13 @@ public class MessageDrivenComponent extends EJBComponent implements PooledCompon
         return deliveryActive;
     }
 
+    /**
+     * @return the transaction batching of the deliveries or null if batching is not enabled for this MDB
+     */
+    public DeliveryBatching getDeliveryBatching() {
+        return deliveryBatching;
+    }
+
     public boolean isDeliveryControlled() {
         return deliveryControllerName != null;
     }
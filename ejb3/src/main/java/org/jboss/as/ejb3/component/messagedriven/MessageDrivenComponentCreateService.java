@@ -35,6 +35,7 @@ import org.jboss.as.ejb3.component.EJBComponentCreateService;
 import org.jboss.as.ejb3.component.EJBUtilities;
 import org.jboss.as.ejb3.component.pool.PoolConfig;
 import org.jboss.as.ejb3.deployment.ApplicationExceptions;
+import org.jboss.as.ejb3.inflow.DeliveryBatching;
 import org.jboss.as.ejb3.inflow.EndpointDeployer;
 import org.jboss.as.server.suspend.SuspendController;
 import org.jboss.jca.core.spi.rar.Endpoint;
@@ -51,6 +52,8 @@ public class MessageDrivenComponentCreateService extends EJBComponentCreateServi
 
     private final Class<?> messageListenerInterface;
     private final Properties activationProps;
+    private final int deliveryBatchSize;
+    private final long deliveryBatchTimeout;
     private final String resourceAdapterName;
     private final boolean deliveryActive;
     private final ServiceName deliveryControllerName;
@@ -76,7 +79,13 @@ public class MessageDrivenComponentCreateService extends EJBComponentCreateServi
         // see MessageDrivenComponentDescription.<init>
         this.messageListenerInterface = messageListenerInterface;
 
-        this.activationProps = componentDescription.getActivationProps();
+        // the delivery batching properties are handled by the container, they aren't passed to the resource adapter
+        final Properties activationProps = (Properties) componentDescription.getActivationProps().clone();
+        final Object batchSize = activationProps.remove(DeliveryBatching.DELIVERY_BATCH_SIZE);
+        final Object batchTimeout = activationProps.remove(DeliveryBatching.DELIVERY_BATCH_TIMEOUT);
+        this.deliveryBatchSize = DeliveryBatching.parseSize(batchSize, componentConfiguration.getComponentName());
+        this.deliveryBatchTimeout = DeliveryBatching.parseTimeout(batchTimeout, componentConfiguration.getComponentName());
+        this.activationProps = activationProps;
         this.moduleClassLoader = componentConfiguration.getModuleClassLoader();
     }
 
@@ -134,6 +143,14 @@ public class MessageDrivenComponentCreateService extends EJBComponentCreateServi
         return defaultResourceAdapterServiceInjectedValue;
     }
 
+    int getDeliveryBatchSize() {
+        return deliveryBatchSize;
+    }
+
+    long getDeliveryBatchTimeout() {
+        return deliveryBatchTimeout;
+    }
+
     PoolConfig getPoolConfig() {
         return this.poolConfig.getOptionalValue();
     }
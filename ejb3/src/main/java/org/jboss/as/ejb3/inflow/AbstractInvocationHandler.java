@@ -69,7 +69,20 @@ abstract class AbstractInvocationHandler implements InvocationHandler {
     @Override
     public final Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
         if (method.getDeclaringClass().equals(Object.class))
-            return handle(method, args);
+            return handleObjectMethod(method, args);
         return doInvoke(proxy, method, args);
     }
+
+    private Object handleObjectMethod(Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "equals":
+                return equals(args[0]);
+            case "hashCode":
+                return hashCode();
+            case "toString":
+                return toString();
+            default:
+                return handle(method, args);
+        }
+    }
 }
@@ -0,0 +1,199 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright (c) 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ejb3.inflow;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.as.ejb3.logging.EjbLogger;
+
+/**
+ * Transaction batching of the deliveries to a message endpoint.
+ * <p/>
+ * When batching is enabled, the transaction started for a transacted delivery isn't committed after the delivery,
+ * it is suspended and resumed for the next deliveries to the same endpoint, until {@link #getSize()} deliveries
+ * were done or the batch is {@link #getTimeout()} milliseconds old. A batch that doesn't reach its size is completed
+ * by a timer when it times out, or by the delivery that is using it at that time. Deliveries and the timer are
+ * serialized on the endpoint, so the transaction of a batch is never used by two threads at once. If a delivery marks
+ * the transaction for rollback, all the deliveries of the batch are rolled back.
+ * <p/>
+ * Batching is enabled with the {@link #DELIVERY_BATCH_SIZE} and {@link #DELIVERY_BATCH_TIMEOUT} activation config
+ * properties of the message-driven bean.
+ */
+public class DeliveryBatching {
+
+    /**
+     * Activation config property for the maximum number of deliveries committed in a single transaction.
+     */
+    public static final String DELIVERY_BATCH_SIZE = "wildfly.mdb.deliveryBatchSize";
+
+    /**
+     * Activation config property for the maximum time (in milliseconds) a batch of deliveries stays uncommitted.
+     */
+    public static final String DELIVERY_BATCH_TIMEOUT = "wildfly.mdb.deliveryBatchTimeout";
+
+    public static final int DEFAULT_DELIVERY_BATCH_SIZE = 1;
+
+    public static final long DEFAULT_DELIVERY_BATCH_TIMEOUT = 100;
+
+    private final int size;
+    private final long timeout;
+    private final ScheduledExecutorService timer;
+
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder deliveries = new LongAdder();
+    private final LongAdder rollbacks = new LongAdder();
+    private final LongAdder commitTime = new LongAdder();
+    private final AtomicLong maxSize = new AtomicLong();
+    private final AtomicLong maxCommitTime = new AtomicLong();
+
+    public DeliveryBatching(final int size, final long timeout, final ScheduledExecutorService timer) {
+        this.size = size;
+        this.timeout = timeout;
+        this.timer = timer;
+    }
+
+    /**
+     * Parses the value of the {@link #DELIVERY_BATCH_SIZE} activation config property.
+     *
+     * @param value         the property value, may be null
+     * @param componentName the name of the message-driven bean
+     * @return the batch size, or {@link #DEFAULT_DELIVERY_BATCH_SIZE} if the value is not set or not a positive integer
+     */
+    public static int parseSize(final Object value, final String componentName) {
+        if (value != null) {
+            try {
+                final int size = Integer.parseInt(value.toString().trim());
+                if (size > 0) {
+                    return size;
+                }
+            } catch (NumberFormatException ignored) {
+            }
+            EjbLogger.ROOT_LOGGER.invalidDeliveryBatchProperty(value, DELIVERY_BATCH_SIZE, componentName, DEFAULT_DELIVERY_BATCH_SIZE);
+        }
+        return DEFAULT_DELIVERY_BATCH_SIZE;
+    }
+
+    /**
+     * Parses the value of the {@link #DELIVERY_BATCH_TIMEOUT} activation config property.
+     *
+     * @param value         the property value, may be null
+     * @param componentName the name of the message-driven bean
+     * @return the batch timeout, or {@link #DEFAULT_DELIVERY_BATCH_TIMEOUT} if the value is not set or not a positive integer
+     */
+    public static long parseTimeout(final Object value, final String componentName) {
+        if (value != null) {
+            try {
+                final long timeout = Long.parseLong(value.toString().trim());
+                if (timeout > 0) {
+                    return timeout;
+                }
+            } catch (NumberFormatException ignored) {
+            }
+            EjbLogger.ROOT_LOGGER.invalidDeliveryBatchProperty(value, DELIVERY_BATCH_TIMEOUT, componentName, DEFAULT_DELIVERY_BATCH_TIMEOUT);
+        }
+        return DEFAULT_DELIVERY_BATCH_TIMEOUT;
+    }
+
+    /**
+     * @return the maximum number of deliveries committed in a single transaction
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return the maximum time (in milliseconds) a batch of deliveries stays uncommitted
+     */
+    public long getTimeout() {
+        return timeout;
+    }
+
+    ScheduledFuture<?> schedule(final Runnable task, final long delay) {
+        return timer.schedule(task, delay, TimeUnit.MILLISECONDS);
+    }
+
+    void recordCommit(final int batchSize, final long time) {
+        record(batchSize);
+        commitTime.add(time);
+        max(maxCommitTime, time);
+    }
+
+    void recordRollback(final int batchSize) {
+        record(batchSize);
+        rollbacks.increment();
+    }
+
+    private void record(final int batchSize) {
+        batches.increment();
+        deliveries.add(batchSize);
+        max(maxSize, batchSize);
+    }
+
+    private static void max(final AtomicLong max, final long value) {
+        long current = max.get();
+        while (value > current && !max.compareAndSet(current, value)) {
+            current = max.get();
+        }
+    }
+
+    /**
+     * @return the number of completed batches
+     */
+    public long getBatches() {
+        return batches.sum();
+    }
+
+    /**
+     * @return the number of rolled back batches
+     */
+    public long getRollbacks() {
+        return rollbacks.sum();
+    }
+
+    public long getAverageSize() {
+        final long count = batches.sum();
+        return count == 0 ? 0 : deliveries.sum() / count;
+    }
+
+    public long getMaxSize() {
+        return maxSize.get();
+    }
+
+    /**
+     * @return the average time (in milliseconds) taken to commit a batch
+     */
+    public long getAverageCommitTime() {
+        final long count = batches.sum() - rollbacks.sum();
+        return count <= 0 ? 0 : commitTime.sum() / count;
+    }
+
+    /**
+     * @return the longest time (in milliseconds) taken to commit a batch
+     */
+    public long getMaxCommitTime() {
+        return maxCommitTime.get();
+    }
+}
@@ -43,6 +43,7 @@ public class JBossMessageEndpointFactory implements MessageEndpointFactory {
     private final MessageEndpointService<?> service;
     private final ProxyFactory<Object> factory;
     private final Class<?> endpointClass;
+    private final MessageEndpointDispatcher dispatcher;
 
     public JBossMessageEndpointFactory(final ClassLoader classLoader, final MessageEndpointService<?> service, final Class<Object> ejbClass, final Class<?> messageListenerInterface) {
         // todo: generics bug; only Object.class is a Class<Object>.  Everything else is Class<? extends Object> aka Class<?>
@@ -56,6 +57,7 @@ public class JBossMessageEndpointFactory implements MessageEndpointFactory {
                 .addAdditionalInterface(messageListenerInterface);
         this.factory = new ProxyFactory<Object>(configuration);
         this.endpointClass = ejbClass;
+        this.dispatcher = new MessageEndpointDispatcher(messageListenerInterface);
     }
 
     @Override
@@ -66,7 +68,7 @@ public class JBossMessageEndpointFactory implements MessageEndpointFactory {
     @Override
     public MessageEndpoint createEndpoint(XAResource xaResource, long timeout) throws UnavailableException {
         Object delegate = service.obtain(timeout, MILLISECONDS);
-        MessageEndpointInvocationHandler handler = new MessageEndpointInvocationHandler(service, delegate, xaResource);
+        MessageEndpointInvocationHandler handler = new MessageEndpointInvocationHandler(service, delegate, xaResource, dispatcher);
         // New instance creation leads to component initialization which needs to have the TCCL that corresponds to the
         // component classloader. @see https://issues.jboss.org/browse/WFLY-3989
         final ClassLoader oldTCCL = WildFlySecurityManager.getCurrentContextClassLoaderPrivileged();
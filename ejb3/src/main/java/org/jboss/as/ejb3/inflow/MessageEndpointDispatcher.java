@@ -0,0 +1,86 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright (c) 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ejb3.inflow;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Dispatches the message listener invocations of the endpoints created by a {@link JBossMessageEndpointFactory}
+ * to their delegate.
+ * <p/>
+ * The message listener methods are resolved once per factory to {@link MethodHandle}s adapted to the
+ * {@code (Object, Object[])Object} shape, so a delivery doesn't go through {@link Method#invoke}.
+ * Methods that can't be looked up (e.g. non public bean methods) are invoked reflectively.
+ */
+final class MessageEndpointDispatcher {
+
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+    private static final Object[] NO_ARGS = new Object[0];
+
+    private final ConcurrentMap<Method, MethodHandle> invokers = new ConcurrentHashMap<>();
+
+    MessageEndpointDispatcher(final Class<?> messageListenerInterface) {
+        for (Method method : messageListenerInterface.getMethods()) {
+            final MethodHandle invoker = createInvoker(method);
+            if (invoker != null) {
+                invokers.put(method, invoker);
+            }
+        }
+    }
+
+    Object invoke(final Object delegate, final Method method, final Object[] args) throws Throwable {
+        MethodHandle invoker = invokers.get(method);
+        if (invoker == null) {
+            invoker = createInvoker(method);
+            if (invoker == null) {
+                try {
+                    return method.invoke(delegate, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            }
+            invokers.putIfAbsent(method, invoker);
+        }
+        final Object[] arguments = args == null ? NO_ARGS : args;
+        return invoker.invokeExact(delegate, arguments);
+    }
+
+    private static MethodHandle createInvoker(final Method method) {
+        if (!Modifier.isPublic(method.getModifiers()) || !Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+            return null;
+        }
+        try {
+            return MethodHandles.publicLookup().unreflect(method)
+                    .asSpreader(Object[].class, method.getParameterCount())
+                    .asType(INVOKER_TYPE);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+}
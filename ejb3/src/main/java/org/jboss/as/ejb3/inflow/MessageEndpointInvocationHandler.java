@@ -34,8 +34,8 @@ import javax.transaction.SystemException;
 import javax.transaction.Transaction;
 import javax.transaction.TransactionManager;
 import javax.transaction.xa.XAResource;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.jboss.as.ejb3.logging.EjbLogger;
@@ -48,16 +48,20 @@ public class MessageEndpointInvocationHandler extends AbstractInvocationHandler
     private final MessageEndpointService service;
     private final Object delegate;
     private final XAResource xaRes;
+    private final MessageEndpointDispatcher dispatcher;
     private final AtomicBoolean released = new AtomicBoolean(false);
 
     private Transaction currentTx;
     private ClassLoader previousClassLoader;
     private Transaction previousTx;
+    // the open batch of deliveries, guarded by this
+    private Batch batch;
 
-    MessageEndpointInvocationHandler(final MessageEndpointService service, final Object delegate, final XAResource xaResource) {
+    MessageEndpointInvocationHandler(final MessageEndpointService service, final Object delegate, final XAResource xaResource, final MessageEndpointDispatcher dispatcher) {
         this.service = service;
         this.delegate = delegate;
         this.xaRes = xaResource;
+        this.dispatcher = dispatcher;
     }
 
     @Override
@@ -65,10 +69,22 @@ public class MessageEndpointInvocationHandler extends AbstractInvocationHandler
         final TransactionManager tm = getTransactionManager();
         try {
             if (currentTx != null) {
-                if (currentTx.getStatus() == Status.STATUS_MARKED_ROLLBACK)
-                    tm.rollback();
-                else
-                    tm.commit();
+                synchronized (this) {
+                    final Batch currentBatch = batch;
+                    if (currentBatch != null) {
+                        currentBatch.deliveries++;
+                    }
+                    final DeliveryBatching batching = service.getDeliveryBatching();
+                    if (currentBatch != null && currentTx.getStatus() == Status.STATUS_ACTIVE
+                            && currentBatch.deliveries < batching.getSize() && !currentBatch.isDue(batching)) {
+                        // keep the transaction open for the next deliveries
+                        tm.suspend();
+                        currentBatch.delivering = false;
+                    } else {
+                        batch = null;
+                        complete(tm, currentBatch, batching);
+                    }
+                }
                 currentTx = null;
             }
             if (previousTx != null) {
@@ -91,6 +107,69 @@ public class MessageEndpointInvocationHandler extends AbstractInvocationHandler
         }
     }
 
+    /**
+     * Commit or roll back the transaction associated with the current thread, which is the transaction of the batch
+     * if there is one.
+     */
+    private static void complete(final TransactionManager tm, final Batch batch, final DeliveryBatching batching) throws HeuristicMixedException, HeuristicRollbackException, RollbackException, SystemException {
+        if (batch != null) {
+            batch.cancelTimeout();
+        }
+        if (tm.getStatus() == Status.STATUS_MARKED_ROLLBACK) {
+            tm.rollback();
+            if (batch != null) {
+                batching.recordRollback(batch.deliveries);
+            }
+            return;
+        }
+        final long start = System.currentTimeMillis();
+        try {
+            tm.commit();
+        } catch (RollbackException e) {
+            if (batch != null) {
+                batching.recordRollback(batch.deliveries);
+            }
+            throw e;
+        }
+        if (batch != null) {
+            batching.recordCommit(batch.deliveries, System.currentTimeMillis() - start);
+        }
+    }
+
+    /**
+     * Complete a batch of deliveries that is not in use by a delivery. The caller holds the lock on this endpoint, so
+     * no delivery uses the transaction of the batch (and the XA resource of the endpoint, which isn't thread-safe)
+     * while it is completed.
+     */
+    private void completeBatch(final TransactionManager tm, final Batch openBatch) {
+        try {
+            tm.resume(openBatch.transaction);
+            complete(tm, openBatch, service.getDeliveryBatching());
+        } catch (Exception e) {
+            EjbLogger.ROOT_LOGGER.failedToCompleteDeliveryBatch(e, service.getActivationName());
+        }
+    }
+
+    /**
+     * Called by the batching timer when a batch times out. A batch that isn't in use by a delivery is completed on the
+     * timer thread, otherwise it is completed by the delivery using it.
+     */
+    private void batchTimedOut(final Batch timedOut) {
+        synchronized (this) {
+            timedOut.markDue();
+            if (batch != timedOut || timedOut.delivering) {
+                return;
+            }
+            batch = null;
+            final ClassLoader previous = WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(getApplicationClassLoader());
+            try {
+                completeBatch(getTransactionManager(), timedOut);
+            } finally {
+                WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(previous);
+            }
+        }
+    }
+
     @Override
     public void beforeDelivery(Method method) throws NoSuchMethodException, ResourceException {
         // JCA 1.6 FR 13.5.6
@@ -103,10 +182,31 @@ public class MessageEndpointInvocationHandler extends AbstractInvocationHandler
             previousTx = tm.suspend();
             boolean isTransacted = service.isDeliveryTransacted(method);
             if (isTransacted) {
-                tm.begin();
-                currentTx = tm.getTransaction();
-                if (xaRes != null)
-                    currentTx.enlistResource(xaRes);
+                synchronized (this) {
+                    final DeliveryBatching batching = service.getDeliveryBatching();
+                    if (batch != null && batch.isDue(batching)) {
+                        // the batch timed out but the timer didn't complete it yet, it is completed before the new delivery
+                        final Batch dueBatch = batch;
+                        batch = null;
+                        completeBatch(tm, dueBatch);
+                    }
+                    if (batch != null) {
+                        // continue the open batch of deliveries
+                        batch.delivering = true;
+                        tm.resume(batch.transaction);
+                        currentTx = batch.transaction;
+                    } else {
+                        tm.begin();
+                        currentTx = tm.getTransaction();
+                        if (xaRes != null)
+                            currentTx.enlistResource(xaRes);
+                        if (batching != null) {
+                            final Batch newBatch = new Batch(currentTx);
+                            newBatch.timeoutTask = batching.schedule(() -> batchTimedOut(newBatch), batching.getTimeout());
+                            batch = newBatch;
+                        }
+                    }
+                }
             }
         } catch (Throwable t) {
             throw new ApplicationServerInternalException(t);
@@ -132,14 +232,24 @@ public class MessageEndpointInvocationHandler extends AbstractInvocationHandler
         // TODO: check for concurrent invocation
 
         if (method.getDeclaringClass().equals(MessageEndpoint.class))
-            return handle(method, args);
+            return handleMessageEndpointMethod(method, args);
 
-        // TODO: Option A
-        try {
-            return method.invoke(delegate, args);
-        }
-        catch (InvocationTargetException e) {
-            throw e.getCause();
+        return dispatcher.invoke(delegate, method, args);
+    }
+
+    private Object handleMessageEndpointMethod(Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "beforeDelivery":
+                beforeDelivery((Method) args[0]);
+                return null;
+            case "afterDelivery":
+                afterDelivery();
+                return null;
+            case "release":
+                release();
+                return null;
+            default:
+                return handle(method, args);
         }
     }
 
@@ -163,6 +273,57 @@ public class MessageEndpointInvocationHandler extends AbstractInvocationHandler
 
         // TODO: tidy up outstanding delivery
 
+        synchronized (this) {
+            // the resource adapter doesn't release an endpoint during a delivery, so the open batch is completed
+            // by the last thread that delivered to the endpoint
+            final Batch openBatch = batch;
+            if (openBatch != null && !openBatch.delivering) {
+                batch = null;
+                final TransactionManager tm = getTransactionManager();
+                try {
+                    final Transaction suspended = tm.suspend();
+                    completeBatch(tm, openBatch);
+                    if (suspended != null) {
+                        tm.resume(suspended);
+                    }
+                } catch (Exception e) {
+                    EjbLogger.ROOT_LOGGER.failedToCompleteDeliveryBatch(e, service.getActivationName());
+                }
+            }
+        }
         service.release(delegate);
     }
+
+    /**
+     * A transaction shared by consecutive deliveries, see {@link DeliveryBatching}.
+     */
+    private static final class Batch {
+        final Transaction transaction;
+        final long start = System.currentTimeMillis();
+        int deliveries;
+        // true while the transaction is associated with a delivery
+        boolean delivering = true;
+        // set by the batching timer, a batch that times out during a delivery is completed by that delivery
+        volatile boolean due;
+        ScheduledFuture<?> timeoutTask;
+
+        Batch(final Transaction transaction) {
+            this.transaction = transaction;
+        }
+
+        void markDue() {
+            due = true;
+        }
+
+        boolean isDue(final DeliveryBatching batching) {
+            return due || System.currentTimeMillis() - start >= batching.getTimeout();
+        }
+
+        void cancelTimeout() {
+            if (timeoutTask != null) {
+                timeoutTask.cancel(false);
+                timeoutTask = null;
+            }
+        }
+    }
 }
@@ -49,4 +49,11 @@ public interface MessageEndpointService<T> {
     ClassLoader getClassLoader();
 
     String getActivationName();
+
+    /**
+     * Returns the transaction batching of the deliveries to the endpoint.
+     *
+     * @return the delivery batching or null if each transacted delivery is committed on its own
+     */
+    DeliveryBatching getDeliveryBatching();
 }
@@ -3127,4 +3127,12 @@ public interface EjbLogger extends BasicLogger {
     @Message(id = 488, value = "Unauthenticated (anonymous) access to this EJB method is not authorized")
     SecurityException ejbAuthenticationRequired();
 
+    @LogMessage(level = ERROR)
+    @Message(id = 489, value = "Failed to complete the delivery batch transaction of message-driven bean %s")
+    void failedToCompleteDeliveryBatch(@Cause Throwable cause, String componentName);
+
+    @LogMessage(level = WARN)
+    @Message(id = 490, value = "Invalid value %s of activation config property %s of message-driven bean %s, it must be a positive integer. Using %s instead.")
+    void invalidDeliveryBatchProperty(Object value, String property, String componentName, Object defaultValue);
+
 }
@@ -80,7 +80,15 @@ public abstract class AbstractEJBComponentResourceDefinition extends SimpleResou
             .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
             .build();
 
-    private static final AttributeDefinition METHODS = ObjectTypeAttributeDefinition.Builder.of("methods", EXECUTION_TIME, INVOCATIONS, WAIT_TIME)
+    private static final AttributeDefinition EXECUTION_TIME_P50 = timePercentile("execution-time-p50");
+    private static final AttributeDefinition EXECUTION_TIME_P90 = timePercentile("execution-time-p90");
+    private static final AttributeDefinition EXECUTION_TIME_P99 = timePercentile("execution-time-p99");
+    private static final AttributeDefinition WAIT_TIME_P50 = timePercentile("wait-time-p50");
+    private static final AttributeDefinition WAIT_TIME_P90 = timePercentile("wait-time-p90");
+    private static final AttributeDefinition WAIT_TIME_P99 = timePercentile("wait-time-p99");
+
+    private static final AttributeDefinition METHODS = ObjectTypeAttributeDefinition.Builder.of("methods", EXECUTION_TIME, INVOCATIONS, WAIT_TIME,
+            EXECUTION_TIME_P50, EXECUTION_TIME_P90, EXECUTION_TIME_P99, WAIT_TIME_P50, WAIT_TIME_P90, WAIT_TIME_P99)
             .setAllowNull(true)
             .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
             .build();
@@ -211,10 +219,40 @@ public abstract class AbstractEJBComponentResourceDefinition extends SimpleResou
                     result.get("execution-time").set(values.getExecutionTime());
                     result.get("invocations").set(values.getInvocations());
                     result.get("wait-time").set(values.getWaitTime());
+                    result.get(EXECUTION_TIME_P50.getName()).set(values.getExecutionTimePercentile(50));
+                    result.get(EXECUTION_TIME_P90.getName()).set(values.getExecutionTimePercentile(90));
+                    result.get(EXECUTION_TIME_P99.getName()).set(values.getExecutionTimePercentile(99));
+                    result.get(WAIT_TIME_P50.getName()).set(values.getWaitTimePercentile(50));
+                    result.get(WAIT_TIME_P90.getName()).set(values.getWaitTimePercentile(90));
+                    result.get(WAIT_TIME_P99.getName()).set(values.getWaitTimePercentile(99));
                     context.getResult().get(entry.getKey()).set(result);
                 }
             }
         });
+        registerPercentileMetric(resourceRegistration, EXECUTION_TIME_P50, false, 50);
+        registerPercentileMetric(resourceRegistration, EXECUTION_TIME_P90, false, 90);
+        registerPercentileMetric(resourceRegistration, EXECUTION_TIME_P99, false, 99);
+        registerPercentileMetric(resourceRegistration, WAIT_TIME_P50, true, 50);
+        registerPercentileMetric(resourceRegistration, WAIT_TIME_P90, true, 90);
+        registerPercentileMetric(resourceRegistration, WAIT_TIME_P99, true, 99);
+    }
+
+    private static AttributeDefinition timePercentile(final String name) {
+        return new SimpleAttributeDefinitionBuilder(name, ModelType.LONG)
+                .setUndefinedMetricValue(new ModelNode(0))
+                .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+                .build();
+    }
+
+    private static void registerPercentileMetric(final ManagementResourceRegistration resourceRegistration, final AttributeDefinition attribute,
+                                                 final boolean waitTime, final double percentile) {
+        resourceRegistration.registerMetric(attribute, new AbstractRuntimeMetricsHandler() {
+            @Override
+            protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) throws OperationFailedException {
+                final InvocationMetrics.Values values = component.getInvocationMetrics().getValues();
+                context.getResult().set(waitTime ? values.getWaitTimePercentile(percentile) : values.getExecutionTimePercentile(percentile));
+            }
+        });
     }
 
     /* (non-Javadoc)
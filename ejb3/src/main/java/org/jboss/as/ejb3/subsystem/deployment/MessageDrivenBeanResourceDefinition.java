@@ -44,6 +44,13 @@ public class MessageDrivenBeanResourceDefinition extends AbstractEJBComponentRes
             .setStorageRuntime()
             .build();
 
+    static final AttributeDefinition DELIVERY_BATCHES = batchMetric("delivery-batches");
+    static final AttributeDefinition DELIVERY_BATCH_ROLLBACKS = batchMetric("delivery-batch-rollbacks");
+    static final AttributeDefinition DELIVERY_BATCH_AVERAGE_SIZE = batchMetric("delivery-batch-average-size");
+    static final AttributeDefinition DELIVERY_BATCH_MAX_SIZE = batchMetric("delivery-batch-max-size");
+    static final AttributeDefinition DELIVERY_BATCH_AVERAGE_COMMIT_TIME = batchMetric("delivery-batch-average-commit-time");
+    static final AttributeDefinition DELIVERY_BATCH_MAX_COMMIT_TIME = batchMetric("delivery-batch-max-commit-time");
+
     static final String START_DELIVERY = "start-delivery";
     static final String STOP_DELIVERY = "stop-delivery";
 
@@ -56,6 +63,17 @@ public class MessageDrivenBeanResourceDefinition extends AbstractEJBComponentRes
         super.registerAttributes(registry);
 
         registry.registerReadOnlyAttribute(DELIVERY_ACTIVE, MessageDrivenBeanRuntimeHandler.INSTANCE);
+        for (AttributeDefinition metric : new AttributeDefinition[] {DELIVERY_BATCHES, DELIVERY_BATCH_ROLLBACKS, DELIVERY_BATCH_AVERAGE_SIZE,
+                DELIVERY_BATCH_MAX_SIZE, DELIVERY_BATCH_AVERAGE_COMMIT_TIME, DELIVERY_BATCH_MAX_COMMIT_TIME}) {
+            registry.registerMetric(metric, MessageDrivenBeanRuntimeHandler.INSTANCE);
+        }
+    }
+
+    private static AttributeDefinition batchMetric(String name) {
+        return new SimpleAttributeDefinitionBuilder(name, ModelType.LONG)
+                .setUndefinedMetricValue(new ModelNode(0))
+                .setStorageRuntime()
+                .build();
     }
 
     @Override
@@ -23,6 +23,12 @@
 package org.jboss.as.ejb3.subsystem.deployment;
 
 import static org.jboss.as.ejb3.subsystem.deployment.MessageDrivenBeanResourceDefinition.DELIVERY_ACTIVE;
+import static org.jboss.as.ejb3.subsystem.deployment.MessageDrivenBeanResourceDefinition.DELIVERY_BATCHES;
+import static org.jboss.as.ejb3.subsystem.deployment.MessageDrivenBeanResourceDefinition.DELIVERY_BATCH_AVERAGE_COMMIT_TIME;
+import static org.jboss.as.ejb3.subsystem.deployment.MessageDrivenBeanResourceDefinition.DELIVERY_BATCH_AVERAGE_SIZE;
+import static org.jboss.as.ejb3.subsystem.deployment.MessageDrivenBeanResourceDefinition.DELIVERY_BATCH_MAX_COMMIT_TIME;
+import static org.jboss.as.ejb3.subsystem.deployment.MessageDrivenBeanResourceDefinition.DELIVERY_BATCH_MAX_SIZE;
+import static org.jboss.as.ejb3.subsystem.deployment.MessageDrivenBeanResourceDefinition.DELIVERY_BATCH_ROLLBACKS;
 import static org.jboss.as.ejb3.subsystem.deployment.MessageDrivenBeanResourceDefinition.START_DELIVERY;
 import static org.jboss.as.ejb3.subsystem.deployment.MessageDrivenBeanResourceDefinition.STOP_DELIVERY;
 
@@ -30,6 +36,7 @@ import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.ejb3.component.messagedriven.MessageDrivenComponent;
+import org.jboss.as.ejb3.inflow.DeliveryBatching;
 import org.jboss.dmr.ModelNode;
 import org.jboss.msc.service.ServiceController;
 
@@ -50,8 +57,21 @@ public class MessageDrivenBeanRuntimeHandler extends AbstractEJBComponentRuntime
 
     @Override
     protected void executeReadAttribute(String attributeName, OperationContext context, MessageDrivenComponent component, PathAddress address) {
+        final DeliveryBatching batching = component.getDeliveryBatching();
         if (DELIVERY_ACTIVE.getName().equals(attributeName)) {
             context.getResult().set(component.isDeliveryActive());
+        } else if (DELIVERY_BATCHES.getName().equals(attributeName)) {
+            context.getResult().set(batching != null ? batching.getBatches() : 0L);
+        } else if (DELIVERY_BATCH_ROLLBACKS.getName().equals(attributeName)) {
+            context.getResult().set(batching != null ? batching.getRollbacks() : 0L);
+        } else if (DELIVERY_BATCH_AVERAGE_SIZE.getName().equals(attributeName)) {
+            context.getResult().set(batching != null ? batching.getAverageSize() : 0L);
+        } else if (DELIVERY_BATCH_MAX_SIZE.getName().equals(attributeName)) {
+            context.getResult().set(batching != null ? batching.getMaxSize() : 0L);
+        } else if (DELIVERY_BATCH_AVERAGE_COMMIT_TIME.getName().equals(attributeName)) {
+            context.getResult().set(batching != null ? batching.getAverageCommitTime() : 0L);
+        } else if (DELIVERY_BATCH_MAX_COMMIT_TIME.getName().equals(attributeName)) {
+            context.getResult().set(batching != null ? batching.getMaxCommitTime() : 0L);
         } else {
             super.executeReadAttribute(attributeName, context, component, address);
         }
@@ -0,0 +1,115 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright (c) 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ejb3.component.invocationmetrics;
+
+import static org.junit.Assert.assertEquals;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class InvocationMetricsTestCase {
+
+    public interface Echo {
+        String echo(String msg);
+
+        int echo(int value);
+
+        void ping();
+    }
+
+    @Test
+    public void testTotals() throws Exception {
+        final InvocationMetrics metrics = new InvocationMetrics();
+        final Method ping = Echo.class.getMethod("ping");
+        metrics.startInvocation();
+        metrics.startInvocation();
+        metrics.finishInvocation(ping, 1, 10);
+        metrics.finishInvocation(ping, 3, 20);
+        assertEquals(2, metrics.getInvocations());
+        assertEquals(4, metrics.getWaitTime());
+        assertEquals(30, metrics.getExecutionTime());
+        assertEquals(0, metrics.getConcurrent());
+        assertEquals(2, metrics.getPeakConcurrent());
+    }
+
+    @Test
+    public void testOverloadedMethodNames() throws Exception {
+        assertEquals(Collections.singleton("echo"), InvocationMetrics.getOverloadedMethodNames(Arrays.asList(Echo.class.getMethods())));
+        // the same method declared by several views isn't overloaded
+        assertEquals(Collections.emptySet(), InvocationMetrics.getOverloadedMethodNames(Arrays.asList(
+                Echo.class.getMethod("ping"), Echo.class.getMethod("ping"), Echo.class.getMethod("echo", int.class))));
+    }
+
+    @Test
+    public void testOverloadedMethodsAreKeyedBySignature() throws Exception {
+        final InvocationMetrics metrics = new InvocationMetrics(InvocationMetrics.getOverloadedMethodNames(Arrays.asList(Echo.class.getMethods())));
+        record(metrics, Echo.class.getMethod("echo", String.class), 5);
+        record(metrics, Echo.class.getMethod("echo", int.class), 5);
+        record(metrics, Echo.class.getMethod("echo", int.class), 5);
+        record(metrics, Echo.class.getMethod("ping"), 5);
+
+        final Map<String, InvocationMetrics.Values> methods = metrics.getMethods();
+        assertEquals(3, methods.size());
+        assertEquals(1, methods.get("echo(java.lang.String)").getInvocations());
+        assertEquals(2, methods.get("echo(int)").getInvocations());
+        assertEquals(1, methods.get("ping").getInvocations());
+    }
+
+    @Test
+    public void testKeysDontChangeWhenAnOverloadIsFirstInvoked() throws Exception {
+        final InvocationMetrics metrics = new InvocationMetrics(Collections.singleton("echo"));
+        record(metrics, Echo.class.getMethod("echo", String.class), 5);
+        assertEquals(Collections.singleton("echo(java.lang.String)"), metrics.getMethods().keySet());
+        record(metrics, Echo.class.getMethod("echo", int.class), 5);
+        assertEquals(1, metrics.getMethods().get("echo(java.lang.String)").getInvocations());
+        assertEquals(1, metrics.getMethods().get("echo(int)").getInvocations());
+    }
+
+    @Test
+    public void testPercentiles() throws Exception {
+        final InvocationMetrics metrics = new InvocationMetrics();
+        final Method ping = Echo.class.getMethod("ping");
+        for (int i = 0; i < 98; i++) {
+            record(metrics, ping, 3);
+        }
+        record(metrics, ping, 100);
+        record(metrics, ping, 1000);
+
+        final InvocationMetrics.Values values = metrics.getValues();
+        assertEquals(3, values.getExecutionTimePercentile(50));
+        assertEquals(3, values.getExecutionTimePercentile(90));
+        assertEquals(127, values.getExecutionTimePercentile(99));
+        // never reported above the max
+        assertEquals(1000, values.getExecutionTimePercentile(100));
+        assertEquals(0, values.getWaitTimePercentile(99));
+        assertEquals(127, metrics.getMethods().get("ping").getExecutionTimePercentile(99));
+    }
+
+    private static void record(final InvocationMetrics metrics, final Method method, final long executionTime) {
+        metrics.startInvocation();
+        metrics.finishInvocation(method, 0, executionTime);
+    }
+}
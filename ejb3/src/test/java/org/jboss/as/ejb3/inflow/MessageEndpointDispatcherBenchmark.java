@@ -0,0 +1,109 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.ejb3.inflow;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the dispatch of a message listener invocation to the delegate of a message endpoint by
+ * {@link MessageEndpointDispatcher}, compared to the reflective {@link Method#invoke} it replaces, and the invocation
+ * of a message endpoint proxy as done by a resource adapter for each delivered message.
+ * <p/>
+ * Run {@link #main(String[])} from the test class path, the GC profiler reports the bytes allocated per operation
+ * ({@code gc.alloc.rate.norm}) next to the time per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageEndpointDispatcherBenchmark {
+
+    public interface Listener {
+        void onMessage(Object message);
+    }
+
+    public static class Bean implements Listener {
+        int received;
+
+        @Override
+        public void onMessage(Object message) {
+            received++;
+        }
+    }
+
+    private final Object message = new Object();
+    private Method onMessage;
+    private Bean bean;
+    private MessageEndpointDispatcher dispatcher;
+    private Listener endpoint;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        onMessage = Listener.class.getMethod("onMessage", Object.class);
+        bean = new Bean();
+        dispatcher = new MessageEndpointDispatcher(Listener.class);
+        endpoint = (Listener) Proxy.newProxyInstance(Listener.class.getClassLoader(), new Class<?>[] {Listener.class},
+                new MessageEndpointInvocationHandler(null, bean, null, dispatcher));
+    }
+
+    @Benchmark
+    public Object dispatcher() throws Throwable {
+        return dispatcher.invoke(bean, onMessage, new Object[] {message});
+    }
+
+    @Benchmark
+    public Object reflection() throws Exception {
+        return onMessage.invoke(bean, message);
+    }
+
+    @Benchmark
+    public void endpointProxy() {
+        endpoint.onMessage(message);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MessageEndpointDispatcherBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,352 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.ejb3.inflow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.transaction.RollbackException;
+import javax.transaction.Status;
+import javax.transaction.Synchronization;
+import javax.transaction.SystemException;
+import javax.transaction.Transaction;
+import javax.transaction.TransactionManager;
+import javax.transaction.xa.XAResource;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests the transaction batching of the deliveries to a message endpoint.
+ */
+public class MessageEndpointInvocationHandlerTestCase {
+
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor();
+    private final StubTransactionManager tm = new StubTransactionManager();
+
+    @After
+    public void shutdown() {
+        timer.shutdownNow();
+    }
+
+    @Test
+    public void testBatchCompletedBySize() throws Exception {
+        DeliveryBatching batching = new DeliveryBatching(3, TimeUnit.MINUTES.toMillis(1), timer);
+        MessageEndpointInvocationHandler endpoint = endpoint(batching);
+
+        deliver(endpoint);
+        deliver(endpoint);
+        assertEquals(1, tm.transactions.size());
+        assertEquals(Status.STATUS_ACTIVE, tm.transactions.get(0).status);
+        assertNull(tm.getTransaction());
+
+        deliver(endpoint);
+        assertEquals(1, tm.transactions.size());
+        assertEquals(Status.STATUS_COMMITTED, tm.transactions.get(0).status);
+        assertEquals(1, batching.getBatches());
+        assertEquals(3, batching.getMaxSize());
+
+        deliver(endpoint);
+        assertEquals(2, tm.transactions.size());
+    }
+
+    @Test
+    public void testBatchCommittedByTimeoutWithoutFurtherDelivery() throws Exception {
+        DeliveryBatching batching = new DeliveryBatching(100, 50, timer);
+        MessageEndpointInvocationHandler endpoint = endpoint(batching);
+
+        final long start = System.currentTimeMillis();
+        deliver(endpoint);
+        final StubTransaction tx = tm.transactions.get(0);
+        while (tx.status == Status.STATUS_ACTIVE && System.currentTimeMillis() - start < TimeUnit.SECONDS.toMillis(10)) {
+            Thread.sleep(5);
+        }
+        // completed by the timer, no further message arrived
+        assertEquals(Status.STATUS_COMMITTED, tx.status);
+        assertTrue(System.currentTimeMillis() - start < TimeUnit.SECONDS.toMillis(5));
+        assertNotSame(Thread.currentThread(), tx.completingThread);
+        assertEquals(1, batching.getBatches());
+        assertEquals(1, batching.getMaxSize());
+
+        deliver(endpoint);
+        assertEquals(2, tm.transactions.size());
+        assertEquals(Status.STATUS_ACTIVE, tm.transactions.get(1).status);
+    }
+
+    @Test
+    public void testBatchTimingOutDuringDeliveryCompletedByDelivery() throws Exception {
+        DeliveryBatching batching = new DeliveryBatching(100, 50, timer);
+        MessageEndpointInvocationHandler endpoint = endpoint(batching);
+
+        endpoint.beforeDelivery(ON_MESSAGE);
+        Thread.sleep(150);
+        // the transaction is in use by the delivery, the timer leaves it to the delivery
+        assertEquals(Status.STATUS_ACTIVE, tm.transactions.get(0).status);
+        endpoint.afterDelivery();
+
+        assertEquals(Status.STATUS_COMMITTED, tm.transactions.get(0).status);
+        assertSame(Thread.currentThread(), tm.transactions.get(0).completingThread);
+        assertEquals(1, batching.getBatches());
+        assertNull(tm.getTransaction());
+    }
+
+    @Test
+    public void testBatchRolledBack() throws Exception {
+        DeliveryBatching batching = new DeliveryBatching(3, TimeUnit.MINUTES.toMillis(1), timer);
+        MessageEndpointInvocationHandler endpoint = endpoint(batching);
+
+        deliver(endpoint);
+        endpoint.beforeDelivery(ON_MESSAGE);
+        tm.setRollbackOnly();
+        endpoint.afterDelivery();
+
+        assertEquals(Status.STATUS_ROLLEDBACK, tm.transactions.get(0).status);
+        assertEquals(1, batching.getBatches());
+        assertEquals(1, batching.getRollbacks());
+        assertEquals(2, batching.getMaxSize());
+        assertNull(tm.getTransaction());
+
+        deliver(endpoint);
+        assertEquals(2, tm.transactions.size());
+        assertEquals(Status.STATUS_ACTIVE, tm.transactions.get(1).status);
+    }
+
+    @Test
+    public void testReleaseCompletesOpenBatch() throws Exception {
+        DeliveryBatching batching = new DeliveryBatching(3, TimeUnit.MINUTES.toMillis(1), timer);
+        MessageEndpointInvocationHandler endpoint = endpoint(batching);
+
+        deliver(endpoint);
+        endpoint.release();
+
+        assertEquals(Status.STATUS_COMMITTED, tm.transactions.get(0).status);
+        assertEquals(1, batching.getBatches());
+    }
+
+    @Test
+    public void testWithoutBatching() throws Exception {
+        MessageEndpointInvocationHandler endpoint = endpoint(null);
+
+        deliver(endpoint);
+        deliver(endpoint);
+
+        assertEquals(2, tm.transactions.size());
+        assertEquals(Status.STATUS_COMMITTED, tm.transactions.get(0).status);
+        assertEquals(Status.STATUS_COMMITTED, tm.transactions.get(1).status);
+    }
+
+    @Test
+    public void testParseProperties() {
+        assertEquals(10, DeliveryBatching.parseSize(" 10 ", "mdb"));
+        assertEquals(DeliveryBatching.DEFAULT_DELIVERY_BATCH_SIZE, DeliveryBatching.parseSize(null, "mdb"));
+        assertEquals(DeliveryBatching.DEFAULT_DELIVERY_BATCH_SIZE, DeliveryBatching.parseSize("ten", "mdb"));
+        assertEquals(DeliveryBatching.DEFAULT_DELIVERY_BATCH_SIZE, DeliveryBatching.parseSize("0", "mdb"));
+        assertEquals(DeliveryBatching.DEFAULT_DELIVERY_BATCH_SIZE, DeliveryBatching.parseSize("-5", "mdb"));
+
+        assertEquals(250, DeliveryBatching.parseTimeout("250", "mdb"));
+        assertEquals(DeliveryBatching.DEFAULT_DELIVERY_BATCH_TIMEOUT, DeliveryBatching.parseTimeout(null, "mdb"));
+        assertEquals(DeliveryBatching.DEFAULT_DELIVERY_BATCH_TIMEOUT, DeliveryBatching.parseTimeout("1.5", "mdb"));
+        assertEquals(DeliveryBatching.DEFAULT_DELIVERY_BATCH_TIMEOUT, DeliveryBatching.parseTimeout("0", "mdb"));
+    }
+
+    private static final Method ON_MESSAGE;
+
+    static {
+        try {
+            ON_MESSAGE = Runnable.class.getMethod("run");
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void deliver(MessageEndpointInvocationHandler endpoint) throws Exception {
+        endpoint.beforeDelivery(ON_MESSAGE);
+        endpoint.afterDelivery();
+    }
+
+    private MessageEndpointInvocationHandler endpoint(DeliveryBatching batching) {
+        MessageEndpointService<Runnable> service = new MessageEndpointService<Runnable>() {
+            @Override
+            public Class<Runnable> getMessageListenerInterface() {
+                return Runnable.class;
+            }
+
+            @Override
+            public TransactionManager getTransactionManager() {
+                return tm;
+            }
+
+            @Override
+            public boolean isDeliveryTransacted(Method method) {
+                return true;
+            }
+
+            @Override
+            public Runnable obtain(long timeout, TimeUnit milliseconds) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void release(Runnable obj) {
+            }
+
+            @Override
+            public ClassLoader getClassLoader() {
+                return MessageEndpointInvocationHandlerTestCase.class.getClassLoader();
+            }
+
+            @Override
+            public String getActivationName() {
+                return "mdb";
+            }
+
+            @Override
+            public DeliveryBatching getDeliveryBatching() {
+                return batching;
+            }
+        };
+        Runnable delegate = () -> { };
+        return new MessageEndpointInvocationHandler(service, delegate, null, new MessageEndpointDispatcher(Runnable.class));
+    }
+
+    private static final class StubTransaction implements Transaction {
+        volatile int status = Status.STATUS_ACTIVE;
+        volatile Thread completingThread;
+
+        @Override
+        public void commit() throws RollbackException {
+            completingThread = Thread.currentThread();
+            if (status == Status.STATUS_MARKED_ROLLBACK) {
+                status = Status.STATUS_ROLLEDBACK;
+                throw new RollbackException();
+            }
+            status = Status.STATUS_COMMITTED;
+        }
+
+        @Override
+        public boolean delistResource(XAResource xaRes, int flag) {
+            return true;
+        }
+
+        @Override
+        public boolean enlistResource(XAResource xaRes) {
+            return true;
+        }
+
+        @Override
+        public int getStatus() {
+            return status;
+        }
+
+        @Override
+        public void registerSynchronization(Synchronization sync) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void rollback() {
+            completingThread = Thread.currentThread();
+            status = Status.STATUS_ROLLEDBACK;
+        }
+
+        @Override
+        public void setRollbackOnly() {
+            status = Status.STATUS_MARKED_ROLLBACK;
+        }
+    }
+
+    private static final class StubTransactionManager implements TransactionManager {
+        final List<StubTransaction> transactions = new CopyOnWriteArrayList<>();
+        private final ThreadLocal<StubTransaction> current = new ThreadLocal<>();
+
+        @Override
+        public void begin() {
+            if (current.get() != null) {
+                throw new IllegalStateException("nested transaction");
+            }
+            final StubTransaction tx = new StubTransaction();
+            transactions.add(tx);
+            current.set(tx);
+        }
+
+        @Override
+        public void commit() throws RollbackException {
+            final StubTransaction tx = current.get();
+            current.remove();
+            tx.commit();
+        }
+
+        @Override
+        public int getStatus() {
+            final StubTransaction tx = current.get();
+            return tx == null ? Status.STATUS_NO_TRANSACTION : tx.status;
+        }
+
+        @Override
+        public Transaction getTransaction() {
+            return current.get();
+        }
+
+        @Override
+        public void resume(Transaction tx) {
+            if (current.get() != null) {
+                throw new IllegalStateException("a transaction is already associated with the thread");
+            }
+            current.set((StubTransaction) tx);
+        }
+
+        @Override
+        public void rollback() {
+            final StubTransaction tx = current.get();
+            current.remove();
+            tx.rollback();
+        }
+
+        @Override
+        public void setRollbackOnly() {
+            current.get().setRollbackOnly();
+        }
+
+        @Override
+        public void setTransactionTimeout(int seconds) throws SystemException {
+            throw new SystemException("not supported");
+        }
+
+        @Override
+        public Transaction suspend() {
+            final Transaction tx = current.get();
+            current.remove();
+            return tx;
+        }
+    }
+}
@@ -59,6 +59,10 @@ public final class Constants {
     public static final String NAMING = "naming";
     public static final String NAMING_EXPORT_CORBALOC = "export-corbaloc";
     public static final String NAMING_ROOT_CONTEXT = "root-context";
+    public static final String NAMING_RESOLVE_COUNT = "naming-resolve-count";
+    public static final String NAMING_RESOLVE_FAILURES = "naming-resolve-failures";
+    public static final String NAMING_RESOLVE_AVERAGE_TIME = "naming-resolve-average-time";
+    public static final String NAMING_RESOLVE_MAX_TIME = "naming-resolve-max-time";
     public static final String NONE = "none";
     public static final String IDENTITY = "identity";
     public static final String SECURITY = "security";
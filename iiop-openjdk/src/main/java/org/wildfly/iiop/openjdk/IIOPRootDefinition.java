@@ -28,7 +28,10 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
 import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PersistentResourceDefinition;
 import org.jboss.as.controller.PropertiesAttributeDefinition;
 import org.jboss.as.controller.ReloadRequiredRemoveStepHandler;
@@ -36,15 +39,18 @@ import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SubsystemRegistration;
 import org.jboss.as.controller.access.constraint.SensitivityClassification;
 import org.jboss.as.controller.access.management.SensitiveTargetAccessConstraintDefinition;
+import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.operations.validation.EnumValidator;
 import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.operations.validation.ParameterValidator;
 import org.jboss.as.controller.registry.AttributeAccess;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
 import org.jboss.as.controller.transform.description.TransformationDescription;
 import org.jboss.as.controller.transform.description.TransformationDescriptionBuilder;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
+import org.wildfly.iiop.openjdk.naming.CorbaNamingContext;
 
 /**
  * @author <a href="mailto:tadamski@redhat.com">Tomasz Adamski</a>
@@ -349,6 +355,30 @@ class IIOPRootDefinition extends PersistentResourceDefinition {
         ALL_ATTRIBUTES.addAll(IOR_ATTRIBUTES);
     }
 
+    static final AttributeDefinition NAMING_RESOLVE_COUNT = new SimpleAttributeDefinitionBuilder(
+            Constants.NAMING_RESOLVE_COUNT, ModelType.LONG)
+            .setUndefinedMetricValue(new ModelNode(0))
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+            .build();
+
+    static final AttributeDefinition NAMING_RESOLVE_FAILURES = new SimpleAttributeDefinitionBuilder(
+            Constants.NAMING_RESOLVE_FAILURES, ModelType.LONG)
+            .setUndefinedMetricValue(new ModelNode(0))
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+            .build();
+
+    static final AttributeDefinition NAMING_RESOLVE_AVERAGE_TIME = new SimpleAttributeDefinitionBuilder(
+            Constants.NAMING_RESOLVE_AVERAGE_TIME, ModelType.LONG)
+            .setUndefinedMetricValue(new ModelNode(0))
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+            .build();
+
+    static final AttributeDefinition NAMING_RESOLVE_MAX_TIME = new SimpleAttributeDefinitionBuilder(
+            Constants.NAMING_RESOLVE_MAX_TIME, ModelType.LONG)
+            .setUndefinedMetricValue(new ModelNode(0))
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+            .build();
+
     public static final IIOPRootDefinition INSTANCE = new IIOPRootDefinition();
 
     private IIOPRootDefinition() {
@@ -361,6 +391,27 @@ class IIOPRootDefinition extends PersistentResourceDefinition {
         return ALL_ATTRIBUTES;
     }
 
+    static final List<AttributeDefinition> NAMING_METRICS = Arrays.asList(NAMING_RESOLVE_COUNT, NAMING_RESOLVE_FAILURES,
+            NAMING_RESOLVE_AVERAGE_TIME, NAMING_RESOLVE_MAX_TIME);
+
+    /**
+     * Registers the metrics of the resolve requests handled by the naming service, see {@link CorbaNamingContext}. The
+     * metrics are only registered once the naming service is installed, metrics that are already registered are skipped.
+     */
+    static void registerMetrics(ManagementResourceRegistration registration) {
+        for (AttributeDefinition metric : NAMING_METRICS) {
+            if (registration.getAttributeAccess(PathAddress.EMPTY_ADDRESS, metric.getName()) == null) {
+                registration.registerMetric(metric, NamingMetricsHandler.INSTANCE);
+            }
+        }
+    }
+
+    static void unregisterMetrics(ManagementResourceRegistration registration) {
+        for (AttributeDefinition metric : NAMING_METRICS) {
+            registration.unregisterAttribute(metric.getName());
+        }
+    }
+
     static void registerTransformers(SubsystemRegistration subsystemRegistration) {
         registerTransformers_1_0_0(subsystemRegistration);
     }
@@ -371,6 +422,26 @@ class IIOPRootDefinition extends PersistentResourceDefinition {
         TransformationDescription.Tools.register(builder.build(), subsystemRegistration, VERSION_1);
     }
 
+    private static class NamingMetricsHandler extends AbstractRuntimeOnlyHandler {
+
+        static final NamingMetricsHandler INSTANCE = new NamingMetricsHandler();
+
+        @Override
+        protected void executeRuntimeStep(OperationContext context, ModelNode operation) {
+            final String name = operation.require(ModelDescriptionConstants.NAME).asString();
+            if (NAMING_RESOLVE_COUNT.getName().equals(name)) {
+                context.getResult().set(CorbaNamingContext.getResolveCount());
+            } else if (NAMING_RESOLVE_FAILURES.getName().equals(name)) {
+                context.getResult().set(CorbaNamingContext.getResolveFailures());
+            } else if (NAMING_RESOLVE_AVERAGE_TIME.getName().equals(name)) {
+                context.getResult().set(CorbaNamingContext.getAverageResolveTime());
+            } else if (NAMING_RESOLVE_MAX_TIME.getName().equals(name)) {
+                context.getResult().set(CorbaNamingContext.getMaxResolveTime());
+            }
+            context.stepCompleted();
+        }
+    }
+
     private enum AuthMethodValues {
 
         NONE("none"), USERNAME_PASSWORD("username_password");
@@ -109,8 +109,13 @@ public class IIOPSubsystemAdd extends AbstractAddStepHandler {
                 final Resource resource = context.readResource(PathAddress.EMPTY_ADDRESS);
                 ModelNode node = Resource.Tools.readModel(resource);
                 launchServices(context, node);
-                // Rollback handled by the parent step
-                context.completeStep(OperationContext.RollbackHandler.NOOP_ROLLBACK_HANDLER);
+                // Rollback of the services handled by the parent step
+                context.completeStep(new OperationContext.RollbackHandler() {
+                    @Override
+                    public void handleRollback(OperationContext context, ModelNode operation) {
+                        IIOPRootDefinition.unregisterMetrics(context.getResourceRegistrationForUpdate());
+                    }
+                });
             }
         }, OperationContext.Stage.RUNTIME);
     }
@@ -222,6 +227,9 @@ public class IIOPSubsystemAdd extends AbstractAddStepHandler {
                         namingService.getNamingPOAInjector())
                 .setInitialMode(ServiceController.Mode.ACTIVE).install();
 
+        // expose the metrics of the naming service, only when it is installed.
+        IIOPRootDefinition.registerMetrics(context.getResourceRegistrationForUpdate());
+
         configureClientSecurity(props);
     }
 
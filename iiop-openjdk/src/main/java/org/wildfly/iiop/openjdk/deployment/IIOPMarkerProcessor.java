@@ -30,6 +30,7 @@ import org.jboss.modules.Module;
 import org.wildfly.iiop.openjdk.rmi.ExceptionAnalysis;
 import org.wildfly.iiop.openjdk.rmi.InterfaceAnalysis;
 import org.wildfly.iiop.openjdk.rmi.ValueAnalysis;
+import org.wildfly.iiop.openjdk.rmi.marshal.CDRStream;
 
 /**
  * Processor responsible for marking a deployment as using IIOP
@@ -54,6 +55,7 @@ public class IIOPMarkerProcessor implements DeploymentUnitProcessor{
         ExceptionAnalysis.clearCache(module.getClassLoader());
         InterfaceAnalysis.clearCache(module.getClassLoader());
         ValueAnalysis.clearCache(module.getClassLoader());
+        CDRStream.clearCache(module.getClassLoader());
     }
 
 }
@@ -25,10 +25,12 @@ package org.wildfly.iiop.openjdk.naming;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
-import java.util.Hashtable;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
+import org.jboss.as.ee.metrics.LatencyHistogram;
 import org.omg.CORBA.INTERNAL;
 import org.omg.CORBA.ORB;
 import org.omg.CosNaming.Binding;
@@ -55,6 +57,10 @@ import org.wildfly.iiop.openjdk.logging.IIOPLogger;
  * This class implements an in-VM CORBA Naming Server that caches for JBoss to use. All contexts keep a cache of the
  * local sub-contexts to avoid unnecessary remote calls when resolving a complex name.
  * </p>
+ * <p>
+ * Bindings are kept in concurrent maps, so resolving a name doesn't take any lock. The number and latency of the
+ * resolve requests are recorded for the subsystem metrics.
+ * </p>
  *
  * @author <a href="mailto:sguilhen@redhat.com">Stefan Guilhen</a>
  */
@@ -76,18 +82,24 @@ public class CorbaNamingContext extends NamingContextExtPOA implements Serializa
     /**
      * table of all name bindings in this contexts, ie. name -> obj ref.
      */
-    private Map<Name, Object> names = new Hashtable<Name, Object>();
+    private Map<Name, Object> names = new ConcurrentHashMap<Name, Object>();
 
     /**
      * table of all subordinate naming contexts, ie. name -> obj ref.
      */
-    private Map<Name, Object> contexts = new Hashtable<Name, Object>();
+    private Map<Name, Object> contexts = new ConcurrentHashMap<Name, Object>();
 
     /**
      * cache of all active naming context implementations - used when resolving contexts recursively to avoid
      * unnecessary remote calls that may lead to thread pool depletion.
      */
-    private static Map<String, CorbaNamingContext> contextImpls = new Hashtable<String, CorbaNamingContext>();
+    private static final Map<String, CorbaNamingContext> contextImpls = new ConcurrentHashMap<String, CorbaNamingContext>();
+
+    /**
+     * statistics of the resolve requests, the times are in nanoseconds.
+     */
+    private static final LatencyHistogram resolveTimes = new LatencyHistogram();
+    private static final LongAdder resolveFailures = new LongAdder();
 
     /**
      * no tests of bound objects for existence
@@ -99,7 +111,7 @@ public class CorbaNamingContext extends NamingContextExtPOA implements Serializa
      */
     private boolean doPurge = false;
 
-    private boolean destroyed = false;
+    private volatile boolean destroyed = false;
 
     private int childCount = 0;
 
@@ -171,13 +183,13 @@ public class CorbaNamingContext extends NamingContextExtPOA implements Serializa
                 throw new AlreadyBound();
             }
 
-            if ((this.names.put(n, obj)) != null)
+            if ((this.names.putIfAbsent(n, obj)) != null)
                 throw new CannotProceed(_this(), n.components());
 
             IIOPLogger.ROOT_LOGGER.debugf("Bound name: %s", n);
         } else {
             NameComponent[] ncx = new NameComponent[]{nb};
-            org.omg.CORBA.Object context = this.resolve(ctx.components());
+            org.omg.CORBA.Object context = this.doResolve(ctx.components());
 
             // try first to call the context implementation object directly.
             String contextOID = this.getObjectOID(context);
@@ -216,13 +228,13 @@ public class CorbaNamingContext extends NamingContextExtPOA implements Serializa
                 throw new AlreadyBound();
             }
 
-            if ((this.contexts.put(n, obj)) != null)
+            if ((this.contexts.putIfAbsent(n, obj)) != null)
                 throw new CannotProceed(_this(), n.components());
 
             IIOPLogger.ROOT_LOGGER.debugf("Bound context: %s", n);
         } else {
             NameComponent[] ncx = new NameComponent[]{nb};
-            org.omg.CORBA.Object context = this.resolve(ctx.components());
+            org.omg.CORBA.Object context = this.doResolve(ctx.components());
 
             // try first to call the context implementation object directly.
             String contextOID = this.getObjectOID(context);
@@ -324,7 +336,7 @@ public class CorbaNamingContext extends NamingContextExtPOA implements Serializa
             CorbaNamingContext newContextImpl = new CorbaNamingContext();
             newContextImpl.init(this.poa, this.doPurge, this.noPing);
             // create the oid for the new context and activate it with the naming service POA.
-            String oid = new String(this.poa.servant_to_id(this)) + "/ctx" + (++this.childCount);
+            String oid = new String(this.poa.servant_to_id(this)) + "/ctx" + this.nextChildId();
             this.poa.activate_object_with_id(oid.getBytes(), newContextImpl);
             // add the newly-created context to the cache.
             contextImpls.put(oid, newContextImpl);
@@ -366,7 +378,7 @@ public class CorbaNamingContext extends NamingContextExtPOA implements Serializa
         } else {
             // rebind in the correct context
             NameComponent[] ncx = new NameComponent[]{nb};
-            org.omg.CORBA.Object context = this.resolve(ctx.components());
+            org.omg.CORBA.Object context = this.doResolve(ctx.components());
 
             // try first to call the context implementation object directly.
             String contextOID = this.getObjectOID(context);
@@ -412,7 +424,7 @@ public class CorbaNamingContext extends NamingContextExtPOA implements Serializa
         } else {
             // rebind in the correct context
             NameComponent[] ncx = new NameComponent[]{nb};
-            org.omg.CORBA.Object context = this.resolve(ctx.components());
+            org.omg.CORBA.Object context = this.doResolve(ctx.components());
 
             // try first to call the context implementation object directly.
             String contextOID = this.getObjectOID(context);
@@ -425,6 +437,18 @@ public class CorbaNamingContext extends NamingContextExtPOA implements Serializa
     }
 
     public org.omg.CORBA.Object resolve(NameComponent[] nc) throws NotFound, CannotProceed, InvalidName {
+        final long start = System.nanoTime();
+        boolean resolved = false;
+        try {
+            final org.omg.CORBA.Object result = this.doResolve(nc);
+            resolved = true;
+            return result;
+        } finally {
+            recordResolve(System.nanoTime() - start, resolved);
+        }
+    }
+
+    private org.omg.CORBA.Object doResolve(NameComponent[] nc) throws NotFound, CannotProceed, InvalidName {
         if (this.destroyed)
             throw new CannotProceed();
 
@@ -444,7 +468,7 @@ public class CorbaNamingContext extends NamingContextExtPOA implements Serializa
             String contextOID = this.getObjectOID(next_context);
             CorbaNamingContext jbossContext = (contextOID == null ? null : contextImpls.get(contextOID));
             if (jbossContext != null)
-                return jbossContext.resolve(nc_prime);
+                return jbossContext.doResolve(nc_prime);
             else
                 return NamingContextExtHelper.narrow(next_context).resolve(nc_prime);
         } else {
@@ -494,7 +518,7 @@ public class CorbaNamingContext extends NamingContextExtPOA implements Serializa
             }
         } else {
             NameComponent[] ncx = new NameComponent[]{nb};
-            org.omg.CORBA.Object context = this.resolve(ctx.components());
+            org.omg.CORBA.Object context = this.doResolve(ctx.components());
 
             // try first to call the context implementation object directly.
             String contextOID = this.getObjectOID(context);
@@ -524,8 +548,64 @@ public class CorbaNamingContext extends NamingContextExtPOA implements Serializa
         return null;
     }
 
+    //======================================= Statistics Methods ==================================//
+
+    /**
+     * <p>
+     * Obtains the number of resolve requests handled by the naming service.
+     * </p>
+     *
+     * @return the number of resolve requests.
+     */
+    public static long getResolveCount() {
+        return resolveTimes.getCount();
+    }
+
+    /**
+     * <p>
+     * Obtains the number of resolve requests that failed, i.e. whose name was not found or invalid.
+     * </p>
+     *
+     * @return the number of failed resolve requests.
+     */
+    public static long getResolveFailures() {
+        return resolveFailures.sum();
+    }
+
+    /**
+     * <p>
+     * Obtains the average time taken by a resolve request.
+     * </p>
+     *
+     * @return the average resolve time, in nanoseconds.
+     */
+    public static long getAverageResolveTime() {
+        return resolveTimes.getAverage();
+    }
+
+    /**
+     * <p>
+     * Obtains the longest time taken by a resolve request.
+     * </p>
+     *
+     * @return the maximum resolve time, in nanoseconds.
+     */
+    public static long getMaxResolveTime() {
+        return resolveTimes.getMax();
+    }
+
     //======================================= Private Helper Methods ==================================//
 
+    private static void recordResolve(long elapsed, boolean resolved) {
+        if (!resolved)
+            resolveFailures.increment();
+        resolveTimes.record(elapsed);
+    }
+
+    private synchronized int nextChildId() {
+        return ++this.childCount;
+    }
+
     /**
      * <p>
      * Cleanup bindings, i.e. ping every object and remove bindings to non-existent objects.
@@ -618,15 +698,11 @@ public class CorbaNamingContext extends NamingContextExtPOA implements Serializa
         /**
          * Recreate tables. For serialization, object references have been transformed into strings
          */
-        for (Name key : this.contexts.keySet()) {
-            String ref = (String) this.contexts.remove(key);
-            this.contexts.put(key, orb.string_to_object(ref));
-        }
+        for (Map.Entry<Name, Object> entry : this.contexts.entrySet())
+            entry.setValue(orb.string_to_object((String) entry.getValue()));
 
-        for (Name key : this.names.keySet()) {
-            String ref = (String) this.names.remove(key);
-            this.names.put(key, orb.string_to_object(ref));
-        }
+        for (Map.Entry<Name, Object> entry : this.names.entrySet())
+            entry.setValue(orb.string_to_object((String) entry.getValue()));
     }
 
     /**
@@ -641,15 +717,11 @@ public class CorbaNamingContext extends NamingContextExtPOA implements Serializa
         /*
         * For serialization, object references are transformed into strings
         */
-        for (Name key : this.contexts.keySet()) {
-            org.omg.CORBA.Object o = (org.omg.CORBA.Object) this.contexts.remove(key);
-            this.contexts.put(key, orb.object_to_string(o));
-        }
+        for (Map.Entry<Name, Object> entry : this.contexts.entrySet())
+            entry.setValue(orb.object_to_string((org.omg.CORBA.Object) entry.getValue()));
 
-        for (Name key : this.names.keySet()) {
-            org.omg.CORBA.Object o = (org.omg.CORBA.Object) this.names.remove(key);
-            this.names.put(key, orb.object_to_string(o));
-        }
+        for (Map.Entry<Name, Object> entry : this.names.entrySet())
+            entry.setValue(orb.object_to_string((org.omg.CORBA.Object) entry.getValue()));
 
         out.defaultWriteObject();
     }
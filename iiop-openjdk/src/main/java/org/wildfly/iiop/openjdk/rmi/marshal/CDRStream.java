@@ -156,31 +156,18 @@ public class CDRStream {
             case 'J':
                 return LongReader.instance;
             case 'L':
-                try {
-                    // Use Class.forName() (rather than cl.loadClass()), because
-                    // Class.forName() loads Java array types (which are valuetypes).
-                    return new ValuetypeReader(Class.forName(s.substring(1),
-                            true,
-                            cl));
-                } catch (ClassNotFoundException e) {
-                    throw IIOPLogger.ROOT_LOGGER.errorLoadingClass(s.substring(1), e);
+            case 'N':
+            case 'R':
+                final CDRStreamCache cache = CDRStreamCache.forClassLoader(cl);
+                final CDRStreamReader reader = cache.getReader(s);
+                if (reader != null) {
+                    return reader;
                 }
+                return cache.putReader(s, loadReader(s, cl));
             case 'M':
                 return CorbaObjectReader.instance;
-            case 'N':
-                try {
-                    return new IdlInterfaceReader(cl.loadClass(s.substring(1)));
-                } catch (ClassNotFoundException e) {
-                    throw IIOPLogger.ROOT_LOGGER.errorLoadingClass(s.substring(1), e);
-                }
             case 'O':
                 return ObjectReader.instance;
-            case 'R':
-                try {
-                    return new RemoteReader(cl.loadClass(s.substring(1)));
-                } catch (ClassNotFoundException e) {
-                    throw IIOPLogger.ROOT_LOGGER.errorLoadingClass(s.substring(1), e);
-                }
             case 'S':
                 return ShortReader.instance;
             case 'V':
@@ -220,23 +207,15 @@ public class CDRStream {
             case 'J':
                 return LongWriter.instance;
             case 'L':
-                try {
-                    // Use Class.forName() (rather than cl.loadClass()), because
-                    // Class.forName() loads Java array types (which are valuetypes).
-                    return new ValuetypeWriter(Class.forName(s.substring(1),
-                            true,
-                            cl));
-                } catch (ClassNotFoundException e) {
-                    throw IIOPLogger.ROOT_LOGGER.errorLoadingClass(s.substring(1), e);
+            case 'N':
+                final CDRStreamCache cache = CDRStreamCache.forClassLoader(cl);
+                final CDRStreamWriter writer = cache.getWriter(s);
+                if (writer != null) {
+                    return writer;
                 }
+                return cache.putWriter(s, loadWriter(s, cl));
             case 'M':
                 return CorbaObjectWriter.instance;
-            case 'N':
-                try {
-                    return new IdlInterfaceWriter(cl.loadClass(s.substring(1)));
-                } catch (ClassNotFoundException e) {
-                    throw IIOPLogger.ROOT_LOGGER.errorLoadingClass(s.substring(1), e);
-                }
             case 'O':
                 return ObjectWriter.instance;
             case 'R':
@@ -258,6 +237,87 @@ public class CDRStream {
      * Returns the <code>CDRStreamReader</code> for a given <code>Class</code>.
      */
     public static CDRStreamReader readerFor(Class clz) {
+        return readers.get(clz);
+    }
+
+    /**
+     * Returns the <code>CDRStreamWriter</code> for a given <code>Class</code>.
+     */
+    public static CDRStreamWriter writerFor(Class clz) {
+        return writers.get(clz);
+    }
+
+    /**
+     * Drops the <code>CDRStreamReader</code>s and <code>CDRStreamWriter</code>s
+     * resolved from abbreviated names with the given <code>ClassLoader</code>.
+     */
+    public static void clearCache(final ClassLoader cl) {
+        CDRStreamCache.clear(cl);
+    }
+
+    // Private -----------------------------------------------------------------
+
+    /**
+     * The <code>CDRStreamReader</code>s and <code>CDRStreamWriter</code>s of
+     * classes, which are computed once per class and stored with the class.
+     */
+    private static final ClassValue<CDRStreamReader> readers = new ClassValue<CDRStreamReader>() {
+        @Override
+        protected CDRStreamReader computeValue(Class<?> clz) {
+            return createReader(clz);
+        }
+    };
+
+    private static final ClassValue<CDRStreamWriter> writers = new ClassValue<CDRStreamWriter>() {
+        @Override
+        protected CDRStreamWriter computeValue(Class<?> clz) {
+            return createWriter(clz);
+        }
+    };
+
+    /**
+     * Loads the class named by a valuetype, IDL interface or remote interface
+     * abbreviated name and creates its <code>CDRStreamReader</code>.
+     */
+    private static CDRStreamReader loadReader(String s, ClassLoader cl) {
+        try {
+            switch (s.charAt(0)) {
+                case 'L':
+                    // Use Class.forName() (rather than cl.loadClass()), because
+                    // Class.forName() loads Java array types (which are valuetypes).
+                    return new ValuetypeReader(Class.forName(s.substring(1),
+                            true,
+                            cl));
+                case 'N':
+                    return new IdlInterfaceReader(cl.loadClass(s.substring(1)));
+                default:
+                    return new RemoteReader(cl.loadClass(s.substring(1)));
+            }
+        } catch (ClassNotFoundException e) {
+            throw IIOPLogger.ROOT_LOGGER.errorLoadingClass(s.substring(1), e);
+        }
+    }
+
+    /**
+     * Loads the class named by a valuetype or IDL interface abbreviated name
+     * and creates its <code>CDRStreamWriter</code>.
+     */
+    private static CDRStreamWriter loadWriter(String s, ClassLoader cl) {
+        try {
+            if (s.charAt(0) == 'L') {
+                // Use Class.forName() (rather than cl.loadClass()), because
+                // Class.forName() loads Java array types (which are valuetypes).
+                return new ValuetypeWriter(Class.forName(s.substring(1),
+                        true,
+                        cl));
+            }
+            return new IdlInterfaceWriter(cl.loadClass(s.substring(1)));
+        } catch (ClassNotFoundException e) {
+            throw IIOPLogger.ROOT_LOGGER.errorLoadingClass(s.substring(1), e);
+        }
+    }
+
+    private static CDRStreamReader createReader(Class clz) {
         if (clz == Boolean.TYPE) {
             return BooleanReader.instance;
         } else if (clz == Byte.TYPE) {
@@ -301,10 +361,7 @@ public class CDRStream {
         }
     }
 
-    /**
-     * Returns the <code>CDRStreamWriter</code> for a given <code>Class</code>.
-     */
-    public static CDRStreamWriter writerFor(Class clz) {
+    private static CDRStreamWriter createWriter(Class clz) {
         if (clz == Boolean.TYPE) {
             return BooleanWriter.instance;
         } else if (clz == Byte.TYPE) {
@@ -348,7 +405,6 @@ public class CDRStream {
         }
     }
 
-    // Private -----------------------------------------------------------------
 
     // Static inner classes (all of them private) ------------------------------
 
@@ -0,0 +1,127 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.iiop.openjdk.rmi.marshal;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Per class loader cache of the <code>CDRStreamReader</code>s and <code>CDRStreamWriter</code>s that
+ * {@link CDRStream} resolves from abbreviated names, so that the classes named by the abbreviated names are
+ * loaded once per class loader.
+ * <p/>
+ * Class loaders are weakly referenced. The cached readers and writers are softly referenced, so they survive
+ * ordinary garbage collections and are only reclaimed under memory pressure; the entries of reclaimed readers
+ * and writers are pruned on the next update of the cache. The entries of a deployment class loader are dropped
+ * explicitly when the deployment is undeployed.
+ */
+final class CDRStreamCache {
+
+    private static final Map<ClassLoader, CDRStreamCache> caches = new WeakHashMap<ClassLoader, CDRStreamCache>();
+
+    private final ConcurrentMap<String, Entry<CDRStreamReader>> readers = new ConcurrentHashMap<String, Entry<CDRStreamReader>>();
+
+    private final ConcurrentMap<String, Entry<CDRStreamWriter>> writers = new ConcurrentHashMap<String, Entry<CDRStreamWriter>>();
+
+    private final ReferenceQueue<Object> reclaimed = new ReferenceQueue<Object>();
+
+    private CDRStreamCache() {
+    }
+
+    /**
+     * Returns the cache of a class loader, creating it if needed.
+     */
+    static CDRStreamCache forClassLoader(final ClassLoader cl) {
+        synchronized (caches) {
+            CDRStreamCache cache = caches.get(cl);
+            if (cache == null) {
+                cache = new CDRStreamCache();
+                caches.put(cl, cache);
+            }
+            return cache;
+        }
+    }
+
+    /**
+     * Drops the cached readers and writers of a class loader.
+     */
+    static void clear(final ClassLoader cl) {
+        synchronized (caches) {
+            caches.remove(cl);
+        }
+    }
+
+    CDRStreamReader getReader(final String abbrev) {
+        final Entry<CDRStreamReader> entry = readers.get(abbrev);
+        return entry == null ? null : entry.get();
+    }
+
+    CDRStreamReader putReader(final String abbrev, final CDRStreamReader reader) {
+        prune();
+        readers.put(abbrev, new Entry<CDRStreamReader>(abbrev, reader, reclaimed));
+        return reader;
+    }
+
+    CDRStreamWriter getWriter(final String abbrev) {
+        final Entry<CDRStreamWriter> entry = writers.get(abbrev);
+        return entry == null ? null : entry.get();
+    }
+
+    CDRStreamWriter putWriter(final String abbrev, final CDRStreamWriter writer) {
+        prune();
+        writers.put(abbrev, new Entry<CDRStreamWriter>(abbrev, writer, reclaimed));
+        return writer;
+    }
+
+    /**
+     * @return the number of cached readers and writers, including the ones reclaimed since the last update
+     */
+    int size() {
+        return readers.size() + writers.size();
+    }
+
+    /**
+     * Removes the entries whose reader or writer was reclaimed, unless they were replaced meanwhile.
+     */
+    void prune() {
+        Entry<?> entry;
+        while ((entry = (Entry<?>) reclaimed.poll()) != null) {
+            readers.remove(entry.abbrev, entry);
+            writers.remove(entry.abbrev, entry);
+        }
+    }
+
+    private static final class Entry<T> extends SoftReference<T> {
+
+        final String abbrev;
+
+        Entry(final String abbrev, final T value, final ReferenceQueue<Object> queue) {
+            super(value, queue);
+            this.abbrev = abbrev;
+        }
+    }
+}
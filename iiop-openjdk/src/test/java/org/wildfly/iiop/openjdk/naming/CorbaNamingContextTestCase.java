@@ -0,0 +1,116 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.wildfly.iiop.openjdk.naming;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.omg.CORBA.portable.ObjectImpl;
+import org.omg.CosNaming.NameComponent;
+import org.omg.CosNaming.NamingContextPackage.NotFound;
+
+public class CorbaNamingContextTestCase {
+
+    private static final int THREADS = 8;
+
+    private static final int RESOLVES = 1000;
+
+    private static final NameComponent[] BOUND = new NameComponent[]{new NameComponent("bound", "")};
+
+    private static final NameComponent[] MISSING = new NameComponent[]{new NameComponent("missing", "")};
+
+    private final org.omg.CORBA.Object object = new ObjectImpl() {
+        @Override
+        public String[] _ids() {
+            return new String[0];
+        }
+    };
+
+    private CorbaNamingContext context;
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() throws Exception {
+        context = new CorbaNamingContext();
+        context.init(null, false, true);
+        context.bind(BOUND, object);
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testConcurrentResolves() throws Exception {
+        final long count = CorbaNamingContext.getResolveCount();
+        final long failures = CorbaNamingContext.getResolveFailures();
+
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<Integer>> results = new ArrayList<Future<Integer>>();
+        for (int i = 0; i < THREADS; i++) {
+            final NameComponent[] name = i % 2 == 0 ? BOUND : MISSING;
+            results.add(executor.submit(new Callable<Integer>() {
+                @Override
+                public Integer call() throws Exception {
+                    start.await();
+                    int resolved = 0;
+                    for (int j = 0; j < RESOLVES; j++) {
+                        try {
+                            Assert.assertSame(object, context.resolve(name));
+                            resolved++;
+                        } catch (NotFound e) {
+                            // expected for the missing name
+                        }
+                    }
+                    return resolved;
+                }
+            }));
+        }
+        start.countDown();
+
+        int resolved = 0;
+        for (Future<Integer> result : results) {
+            resolved += result.get(1, TimeUnit.MINUTES);
+        }
+
+        Assert.assertEquals(THREADS / 2 * RESOLVES, resolved);
+        Assert.assertEquals(THREADS * RESOLVES, CorbaNamingContext.getResolveCount() - count);
+        Assert.assertEquals(THREADS / 2 * RESOLVES, CorbaNamingContext.getResolveFailures() - failures);
+        Assert.assertTrue(CorbaNamingContext.getMaxResolveTime() >= CorbaNamingContext.getAverageResolveTime());
+    }
+}
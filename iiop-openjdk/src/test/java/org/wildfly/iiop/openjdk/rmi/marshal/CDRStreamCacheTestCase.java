@@ -0,0 +1,96 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.wildfly.iiop.openjdk.rmi.marshal;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CDRStreamCacheTestCase {
+
+    private static final String REMOTE = "R" + java.rmi.Remote.class.getName();
+
+    private static final String VALUETYPE = "L" + java.util.Date.class.getName();
+
+    @Test
+    public void testCachedReader() {
+        final CountingClassLoader cl = new CountingClassLoader();
+        final CDRStreamReader reader = CDRStream.readerFor(REMOTE, cl);
+        Assert.assertSame(reader, CDRStream.readerFor(REMOTE, cl));
+        Assert.assertEquals(1, cl.loads.get());
+        Assert.assertEquals(1, CDRStreamCache.forClassLoader(cl).size());
+    }
+
+    @Test
+    public void testCachedWriter() {
+        final CountingClassLoader cl = new CountingClassLoader();
+        final CDRStreamWriter writer = CDRStream.writerFor(VALUETYPE, cl);
+        Assert.assertSame(writer, CDRStream.writerFor(VALUETYPE, cl));
+        Assert.assertEquals(1, CDRStreamCache.forClassLoader(cl).size());
+    }
+
+    @Test
+    public void testClassLoaderIsolation() {
+        final CountingClassLoader first = new CountingClassLoader();
+        final CountingClassLoader second = new CountingClassLoader();
+        final CDRStreamReader reader = CDRStream.readerFor(REMOTE, first);
+        Assert.assertNotSame(reader, CDRStream.readerFor(REMOTE, second));
+        Assert.assertEquals(1, first.loads.get());
+        Assert.assertEquals(1, second.loads.get());
+        Assert.assertNotSame(CDRStream.writerFor(VALUETYPE, first), CDRStream.writerFor(VALUETYPE, second));
+    }
+
+    @Test
+    public void testClearCache() {
+        final CountingClassLoader cl = new CountingClassLoader();
+        final CDRStreamReader reader = CDRStream.readerFor(REMOTE, cl);
+        CDRStream.clearCache(cl);
+        Assert.assertNotSame(reader, CDRStream.readerFor(REMOTE, cl));
+        Assert.assertEquals(2, cl.loads.get());
+    }
+
+    @Test
+    public void testSingletonsAreNotCached() {
+        final CountingClassLoader cl = new CountingClassLoader();
+        Assert.assertSame(CDRStream.readerFor("I", cl), CDRStream.readerFor("I", cl));
+        Assert.assertEquals(0, CDRStreamCache.forClassLoader(cl).size());
+        Assert.assertEquals(0, cl.loads.get());
+    }
+
+    private static final class CountingClassLoader extends ClassLoader {
+
+        final AtomicInteger loads = new AtomicInteger();
+
+        CountingClassLoader() {
+            super(CDRStreamCacheTestCase.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            loads.incrementAndGet();
+            return super.loadClass(name, resolve);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.wildfly.iiop.openjdk.rmi.marshal;
+
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.omg.CORBA.ORB;
+import org.omg.CORBA_2_3.portable.InputStream;
+import org.omg.CORBA_2_3.portable.OutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.wildfly.iiop.openjdk.rmi.marshal.strategy.SkeletonStrategy;
+import org.wildfly.iiop.openjdk.rmi.marshal.strategy.StubStrategy;
+
+/**
+ * Measures the throughput of IIOP stub and skeleton strategies: resolving them for a method (which goes through
+ * the {@link CDRStream} reader and writer caches) and marshalling the parameters of an invocation from the stub
+ * side to the skeleton side through CDR streams.
+ * <p/>
+ * Run {@link #main(String[])} from the test class path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CDRStreamMarshallingBenchmark {
+
+    public interface Orders {
+        Order place(String customer, Order order, int quantity);
+    }
+
+    public static class Order implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final String item;
+        private final long price;
+
+        public Order(final String item, final long price) {
+            this.item = item;
+            this.price = price;
+        }
+    }
+
+    private static final String[] PARAM_TYPES = {
+            CDRStream.abbrevFor(String.class), CDRStream.abbrevFor(Order.class), CDRStream.abbrevFor(Integer.TYPE)};
+    private static final String RETVAL_TYPE = CDRStream.abbrevFor(Order.class);
+    private static final String[] NO_EXCEPTIONS = {};
+
+    private ORB orb;
+    private Method place;
+    private StubStrategy stubStrategy;
+    private SkeletonStrategy skeletonStrategy;
+    private Object[] params;
+
+    @Setup
+    public void setup() throws Exception {
+        orb = ORB.init(new String[0], new Properties());
+        place = Orders.class.getMethod("place", String.class, Order.class, Integer.TYPE);
+        stubStrategy = resolveStubStrategy();
+        skeletonStrategy = resolveSkeletonStrategy();
+        params = new Object[] {"customer", new Order("item", 42L), 3};
+    }
+
+    @TearDown
+    public void tearDown() {
+        orb.destroy();
+    }
+
+    @Benchmark
+    public StubStrategy resolveStubStrategy() {
+        return StubStrategy.forMethod(PARAM_TYPES, NO_EXCEPTIONS, NO_EXCEPTIONS, RETVAL_TYPE, Orders.class.getClassLoader());
+    }
+
+    @Benchmark
+    public SkeletonStrategy resolveSkeletonStrategy() {
+        return new SkeletonStrategy(place);
+    }
+
+    @Benchmark
+    public Object[] marshalParams() {
+        final OutputStream out = (OutputStream) orb.create_output_stream();
+        stubStrategy.writeParams(out, params);
+        return skeletonStrategy.readParams((InputStream) out.create_input_stream());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CDRStreamMarshallingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -20,6 +20,8 @@
  */
 package org.jboss.as.jaxrs;
 
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.DEPLOYMENT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUBDEPLOYMENT;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUBSYSTEM;
 import static org.wildfly.extension.undertow.DeploymentDefinition.CONTEXT_ROOT;
 import static org.wildfly.extension.undertow.DeploymentDefinition.SERVER;
@@ -32,20 +34,26 @@ import java.util.List;
 import java.util.Map;
 import javax.servlet.Servlet;
 import javax.servlet.ServletException;
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
 import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.ObjectMapAttributeDefinition;
 import org.jboss.as.controller.ObjectTypeAttributeDefinition;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.OperationStepHandler;
 import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.ReloadRequiredRemoveStepHandler;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleListAttributeDefinition;
 import org.jboss.as.controller.SimpleOperationDefinition;
 import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.ee.metrics.LatencyHistogram;
+import org.jboss.as.jaxrs.deployment.JaxrsMetrics;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 import org.jboss.msc.service.ServiceController;
@@ -77,6 +85,32 @@ public class JaxrsDeploymentDefinition extends SimpleResourceDefinition {
             = new SimpleListAttributeDefinition.Builder("resource-methods", METHOD).setStorageRuntime().build();
     public static final ObjectTypeAttributeDefinition JAXRS_RESOURCE
             = new ObjectTypeAttributeDefinition.Builder("jaxrs-resource", CLASSNAME, PATH, METHODS).setStorageRuntime().build();
+    public static final AttributeDefinition SCANNING_TIME
+            = new SimpleAttributeDefinitionBuilder("scanning-time", ModelType.LONG, true).setMeasurementUnit(MeasurementUnit.MILLISECONDS).setStorageRuntime().build();
+    public static final AttributeDefinition SCANNING_CACHE_HIT
+            = new SimpleAttributeDefinitionBuilder("scanning-cache-hit", ModelType.BOOLEAN, true).setStorageRuntime().build();
+
+    private static final String REQUEST_COUNT = "request-count";
+    private static final String ERROR_COUNT = "error-count";
+    private static final String PROCESSING_TIME = "processing-time";
+    private static final String AVERAGE_PROCESSING_TIME = "average-processing-time";
+    private static final String MAX_PROCESSING_TIME = "max-processing-time";
+    private static final String PROCESSING_TIME_P50 = "processing-time-p50";
+    private static final String PROCESSING_TIME_P90 = "processing-time-p90";
+    private static final String PROCESSING_TIME_P99 = "processing-time-p99";
+    public static final ObjectMapAttributeDefinition RESOURCE_METHOD_METRICS
+            = ObjectMapAttributeDefinition.Builder.of("resource-method-metrics",
+                    ObjectTypeAttributeDefinition.Builder.of("resource-method-metrics",
+                            metric(REQUEST_COUNT, MeasurementUnit.NONE),
+                            metric(ERROR_COUNT, MeasurementUnit.NONE),
+                            metric(PROCESSING_TIME, MeasurementUnit.NANOSECONDS),
+                            metric(AVERAGE_PROCESSING_TIME, MeasurementUnit.NANOSECONDS),
+                            metric(MAX_PROCESSING_TIME, MeasurementUnit.NANOSECONDS),
+                            metric(PROCESSING_TIME_P50, MeasurementUnit.NANOSECONDS),
+                            metric(PROCESSING_TIME_P90, MeasurementUnit.NANOSECONDS),
+                            metric(PROCESSING_TIME_P99, MeasurementUnit.NANOSECONDS))
+                            .build())
+            .setAllowNull(true).setStorageRuntime().build();
 
     private boolean showResources;
     private JaxrsDeploymentDefinition(boolean showResources) {
@@ -85,6 +119,24 @@ public class JaxrsDeploymentDefinition extends SimpleResourceDefinition {
          this.showResources = showResources;
     }
 
+    @Override
+    public void registerAttributes(ManagementResourceRegistration resourceRegistration) {
+        super.registerAttributes(resourceRegistration);
+        if(showResources) {
+            resourceRegistration.registerReadOnlyAttribute(SCANNING_TIME, null);
+            resourceRegistration.registerReadOnlyAttribute(SCANNING_CACHE_HIT, null);
+            resourceRegistration.registerMetric(RESOURCE_METHOD_METRICS, new ResourceMethodMetricsHandler());
+        }
+    }
+
+    private static AttributeDefinition metric(String name, MeasurementUnit unit) {
+        return new SimpleAttributeDefinitionBuilder(name, ModelType.LONG)
+                .setUndefinedMetricValue(new ModelNode(0))
+                .setMeasurementUnit(unit)
+                .setStorageRuntime()
+                .build();
+    }
+
     @Override
     public void registerOperations(ManagementResourceRegistration resourceRegistration) {
         super.registerOperations(resourceRegistration);
@@ -93,6 +145,43 @@ public class JaxrsDeploymentDefinition extends SimpleResourceDefinition {
         }
     }
 
+    /**
+     * Reads the resource method metrics of a deployment, which are only recorded if {@link JaxrsMetrics#isEnabled()}.
+     */
+    static class ResourceMethodMetricsHandler extends AbstractRuntimeOnlyHandler {
+
+        @Override
+        protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+            final PathAddress address = PathAddress.pathAddress(operation.get(ModelDescriptionConstants.OP_ADDR));
+            String deploymentName = null;
+            String subdeploymentName = null;
+            for (PathElement element : address) {
+                if (DEPLOYMENT.equals(element.getKey())) {
+                    deploymentName = element.getValue();
+                } else if (SUBDEPLOYMENT.equals(element.getKey())) {
+                    subdeploymentName = element.getValue();
+                }
+            }
+            final JaxrsMetrics metrics = deploymentName == null ? null : JaxrsMetrics.forDeployment(deploymentName, subdeploymentName);
+            if (metrics != null) {
+                final ModelNode result = context.getResult();
+                result.setEmptyObject();
+                for (JaxrsMetrics.ResourceMethodMetrics values : metrics.getResourceMethodMetrics().values()) {
+                    final LatencyHistogram.Snapshot latencies = values.getLatencies();
+                    final ModelNode node = result.get(values.getName());
+                    node.get(REQUEST_COUNT).set(latencies.getCount());
+                    node.get(ERROR_COUNT).set(values.getErrorCount());
+                    node.get(PROCESSING_TIME).set(latencies.getTotal());
+                    node.get(AVERAGE_PROCESSING_TIME).set(latencies.getAverage());
+                    node.get(MAX_PROCESSING_TIME).set(latencies.getMax());
+                    node.get(PROCESSING_TIME_P50).set(latencies.getPercentile(50));
+                    node.get(PROCESSING_TIME_P90).set(latencies.getPercentile(90));
+                    node.get(PROCESSING_TIME_P99).set(latencies.getPercentile(99));
+                }
+            }
+        }
+    }
+
     static class ShowJaxrsResourcesHandler implements OperationStepHandler {
         public static final SimpleOperationDefinition DEFINITION = new SimpleOperationDefinitionBuilder(SHOW_RESOURCES,
                 JaxrsExtension.getResolver("deployment"))
@@ -33,6 +33,7 @@ import org.jboss.as.ee.weld.WeldDeploymentMarker;
 import org.jboss.modules.Module;
 import org.jboss.modules.ModuleIdentifier;
 import org.jboss.modules.ModuleLoader;
+import org.jboss.modules.filter.PathFilters;
 
 /**
  * Deployment processor which adds a module dependencies for modules needed for JAX-RS deployments.
@@ -56,6 +57,7 @@ public class JaxrsDependencyProcessor implements DeploymentUnitProcessor {
     public static final ModuleIdentifier JAXB_API = ModuleIdentifier.create("javax.xml.bind.api");
     public static final ModuleIdentifier JSON_API = ModuleIdentifier.create("javax.json.api");
     public static final ModuleIdentifier JAXRS_API = ModuleIdentifier.create("javax.ws.rs.api");
+    public static final ModuleIdentifier JAXRS_SUBSYSTEM = ModuleIdentifier.create("org.jboss.as.jaxrs");
 
     /**
      * We include this so that jackson annotations will be available, otherwise they will be ignored which leads
@@ -92,6 +94,14 @@ public class JaxrsDependencyProcessor implements DeploymentUnitProcessor {
             addDependency(moduleSpecification, moduleLoader, RESTEASY_CDI, true);
         }
 
+        //the metrics filters are loaded by RESTEasy and the servlet container from the deployment class loader, only expose their package
+        if (JaxrsMetrics.isEnabled() && JaxrsDeploymentMarker.isJaxrsDeployment(deploymentUnit)) {
+            final ModuleDependency metrics = new ModuleDependency(moduleLoader, JAXRS_SUBSYSTEM, false, false, false, false);
+            metrics.addImportFilter(PathFilters.is("org/jboss/as/jaxrs/deployment/metrics"), true);
+            metrics.addImportFilter(PathFilters.acceptAll(), false);
+            moduleSpecification.addSystemDependency(metrics);
+        }
+
     }
 
     private void addDependency(ModuleSpecification moduleSpecification, ModuleLoader moduleLoader,
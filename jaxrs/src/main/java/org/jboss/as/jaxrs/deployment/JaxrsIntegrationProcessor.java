@@ -25,6 +25,7 @@ package org.jboss.as.jaxrs.deployment;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -36,6 +37,8 @@ import javax.ws.rs.core.Application;
 
 import org.jboss.as.ee.structure.DeploymentType;
 import org.jboss.as.ee.structure.DeploymentTypeMarker;
+import org.jboss.as.jaxrs.deployment.metrics.JaxrsMetricsFilter;
+import org.jboss.as.jaxrs.deployment.metrics.JaxrsMetricsServletFilter;
 import org.jboss.as.server.deployment.Attachments;
 import org.jboss.as.server.deployment.DeploymentPhaseContext;
 import org.jboss.as.server.deployment.DeploymentUnit;
@@ -43,12 +46,16 @@ import org.jboss.as.server.deployment.DeploymentUnitProcessingException;
 import org.jboss.as.server.deployment.DeploymentUnitProcessor;
 import org.jboss.as.server.deployment.module.ModuleDependency;
 import org.jboss.as.server.deployment.module.ModuleSpecification;
+import org.jboss.as.web.common.ServletContextAttribute;
 import org.jboss.as.web.common.WarMetaData;
 import org.jboss.metadata.javaee.spec.ParamValueMetaData;
 import org.jboss.metadata.web.jboss.JBossServletMetaData;
 import org.jboss.metadata.web.jboss.JBossServletsMetaData;
 import org.jboss.metadata.web.jboss.JBossWebMetaData;
+import org.jboss.metadata.web.spec.DispatcherType;
+import org.jboss.metadata.web.spec.FilterMappingMetaData;
 import org.jboss.metadata.web.spec.FilterMetaData;
+import org.jboss.metadata.web.spec.FiltersMetaData;
 import org.jboss.metadata.web.spec.ServletMappingMetaData;
 import org.jboss.modules.ModuleIdentifier;
 import org.jboss.resteasy.plugins.server.servlet.HttpServlet30Dispatcher;
@@ -56,7 +63,9 @@ import org.jboss.resteasy.plugins.server.servlet.ResteasyContextParameters;
 
 import static org.jboss.as.jaxrs.logging.JaxrsLogger.JAXRS_LOGGER;
 
+import org.jboss.as.jaxrs.JaxrsDeploymentDefinition;
 import org.jboss.as.jaxrs.JaxrsExtension;
+import org.jboss.dmr.ModelNode;
 
 
 /**
@@ -66,6 +75,7 @@ import org.jboss.as.jaxrs.JaxrsExtension;
 public class JaxrsIntegrationProcessor implements DeploymentUnitProcessor {
     private static final String JAX_RS_SERVLET_NAME = "javax.ws.rs.core.Application";
     private static final String SERVLET_INIT_PARAM = "javax.ws.rs.Application";
+    private static final String METRICS_FILTER_NAME = JaxrsMetricsServletFilter.class.getName();
     public static final String RESTEASY_SCAN = "resteasy.scan";
     public static final String RESTEASY_SCAN_RESOURCES = "resteasy.scan.resources";
     public static final String RESTEASY_SCAN_PROVIDERS = "resteasy.scan.providers";
@@ -91,7 +101,9 @@ public class JaxrsIntegrationProcessor implements DeploymentUnitProcessor {
         if (resteasy == null)
             return;
 
-        deploymentUnit.getDeploymentSubsystemModel(JaxrsExtension.SUBSYSTEM_NAME);
+        final ModelNode model = deploymentUnit.getDeploymentSubsystemModel(JaxrsExtension.SUBSYSTEM_NAME);
+        model.get(JaxrsDeploymentDefinition.SCANNING_TIME.getName()).set(resteasy.getScanningTime());
+        model.get(JaxrsDeploymentDefinition.SCANNING_CACHE_HIT.getName()).set(resteasy.isScanningCacheHit());
         //remove the resteasy.scan parameter
         //because it is not needed
         final List<ParamValueMetaData> params = webdata.getContextParams();
@@ -117,6 +129,13 @@ public class JaxrsIntegrationProcessor implements DeploymentUnitProcessor {
             setContextParameter(webdata, ResteasyContextParameters.RESTEASY_EXPAND_ENTITY_REFERENCES, "false");
         }
 
+        if (JaxrsMetrics.isEnabled()) {
+            final JaxrsMetrics metrics = JaxrsMetrics.register(deploymentUnit);
+            deploymentUnit.addToAttachmentList(ServletContextAttribute.ATTACHMENT_KEY, new ServletContextAttribute(JaxrsMetrics.SERVLET_CONTEXT_ATTRIBUTE, metrics));
+            addProvider(webdata, JaxrsMetricsFilter.class.getName());
+            addMetricsServletFilter(webdata);
+        }
+
 
         final Map<ModuleIdentifier, ResteasyDeploymentData> attachmentMap = parent.getAttachment(JaxrsAttachments.ADDITIONAL_RESTEASY_DEPLOYMENT_DATA);
         final List<ResteasyDeploymentData> additionalData = new ArrayList<ResteasyDeploymentData>();
@@ -289,6 +308,44 @@ public class JaxrsIntegrationProcessor implements DeploymentUnitProcessor {
     }
 
 
+    private void addProvider(JBossWebMetaData webdata, String provider) {
+        final List<ParamValueMetaData> params = webdata.getContextParams();
+        if (params != null) {
+            for (final ParamValueMetaData param : params) {
+                if (param.getParamName().equals(ResteasyContextParameters.RESTEASY_PROVIDERS)) {
+                    final String value = param.getParamValue() == null ? "" : param.getParamValue().trim();
+                    param.setParamValue(value.isEmpty() ? provider : value + "," + provider);
+                    return;
+                }
+            }
+        }
+        setContextParameter(webdata, ResteasyContextParameters.RESTEASY_PROVIDERS, provider);
+    }
+
+
+    /**
+     * Maps the metrics servlet filter before any other filter, so that it sees the exceptions that are not mapped to a
+     * response whether RESTEasy is deployed as a servlet or as a filter.
+     */
+    private void addMetricsServletFilter(JBossWebMetaData webdata) {
+        final FilterMetaData filter = new FilterMetaData();
+        filter.setName(METRICS_FILTER_NAME);
+        filter.setFilterClass(JaxrsMetricsServletFilter.class.getName());
+        final FilterMappingMetaData mapping = new FilterMappingMetaData();
+        mapping.setFilterName(METRICS_FILTER_NAME);
+        mapping.setUrlPatterns(Collections.singletonList("/*"));
+        mapping.setDispatchers(Collections.singletonList(DispatcherType.REQUEST));
+
+        if (webdata.getFilters() == null) {
+            webdata.setFilters(new FiltersMetaData());
+        }
+        if (webdata.getFilterMappings() == null) {
+            webdata.setFilterMappings(new ArrayList<FilterMappingMetaData>());
+        }
+        webdata.getFilters().add(filter);
+        webdata.getFilterMappings().add(0, mapping);
+    }
+
     private void addServlet(JBossWebMetaData webdata, JBossServletMetaData servlet) {
         if (webdata.getServlets() == null) {
             webdata.setServlets(new JBossServletsMetaData());
@@ -298,6 +355,9 @@ public class JaxrsIntegrationProcessor implements DeploymentUnitProcessor {
 
     @Override
     public void undeploy(DeploymentUnit context) {
+        if (JaxrsMetrics.isEnabled()) {
+            JaxrsMetrics.unregister(context);
+        }
     }
 
     protected void setFilterInitParam(FilterMetaData filter, String name, String value) {
@@ -0,0 +1,199 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.jaxrs.deployment;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.as.ee.metrics.LatencyHistogram;
+import org.jboss.as.jaxrs.deployment.metrics.JaxrsMetricsFilter;
+import org.jboss.as.jaxrs.deployment.metrics.JaxrsMetricsServletFilter;
+import org.jboss.as.server.deployment.DeploymentUnit;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Per deployment request counts, error counts and latency histograms of JAX-RS resource methods.
+ * <p/>
+ * The metrics are only recorded if the {@value #METRICS} system property is set to {@code true}, in which case
+ * {@link JaxrsIntegrationProcessor} registers {@link JaxrsMetricsFilter} as a provider of the deployment and
+ * {@link JaxrsMetricsServletFilter} as a servlet filter, which counts the requests failing with an exception that is
+ * not mapped to a response. Latencies are recorded in nanoseconds in a {@link LatencyHistogram}.
+ */
+public final class JaxrsMetrics {
+
+    static final String METRICS = "wildfly.jaxrs.metrics";
+
+    /**
+     * The servlet context attribute the metrics of a deployment are bound to.
+     */
+    public static final String SERVLET_CONTEXT_ATTRIBUTE = JaxrsMetrics.class.getName();
+
+    private static final boolean ENABLED = Boolean.parseBoolean(WildFlySecurityManager.getPropertyPrivileged(METRICS, "false"));
+
+    private static final ConcurrentMap<String, JaxrsMetrics> DEPLOYMENTS = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<Class<?>, ConcurrentMap<Method, ResourceMethodMetrics>> resourceMethods = new ConcurrentHashMap<>();
+
+    JaxrsMetrics() {
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Get the metrics of a deployment.
+     *
+     * @param deploymentName    the name of the top level deployment
+     * @param subdeploymentName the name of the sub deployment, or null for a top level deployment
+     * @return the metrics or null if the deployment is not started or metrics are not enabled
+     */
+    public static JaxrsMetrics forDeployment(final String deploymentName, final String subdeploymentName) {
+        return DEPLOYMENTS.get(key(deploymentName, subdeploymentName));
+    }
+
+    static JaxrsMetrics register(final DeploymentUnit deploymentUnit) {
+        final JaxrsMetrics metrics = new JaxrsMetrics();
+        DEPLOYMENTS.put(key(deploymentUnit), metrics);
+        return metrics;
+    }
+
+    static void unregister(final DeploymentUnit deploymentUnit) {
+        DEPLOYMENTS.remove(key(deploymentUnit));
+    }
+
+    private static String key(final DeploymentUnit deploymentUnit) {
+        final DeploymentUnit parent = deploymentUnit.getParent();
+        return parent == null ? key(deploymentUnit.getName(), null) : key(parent.getName(), deploymentUnit.getName());
+    }
+
+    private static String key(final String deploymentName, final String subdeploymentName) {
+        return subdeploymentName == null ? deploymentName : deploymentName + '/' + subdeploymentName;
+    }
+
+    /**
+     * Get the metrics of a resource method, keyed by the resource class as well as the method since a method inherited
+     * by several resource classes is reported once per class.
+     *
+     * @param resourceClass the resource class
+     * @param method        the resource method
+     * @return the metrics of the resource method of the resource class
+     */
+    public ResourceMethodMetrics getResourceMethodMetrics(final Class<?> resourceClass, final Method method) {
+        ConcurrentMap<Method, ResourceMethodMetrics> methods = resourceMethods.get(resourceClass);
+        if (methods == null) {
+            final ConcurrentMap<Method, ResourceMethodMetrics> created = new ConcurrentHashMap<>();
+            methods = resourceMethods.putIfAbsent(resourceClass, created);
+            if (methods == null) {
+                methods = created;
+            }
+        }
+        ResourceMethodMetrics metrics = methods.get(method);
+        if (metrics == null) {
+            final ResourceMethodMetrics created = new ResourceMethodMetrics(name(resourceClass, method));
+            metrics = methods.putIfAbsent(method, created);
+            if (metrics == null) {
+                metrics = created;
+            }
+        }
+        return metrics;
+    }
+
+    /**
+     * @return the metrics of the resource methods that were invoked, sorted by name
+     */
+    public Map<String, ResourceMethodMetrics> getResourceMethodMetrics() {
+        final Map<String, ResourceMethodMetrics> result = new TreeMap<>();
+        for (ConcurrentMap<Method, ResourceMethodMetrics> methods : resourceMethods.values()) {
+            for (ResourceMethodMetrics metrics : methods.values()) {
+                result.put(metrics.getName(), metrics);
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * @return the name of a resource method, with the fully qualified parameter types so that overloads are distinct
+     */
+    static String name(final Class<?> resourceClass, final Method method) {
+        final StringBuilder builder = new StringBuilder();
+        builder.append(resourceClass.getName()).append('.').append(method.getName()).append('(');
+        final Class<?>[] parameterTypes = method.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(parameterTypes[i].getTypeName());
+        }
+        return builder.append(')').toString();
+    }
+
+    /**
+     * Request count, error count and latency histogram of a single resource method.
+     */
+    public static final class ResourceMethodMetrics {
+
+        private final String name;
+        private final LongAdder errors = new LongAdder();
+        private final LatencyHistogram latencies = new LatencyHistogram();
+
+        ResourceMethodMetrics(final String name) {
+            this.name = name;
+        }
+
+        public void record(final long elapsed, final boolean error) {
+            if (error) {
+                errors.increment();
+            }
+            latencies.record(elapsed);
+        }
+
+        /**
+         * Count an error of a request whose latency was already recorded, e.g. because writing its response failed.
+         */
+        public void recordError() {
+            errors.increment();
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getErrorCount() {
+            return errors.sum();
+        }
+
+        /**
+         * @return the request count and the processing times, in nanoseconds
+         */
+        public LatencyHistogram.Snapshot getLatencies() {
+            return latencies.snapshot();
+        }
+    }
+}
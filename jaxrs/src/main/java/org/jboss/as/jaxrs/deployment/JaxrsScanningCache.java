@@ -0,0 +1,184 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.jaxrs.deployment;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javax.ws.rs.core.Application;
+
+import org.jboss.as.ee.utils.DeploymentCacheFile;
+import org.jboss.as.jaxrs.logging.JaxrsLogger;
+import org.jboss.as.server.deployment.DeploymentUnit;
+import org.jboss.as.server.deployment.DeploymentUnitProcessingException;
+
+/**
+ * On-disk cache of the classes found by {@link JaxrsScanningProcessor} in a deployment module.
+ * <p/>
+ * The scanning results of a module are stored in a {@link DeploymentCacheFile} together with the content repository
+ * hash of the deployment they were computed from and the scanning flags of the module, results whose hash or flags do
+ * not match are discarded and the module is scanned again. The cache files of a deployment are deleted when it is
+ * undeployed. The cache is disabled unless the {@value #SCANNING_CACHE} system property is set to {@code true}, it is
+ * stored in the {@value #SCANNING_CACHE_DIR} directory, by default {@code jaxrs-scanning-cache} in the server data
+ * directory.
+ */
+final class JaxrsScanningCache {
+
+    static final String SCANNING_CACHE = "wildfly.jaxrs.scanningCache";
+
+    static final String SCANNING_CACHE_DIR = "wildfly.jaxrs.scanningCache.dir";
+
+    private static final File DIRECTORY = DeploymentCacheFile.getDirectory(SCANNING_CACHE, SCANNING_CACHE_DIR, "jaxrs-scanning-cache");
+
+    private static final int FORMAT_VERSION = 2;
+
+    private final DeploymentCacheFile file;
+
+    private JaxrsScanningCache(final DeploymentCacheFile file) {
+        this.file = file;
+    }
+
+    /**
+     * @return {@code true} if the scanning cache is enabled
+     */
+    static boolean isEnabled() {
+        return DIRECTORY != null;
+    }
+
+    /**
+     * Get the scanning cache of a deployment module.
+     *
+     * @param deploymentName the name of the top level deployment
+     * @param moduleName the name of the deployment module, the deployment name for the top level module
+     * @param contentHash the content repository hash of the top level deployment
+     * @return the cache
+     */
+    static JaxrsScanningCache forModule(final String deploymentName, final String moduleName, final String contentHash) {
+        return new JaxrsScanningCache(DeploymentCacheFile.forModule(DIRECTORY, deploymentName, moduleName, FORMAT_VERSION, contentHash));
+    }
+
+    static JaxrsScanningCache forFile(final File file, final String contentHash) {
+        return new JaxrsScanningCache(new DeploymentCacheFile(file, FORMAT_VERSION, contentHash));
+    }
+
+    /**
+     * Delete the caches of an undeployed deployment.
+     *
+     * @param deploymentUnit the top level deployment unit
+     */
+    static void delete(final DeploymentUnit deploymentUnit) {
+        if (DIRECTORY != null) {
+            DeploymentCacheFile.delete(DIRECTORY, deploymentUnit);
+        }
+    }
+
+    /**
+     * Restore the scanning results of the module into the deployment data.
+     *
+     * @param data the deployment data, whose scanning flags are already set
+     * @param classLoader the module class loader, used to load the application classes
+     * @return {@code true} if the results were restored, {@code false} if the module has to be scanned
+     * @throws DeploymentUnitProcessingException if an application class cannot be loaded
+     */
+    boolean restore(final ResteasyDeploymentData data, final ClassLoader classLoader) throws DeploymentUnitProcessingException {
+        final List<String> applicationClasses = new ArrayList<>();
+        final List<String> resourceClasses = new ArrayList<>();
+        final List<String> providerClasses = new ArrayList<>();
+        try {
+            if (!file.read(in -> {
+                if (in.readBoolean() != data.isDispatcherCreated()
+                        || in.readBoolean() != data.isScanResources()
+                        || in.readBoolean() != data.isScanProviders()) {
+                    return false;
+                }
+                readNames(in, applicationClasses);
+                readNames(in, resourceClasses);
+                readNames(in, providerClasses);
+                return true;
+            })) {
+                if (file.exists()) {
+                    JaxrsLogger.JAXRS_LOGGER.discardingScanningCache(file.getFile(), null);
+                }
+                return false;
+            }
+        } catch (IOException e) {
+            JaxrsLogger.JAXRS_LOGGER.discardingScanningCache(file.getFile(), e);
+            return false;
+        }
+        try {
+            for (String className : applicationClasses) {
+                @SuppressWarnings("unchecked")
+                Class<? extends Application> scanned = (Class<? extends Application>) classLoader.loadClass(className);
+                data.getScannedApplicationClasses().add(scanned);
+            }
+        } catch (ClassNotFoundException e) {
+            throw JaxrsLogger.JAXRS_LOGGER.cannotLoadApplicationClass(e);
+        }
+        data.getScannedResourceClasses().addAll(resourceClasses);
+        data.getScannedProviderClasses().addAll(providerClasses);
+        return true;
+    }
+
+    /**
+     * Write the scanning results of the module.
+     *
+     * @param data the scanned deployment data
+     */
+    void store(final ResteasyDeploymentData data) {
+        final List<String> applicationClasses = new ArrayList<>();
+        for (Class<? extends Application> applicationClass : data.getScannedApplicationClasses()) {
+            applicationClasses.add(applicationClass.getName());
+        }
+        try {
+            file.write(out -> {
+                out.writeBoolean(data.isDispatcherCreated());
+                out.writeBoolean(data.isScanResources());
+                out.writeBoolean(data.isScanProviders());
+                writeNames(out, applicationClasses);
+                writeNames(out, data.getScannedResourceClasses());
+                writeNames(out, data.getScannedProviderClasses());
+            });
+        } catch (IOException e) {
+            JaxrsLogger.JAXRS_LOGGER.couldNotWriteScanningCache(file.getFile(), e);
+        }
+    }
+
+    private static void readNames(final DataInputStream in, final Collection<String> names) throws IOException {
+        for (int i = in.readInt(); i > 0; i--) {
+            names.add(in.readUTF());
+        }
+    }
+
+    private static void writeNames(final DataOutputStream out, final Collection<String> names) throws IOException {
+        out.writeInt(names.size());
+        for (String name : names) {
+            out.writeUTF(name);
+        }
+    }
+}
@@ -30,9 +30,11 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import javax.ws.rs.core.Application;
 
+import org.jboss.as.ee.utils.DeploymentCacheFile;
 import org.jboss.as.jaxrs.JaxrsAnnotations;
 import org.jboss.as.jaxrs.logging.JaxrsLogger;
 import org.jboss.as.server.deployment.Attachments;
@@ -93,17 +95,19 @@ public class JaxrsScanningProcessor implements DeploymentUnitProcessor {
         ResteasyDeploymentData resteasyDeploymentData = new ResteasyDeploymentData();
         final WarMetaData warMetaData = deploymentUnit.getAttachment(WarMetaData.ATTACHMENT_KEY);
         final Module module = deploymentUnit.getAttachment(Attachments.MODULE);
+        final long start = System.nanoTime();
 
         try {
 
             if (warMetaData == null) {
                 resteasyDeploymentData.setScanAll(true);
-                scan(deploymentUnit, module.getClassLoader(), resteasyDeploymentData);
+                scanOrRestore(deploymentUnit, parent, module.getClassLoader(), resteasyDeploymentData);
                 deploymentData.put(moduleIdentifier, resteasyDeploymentData);
             } else {
                 scanWebDeployment(deploymentUnit, warMetaData.getMergedJBossWebMetaData(), module.getClassLoader(), resteasyDeploymentData);
-                scan(deploymentUnit, module.getClassLoader(), resteasyDeploymentData);
+                scanOrRestore(deploymentUnit, parent, module.getClassLoader(), resteasyDeploymentData);
             }
+            resteasyDeploymentData.setScanningTime(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
             deploymentUnit.putAttachment(JaxrsAttachments.RESTEASY_DEPLOYMENT_DATA, resteasyDeploymentData);
         } catch (ModuleLoadException e) {
             throw new DeploymentUnitProcessingException(e);
@@ -112,7 +116,9 @@ public class JaxrsScanningProcessor implements DeploymentUnitProcessor {
 
     @Override
     public void undeploy(DeploymentUnit context) {
-
+        if (context.getParent() == null && JaxrsDeploymentMarker.isJaxrsDeployment(context)) {
+            JaxrsScanningCache.delete(context);
+        }
     }
 
     public static final Set<String> BOOT_CLASSES = new HashSet<String>();
@@ -183,6 +189,47 @@ public class JaxrsScanningProcessor implements DeploymentUnitProcessor {
 
     }
 
+    /**
+     * Restores the scanning results of the module from the scanning cache if it is enabled and up to date, otherwise
+     * scans the module and updates the cache.
+     */
+    private void scanOrRestore(final DeploymentUnit du, final DeploymentUnit parent, final ClassLoader classLoader, final ResteasyDeploymentData resteasyDeploymentData)
+            throws DeploymentUnitProcessingException, ModuleLoadException {
+        final String contentHash = resteasyDeploymentData.shouldScan() ? getContentHash(du, parent) : null;
+        if (contentHash == null) {
+            scan(du, classLoader, resteasyDeploymentData);
+            return;
+        }
+        final JaxrsScanningCache cache = JaxrsScanningCache.forModule(parent.getName(), du.getName(), contentHash);
+        if (cache.restore(resteasyDeploymentData, classLoader)) {
+            resteasyDeploymentData.setScanningCacheHit(true);
+        } else {
+            scan(du, classLoader, resteasyDeploymentData);
+            cache.store(resteasyDeploymentData);
+        }
+    }
+
+    /**
+     * The scanning results of a module are cached by the content repository hash of the deployment, which only covers
+     * the deployment content. Modules whose annotation index includes the annotations of other modules are not cached,
+     * as a change to these modules would go unnoticed.
+     */
+    private static String getContentHash(final DeploymentUnit du, final DeploymentUnit topLevelDeployment) {
+        if (!JaxrsScanningCache.isEnabled()) {
+            return null;
+        }
+        if (!du.getAttachmentList(Attachments.ADDITIONAL_ANNOTATION_INDEXES).isEmpty()
+                || !topLevelDeployment.getAttachmentList(Attachments.ADDITIONAL_ANNOTATION_INDEXES).isEmpty()) {
+            JAXRS_LOGGER.scanningCacheNotUsedForModuleAnnotations(du.getName());
+            return null;
+        }
+        final String contentHash = DeploymentCacheFile.getContentHash(topLevelDeployment);
+        if (contentHash == null) {
+            JAXRS_LOGGER.scanningCacheNotUsed(topLevelDeployment.getName());
+        }
+        return contentHash;
+    }
+
     protected void scan(final DeploymentUnit du, final ClassLoader classLoader, final ResteasyDeploymentData resteasyDeploymentData)
             throws DeploymentUnitProcessingException, ModuleLoadException {
 
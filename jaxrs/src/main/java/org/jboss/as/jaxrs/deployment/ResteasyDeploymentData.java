@@ -44,6 +44,8 @@ public class ResteasyDeploymentData {
     private boolean bootClasses;
     private boolean unwrappedExceptionsParameterSet;
     private final Set<String> scannedJndiComponentResources = new LinkedHashSet<String>();
+    private long scanningTime;
+    private boolean scanningCacheHit;
 
     /**
      * Merges a list of additional JAX-RS deployment data with this lot of deployment data.
@@ -135,4 +137,26 @@ public class ResteasyDeploymentData {
     public void setUnwrappedExceptionsParameterSet(boolean unwrappedExceptionsParameterSet) {
         this.unwrappedExceptionsParameterSet = unwrappedExceptionsParameterSet;
     }
+
+    /**
+     * @return the time taken to scan the module for JAX-RS classes, in milliseconds
+     */
+    public long getScanningTime() {
+        return scanningTime;
+    }
+
+    public void setScanningTime(long scanningTime) {
+        this.scanningTime = scanningTime;
+    }
+
+    /**
+     * @return {@code true} if the scanning results of the module were restored from the scanning cache
+     */
+    public boolean isScanningCacheHit() {
+        return scanningCacheHit;
+    }
+
+    public void setScanningCacheHit(boolean scanningCacheHit) {
+        this.scanningCacheHit = scanningCacheHit;
+    }
 }
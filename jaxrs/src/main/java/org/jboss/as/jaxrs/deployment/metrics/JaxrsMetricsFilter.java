@@ -0,0 +1,98 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.jaxrs.deployment.metrics;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+
+import javax.annotation.Priority;
+import javax.servlet.ServletContext;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.Response;
+
+import org.jboss.as.jaxrs.deployment.JaxrsMetrics;
+
+/**
+ * Records the {@link JaxrsMetrics} of the resource methods of a deployment. The filter has the lowest priority so it
+ * runs before any other request filter and after any other response filter, responses with a server error status are
+ * counted as errors.
+ * <p/>
+ * Requests that fail with an exception that is not mapped to a response do not reach the response filters, the
+ * metrics of the resource method and the start time are kept in request properties, which RESTEasy stores as servlet
+ * request attributes, so that {@link JaxrsMetricsServletFilter} records them as errors.
+ * <p/>
+ * RESTEasy loads the filter from the deployment class loader, which only sees this package of the subsystem module.
+ */
+@Priority(0)
+public class JaxrsMetricsFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+    static final String START_TIME = JaxrsMetricsFilter.class.getName() + ".startTime";
+    static final String RESOURCE_METHOD_METRICS = JaxrsMetricsFilter.class.getName() + ".resourceMethodMetrics";
+
+    @Context
+    private ResourceInfo resourceInfo;
+
+    @Context
+    private ServletContext servletContext;
+
+    private volatile JaxrsMetrics metrics;
+
+    @Override
+    public void filter(final ContainerRequestContext requestContext) throws IOException {
+        final Method method = resourceInfo.getResourceMethod();
+        final JaxrsMetrics metrics = getMetrics();
+        if (method != null && metrics != null) {
+            requestContext.setProperty(RESOURCE_METHOD_METRICS, metrics.getResourceMethodMetrics(resourceInfo.getResourceClass(), method));
+            requestContext.setProperty(START_TIME, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void filter(final ContainerRequestContext requestContext, final ContainerResponseContext responseContext) throws IOException {
+        final Object start = requestContext.getProperty(START_TIME);
+        final Object metrics = requestContext.getProperty(RESOURCE_METHOD_METRICS);
+        if (start == null || metrics == null) {
+            return;
+        }
+        final long elapsed = System.nanoTime() - (Long) start;
+        // the metrics are kept so that a failure to write the response is still counted as an error
+        requestContext.removeProperty(START_TIME);
+        final boolean error = responseContext.getStatusInfo().getFamily() == Response.Status.Family.SERVER_ERROR;
+        ((JaxrsMetrics.ResourceMethodMetrics) metrics).record(elapsed, error);
+    }
+
+    private JaxrsMetrics getMetrics() {
+        JaxrsMetrics metrics = this.metrics;
+        if (metrics == null) {
+            metrics = (JaxrsMetrics) servletContext.getAttribute(JaxrsMetrics.SERVLET_CONTEXT_ATTRIBUTE);
+            this.metrics = metrics;
+        }
+        return metrics;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.jaxrs.deployment.metrics;
+
+import java.io.IOException;
+
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+
+import org.jboss.as.jaxrs.deployment.JaxrsMetrics;
+
+/**
+ * Records the requests to resource methods that fail with an exception that is not mapped to a response as errors of
+ * the {@link JaxrsMetrics}. RESTEasy rethrows these exceptions to the servlet container, which responds with a server
+ * error, without running the response filters, so {@link JaxrsMetricsFilter} cannot see them.
+ * <p/>
+ * A request whose response was already recorded by {@link JaxrsMetricsFilter} only has its error counted, e.g. when
+ * writing the entity failed. Failures of asynchronous requests are handled by RESTEasy and are not seen here.
+ */
+public class JaxrsMetricsServletFilter implements Filter {
+
+    @Override
+    public void init(final FilterConfig filterConfig) throws ServletException {
+    }
+
+    @Override
+    public void doFilter(final ServletRequest request, final ServletResponse response, final FilterChain chain) throws IOException, ServletException {
+        try {
+            chain.doFilter(request, response);
+        } catch (final Throwable t) {
+            recordError(request);
+            throw t;
+        }
+    }
+
+    private static void recordError(final ServletRequest request) {
+        final Object metrics = request.getAttribute(JaxrsMetricsFilter.RESOURCE_METHOD_METRICS);
+        if (metrics == null) {
+            return;
+        }
+        request.removeAttribute(JaxrsMetricsFilter.RESOURCE_METHOD_METRICS);
+        final Object start = request.getAttribute(JaxrsMetricsFilter.START_TIME);
+        if (start == null) {
+            ((JaxrsMetrics.ResourceMethodMetrics) metrics).recordError();
+        } else {
+            request.removeAttribute(JaxrsMetricsFilter.START_TIME);
+            ((JaxrsMetrics.ResourceMethodMetrics) metrics).record(System.nanoTime() - (Long) start, true);
+        }
+    }
+
+    @Override
+    public void destroy() {
+    }
+}
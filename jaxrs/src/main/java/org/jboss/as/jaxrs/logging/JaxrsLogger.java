@@ -33,9 +33,11 @@ import org.jboss.logging.Logger;
 import org.jboss.logging.annotations.Message;
 import org.jboss.logging.annotations.MessageLogger;
 
+import static org.jboss.logging.Logger.Level.DEBUG;
 import static org.jboss.logging.Logger.Level.ERROR;
 import static org.jboss.logging.Logger.Level.WARN;
 
+import java.io.File;
 import java.util.List;
 
 /**
@@ -158,4 +160,20 @@ public interface JaxrsLogger extends BasicLogger {
     @LogMessage(level = WARN)
     @Message(id = 13, value = "The context param " + JaxrsSpringProcessor.DISABLE_PROPERTY + " is deprecated, and will be removed in a future release. Please use " + JaxrsSpringProcessor.ENABLE_PROPERTY + " instead")
     void disablePropertyDeprecated();
+
+    @LogMessage(level = WARN)
+    @Message(id = 14, value = "Could not write the JAX-RS scanning cache %s")
+    void couldNotWriteScanningCache(File file, @Cause Throwable cause);
+
+    @LogMessage(level = DEBUG)
+    @Message(id = Message.NONE, value = "Deployment %s has no content repository hash, the JAX-RS scanning cache is not used")
+    void scanningCacheNotUsed(String deploymentName);
+
+    @LogMessage(level = DEBUG)
+    @Message(id = Message.NONE, value = "Deployment %s indexes the annotations of modules outside of its content, the JAX-RS scanning cache is not used")
+    void scanningCacheNotUsedForModuleAnnotations(String deploymentName);
+
+    @LogMessage(level = DEBUG)
+    @Message(id = Message.NONE, value = "Discarding the outdated JAX-RS scanning cache %s")
+    void discardingScanningCache(File file, @Cause Throwable cause);
 }
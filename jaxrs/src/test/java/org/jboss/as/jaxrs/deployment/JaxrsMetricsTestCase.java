@@ -0,0 +1,137 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.jaxrs.deployment;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.ee.metrics.LatencyHistogram;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class JaxrsMetricsTestCase {
+
+    @Test
+    public void testRecord() throws Exception {
+        final JaxrsMetrics metrics = new JaxrsMetrics();
+        final Method get = TestResource.class.getMethod("get");
+        final JaxrsMetrics.ResourceMethodMetrics methodMetrics = metrics.getResourceMethodMetrics(TestResource.class, get);
+        Assert.assertSame(methodMetrics, metrics.getResourceMethodMetrics(TestResource.class, get));
+
+        methodMetrics.record(100, false);
+        methodMetrics.record(300, true);
+        methodMetrics.record(-5, false);
+
+        final LatencyHistogram.Snapshot latencies = methodMetrics.getLatencies();
+        Assert.assertEquals(3, latencies.getCount());
+        Assert.assertEquals(1, methodMetrics.getErrorCount());
+        Assert.assertEquals(400, latencies.getTotal());
+        Assert.assertEquals(300, latencies.getMax());
+        Assert.assertEquals(133, latencies.getAverage());
+    }
+
+    @Test
+    public void testPercentiles() throws Exception {
+        final JaxrsMetrics metrics = new JaxrsMetrics();
+        final JaxrsMetrics.ResourceMethodMetrics methodMetrics = metrics.getResourceMethodMetrics(TestResource.class, TestResource.class.getMethod("get"));
+        for (int i = 0; i < 90; i++) {
+            methodMetrics.record(TimeUnit.MICROSECONDS.toNanos(100), false);
+        }
+        for (int i = 0; i < 10; i++) {
+            methodMetrics.record(TimeUnit.MILLISECONDS.toNanos(100), false);
+        }
+
+        final LatencyHistogram.Snapshot latencies = methodMetrics.getLatencies();
+        // percentiles are reported as the upper bound of their power of two bucket
+        Assert.assertEquals(131071, latencies.getPercentile(50));
+        Assert.assertEquals(131071, latencies.getPercentile(90));
+        Assert.assertEquals(TimeUnit.MILLISECONDS.toNanos(100), latencies.getPercentile(99));
+        Assert.assertEquals(0, new JaxrsMetrics().getResourceMethodMetrics(TestResource.class, TestResource.class.getMethod("get")).getLatencies().getPercentile(99));
+    }
+
+    @Test
+    public void testOverloadsAreDistinct() throws Exception {
+        final JaxrsMetrics metrics = new JaxrsMetrics();
+        metrics.getResourceMethodMetrics(TestResource.class, TestResource.class.getMethod("get")).record(1, false);
+        metrics.getResourceMethodMetrics(TestResource.class, TestResource.class.getMethod("get", String.class)).record(1, false);
+        metrics.getResourceMethodMetrics(TestResource.class, TestResource.class.getMethod("get", String[].class)).record(1, false);
+        metrics.getResourceMethodMetrics(TestResource.class, TestResource.class.getMethod("get", java.sql.Date.class)).record(1, false);
+        metrics.getResourceMethodMetrics(TestResource.class, TestResource.class.getMethod("get", java.util.Date.class)).record(1, false);
+
+        final String resource = TestResource.class.getName();
+        final List<String> expected = Arrays.asList(resource + ".get()",
+                resource + ".get(java.lang.String)",
+                resource + ".get(java.lang.String[])",
+                resource + ".get(java.sql.Date)",
+                resource + ".get(java.util.Date)");
+        Assert.assertEquals(expected, Arrays.asList(metrics.getResourceMethodMetrics().keySet().toArray()));
+    }
+
+    @Test
+    public void testResourceClassesAreDistinct() throws Exception {
+        final JaxrsMetrics metrics = new JaxrsMetrics();
+        final Method get = TestResource.class.getMethod("get");
+        Assert.assertEquals(get, SubResource.class.getMethod("get"));
+        metrics.getResourceMethodMetrics(TestResource.class, get).record(1, false);
+        metrics.getResourceMethodMetrics(SubResource.class, get).record(1, true);
+
+        Assert.assertEquals(Arrays.asList(SubResource.class.getName() + ".get()", TestResource.class.getName() + ".get()"),
+                Arrays.asList(metrics.getResourceMethodMetrics().keySet().toArray()));
+        Assert.assertEquals(0, metrics.getResourceMethodMetrics(TestResource.class, get).getErrorCount());
+        Assert.assertEquals(1, metrics.getResourceMethodMetrics(SubResource.class, get).getErrorCount());
+    }
+
+    @Test
+    public void testRecordError() throws Exception {
+        final JaxrsMetrics.ResourceMethodMetrics methodMetrics = new JaxrsMetrics().getResourceMethodMetrics(TestResource.class, TestResource.class.getMethod("get"));
+        methodMetrics.record(100, false);
+        methodMetrics.recordError();
+
+        Assert.assertEquals(1, methodMetrics.getLatencies().getCount());
+        Assert.assertEquals(1, methodMetrics.getErrorCount());
+    }
+
+    public static class SubResource extends TestResource {
+    }
+
+    public static class TestResource {
+
+        public void get() {
+        }
+
+        public void get(String name) {
+        }
+
+        public void get(String[] names) {
+        }
+
+        public void get(java.sql.Date date) {
+        }
+
+        public void get(java.util.Date date) {
+        }
+    }
+}
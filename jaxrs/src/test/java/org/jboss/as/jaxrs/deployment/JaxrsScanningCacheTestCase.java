@@ -0,0 +1,90 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.jaxrs.deployment;
+
+import java.io.File;
+import java.util.Arrays;
+
+import javax.ws.rs.core.Application;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class JaxrsScanningCacheTestCase {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testRestore() throws Exception {
+        final File file = new File(folder.getRoot(), "deployment.cache");
+        final ResteasyDeploymentData scanned = newDeploymentData();
+        scanned.getScannedApplicationClasses().add(TestApplication.class);
+        scanned.getScannedResourceClasses().addAll(Arrays.asList("org.example.Resource", "org.example.OtherResource"));
+        scanned.getScannedProviderClasses().add("org.example.Provider");
+        JaxrsScanningCache.forFile(file, "1").store(scanned);
+        Assert.assertTrue(file.isFile());
+
+        final ResteasyDeploymentData restored = newDeploymentData();
+        Assert.assertTrue(JaxrsScanningCache.forFile(file, "1").restore(restored, getClass().getClassLoader()));
+        Assert.assertEquals(scanned.getScannedApplicationClasses(), restored.getScannedApplicationClasses());
+        Assert.assertEquals(Arrays.asList("org.example.Resource", "org.example.OtherResource"), Arrays.asList(restored.getScannedResourceClasses().toArray()));
+        Assert.assertEquals(scanned.getScannedProviderClasses(), restored.getScannedProviderClasses());
+    }
+
+    @Test
+    public void testOutdatedCacheIsNotRestored() throws Exception {
+        final File file = new File(folder.getRoot(), "deployment.cache");
+        final ResteasyDeploymentData scanned = newDeploymentData();
+        scanned.getScannedResourceClasses().add("org.example.Resource");
+        JaxrsScanningCache.forFile(file, "1").store(scanned);
+
+        // different deployment content
+        ResteasyDeploymentData restored = newDeploymentData();
+        Assert.assertFalse(JaxrsScanningCache.forFile(file, "2").restore(restored, getClass().getClassLoader()));
+        Assert.assertTrue(restored.getScannedResourceClasses().isEmpty());
+
+        // different scanning configuration
+        restored = newDeploymentData();
+        restored.setScanProviders(false);
+        Assert.assertFalse(JaxrsScanningCache.forFile(file, "1").restore(restored, getClass().getClassLoader()));
+        Assert.assertTrue(restored.getScannedResourceClasses().isEmpty());
+    }
+
+    @Test
+    public void testMissingCache() throws Exception {
+        Assert.assertFalse(JaxrsScanningCache.forFile(new File(folder.getRoot(), "missing.cache"), "1").restore(newDeploymentData(), getClass().getClassLoader()));
+    }
+
+    private static ResteasyDeploymentData newDeploymentData() {
+        final ResteasyDeploymentData data = new ResteasyDeploymentData();
+        data.setScanAll(true);
+        return data;
+    }
+
+    public static class TestApplication extends Application {
+    }
+}
@@ -22,7 +22,10 @@
 
 package org.jboss.as.jpa.config;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.jipijapa.plugin.spi.PersistenceUnitMetadata;
@@ -150,11 +153,29 @@ public class Configuration {
      */
     public static final String JPA_ALLOW_TWO_PHASE_BOOTSTRAP = "wildfly.jpa.twophasebootstrap";
 
+    /**
+     * comma separated list of persistence unit names (optionally qualified with the archive path, e.g. "../lib/common.jar#common")
+     * that must be started before this persistence unit.  Persistence units that don't depend on each other are
+     * started concurrently.  The named persistence units should be container managed and use the same bootstrap mode.
+     */
+    public static final String JPA_START_AFTER = "jboss.as.jpa.startAfter";
+
     /**
      * set to false to ignore default data source (defaults to true)
      */
     private static final String JPA_ALLOW_DEFAULT_DATA_SOURCE_USE = "wildfly.jpa.allowdefaultdatasourceuse";
 
+    /**
+     * set to true to record invocation counts and latencies of container managed entity manager operations
+     * (defaults to false)
+     */
+    public static final String JPA_ENTITY_MANAGER_METRICS = "wildfly.jpa.entitymanagermetrics";
+
+    /**
+     * set to true to defer building the entity manager factory until the persistence unit is first used
+     */
+    public static final String JPA_LAZY = "wildfly.jpa.lazy";
+
     /**
      * set to true to defer detaching entities until persistence context is closed (WFLY-3674)
      */
@@ -277,6 +298,27 @@ public class Configuration {
         return result;
     }
 
+    /**
+     * Get the names of the persistence units that must be started before the specified persistence unit
+     *
+     * @param pu
+     * @return list of persistence unit names (never null)
+     */
+    public static List<String> getPersistenceUnitsToStartAfter(PersistenceUnitMetadata pu) {
+        String value = pu.getProperties().getProperty(Configuration.JPA_START_AFTER);
+        if (value == null || value.trim().isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> result = new ArrayList<>();
+        for (String name : value.split(",")) {
+            name = name.trim();
+            if (!name.isEmpty()) {
+                result.add(name);
+            }
+        }
+        return result;
+    }
+
     /**
      * Determine if the default data-source should be used
      *
@@ -291,6 +333,35 @@ public class Configuration {
         return result;
     }
 
+    /**
+     * Determine if invocation metrics should be recorded for the container managed entity managers of the persistence unit
+     *
+     * @param pu
+     * @return true if entity manager operation metrics should be recorded
+     */
+    public static boolean allowEntityManagerMetrics(PersistenceUnitMetadata pu) {
+        boolean result = false;
+        if (pu.getProperties().containsKey(Configuration.JPA_ENTITY_MANAGER_METRICS)) {
+            result = Boolean.parseBoolean(pu.getProperties().getProperty(Configuration.JPA_ENTITY_MANAGER_METRICS));
+        }
+        return result;
+    }
+
+    /**
+     * Return true if the entity manager factory should only be built when the persistence unit is first used
+     * (or warmed up via the management warm-up operation), instead of when the persistence unit service starts.
+     *
+     * @param pu
+     * @return
+     */
+    public static boolean isLazy(PersistenceUnitMetadata pu) {
+        boolean result = false;
+        if (pu.getProperties().containsKey(Configuration.JPA_LAZY)) {
+            result = Boolean.parseBoolean(pu.getProperties().getProperty(Configuration.JPA_LAZY));
+        }
+        return result;
+    }
+
     /**
      * Return true if detaching of managed entities should be deferred until the entity manager is closed.
      * Note:  only applies to transaction scoped entity managers used without an active JTA transaction.
@@ -84,6 +84,12 @@ public abstract class AbstractEntityManager implements EntityManager {
 
     protected abstract boolean deferEntityDetachUntilClose();
 
+    /**
+     * @return the operation metrics of the persistence unit or null if entity manager metrics are not enabled
+     *         (see {@link org.jboss.as.jpa.config.Configuration#allowEntityManagerMetrics})
+     */
+    protected abstract EntityManagerMetrics getEntityManagerMetrics();
+
     public <T> T unwrap(Class<T> cls) {
         return getEntityManager().unwrap(cls);
     }
@@ -92,12 +98,15 @@ public abstract class AbstractEntityManager implements EntityManager {
         long start = 0;
         if (isTraceEnabled)
             start = System.currentTimeMillis();
+        final EntityManagerMetrics metrics = getEntityManagerMetrics();
+        final long metricsStart = EntityManagerMetrics.start(metrics);
         try {
             // invoke underlying entity manager method and if not running in a tx
             // return a Query wrapper around the result.
             EntityManager entityManager = getEntityManager();
             return detachTypedQueryNonTxInvocation(entityManager,entityManager.createNamedQuery(name, resultClass));
         } finally {
+            EntityManagerMetrics.record(metrics, EntityManagerMetrics.Operation.CREATE_NAMED_QUERY, metricsStart);
             if (isTraceEnabled) {
                 long elapsed = System.currentTimeMillis() - start;
                 ROOT_LOGGER.tracef("createNamedQuery name '%s', resultClass '%s' took %dms", name, resultClass.getName(), elapsed);
@@ -109,12 +118,15 @@ public abstract class AbstractEntityManager implements EntityManager {
         long start = 0;
         if (isTraceEnabled)
             start = System.currentTimeMillis();
+        final EntityManagerMetrics metrics = getEntityManagerMetrics();
+        final long metricsStart = EntityManagerMetrics.start(metrics);
         try {
             // invoke underlying entity manager method and if not running in a tx
             // return a Query wrapper around the result.
             EntityManager entityManager = getEntityManager();
             return detachTypedQueryNonTxInvocation(entityManager,entityManager.createQuery(criteriaQuery));
         } finally {
+            EntityManagerMetrics.record(metrics, EntityManagerMetrics.Operation.CREATE_QUERY, metricsStart);
             if (isTraceEnabled) {
                 long elapsed = System.currentTimeMillis() - start;
                 ROOT_LOGGER.tracef("createQuery took %dms", elapsed);
@@ -126,12 +138,15 @@ public abstract class AbstractEntityManager implements EntityManager {
         long start = 0;
         if (isTraceEnabled)
             start = System.currentTimeMillis();
+        final EntityManagerMetrics metrics = getEntityManagerMetrics();
+        final long metricsStart = EntityManagerMetrics.start(metrics);
         try {
             // invoke underlying entity manager method and if not running in a tx
             // return a Query wrapper around the result.
             EntityManager entityManager = getEntityManager();
             return detachTypedQueryNonTxInvocation(entityManager,entityManager.createQuery(qlString, resultClass));
         } finally {
+            EntityManagerMetrics.record(metrics, EntityManagerMetrics.Operation.CREATE_QUERY, metricsStart);
             if (isTraceEnabled) {
                 long elapsed = System.currentTimeMillis() - start;
                 ROOT_LOGGER.tracef("createQuery resultClass '%s' took %dms", resultClass.getName(), elapsed);
@@ -143,9 +158,12 @@ public abstract class AbstractEntityManager implements EntityManager {
         long start = 0;
         if (isTraceEnabled)
             start = System.currentTimeMillis();
+        final EntityManagerMetrics metrics = getEntityManagerMetrics();
+        final long metricsStart = EntityManagerMetrics.start(metrics);
         try {
             getEntityManager().detach(entity);
         } finally {
+            EntityManagerMetrics.record(metrics, EntityManagerMetrics.Operation.DETACH, metricsStart);
             if (isTraceEnabled) {
                 long elapsed = System.currentTimeMillis() - start;
                 ROOT_LOGGER.tracef("detach entityClass '%s' took %dms", entity.getClass().getName(), elapsed);
@@ -157,12 +175,15 @@ public abstract class AbstractEntityManager implements EntityManager {
         long start = 0;
         if (isTraceEnabled)
             start = System.currentTimeMillis();
+        final EntityManagerMetrics metrics = getEntityManagerMetrics();
+        final long metricsStart = EntityManagerMetrics.start(metrics);
         try {
             final EntityManager underlyingEntityManager = getEntityManager();
             T result = underlyingEntityManager.find(entityClass, primaryKey, properties);
             detachNonTxInvocation(underlyingEntityManager);
             return result;
         } finally {
+            EntityManagerMetrics.record(metrics, EntityManagerMetrics.Operation.FIND, metricsStart);
             if (isTraceEnabled) {
                 long elapsed = System.currentTimeMillis() - start;
                 ROOT_LOGGER.tracef("find entityClass '%s' took %dms", entityClass.getName(), elapsed);
@@ -174,12 +195,15 @@ public abstract class AbstractEntityManager implements EntityManager {
         long start = 0;
         if (isTraceEnabled)
             start = System.currentTimeMillis();
+        final EntityManagerMetrics metrics = getEntityManagerMetrics();
+        final long metricsStart = EntityManagerMetrics.start(metrics);
         try {
             final EntityManager underlyingEntityManager = getEntityManager();
             T result = underlyingEntityManager.find(entityClass, primaryKey, lockMode);
             detachNonTxInvocation(underlyingEntityManager);
             return result;
         } finally {
+            EntityManagerMetrics.record(metrics, EntityManagerMetrics.Operation.FIND, metricsStart);
             if (isTraceEnabled) {
                 long elapsed = System.currentTimeMillis() - start;
                 ROOT_LOGGER.tracef("find entityClass '%s', lockMode '%s' took %dms", entityClass.getName(), getLockModeAsString(lockMode), elapsed);
@@ -191,12 +215,15 @@ public abstract class AbstractEntityManager implements EntityManager {
         long start = 0;
         if (isTraceEnabled)
             start = System.currentTimeMillis();
+        final EntityManagerMetrics metrics = getEntityManagerMetrics();
+        final long metricsStart = EntityManagerMetrics.start(metrics);
         try {
             final EntityManager underlyingEntityManager = getEntityManager();
             T result = underlyingEntityManager.find(entityClass, primaryKey, lockMode, properties);
             detachNonTxInvocation(underlyingEntityManager);
             return result;
         } finally {
+            EntityManagerMetrics.record(metrics, EntityManagerMetrics.Operation.FIND, metricsStart);
             if (isTraceEnabled) {
                 long elapsed = System.currentTimeMillis() - start;
                 ROOT_LOGGER.tracef("find entityClass '%s', lockMode '%s' took %dms", entityClass.getName(), getLockModeAsString(lockMode), elapsed);
@@ -208,12 +235,15 @@ public abstract class AbstractEntityManager implements EntityManager {
         long start = 0;
         if (isTraceEnabled)
             start = System.currentTimeMillis();
+        final EntityManagerMetrics metrics = getEntityManagerMetrics();
+        final long metricsStart = EntityManagerMetrics.start(metrics);
         try {
             final EntityManager underlyingEntityManager = getEntityManager();
             T result = getEntityManager().find(entityClass, primaryKey);
             detachNonTxInvocation(underlyingEntityManager);
             return result;
         } finally {
+            EntityManagerMetrics.record(metrics, EntityManagerMetrics.Operation.FIND, metricsStart);
             if (isTraceEnabled) {
                 long elapsed = System.currentTimeMillis() - start;
                 ROOT_LOGGER.tracef("find entityClass '%s' took %dms", entityClass.getName(), elapsed);
@@ -298,9 +328,12 @@ public abstract class AbstractEntityManager implements EntityManager {
         long start = 0;
         if (isTraceEnabled)
             start = System.currentTimeMillis();
+        final EntityManagerMetrics metrics = getEntityManagerMetrics();
+        final long metricsStart = EntityManagerMetrics.start(metrics);
         try {
             getEntityManager().lock(entity, lockMode, properties);
         } finally {
+            EntityManagerMetrics.record(metrics, EntityManagerMetrics.Operation.LOCK, metricsStart);
             if (isTraceEnabled) {
                 long elapsed = System.currentTimeMillis() - start;
                 ROOT_LOGGER.tracef("lock entityClass '%s', lockMode '%s'  took %dms", entity.getClass().getName(), getLockModeAsString(lockMode), elapsed);
@@ -327,9 +360,12 @@ public abstract class AbstractEntityManager implements EntityManager {
         long start = 0;
         if (isTraceEnabled)
             start = System.currentTimeMillis();
+        final EntityManagerMetrics metrics = getEntityManagerMetrics();
+        final long metricsStart = EntityManagerMetrics.start(metrics);
         try {
             getEntityManager().clear();
         } finally {
+            EntityManagerMetrics.record(metrics, EntityManagerMetrics.Operation.CLEAR, metricsStart);
             if (isTraceEnabled) {
                 long elapsed = System.currentTimeMillis() - start;
                 ROOT_LOGGER.tracef("clear took %dms", elapsed);
@@ -355,9 +391,12 @@ public abstract class AbstractEntityManager implements EntityManager {
         long start = 0;
         if (isTraceEnabled)
             start = System.currentTimeMillis();
+        final EntityManagerMetrics metrics = getEntityManagerMetrics();
+        final long metricsStart = EntityManagerMetrics.start(metrics);
         try {
             return getEntityManager().contains(entity);
         } finally {
+            EntityManagerMetrics.record(metrics, EntityManagerMetrics.Operation.CONTAINS, metricsStart);
             if (isTraceEnabled) {
                 long elapsed = System.currentTimeMillis() - start;
                 ROOT_LOGGER.tracef("contains '%s' took %dms", entity.getClass().getName(), elapsed);
@@ -369,12 +408,15 @@ public abstract class AbstractEntityManager implements EntityManager {
         long start = 0;
         if (isTraceEnabled)
             start = System.currentTimeMillis();
+        final EntityManagerMetrics metrics = getEntityManagerMetrics();
+        final long metricsStart = EntityManagerMetrics.start(metrics);
         try {
             // invoke underlying entity manager method and if not running in a tx
             // return a Query wrapper around the result.
             EntityManager entityManager = getEntityManager();
             return detachQueryNonTxInvocation(entityManager, entityManager.createNamedQuery(name));
         } finally {
+            EntityManagerMetrics.record(metrics, EntityManagerMetrics.Operation.CREATE_NAMED_QUERY, metricsStart);
             if (isTraceEnabled) {
                 long elapsed = System.currentTimeMillis() - start;
                 ROOT_LOGGER.tracef("createNamedQuery name '%s' took %dms", name, elapsed);
@@ -387,12 +429,15 @@ public abstract class AbstractEntityManager implements EntityManager {
         long start = 0;
         if (isTraceEnabled)
             start = System.currentTimeMillis();
+        final EntityManagerMetrics metrics = getEntityManagerMetrics();
+        final long metricsStart = EntityManagerMetrics.start(metrics);
         try {
             // invoke underlying entity manager method and if not running in a tx
             // return a Query wrapper around the result.
             EntityManager entityManager = getEntityManager();
             return detachQueryNonTxInvocation(entityManager, entityManager.createNativeQuery(sqlString, resultClass));
         } finally {
+            EntityManagerMetrics.record(metrics, EntityManagerMetrics.Operation.CREATE_NATIVE_QUERY, metricsStart);
             if (isTraceEnabled) {
                 long elapsed = System.currentTimeMillis() - start;
                 ROOT_LOGGER.tracef("createNativeQuery resultClass '%s' took %dms", resultClass.getName(), elapsed);
@@ -404,12 +449,15 @@ public abstract class AbstractEntityManager implements EntityManager {
         long start = 0;
         if (isTraceEnabled)
             start = System.currentTimeMillis();
+        final EntityManagerMetrics metrics = getEntityManagerMetrics();
+        final long metricsStart = EntityManagerMetrics.start(metrics);
         try {
             // invoke underlying entity manager method and if not running in a tx
             // return a Query wrapper around the result.
             EntityManager entityManager = getEntityManager();
             return detachQueryNonTxInvocation(entityManager, entityManager.createNativeQuery(sqlString, resultSetMapping));
         } finally {
+            EntityManagerMetrics.record(metrics, EntityManagerMetrics.Operation.CREATE_NATIVE_QUERY, metricsStart);
             if (isTraceEnabled) {
                 long elapsed = System.currentTimeMillis() - start;
                 ROOT_LOGGER.tracef("createNativeQuery took %dms", elapsed);
@@ -421,12 +469,15 @@ public abstract class AbstractEntityManager implements EntityManager {
         long start = 0;
         if (isTraceEnabled)
             start = System.currentTimeMillis();
+        final EntityManagerMetrics metrics = getEntityManagerMetrics();
+        final long metricsStart = EntityManagerMetrics.start(metrics);
         try {
             // invoke underlying entity manager method and if not running in a tx
             // return a Query wrapper around the result.
             EntityManager entityManager = getEntityManager();
             return detachQueryNonTxInvocation(entityManager, entityManager.createNativeQuery(sqlString));
         } finally {
+            EntityManagerMetrics.record(metrics, EntityManagerMetrics.Operation.CREATE_NATIVE_QUERY, metricsStart);
             if (isTraceEnabled) {
                 long elapsed = System.currentTimeMillis() - start;
                 ROOT_LOGGER.tracef("createNativeQuery took %dms", elapsed);
@@ -438,12 +489,15 @@ public abstract class AbstractEntityManager implements EntityManager {
         long start = 0;
         if (isTraceEnabled)
             start = System.currentTimeMillis();
+        final EntityManagerMetrics metrics = getEntityManagerMetrics();
+        final long metricsStart = EntityManagerMetrics.start(metrics);
         try {
             // invoke underlying entity manager method and if not running in a tx
             // return a Query wrapper around the result.
             EntityManager entityManager = getEntityManager();
             return detachQueryNonTxInvocation(entityManager, entityManager.createQuery(ejbqlString));
         } finally {
+            EntityManagerMetrics.record(metrics, EntityManagerMetrics.Operation.CREATE_QUERY, metricsStart);
             if (isTraceEnabled) {
                 long elapsed = System.currentTimeMillis() - start;
                 ROOT_LOGGER.tracef("createQuery took %dms", elapsed);
@@ -455,9 +509,12 @@ public abstract class AbstractEntityManager implements EntityManager {
         long start = 0;
         if (isTraceEnabled)
             start = System.currentTimeMillis();
+        final EntityManagerMetrics metrics = getEntityManagerMetrics();
+        final long metricsStart = EntityManagerMetrics.start(metrics);
         try {
             getEntityManager().flush();
         } finally {
+            EntityManagerMetrics.record(metrics, EntityManagerMetrics.Operation.FLUSH, metricsStart);
             if (isTraceEnabled) {
                 long elapsed = System.currentTimeMillis() - start;
                 ROOT_LOGGER.tracef("flush took %dms", elapsed);
@@ -497,12 +554,15 @@ public abstract class AbstractEntityManager implements EntityManager {
         long start = 0;
         if (isTraceEnabled)
             start = System.currentTimeMillis();
+        final EntityManagerMetrics metrics = getEntityManagerMetrics();
+        final long metricsStart = EntityManagerMetrics.start(metrics);
         try {
             final EntityManager underlyingEntityManager = getEntityManager();
             T result = getEntityManager().getReference(entityClass, primaryKey);
             detachNonTxInvocation(underlyingEntityManager);
             return result;
         } finally {
+            EntityManagerMetrics.record(metrics, EntityManagerMetrics.Operation.GET_REFERENCE, metricsStart);
             if (isTraceEnabled) {
                 long elapsed = System.currentTimeMillis() - start;
                 ROOT_LOGGER.tracef("getReference entityClass '%s' took %dms", entityClass.getName(), elapsed);
@@ -532,9 +592,12 @@ public abstract class AbstractEntityManager implements EntityManager {
         long start = 0;
         if (isTraceEnabled)
             start = System.currentTimeMillis();
+        final EntityManagerMetrics metrics = getEntityManagerMetrics();
+        final long metricsStart = EntityManagerMetrics.start(metrics);
         try {
             getEntityManager().joinTransaction();
         } finally {
+            EntityManagerMetrics.record(metrics, EntityManagerMetrics.Operation.JOIN_TRANSACTION, metricsStart);
             if (isTraceEnabled) {
                 long elapsed = System.currentTimeMillis() - start;
                 ROOT_LOGGER.tracef("joinTransaction took %dms", elapsed);
@@ -546,9 +609,12 @@ public abstract class AbstractEntityManager implements EntityManager {
         long start = 0;
         if (isTraceEnabled)
             start = System.currentTimeMillis();
+        final EntityManagerMetrics metrics = getEntityManagerMetrics();
+        final long metricsStart = EntityManagerMetrics.start(metrics);
         try {
             getEntityManager().lock(entity, lockMode);
         } finally {
+            EntityManagerMetrics.record(metrics, EntityManagerMetrics.Operation.LOCK, metricsStart);
             if (isTraceEnabled) {
                 long elapsed = System.currentTimeMillis() - start;
                 ROOT_LOGGER.tracef("lock entityClass '%s', lockMode '%s' took %dms", entity.getClass().getName(), getLockModeAsString(lockMode), elapsed);
@@ -560,10 +626,13 @@ public abstract class AbstractEntityManager implements EntityManager {
         long start = 0;
         if (isTraceEnabled)
             start = System.currentTimeMillis();
+        final EntityManagerMetrics metrics = getEntityManagerMetrics();
+        final long metricsStart = EntityManagerMetrics.start(metrics);
         try {
             transactionIsRequired();
             return getEntityManager().merge(entity);
         } finally {
+            EntityManagerMetrics.record(metrics, EntityManagerMetrics.Operation.MERGE, metricsStart);
             if (isTraceEnabled) {
                 long elapsed = System.currentTimeMillis() - start;
                 ROOT_LOGGER.tracef("merge entityClass '%s' took %dms", entity.getClass().getName(), elapsed);
@@ -575,10 +644,13 @@ public abstract class AbstractEntityManager implements EntityManager {
         long start = 0;
         if (isTraceEnabled)
             start = System.currentTimeMillis();
+        final EntityManagerMetrics metrics = getEntityManagerMetrics();
+        final long metricsStart = EntityManagerMetrics.start(metrics);
         try {
             transactionIsRequired();
             getEntityManager().persist(entity);
         } finally {
+            EntityManagerMetrics.record(metrics, EntityManagerMetrics.Operation.PERSIST, metricsStart);
             if (isTraceEnabled) {
                 long elapsed = System.currentTimeMillis() - start;
                 ROOT_LOGGER.tracef("persist entityClass '%s' took %dms", entity.getClass().getName(), elapsed);
@@ -590,10 +662,13 @@ public abstract class AbstractEntityManager implements EntityManager {
         long start = 0;
         if (isTraceEnabled)
             start = System.currentTimeMillis();
+        final EntityManagerMetrics metrics = getEntityManagerMetrics();
+        final long metricsStart = EntityManagerMetrics.start(metrics);
         try {
             transactionIsRequired();
             getEntityManager().refresh(entity);
         } finally {
+            EntityManagerMetrics.record(metrics, EntityManagerMetrics.Operation.REFRESH, metricsStart);
             if (isTraceEnabled) {
                 long elapsed = System.currentTimeMillis() - start;
                 ROOT_LOGGER.tracef("refresh entityClass '%s' took %dms", entity.getClass().getName(), elapsed);
@@ -605,10 +680,13 @@ public abstract class AbstractEntityManager implements EntityManager {
         long start = 0;
         if (isTraceEnabled)
             start = System.currentTimeMillis();
+        final EntityManagerMetrics metrics = getEntityManagerMetrics();
+        final long metricsStart = EntityManagerMetrics.start(metrics);
         try {
             transactionIsRequired();
             getEntityManager().refresh(entity, properties);
         } finally {
+            EntityManagerMetrics.record(metrics, EntityManagerMetrics.Operation.REFRESH, metricsStart);
             if (isTraceEnabled) {
                 long elapsed = System.currentTimeMillis() - start;
                 ROOT_LOGGER.tracef("refresh entityClass '%s' took %dms", entity.getClass().getName(), elapsed);
@@ -620,10 +698,13 @@ public abstract class AbstractEntityManager implements EntityManager {
         long start = 0;
         if (isTraceEnabled)
             start = System.currentTimeMillis();
+        final EntityManagerMetrics metrics = getEntityManagerMetrics();
+        final long metricsStart = EntityManagerMetrics.start(metrics);
         try {
             transactionIsRequired();
             getEntityManager().refresh(entity, lockMode);
         } finally {
+            EntityManagerMetrics.record(metrics, EntityManagerMetrics.Operation.REFRESH, metricsStart);
             if (isTraceEnabled) {
                 long elapsed = System.currentTimeMillis() - start;
                 ROOT_LOGGER.tracef("refresh entityClass '%s', lockMode '%s' took %dms", entity.getClass().getName(), getLockModeAsString(lockMode), elapsed);
@@ -635,10 +716,13 @@ public abstract class AbstractEntityManager implements EntityManager {
         long start = 0;
         if (isTraceEnabled)
             start = System.currentTimeMillis();
+        final EntityManagerMetrics metrics = getEntityManagerMetrics();
+        final long metricsStart = EntityManagerMetrics.start(metrics);
         try {
             transactionIsRequired();
             getEntityManager().refresh(entity, lockMode, properties);
         } finally {
+            EntityManagerMetrics.record(metrics, EntityManagerMetrics.Operation.REFRESH, metricsStart);
             if (isTraceEnabled) {
                 long elapsed = System.currentTimeMillis() - start;
                 ROOT_LOGGER.tracef("refresh entityClass '%s', lockMode '%s' took %dms", entity.getClass().getName(), getLockModeAsString(lockMode), elapsed);
@@ -650,10 +734,13 @@ public abstract class AbstractEntityManager implements EntityManager {
         long start = 0;
         if (isTraceEnabled)
             start = System.currentTimeMillis();
+        final EntityManagerMetrics metrics = getEntityManagerMetrics();
+        final long metricsStart = EntityManagerMetrics.start(metrics);
         try {
             transactionIsRequired();
             getEntityManager().remove(entity);
         } finally {
+            EntityManagerMetrics.record(metrics, EntityManagerMetrics.Operation.REMOVE, metricsStart);
             if (isTraceEnabled) {
                 long elapsed = System.currentTimeMillis() - start;
                 ROOT_LOGGER.tracef("remove entityClass '%s' took %dms", entity.getClass().getName(), elapsed);
@@ -679,10 +766,13 @@ public abstract class AbstractEntityManager implements EntityManager {
         long start = 0;
         if (isTraceEnabled)
             start = System.currentTimeMillis();
+        final EntityManagerMetrics metrics = getEntityManagerMetrics();
+        final long metricsStart = EntityManagerMetrics.start(metrics);
         try {
             return getEntityManager().createQuery(criteriaUpdate);
 
         } finally {
+            EntityManagerMetrics.record(metrics, EntityManagerMetrics.Operation.CREATE_QUERY, metricsStart);
             if (isTraceEnabled) {
                 long elapsed = System.currentTimeMillis() - start;
                 ROOT_LOGGER.tracef("createQuery(CriteriaUpdate) took %dms", elapsed);
@@ -694,9 +784,12 @@ public abstract class AbstractEntityManager implements EntityManager {
         long start = 0;
         if (isTraceEnabled)
             start = System.currentTimeMillis();
+        final EntityManagerMetrics metrics = getEntityManagerMetrics();
+        final long metricsStart = EntityManagerMetrics.start(metrics);
         try {
             return getEntityManager().createQuery(criteriaDelete);
         } finally {
+            EntityManagerMetrics.record(metrics, EntityManagerMetrics.Operation.CREATE_QUERY, metricsStart);
             if (isTraceEnabled) {
                 long elapsed = System.currentTimeMillis() - start;
                 ROOT_LOGGER.tracef("createQuery(criteriaDelete) took %dms", elapsed);
@@ -708,10 +801,13 @@ public abstract class AbstractEntityManager implements EntityManager {
         long start = 0;
         if (isTraceEnabled)
             start = System.currentTimeMillis();
+        final EntityManagerMetrics metrics = getEntityManagerMetrics();
+        final long metricsStart = EntityManagerMetrics.start(metrics);
         try {
             EntityManager entityManager = getEntityManager();
             return detachStoredProcedureQueryNonTxInvocation(entityManager, entityManager.createNamedStoredProcedureQuery(name));
         } finally {
+            EntityManagerMetrics.record(metrics, EntityManagerMetrics.Operation.CREATE_STORED_PROCEDURE_QUERY, metricsStart);
             if (isTraceEnabled) {
                 long elapsed = System.currentTimeMillis() - start;
                 ROOT_LOGGER.tracef("createNamedStoredProcedureQuery %s took %dms", name, elapsed);
@@ -723,10 +819,13 @@ public abstract class AbstractEntityManager implements EntityManager {
         long start = 0;
         if (isTraceEnabled)
             start = System.currentTimeMillis();
+        final EntityManagerMetrics metrics = getEntityManagerMetrics();
+        final long metricsStart = EntityManagerMetrics.start(metrics);
         try {
             EntityManager entityManager = getEntityManager();
             return detachStoredProcedureQueryNonTxInvocation(entityManager, entityManager.createStoredProcedureQuery(procedureName));
         } finally {
+            EntityManagerMetrics.record(metrics, EntityManagerMetrics.Operation.CREATE_STORED_PROCEDURE_QUERY, metricsStart);
             if (isTraceEnabled) {
                 long elapsed = System.currentTimeMillis() - start;
                 ROOT_LOGGER.tracef("createStoredProcedureQuery %s took %dms", procedureName, elapsed);
@@ -738,10 +837,13 @@ public abstract class AbstractEntityManager implements EntityManager {
         long start = 0;
         if (isTraceEnabled)
             start = System.currentTimeMillis();
+        final EntityManagerMetrics metrics = getEntityManagerMetrics();
+        final long metricsStart = EntityManagerMetrics.start(metrics);
         try {
             EntityManager entityManager = getEntityManager();
             return detachStoredProcedureQueryNonTxInvocation(entityManager, entityManager.createStoredProcedureQuery(procedureName, resultClasses));
         } finally {
+            EntityManagerMetrics.record(metrics, EntityManagerMetrics.Operation.CREATE_STORED_PROCEDURE_QUERY, metricsStart);
             if (isTraceEnabled) {
                 long elapsed = System.currentTimeMillis() - start;
                 ROOT_LOGGER.tracef("createStoredProcedureQuery %s, resultClasses... took %dms", procedureName, elapsed);
@@ -753,10 +855,13 @@ public abstract class AbstractEntityManager implements EntityManager {
         long start = 0;
         if (isTraceEnabled)
             start = System.currentTimeMillis();
+        final EntityManagerMetrics metrics = getEntityManagerMetrics();
+        final long metricsStart = EntityManagerMetrics.start(metrics);
         try {
             EntityManager entityManager = getEntityManager();
             return detachStoredProcedureQueryNonTxInvocation(entityManager, entityManager.createStoredProcedureQuery(procedureName, resultSetMappings));
         } finally {
+            EntityManagerMetrics.record(metrics, EntityManagerMetrics.Operation.CREATE_STORED_PROCEDURE_QUERY, metricsStart);
             if (isTraceEnabled) {
                 long elapsed = System.currentTimeMillis() - start;
                 ROOT_LOGGER.tracef("createStoredProcedureQuery %s, resultSetMappings... took %dms", procedureName, elapsed);
@@ -0,0 +1,126 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.jpa.container;
+
+import org.jboss.as.ee.metrics.LatencyHistogram;
+import org.jboss.as.jpa.service.PersistenceUnitServiceImpl;
+import org.jboss.as.jpa.subsystem.PersistenceUnitRegistryImpl;
+import org.jipijapa.plugin.spi.PersistenceUnitService;
+
+/**
+ * Per persistence unit invocation counts and latency histograms of container managed entity manager operations.
+ * <p/>
+ * Latencies are kept in nanoseconds in a {@link LatencyHistogram} per operation, so recording is lock-free and the
+ * memory used is fixed.
+ */
+public final class EntityManagerMetrics {
+
+    /**
+     * The entity manager operations that are measured, several EntityManager method overloads map to the same operation.
+     */
+    public enum Operation {
+        FIND("find"),
+        GET_REFERENCE("get-reference"),
+        PERSIST("persist"),
+        MERGE("merge"),
+        REMOVE("remove"),
+        REFRESH("refresh"),
+        LOCK("lock"),
+        FLUSH("flush"),
+        CLEAR("clear"),
+        DETACH("detach"),
+        CONTAINS("contains"),
+        CREATE_QUERY("create-query"),
+        CREATE_NAMED_QUERY("create-named-query"),
+        CREATE_NATIVE_QUERY("create-native-query"),
+        CREATE_STORED_PROCEDURE_QUERY("create-stored-procedure-query"),
+        JOIN_TRANSACTION("join-transaction");
+
+        private final String name;
+
+        Operation(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    private static final Operation[] OPERATIONS = Operation.values();
+
+    private final LatencyHistogram[] operationMetrics = new LatencyHistogram[OPERATIONS.length];
+
+    public EntityManagerMetrics() {
+        for (int i = 0; i < operationMetrics.length; i++) {
+            operationMetrics[i] = new LatencyHistogram();
+        }
+    }
+
+    /**
+     * Get the entity manager metrics of the specified persistence unit.
+     *
+     * @param scopedPersistenceUnitName the fully scoped persistence unit name
+     * @return the metrics or null if the persistence unit is not started or doesn't have entity manager metrics enabled
+     */
+    public static EntityManagerMetrics forPersistenceUnit(final String scopedPersistenceUnitName) {
+        PersistenceUnitService persistenceUnitService = PersistenceUnitRegistryImpl.INSTANCE.getPersistenceUnitService(scopedPersistenceUnitName);
+        if (persistenceUnitService instanceof PersistenceUnitServiceImpl) {
+            return ((PersistenceUnitServiceImpl) persistenceUnitService).getEntityManagerMetrics();
+        }
+        return null;
+    }
+
+    /**
+     * Start timing an operation.
+     *
+     * @param metrics the metrics that will record the operation (may be null)
+     * @return the start time to pass to {@link #record(EntityManagerMetrics, Operation, long)}
+     */
+    public static long start(final EntityManagerMetrics metrics) {
+        return metrics != null ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Record an operation that was started with {@link #start(EntityManagerMetrics)}.
+     *
+     * @param metrics   the metrics that will record the operation (may be null, in which case nothing is recorded)
+     * @param operation the operation
+     * @param start     the start time
+     */
+    public static void record(final EntityManagerMetrics metrics, final Operation operation, final long start) {
+        if (metrics != null) {
+            metrics.operationMetrics[operation.ordinal()].record(System.nanoTime() - start);
+        }
+    }
+
+    public LatencyHistogram getOperationMetrics(final Operation operation) {
+        return operationMetrics[operation.ordinal()];
+    }
+
+    public void reset() {
+        for (LatencyHistogram metrics : operationMetrics) {
+            metrics.reset();
+        }
+    }
+}
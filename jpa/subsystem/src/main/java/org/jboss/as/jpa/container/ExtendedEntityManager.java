@@ -103,6 +103,7 @@ public class ExtendedEntityManager extends AbstractEntityManager implements Seri
     private final SynchronizationType synchronizationType;
     private transient TransactionSynchronizationRegistry transactionSynchronizationRegistry;
     private transient TransactionManager transactionManager;
+    private transient EntityManagerMetrics entityManagerMetrics;
 
     public ExtendedEntityManager(final String puScopedName, final EntityManager underlyingEntityManager, final SynchronizationType synchronizationType, TransactionSynchronizationRegistry transactionSynchronizationRegistry, TransactionManager transactionManager) {
         this.underlyingEntityManager = underlyingEntityManager;
@@ -110,6 +111,7 @@ public class ExtendedEntityManager extends AbstractEntityManager implements Seri
         this.synchronizationType = synchronizationType;
         this.transactionSynchronizationRegistry = transactionSynchronizationRegistry;
         this.transactionManager = transactionManager;
+        this.entityManagerMetrics = EntityManagerMetrics.forPersistenceUnit(puScopedName);
     }
 
     /**
@@ -270,6 +272,11 @@ public class ExtendedEntityManager extends AbstractEntityManager implements Seri
         return false;
     }
 
+    @Override
+    protected EntityManagerMetrics getEntityManagerMetrics() {
+        return entityManagerMetrics;
+    }
+
     private void readObject(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException {
         in.defaultReadObject();
         if(WildFlySecurityManager.isChecking()) {
@@ -285,5 +292,6 @@ public class ExtendedEntityManager extends AbstractEntityManager implements Seri
             transactionManager = (TransactionManager) CurrentServiceContainer.getServiceContainer().getService(TransactionManagerService.SERVICE_NAME).getValue();
             transactionSynchronizationRegistry = (TransactionSynchronizationRegistry) CurrentServiceContainer.getServiceContainer().getService(TransactionSynchronizationRegistryService.SERVICE_NAME).getValue();
         }
+        entityManagerMetrics = EntityManagerMetrics.forPersistenceUnit(puScopedName);
     }
 }
@@ -32,6 +32,7 @@ import java.util.Map;
 import javax.persistence.EntityManager;
 import javax.persistence.EntityManagerFactory;
 import javax.persistence.SynchronizationType;
+import javax.transaction.Transaction;
 import javax.transaction.TransactionManager;
 import javax.transaction.TransactionSynchronizationRegistry;
 
@@ -66,6 +67,15 @@ public class TransactionScopedEntityManager extends AbstractEntityManager implem
     private transient TransactionSynchronizationRegistry transactionSynchronizationRegistry;
     private transient TransactionManager transactionManager;
     private transient Boolean deferDetach;
+    private transient EntityManagerMetrics entityManagerMetrics;
+
+    /**
+     * the underlying entity manager last resolved by the current thread for a JTA transaction.  Repeated calls within
+     * the same transaction are resolved from here instead of the TransactionSynchronizationRegistry.  The entry is
+     * checked against the current transaction, so an entry of a completed transaction is never used and is replaced
+     * by the next call of the thread.
+     */
+    private transient ThreadLocal<TransactionEntityManager> transactionEntityManager = new ThreadLocal<>();
 
     public TransactionScopedEntityManager(String puScopedName, Map properties, EntityManagerFactory emf, SynchronizationType synchronizationType, TransactionSynchronizationRegistry transactionSynchronizationRegistry, TransactionManager transactionManager) {
         this.puScopedName = puScopedName;
@@ -74,18 +84,24 @@ public class TransactionScopedEntityManager extends AbstractEntityManager implem
         this.synchronizationType = synchronizationType;
         this.transactionSynchronizationRegistry = transactionSynchronizationRegistry;
         this.transactionManager = transactionManager;
+        this.entityManagerMetrics = EntityManagerMetrics.forPersistenceUnit(puScopedName);
     }
 
     @Override
     protected EntityManager getEntityManager() {
         EntityManager entityManager;
-        boolean isInTx;
+        final Transaction transaction = TransactionUtil.getTransaction(transactionManager);
 
-        isInTx = TransactionUtil.isInTx(transactionManager);
-
-        if (isInTx) {
-            entityManager = getOrCreateTransactionScopedEntityManager(emf, puScopedName, properties, synchronizationType);
+        if (TransactionUtil.isActive(transaction)) {
+            final TransactionEntityManager cached = transactionEntityManager.get();
+            if (cached != null && cached.transaction.equals(transaction)) {
+                return cached.entityManager;
+            }
+            entityManager = getOrCreateTransactionScopedEntityManager(emf, puScopedName, properties, synchronizationType, transaction);
+            transactionEntityManager.set(new TransactionEntityManager(transaction, entityManager));
         } else {
+            // release the entity manager of a completed transaction
+            transactionEntityManager.remove();
             entityManager = NonTxEmCloser.get(puScopedName);
             if (entityManager == null) {
                 entityManager = createEntityManager(emf, properties, synchronizationType);
@@ -123,6 +139,8 @@ public class TransactionScopedEntityManager extends AbstractEntityManager implem
         transactionSynchronizationRegistry = (TransactionSynchronizationRegistry) currentServiceContainer().getService(TransactionSynchronizationRegistryService.SERVICE_NAME).getValue();
 
         emf = persistenceUnitService.getEntityManagerFactory();
+        transactionEntityManager = new ThreadLocal<>();
+        entityManagerMetrics = persistenceUnitService.getEntityManagerMetrics();
     }
 
     private static ServiceContainer currentServiceContainer() {
@@ -132,6 +150,11 @@ public class TransactionScopedEntityManager extends AbstractEntityManager implem
         return AccessController.doPrivileged(CurrentServiceContainer.GET_ACTION);
     }
 
+    @Override
+    protected EntityManagerMetrics getEntityManagerMetrics() {
+        return entityManagerMetrics;
+    }
+
     @Override
     public SynchronizationType getSynchronizationType() {
         return synchronizationType;
@@ -151,27 +174,39 @@ public class TransactionScopedEntityManager extends AbstractEntityManager implem
             final EntityManagerFactory emf,
             final String scopedPuName,
             final Map properties,
-            final SynchronizationType synchronizationType) {
+            final SynchronizationType synchronizationType,
+            final Transaction transaction) {
         EntityManager entityManager = TransactionUtil.getTransactionScopedEntityManager(puScopedName, transactionSynchronizationRegistry);
         if (entityManager == null) {
             entityManager = createEntityManager(emf, properties, synchronizationType);
             if (ROOT_LOGGER.isDebugEnabled()) {
                 ROOT_LOGGER.debugf("%s: created entity manager session %s", TransactionUtil.getEntityManagerDetails(entityManager, scopedPuName),
-                        TransactionUtil.getTransaction(transactionManager).toString());
+                        transaction.toString());
             }
-            TransactionUtil.registerSynchronization(entityManager, scopedPuName, transactionSynchronizationRegistry, transactionManager);
+            TransactionUtil.registerSynchronization(entityManager, scopedPuName, transactionSynchronizationRegistry, transactionManager,
+                    () -> releaseTransactionEntityManager(transaction));
             TransactionUtil.putEntityManagerInTransactionRegistry(scopedPuName, entityManager, transactionSynchronizationRegistry);
         }
         else {
+            // the synchronization was registered by the component that created the entity manager
             testForMixedSynchronizationTypes(entityManager, puScopedName, synchronizationType);
             if (ROOT_LOGGER.isDebugEnabled()) {
                 ROOT_LOGGER.debugf("%s: reuse entity manager session already in tx %s", TransactionUtil.getEntityManagerDetails(entityManager, scopedPuName),
-                        TransactionUtil.getTransaction(transactionManager).toString());
+                        transaction.toString());
             }
         }
         return entityManager;
     }
 
+    private void releaseTransactionEntityManager(Transaction completed) {
+        // the transaction usually completes on the thread that used the entity manager, other threads release their
+        // entry on their next call
+        final TransactionEntityManager cached = transactionEntityManager.get();
+        if (cached != null && cached.transaction.equals(completed)) {
+            transactionEntityManager.remove();
+        }
+    }
+
     private EntityManager createEntityManager(
         EntityManagerFactory emf, Map properties, final SynchronizationType synchronizationType) {
         // only JPA 2.1 applications can specify UNSYNCHRONIZED.
@@ -203,6 +238,19 @@ public class TransactionScopedEntityManager extends AbstractEntityManager implem
         return deferDetach.booleanValue();
     }
 
+    /**
+     * The underlying entity manager of a JTA transaction
+     */
+    private static final class TransactionEntityManager {
+        private final Transaction transaction;
+        private final EntityManager entityManager;
+
+        private TransactionEntityManager(Transaction transaction, EntityManager entityManager) {
+            this.transaction = transaction;
+            this.entityManager = entityManager;
+        }
+    }
+
     /**
      * throw error if jta transaction already has an UNSYNCHRONIZED persistence context and a SYNCHRONIZED persistence context
      * is requested.  We are only fussy in this test, if the target component persistence context is SYNCHRONIZED.
@@ -24,6 +24,7 @@ package org.jboss.as.jpa.management;
 
 import javax.persistence.EntityManagerFactory;
 
+import org.jboss.as.jpa.service.PersistenceUnitServiceImpl;
 import org.jboss.as.jpa.subsystem.PersistenceUnitRegistryImpl;
 import org.jipijapa.management.spi.EntityManagerFactoryAccess;
 import org.jipijapa.plugin.spi.PersistenceUnitService;
@@ -41,6 +42,10 @@ public class EntityManagerFactoryLookup implements EntityManagerFactoryAccess {
         if (persistenceUnitService == null) {
             return null;
         }
+        if (persistenceUnitService instanceof PersistenceUnitServiceImpl) {
+            // don't bootstrap a lazily initialized persistence unit to read its statistics
+            return ((PersistenceUnitServiceImpl) persistenceUnitService).getInitializedEntityManagerFactory();
+        }
         return persistenceUnitService.getEntityManagerFactory();
 
     }
@@ -0,0 +1,107 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.jpa.management;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ADDRESS;
+
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.ObjectTypeAttributeDefinition;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.registry.AttributeAccess;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.ee.metrics.LatencyHistogram;
+import org.jboss.as.jpa.container.EntityManagerMetrics;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+
+/**
+ * Reads the container managed entity manager operation metrics of a persistence unit, which are only recorded if
+ * the persistence unit sets {@link org.jboss.as.jpa.config.Configuration#JPA_ENTITY_MANAGER_METRICS}.
+ * <p/>
+ * The metrics are registered on the persistence provider resource, next to the provider statistics:
+ * /deployment=Deployment/subsystem=jpa/hibernate-persistence-unit=FullyAppQualifiedPath#PersistenceUnitName:read-attribute(name=entity-manager-operations)
+ */
+public class EntityManagerOperationMetricsHandler extends AbstractRuntimeOnlyHandler {
+
+    private static final String INVOCATIONS = "invocations";
+    private static final String EXECUTION_TIME = "execution-time";
+    private static final String AVERAGE_EXECUTION_TIME = "average-execution-time";
+    private static final String MAX_EXECUTION_TIME = "max-execution-time";
+    private static final String EXECUTION_TIME_P50 = "execution-time-p50";
+    private static final String EXECUTION_TIME_P90 = "execution-time-p90";
+    private static final String EXECUTION_TIME_P99 = "execution-time-p99";
+
+    public static final AttributeDefinition ENTITY_MANAGER_OPERATIONS = ObjectTypeAttributeDefinition.Builder.of("entity-manager-operations",
+            metric(INVOCATIONS),
+            metric(EXECUTION_TIME),
+            metric(AVERAGE_EXECUTION_TIME),
+            metric(MAX_EXECUTION_TIME),
+            metric(EXECUTION_TIME_P50),
+            metric(EXECUTION_TIME_P90),
+            metric(EXECUTION_TIME_P99))
+            .setAllowNull(true)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+            .build();
+
+    public static final EntityManagerOperationMetricsHandler INSTANCE = new EntityManagerOperationMetricsHandler();
+
+    private EntityManagerOperationMetricsHandler() {
+    }
+
+    public static void registerMetrics(final ManagementResourceRegistration providerResource) {
+        providerResource.registerMetric(ENTITY_MANAGER_OPERATIONS, INSTANCE);
+    }
+
+    private static AttributeDefinition metric(final String name) {
+        return new SimpleAttributeDefinitionBuilder(name, ModelType.LONG)
+                .setUndefinedMetricValue(new ModelNode(0))
+                .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+                .build();
+    }
+
+    @Override
+    protected void executeRuntimeStep(final OperationContext context, final ModelNode operation) throws OperationFailedException {
+        final String scopedPersistenceUnitName = PathAddress.pathAddress(operation.get(ADDRESS)).getLastElement().getValue();
+        final EntityManagerMetrics metrics = EntityManagerMetrics.forPersistenceUnit(scopedPersistenceUnitName);
+        if (metrics != null) {
+            final ModelNode result = context.getResult();
+            result.setEmptyObject();
+            for (EntityManagerMetrics.Operation op : EntityManagerMetrics.Operation.values()) {
+                final LatencyHistogram.Snapshot values = metrics.getOperationMetrics(op).snapshot();
+                final ModelNode node = result.get(op.getName());
+                node.get(INVOCATIONS).set(values.getCount());
+                node.get(EXECUTION_TIME).set(values.getTotal());
+                node.get(AVERAGE_EXECUTION_TIME).set(values.getAverage());
+                node.get(MAX_EXECUTION_TIME).set(values.getMax());
+                node.get(EXECUTION_TIME_P50).set(values.getPercentile(50));
+                node.get(EXECUTION_TIME_P90).set(values.getPercentile(90));
+                node.get(EXECUTION_TIME_P99).set(values.getPercentile(99));
+            }
+        }
+        context.stepCompleted();
+    }
+}
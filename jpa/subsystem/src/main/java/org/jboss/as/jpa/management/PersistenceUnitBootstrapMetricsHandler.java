@@ -0,0 +1,82 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.jpa.management;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ADDRESS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.registry.AttributeAccess;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.jpa.service.PersistenceUnitServiceImpl;
+import org.jboss.as.jpa.subsystem.PersistenceUnitRegistryImpl;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jipijapa.plugin.spi.PersistenceUnitService;
+
+/**
+ * Reads the time taken to bootstrap a persistence unit (in milliseconds).
+ */
+public class PersistenceUnitBootstrapMetricsHandler extends AbstractRuntimeOnlyHandler {
+
+    public static final AttributeDefinition BOOTSTRAP_TIME = new SimpleAttributeDefinitionBuilder("bootstrap-time", ModelType.LONG)
+            .setUndefinedMetricValue(new ModelNode(0))
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+            .build();
+
+    public static final AttributeDefinition BOOTSTRAP_PHASE_ONE_TIME = new SimpleAttributeDefinitionBuilder("bootstrap-phase-one-time", ModelType.LONG)
+            .setUndefinedMetricValue(new ModelNode(0))
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+            .build();
+
+    public static final PersistenceUnitBootstrapMetricsHandler INSTANCE = new PersistenceUnitBootstrapMetricsHandler();
+
+    private PersistenceUnitBootstrapMetricsHandler() {
+    }
+
+    public static void registerMetrics(final ManagementResourceRegistration providerResource) {
+        providerResource.registerMetric(BOOTSTRAP_TIME, INSTANCE);
+        providerResource.registerMetric(BOOTSTRAP_PHASE_ONE_TIME, INSTANCE);
+    }
+
+    @Override
+    protected void executeRuntimeStep(final OperationContext context, final ModelNode operation) throws OperationFailedException {
+        final String scopedPersistenceUnitName = PathAddress.pathAddress(operation.get(ADDRESS)).getLastElement().getValue();
+        final PersistenceUnitService persistenceUnitService = PersistenceUnitRegistryImpl.INSTANCE.getPersistenceUnitService(scopedPersistenceUnitName);
+        if (persistenceUnitService instanceof PersistenceUnitServiceImpl) {
+            final PersistenceUnitServiceImpl service = (PersistenceUnitServiceImpl) persistenceUnitService;
+            final String attributeName = operation.require(NAME).asString();
+            if (BOOTSTRAP_TIME.getName().equals(attributeName)) {
+                context.getResult().set(service.getBootstrapTime());
+            } else if (BOOTSTRAP_PHASE_ONE_TIME.getName().equals(attributeName)) {
+                context.getResult().set(service.getPhaseOneBootstrapTime());
+            }
+        }
+        context.stepCompleted();
+    }
+}
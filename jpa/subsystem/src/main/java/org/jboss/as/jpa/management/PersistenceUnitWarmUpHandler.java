@@ -0,0 +1,78 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.jpa.management;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ADDRESS;
+
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationDefinition;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
+import org.jboss.as.controller.descriptions.ResourceDescriptionResolver;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.jpa.messages.JpaLogger;
+import org.jboss.as.jpa.service.PersistenceUnitServiceImpl;
+import org.jboss.as.jpa.subsystem.PersistenceUnitRegistryImpl;
+import org.jboss.dmr.ModelNode;
+import org.jipijapa.plugin.spi.PersistenceUnitService;
+
+/**
+ * Builds the entity manager factory of a lazily initialized persistence unit (see
+ * {@link org.jboss.as.jpa.config.Configuration#JPA_LAZY}), so that the first application request doesn't pay for it.
+ * Does nothing if the persistence unit is already initialized.
+ * <p/>
+ * /deployment=Deployment/subsystem=jpa/hibernate-persistence-unit=FullyAppQualifiedPath#PersistenceUnitName:warm-up
+ */
+public class PersistenceUnitWarmUpHandler extends AbstractRuntimeOnlyHandler {
+
+    public static final String OPERATION_NAME = "warm-up";
+
+    public static final PersistenceUnitWarmUpHandler INSTANCE = new PersistenceUnitWarmUpHandler();
+
+    private PersistenceUnitWarmUpHandler() {
+    }
+
+    public static void registerOperation(final ManagementResourceRegistration providerResource, final ResourceDescriptionResolver resolver) {
+        final OperationDefinition definition = new SimpleOperationDefinitionBuilder(OPERATION_NAME, resolver)
+                .setRuntimeOnly()
+                .build();
+        providerResource.registerOperationHandler(definition, INSTANCE);
+    }
+
+    @Override
+    protected void executeRuntimeStep(final OperationContext context, final ModelNode operation) throws OperationFailedException {
+        final String scopedPersistenceUnitName = PathAddress.pathAddress(operation.get(ADDRESS)).getLastElement().getValue();
+        final PersistenceUnitService persistenceUnitService = PersistenceUnitRegistryImpl.INSTANCE.getPersistenceUnitService(scopedPersistenceUnitName);
+        if (persistenceUnitService instanceof PersistenceUnitServiceImpl) {
+            try {
+                ((PersistenceUnitServiceImpl) persistenceUnitService).warmUp();
+            } catch (RuntimeException e) {
+                JpaLogger.ROOT_LOGGER.failedToWarmUpPersistenceUnit(e, scopedPersistenceUnitName);
+                throw JpaLogger.ROOT_LOGGER.cannotWarmUpPersistenceUnit(e, scopedPersistenceUnitName, String.valueOf(e.getLocalizedMessage()));
+            }
+        }
+        context.stepCompleted();
+    }
+}
@@ -32,6 +32,7 @@ import javax.ejb.EJBException;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceException;
 import javax.persistence.TransactionRequiredException;
+import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.server.deployment.DeploymentUnit;
 import org.jboss.as.server.deployment.DeploymentUnitProcessingException;
 import org.jboss.jandex.MethodInfo;
@@ -763,4 +764,67 @@ public interface JpaLogger extends BasicLogger {
     @Message(id = 72, value = "Could not obtain TransactionListenerRegistry from transaction manager")
     IllegalStateException errorGettingTransactionListenerRegistry(@Cause Throwable cause);
 
+    /**
+     * A lazily initialized persistence unit was used after its entity manager factory was closed.
+     *
+     * @param scopedPuName the scoped persistence unit name
+     * @return an {@link IllegalStateException} for the error.
+     */
+    @Message(id = 73, value = "Entity manager factory of persistence unit '%s' is closed")
+    IllegalStateException entityManagerFactoryClosed(String scopedPuName);
+
+    /**
+     * Logs an error message indicating the entity manager factory of a lazily initialized persistence unit could not
+     * be built by the warm-up operation.
+     *
+     * @param cause        the cause of the error.
+     * @param scopedPuName the scoped persistence unit name
+     */
+    @LogMessage(level = ERROR)
+    @Message(id = 74, value = "Failed to warm up persistence unit %s")
+    void failedToWarmUpPersistenceUnit(@Cause Throwable cause, String scopedPuName);
+
+    /**
+     * Creates an exception indicating the entity manager factory of a lazily initialized persistence unit could not
+     * be built by the warm-up operation.
+     *
+     * @param cause        the cause of the error.
+     * @param scopedPuName the scoped persistence unit name
+     * @return an {@link OperationFailedException} for the error.
+     */
+    @Message(id = 75, value = "Failed to warm up persistence unit %s: %s")
+    OperationFailedException cannotWarmUpPersistenceUnit(@Cause Throwable cause, String scopedPuName, String reason);
+
+    /**
+     * A message indicating that the {@link org.jboss.as.jpa.config.Configuration#JPA_START_AFTER} property of a
+     * persistence unit names the persistence unit itself.
+     *
+     * @param scopedPuName the scoped persistence unit name
+     * @return the message.
+     */
+    @Message(id = 76, value = "Persistence unit %s cannot be started after itself")
+    String persistenceUnitCannotStartAfterItself(String scopedPuName);
+
+    /**
+     * Logs a warning message indicating that a persistence unit that needs a class file transformer is bootstrapped
+     * eagerly, as its class file transformers must be registered before the application classes are loaded.
+     *
+     * @param scopedPuName the scoped persistence unit name
+     * @param property     the lazy initialization property
+     */
+    @LogMessage(level = WARN)
+    @Message(id = 77, value = "Persistence unit %s needs a class file transformer and is bootstrapped in a single phase, ignoring %s")
+    void lazyBootstrapNeedsClassFileTransformer(String scopedPuName, String property);
+
+    /**
+     * Creates an exception indicating the transaction suspended while a lazily initialized persistence unit was
+     * bootstrapped could not be resumed.
+     *
+     * @param cause        the cause of the error.
+     * @param scopedPuName the scoped persistence unit name
+     * @return an {@link IllegalStateException} for the error.
+     */
+    @Message(id = 78, value = "Could not resume the transaction suspended while bootstrapping persistence unit %s")
+    IllegalStateException errorResumingTransaction(@Cause Throwable cause, String scopedPuName);
+
 }
@@ -61,6 +61,7 @@ import org.jboss.as.jpa.config.Configuration;
 import org.jboss.as.jpa.config.PersistenceProviderDeploymentHolder;
 import org.jboss.as.jpa.config.PersistenceUnitMetadataHolder;
 import org.jboss.as.jpa.config.PersistenceUnitsInApplication;
+import org.jboss.as.jpa.container.PersistenceUnitSearch;
 import org.jboss.as.jpa.container.TransactionScopedEntityManager;
 import org.jboss.as.jpa.interceptor.WebNonTxEmCloserAction;
 import org.jboss.as.jpa.messages.JpaLogger;
@@ -362,6 +363,7 @@ public class PersistenceUnitServiceHandler {
             deploymentUnit.addToAttachmentList(Attachments.WEB_DEPENDENCIES, puServiceName);
 
             ServiceBuilder<PersistenceUnitService> builder = serviceTarget.addService(puServiceName, service);
+            addStartAfterDependencies(deploymentUnit, pu, builder);
             boolean useDefaultDataSource = Configuration.allowDefaultDataSourceUse(pu);
             final String jtaDataSource = adjustJndi(pu.getJtaDataSourceName());
             final String nonJtaDataSource = adjustJndi(pu.getNonJtaDataSourceName());
@@ -427,6 +429,11 @@ public class PersistenceUnitServiceHandler {
             builder.setInitialMode(ServiceController.Mode.ACTIVE)
                 .addInjection(service.getPropertiesInjector(), properties);
 
+            if (Configuration.isLazy(pu) && transactionManager != null) {
+                // suspend the transaction of the application thread that first uses the persistence unit
+                builder.addInjection(service.getTransactionManagerInjector(), transactionManager);
+            }
+
             // get async executor from Services.addServerExecutorDependency
             addServerExecutorDependency(builder, service.getExecutorInjector(), false);
 
@@ -606,6 +613,7 @@ public class PersistenceUnitServiceHandler {
 
             // add dependency on first phase
             builder.addDependency(puServiceName.append(FIRST_PHASE), new CastingInjector<>(service.getPhaseOnePersistenceUnitServiceImplInjector(), PhaseOnePersistenceUnitServiceImpl.class));
+            addStartAfterDependencies(deploymentUnit, pu, builder);
 
             boolean useDefaultDataSource = Configuration.allowDefaultDataSourceUse(pu);
             final String jtaDataSource = adjustJndi(pu.getJtaDataSourceName());
@@ -673,6 +681,11 @@ public class PersistenceUnitServiceHandler {
             builder.setInitialMode(ServiceController.Mode.ACTIVE)
                 .addInjection(service.getPropertiesInjector(), properties);
 
+            if (Configuration.isLazy(pu) && transactionManager != null) {
+                // suspend the transaction of the application thread that first uses the persistence unit
+                builder.addInjection(service.getTransactionManagerInjector(), transactionManager);
+            }
+
             // get async executor from Services.addServerExecutorDependency
             addServerExecutorDependency(builder, service.getExecutorInjector(), false);
 
@@ -686,6 +699,50 @@ public class PersistenceUnitServiceHandler {
         }
     }
 
+    /**
+     * Persistence unit services are started concurrently by the service container (the entity manager factory is built
+     * on the server executor), unless ordering is requested via {@link Configuration#JPA_START_AFTER}.
+     *
+     * @param deploymentUnit
+     * @param pu
+     * @param builder the persistence unit service builder
+     * @throws DeploymentUnitProcessingException if a named persistence unit cannot be found
+     */
+    private static void addStartAfterDependencies(final DeploymentUnit deploymentUnit, final PersistenceUnitMetadata pu, final ServiceBuilder<?> builder)
+            throws DeploymentUnitProcessingException {
+        for (ServiceName dependency : getStartAfterDependencies(deploymentUnit, pu)) {
+            builder.addDependency(dependency);
+        }
+    }
+
+    /**
+     * Resolve the persistence units named by {@link Configuration#JPA_START_AFTER}.
+     *
+     * @param deploymentUnit
+     * @param pu
+     * @return the service names of the persistence units that must be started before {@code pu} (never null)
+     * @throws DeploymentUnitProcessingException if a named persistence unit cannot be found or is {@code pu} itself
+     */
+    static List<ServiceName> getStartAfterDependencies(final DeploymentUnit deploymentUnit, final PersistenceUnitMetadata pu)
+            throws DeploymentUnitProcessingException {
+        final List<ServiceName> result = new ArrayList<>();
+        for (String puName : Configuration.getPersistenceUnitsToStartAfter(pu)) {
+            PersistenceUnitMetadata other = PersistenceUnitSearch.resolvePersistenceUnitSupplier(deploymentUnit, puName);
+            if (other == null) {
+                throw new DeploymentUnitProcessingException(JpaLogger.ROOT_LOGGER.persistenceUnitNotFound(puName, deploymentUnit));
+            }
+            if (other.getScopedPersistenceUnitName().equals(pu.getScopedPersistenceUnitName())) {
+                throw new DeploymentUnitProcessingException(JpaLogger.ROOT_LOGGER.persistenceUnitCannotStartAfterItself(pu.getScopedPersistenceUnitName()));
+            }
+            ROOT_LOGGER.tracef("persistence unit %s will start after persistence unit %s", pu.getScopedPersistenceUnitName(), other.getScopedPersistenceUnitName());
+            final ServiceName dependency = PersistenceUnitServiceImpl.getPUServiceName(other);
+            if (!result.contains(dependency)) {
+                result.add(dependency);
+            }
+        }
+        return result;
+    }
+
     private static void entityManagerBind(EEModuleDescription eeModuleDescription, ServiceTarget serviceTarget, final PersistenceUnitMetadata pu, ServiceName puServiceName, TransactionManager transactionManager, TransactionSynchronizationRegistry transactionSynchronizationRegistry) {
         if (pu.getProperties().containsKey(ENTITYMANAGER_JNDI_PROPERTY)) {
             String jndiName = pu.getProperties().get(ENTITYMANAGER_JNDI_PROPERTY).toString();
@@ -26,6 +26,7 @@ import static org.jboss.as.jpa.messages.JpaLogger.ROOT_LOGGER;
 
 import java.util.HashSet;
 import java.util.Locale;
+import java.util.MissingResourceException;
 import java.util.ResourceBundle;
 import java.util.Set;
 
@@ -39,7 +40,10 @@ import org.jboss.as.controller.registry.Resource;
 import org.jboss.as.jpa.config.ExtendedPersistenceInheritance;
 import org.jboss.as.jpa.management.DynamicManagementStatisticsResource;
 import org.jboss.as.jpa.management.EntityManagerFactoryLookup;
+import org.jboss.as.jpa.management.EntityManagerOperationMetricsHandler;
 import org.jboss.as.jpa.management.ManagementResourceDefinition;
+import org.jboss.as.jpa.management.PersistenceUnitBootstrapMetricsHandler;
+import org.jboss.as.jpa.management.PersistenceUnitWarmUpHandler;
 import org.jboss.as.jpa.processor.CacheDeploymentHelper;
 import org.jboss.as.jpa.processor.PersistenceUnitServiceHandler;
 import org.jboss.as.jpa.subsystem.JPAExtension;
@@ -153,6 +157,24 @@ public class JPAService implements Service<Void> {
                             return fallback.getResourceAttributeDescription(attributeName, locale, fallback.getResourceBundle(locale));
                         }
                     }
+
+                    @Override
+                    public String getResourceAttributeValueTypeDescription(String attributeName, Locale locale, ResourceBundle bundle, String... suffixes) {
+                        try {
+                            return super.getResourceAttributeValueTypeDescription(attributeName, locale, bundle, suffixes);
+                        } catch (MissingResourceException e) {
+                            return fallback.getResourceAttributeValueTypeDescription(attributeName, locale, fallback.getResourceBundle(locale), suffixes);
+                        }
+                    }
+
+                    @Override
+                    public String getOperationDescription(String operationName, Locale locale, ResourceBundle bundle) {
+                        if (bundle.containsKey(getBundleKey(operationName))) {
+                            return super.getOperationDescription(operationName, locale, bundle);
+                        }else{
+                            return fallback.getOperationDescription(operationName, locale, fallback.getResourceBundle(locale));
+                        }
+                    }
                 };
 
                 PathElement subsystemPE = PathElement.pathElement(ModelDescriptionConstants.SUBSYSTEM, JPAExtension.SUBSYSTEM_NAME);
@@ -165,10 +187,16 @@ public class JPAService implements Service<Void> {
                 ManagementResourceRegistration providerResource = deploymentSubsystemRegistration.registerSubModel(
                         new ManagementResourceDefinition(PathElement.pathElement(managementAdaptor.getIdentificationLabel()), resourceDescriptionResolver, statistics, entityManagerFactoryLookup));
                 providerResource.registerReadOnlyAttribute(PersistenceUnitServiceHandler.SCOPED_UNIT_NAME, null);
+                EntityManagerOperationMetricsHandler.registerMetrics(providerResource);
+                PersistenceUnitBootstrapMetricsHandler.registerMetrics(providerResource);
+                PersistenceUnitWarmUpHandler.registerOperation(providerResource, resourceDescriptionResolver);
 
                 providerResource = subdeploymentSubsystemRegistration.registerSubModel(
                         new ManagementResourceDefinition(PathElement.pathElement(managementAdaptor.getIdentificationLabel()), resourceDescriptionResolver, statistics, entityManagerFactoryLookup));
                 providerResource.registerReadOnlyAttribute(PersistenceUnitServiceHandler.SCOPED_UNIT_NAME, null);
+                EntityManagerOperationMetricsHandler.registerMetrics(providerResource);
+                PersistenceUnitBootstrapMetricsHandler.registerMetrics(providerResource);
+                PersistenceUnitWarmUpHandler.registerOperation(providerResource, resourceDescriptionResolver);
 
                 existingResourceDescriptionResolver.add(managementAdaptor.getVersion());
             }
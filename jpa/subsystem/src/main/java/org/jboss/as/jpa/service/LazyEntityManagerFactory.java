@@ -0,0 +1,199 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.jpa.service;
+
+import static org.jboss.as.jpa.messages.JpaLogger.ROOT_LOGGER;
+
+import java.util.Map;
+import javax.persistence.Cache;
+import javax.persistence.EntityGraph;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.PersistenceUnitUtil;
+import javax.persistence.Query;
+import javax.persistence.SynchronizationType;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.metamodel.Metamodel;
+import javax.transaction.InvalidTransactionException;
+import javax.transaction.SystemException;
+import javax.transaction.Transaction;
+import javax.transaction.TransactionManager;
+
+/**
+ * Entity manager factory of a lazily initialized persistence unit (see {@link org.jboss.as.jpa.config.Configuration#JPA_LAZY}).
+ * <p/>
+ * The provider entity manager factory is built by the persistence unit service the first time the factory is used.
+ * The caller's transaction is suspended while the factory is built. Closing the factory before it is used doesn't
+ * build it.
+ */
+final class LazyEntityManagerFactory implements EntityManagerFactory {
+
+    private final PersistenceUnitServiceImpl persistenceUnitService;
+    private final TransactionManager transactionManager;
+    private volatile EntityManagerFactory delegate;
+    private volatile boolean closed;
+
+    /**
+     * @param persistenceUnitService the persistence unit service that builds the provider entity manager factory
+     * @param transactionManager     the transaction manager (may be null)
+     */
+    LazyEntityManagerFactory(final PersistenceUnitServiceImpl persistenceUnitService, final TransactionManager transactionManager) {
+        this.persistenceUnitService = persistenceUnitService;
+        this.transactionManager = transactionManager;
+    }
+
+    /**
+     * @return the provider entity manager factory or null if it hasn't been built yet
+     */
+    EntityManagerFactory getDelegateIfInitialized() {
+        return delegate;
+    }
+
+    /**
+     * @return the provider entity manager factory, built on first call
+     */
+    EntityManagerFactory getDelegate() {
+        EntityManagerFactory result = delegate;
+        if (result == null) {
+            synchronized (this) {
+                result = delegate;
+                if (result == null) {
+                    if (closed) {
+                        throw ROOT_LOGGER.entityManagerFactoryClosed(persistenceUnitService.getScopedPersistenceUnitName());
+                    }
+                    result = build();
+                    delegate = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private EntityManagerFactory build() {
+        // don't bootstrap the persistence unit in the transaction of the application thread that first uses it
+        final Transaction suspended = suspendTransaction();
+        try {
+            return persistenceUnitService.buildLazyEntityManagerFactory();
+        } finally {
+            resumeTransaction(suspended);
+        }
+    }
+
+    private Transaction suspendTransaction() {
+        if (transactionManager == null) {
+            return null;
+        }
+        try {
+            return transactionManager.suspend();
+        } catch (SystemException e) {
+            throw ROOT_LOGGER.errorGettingTransaction(e);
+        }
+    }
+
+    private void resumeTransaction(final Transaction suspended) {
+        if (suspended != null) {
+            try {
+                transactionManager.resume(suspended);
+            } catch (InvalidTransactionException | SystemException e) {
+                throw ROOT_LOGGER.errorResumingTransaction(e, persistenceUnitService.getScopedPersistenceUnitName());
+            }
+        }
+    }
+
+    @Override
+    public EntityManager createEntityManager() {
+        return getDelegate().createEntityManager();
+    }
+
+    @Override
+    public EntityManager createEntityManager(Map map) {
+        return getDelegate().createEntityManager(map);
+    }
+
+    @Override
+    public EntityManager createEntityManager(SynchronizationType synchronizationType) {
+        return getDelegate().createEntityManager(synchronizationType);
+    }
+
+    @Override
+    public EntityManager createEntityManager(SynchronizationType synchronizationType, Map map) {
+        return getDelegate().createEntityManager(synchronizationType, map);
+    }
+
+    @Override
+    public CriteriaBuilder getCriteriaBuilder() {
+        return getDelegate().getCriteriaBuilder();
+    }
+
+    @Override
+    public Metamodel getMetamodel() {
+        return getDelegate().getMetamodel();
+    }
+
+    @Override
+    public boolean isOpen() {
+        final EntityManagerFactory result = delegate;
+        return result != null ? result.isOpen() : !closed;
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (delegate != null) {
+            delegate.close();
+        }
+    }
+
+    @Override
+    public Map<String, Object> getProperties() {
+        return getDelegate().getProperties();
+    }
+
+    @Override
+    public Cache getCache() {
+        return getDelegate().getCache();
+    }
+
+    @Override
+    public PersistenceUnitUtil getPersistenceUnitUtil() {
+        return getDelegate().getPersistenceUnitUtil();
+    }
+
+    @Override
+    public void addNamedQuery(String name, Query query) {
+        getDelegate().addNamedQuery(name, query);
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> cls) {
+        if (cls.isInstance(this)) {
+            return cls.cast(this);
+        }
+        return getDelegate().unwrap(cls);
+    }
+
+    @Override
+    public <T> void addNamedEntityGraph(String graphName, EntityGraph<T> entityGraph) {
+        getDelegate().addNamedEntityGraph(graphName, entityGraph);
+    }
+}
@@ -29,15 +29,19 @@ import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import javax.enterprise.inject.spi.BeanManager;
 import javax.persistence.EntityManagerFactory;
 import javax.persistence.spi.PersistenceProvider;
 import javax.sql.DataSource;
+import javax.transaction.TransactionManager;
 import javax.validation.ValidatorFactory;
 
 import org.jboss.as.jpa.beanmanager.ProxyBeanManager;
 import org.jboss.as.jpa.classloader.TempClassLoaderFactoryImpl;
+import org.jboss.as.jpa.config.Configuration;
+import org.jboss.as.jpa.container.EntityManagerMetrics;
 import org.jboss.as.jpa.spi.PersistenceUnitService;
 import org.jboss.as.jpa.subsystem.PersistenceUnitRegistryImpl;
 import org.jboss.as.jpa.util.JPAServiceNames;
@@ -73,6 +77,7 @@ public class PersistenceUnitServiceImpl implements Service<PersistenceUnitServic
     private final InjectedValue<ExecutorService> executorInjector = new InjectedValue<ExecutorService>();
     private final InjectedValue<BeanManager> beanManagerInjector = new InjectedValue<>();
     private final InjectedValue<PhaseOnePersistenceUnitServiceImpl> phaseOnePersistenceUnitServiceInjectedValue = new InjectedValue<>();
+    private final InjectedValue<TransactionManager> transactionManagerInjector = new InjectedValue<>();
 
     private static final String CDI_BEAN_MANAGER = "javax.persistence.bean.manager";
     private static final String VALIDATOR_FACTORY = "javax.persistence.validation.factory";
@@ -84,9 +89,13 @@ public class PersistenceUnitServiceImpl implements Service<PersistenceUnitServic
     private final PersistenceUnitRegistryImpl persistenceUnitRegistry;
     private final ServiceName deploymentUnitServiceName;
     private final ValidatorFactory validatorFactory;
+    private final EntityManagerMetrics entityManagerMetrics;
 
     private volatile EntityManagerFactory entityManagerFactory;
     private volatile ProxyBeanManager proxyBeanManager;
+    private volatile long bootstrapTime;
+    private volatile long phaseOneBootstrapTime;
+    private volatile AccessControlContext accessControlContext;
     private final SetupAction javaNamespaceSetup;
 
     public PersistenceUnitServiceImpl(
@@ -105,6 +114,7 @@ public class PersistenceUnitServiceImpl implements Service<PersistenceUnitServic
         this.deploymentUnitServiceName = deploymentUnitServiceName;
         this.validatorFactory = validatorFactory;
         this.javaNamespaceSetup = javaNamespaceSetup;
+        this.entityManagerMetrics = Configuration.allowEntityManagerMetrics(pu) ? new EntityManagerMetrics() : null;
     }
 
     @Override
@@ -112,6 +122,7 @@ public class PersistenceUnitServiceImpl implements Service<PersistenceUnitServic
         final ExecutorService executor = executorInjector.getValue();
         final AccessControlContext accessControlContext =
                 AccessController.doPrivileged(GetAccessControlContextAction.getInstance());
+        this.accessControlContext = accessControlContext;
 
         final Runnable task = new Runnable() {
             // run async in a background thread
@@ -122,69 +133,12 @@ public class PersistenceUnitServiceImpl implements Service<PersistenceUnitServic
                             // run as security privileged action
                             @Override
                             public Void run() {
-
-                                ClassLoader old = Thread.currentThread().getContextClassLoader();
-                                Thread.currentThread().setContextClassLoader(classLoader);
-                                if(javaNamespaceSetup != null) {
-                                    javaNamespaceSetup.setup(Collections.<String, Object>emptyMap());
-                                }
-
                                 try {
-                                    PhaseOnePersistenceUnitServiceImpl phaseOnePersistenceUnitService = phaseOnePersistenceUnitServiceInjectedValue.getOptionalValue();
-                                    WritableServiceBasedNamingStore.pushOwner(deploymentUnitServiceName);
-
-                                    // as per JPA specification contract, always pass ValidatorFactory in via standard property before
-                                    // creating container EntityManagerFactory
-                                    if (validatorFactory != null) {
-                                        properties.getValue().put(VALIDATOR_FACTORY, validatorFactory);
-                                    }
-
-                                    // handle phase 2 of 2 of bootstrapping the persistence unit
-                                    if (phaseOnePersistenceUnitService != null) {
-                                        ROOT_LOGGER.startingPersistenceUnitService(2, pu.getScopedPersistenceUnitName());
-                                        // indicate that the second phase of bootstrapping the persistence unit has started
-                                        phaseOnePersistenceUnitService.setSecondPhaseStarted(true);
-                                        if (beanManagerInjector.getOptionalValue() != null) {
-                                            // update the bean manager proxy to the actual CDI bean manager
-                                            proxyBeanManager = phaseOnePersistenceUnitService.getBeanManager();
-                                            proxyBeanManager.setDelegate(beanManagerInjector.getOptionalValue());
-                                        }
-                                        EntityManagerFactoryBuilder emfBuilder = phaseOnePersistenceUnitService.getEntityManagerFactoryBuilder();
-
-                                        // always pass the ValidatorFactory before starting the second phase of the
-                                        // persistence unit bootstrap.
-                                        if (validatorFactory != null) {
-                                            emfBuilder.withValidatorFactory(validatorFactory);
-                                        }
-
-                                        // get the EntityManagerFactory from the second phase of the persistence unit bootstrap
-                                        entityManagerFactory = emfBuilder.build();
-                                    } else {
-                                        ROOT_LOGGER.startingService("Persistence Unit", pu.getScopedPersistenceUnitName());
-                                        // start the persistence unit in one pass (1 of 1)
-                                        pu.setTempClassLoaderFactory(new TempClassLoaderFactoryImpl(classLoader));
-                                        pu.setJtaDataSource(jtaDataSource.getOptionalValue());
-                                        pu.setNonJtaDataSource(nonJtaDataSource.getOptionalValue());
-
-                                        if (beanManagerInjector.getOptionalValue() != null) {
-                                            proxyBeanManager = new ProxyBeanManager();
-                                            proxyBeanManager.setDelegate(beanManagerInjector.getOptionalValue());
-                                            properties.getValue().put(CDI_BEAN_MANAGER, proxyBeanManager);
-                                        }
-                                        entityManagerFactory = createContainerEntityManagerFactory();
-                                    }
+                                    startEntityManagerFactory();
                                     persistenceUnitRegistry.add(getScopedPersistenceUnitName(), getValue());
                                     context.complete();
                                 } catch (Throwable t) {
                                     context.failed(new StartException(t));
-                                } finally {
-                                    Thread.currentThread().setContextClassLoader(old);
-                                    pu.setTempClassLoaderFactory(null);    // release the temp classloader factory (only needed when creating the EMF)
-                                    WritableServiceBasedNamingStore.popOwner();
-
-                                    if (javaNamespaceSetup != null) {
-                                        javaNamespaceSetup.teardown(Collections.<String, Object>emptyMap());
-                                    }
                                 }
                                 return null;
                             }
@@ -204,6 +158,125 @@ public class PersistenceUnitServiceImpl implements Service<PersistenceUnitServic
         }
     }
 
+    /**
+     * Build the entity manager factory, or defer building it until first use for a lazily initialized persistence unit.
+     */
+    void startEntityManagerFactory() {
+        if (isLazy()) {
+            ROOT_LOGGER.debugf("persistence unit %s will be bootstrapped on first use", pu.getScopedPersistenceUnitName());
+            entityManagerFactory = new LazyEntityManagerFactory(this, transactionManagerInjector.getOptionalValue());
+        } else {
+            entityManagerFactory = createEntityManagerFactory();
+        }
+    }
+
+    /**
+     * A single phase bootstrap registers the class file transformers of the persistence unit when the entity manager
+     * factory is built, which has to happen before the application classes are loaded.  A two phase bootstrap registers
+     * them in the first phase, which is never deferred.
+     *
+     * @return true if building the entity manager factory is deferred until the persistence unit is first used
+     */
+    boolean isLazy() {
+        if (!Configuration.isLazy(pu)) {
+            return false;
+        }
+        if (phaseOnePersistenceUnitServiceInjectedValue.getOptionalValue() == null && Configuration.needClassFileTransformer(pu)) {
+            ROOT_LOGGER.lazyBootstrapNeedsClassFileTransformer(pu.getScopedPersistenceUnitName(), Configuration.JPA_LAZY);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Bootstrap the persistence unit (phase two of a two phase bootstrap or the single phase bootstrap).
+     *
+     * @return the provider entity manager factory
+     */
+    private EntityManagerFactory createEntityManagerFactory() {
+        final long start = System.nanoTime();
+        final EntityManagerFactory result;
+        ClassLoader old = Thread.currentThread().getContextClassLoader();
+        Thread.currentThread().setContextClassLoader(classLoader);
+        if(javaNamespaceSetup != null) {
+            javaNamespaceSetup.setup(Collections.<String, Object>emptyMap());
+        }
+
+        try {
+            PhaseOnePersistenceUnitServiceImpl phaseOnePersistenceUnitService = phaseOnePersistenceUnitServiceInjectedValue.getOptionalValue();
+            WritableServiceBasedNamingStore.pushOwner(deploymentUnitServiceName);
+
+            // as per JPA specification contract, always pass ValidatorFactory in via standard property before
+            // creating container EntityManagerFactory
+            if (validatorFactory != null) {
+                properties.getValue().put(VALIDATOR_FACTORY, validatorFactory);
+            }
+
+            // handle phase 2 of 2 of bootstrapping the persistence unit
+            if (phaseOnePersistenceUnitService != null) {
+                ROOT_LOGGER.startingPersistenceUnitService(2, pu.getScopedPersistenceUnitName());
+                // indicate that the second phase of bootstrapping the persistence unit has started
+                phaseOnePersistenceUnitService.setSecondPhaseStarted(true);
+                if (beanManagerInjector.getOptionalValue() != null) {
+                    // update the bean manager proxy to the actual CDI bean manager
+                    proxyBeanManager = phaseOnePersistenceUnitService.getBeanManager();
+                    proxyBeanManager.setDelegate(beanManagerInjector.getOptionalValue());
+                }
+                EntityManagerFactoryBuilder emfBuilder = phaseOnePersistenceUnitService.getEntityManagerFactoryBuilder();
+
+                // always pass the ValidatorFactory before starting the second phase of the
+                // persistence unit bootstrap.
+                if (validatorFactory != null) {
+                    emfBuilder.withValidatorFactory(validatorFactory);
+                }
+
+                // get the EntityManagerFactory from the second phase of the persistence unit bootstrap
+                result = emfBuilder.build();
+                phaseOneBootstrapTime = phaseOnePersistenceUnitService.getBootstrapTime();
+            } else {
+                ROOT_LOGGER.startingService("Persistence Unit", pu.getScopedPersistenceUnitName());
+                // start the persistence unit in one pass (1 of 1)
+                pu.setTempClassLoaderFactory(new TempClassLoaderFactoryImpl(classLoader));
+                pu.setJtaDataSource(jtaDataSource.getOptionalValue());
+                pu.setNonJtaDataSource(nonJtaDataSource.getOptionalValue());
+
+                if (beanManagerInjector.getOptionalValue() != null) {
+                    proxyBeanManager = new ProxyBeanManager();
+                    proxyBeanManager.setDelegate(beanManagerInjector.getOptionalValue());
+                    properties.getValue().put(CDI_BEAN_MANAGER, proxyBeanManager);
+                }
+                result = createContainerEntityManagerFactory();
+            }
+            bootstrapTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            ROOT_LOGGER.debugf("persistence unit %s bootstrap took %dms (phase 1 took %dms)",
+                    pu.getScopedPersistenceUnitName(), bootstrapTime, phaseOneBootstrapTime);
+            return result;
+        } finally {
+            Thread.currentThread().setContextClassLoader(old);
+            pu.setTempClassLoaderFactory(null);    // release the temp classloader factory (only needed when creating the EMF)
+            WritableServiceBasedNamingStore.popOwner();
+
+            if (javaNamespaceSetup != null) {
+                javaNamespaceSetup.teardown(Collections.<String, Object>emptyMap());
+            }
+        }
+    }
+
+    /**
+     * Bootstrap a lazily initialized persistence unit, called by {@link LazyEntityManagerFactory} on first use
+     * (from an application or management thread).
+     *
+     * @return the provider entity manager factory
+     */
+    EntityManagerFactory buildLazyEntityManagerFactory() {
+        return WildFlySecurityManager.doChecked(new PrivilegedAction<EntityManagerFactory>() {
+            @Override
+            public EntityManagerFactory run() {
+                return createEntityManagerFactory();
+            }
+        }, accessControlContext);
+    }
+
     @Override
     public void stop(final StopContext context) {
         final ExecutorService executor = executorInjector.getValue();
@@ -282,7 +355,8 @@ public class PersistenceUnitServiceImpl implements Service<PersistenceUnitServic
     }
 
     /**
-     * Get the entity manager factory
+     * Get the entity manager factory, for a lazily initialized persistence unit this is a factory that builds the
+     * provider entity manager factory on first use.
      *
      * @return the entity manager factory
      */
@@ -291,6 +365,60 @@ public class PersistenceUnitServiceImpl implements Service<PersistenceUnitServic
         return entityManagerFactory;
     }
 
+    /**
+     * @return the time (in milliseconds) taken to build the entity manager factory, for a two phase bootstrap this
+     * is the time taken by the second phase
+     */
+    public long getBootstrapTime() {
+        return bootstrapTime;
+    }
+
+    /**
+     * @return the time (in milliseconds) taken by the first phase of a two phase bootstrap, zero otherwise
+     */
+    public long getPhaseOneBootstrapTime() {
+        return phaseOneBootstrapTime;
+    }
+
+    /**
+     * Get the container managed entity manager operation metrics
+     *
+     * @return the metrics or null if they are not enabled for the persistence unit
+     */
+    public EntityManagerMetrics getEntityManagerMetrics() {
+        return entityManagerMetrics;
+    }
+
+    /**
+     * Build the entity manager factory of a lazily initialized persistence unit, if it isn't already built.
+     *
+     * @return true if the entity manager factory was built by this call
+     */
+    public boolean warmUp() {
+        final EntityManagerFactory emf = entityManagerFactory;
+        if (emf instanceof LazyEntityManagerFactory) {
+            final LazyEntityManagerFactory lazyEntityManagerFactory = (LazyEntityManagerFactory) emf;
+            if (lazyEntityManagerFactory.getDelegateIfInitialized() == null) {
+                lazyEntityManagerFactory.getDelegate();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the provider entity manager factory, without initializing a lazily initialized persistence unit.
+     *
+     * @return the provider entity manager factory or null if it isn't built
+     */
+    public EntityManagerFactory getInitializedEntityManagerFactory() {
+        final EntityManagerFactory emf = entityManagerFactory;
+        if (emf instanceof LazyEntityManagerFactory) {
+            return ((LazyEntityManagerFactory) emf).getDelegateIfInitialized();
+        }
+        return emf;
+    }
+
     @Override
     public String getScopedPersistenceUnitName() {
         return pu.getScopedPersistenceUnitName();
@@ -309,6 +437,10 @@ public class PersistenceUnitServiceImpl implements Service<PersistenceUnitServic
     }
 
 
+    public Injector<TransactionManager> getTransactionManagerInjector() {
+        return transactionManagerInjector;
+    }
+
     public Injector<BeanManager> getBeanManagerInjector() {
         return beanManagerInjector;
     }
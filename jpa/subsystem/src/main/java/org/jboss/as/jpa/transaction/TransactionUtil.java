@@ -53,7 +53,14 @@ public class TransactionUtil {
     private static final EnumSet<EventType> eventTypes = EnumSet.of(EventType.ASSOCIATED, EventType.DISASSOCIATING);
 
     public static boolean isInTx(TransactionManager transactionManager) {
-        Transaction tx = getTransaction(transactionManager);
+        return isActive(getTransaction(transactionManager));
+    }
+
+    /**
+     * @param tx the transaction (may be null)
+     * @return true if tx is an active transaction
+     */
+    public static boolean isActive(Transaction tx) {
         if (tx == null || !TxUtils.isActive(tx))
             return false;
         return true;
@@ -70,7 +77,17 @@ public class TransactionUtil {
     }
 
     public static void registerSynchronization(EntityManager entityManager, String puScopedName, TransactionSynchronizationRegistry tsr, TransactionManager transactionManager) {
-        SessionSynchronization sessionSynchronization = new SessionSynchronization(entityManager, puScopedName);
+        registerSynchronization(entityManager, puScopedName, tsr, transactionManager, null);
+    }
+
+    /**
+     * Register the synchronization that closes the transaction scoped entity manager when the transaction completes.
+     *
+     * @param afterCompletion optional task that is run when the transaction completes, used to release references
+     *                        to the entity manager that are held outside of the TransactionSynchronizationRegistry
+     */
+    public static void registerSynchronization(EntityManager entityManager, String puScopedName, TransactionSynchronizationRegistry tsr, TransactionManager transactionManager, Runnable afterCompletion) {
+        SessionSynchronization sessionSynchronization = new SessionSynchronization(entityManager, puScopedName, afterCompletion);
         tsr.registerInterposedSynchronization(sessionSynchronization);
         try {
             getTransactionListenerRegistry(transactionManager).addListener(getTransaction(transactionManager), sessionSynchronization, eventTypes);
@@ -146,12 +163,14 @@ public class TransactionUtil {
     private static class SessionSynchronization implements Synchronization, TransactionListener {
         private EntityManager manager;  // the underlying entity manager
         private String scopedPuName;
+        private Runnable afterCompletion;
         private transient boolean transactionDisassociatedFromApplication = false;
         private transient boolean afterCompletionCalled = false;
 
-        public SessionSynchronization(EntityManager session, String scopedPuName) {
+        public SessionSynchronization(EntityManager session, String scopedPuName, Runnable afterCompletion) {
             this.manager = session;
             this.scopedPuName = scopedPuName;
+            this.afterCompletion = afterCompletion;
         }
 
         public void beforeCompletion() {
@@ -164,6 +183,13 @@ public class TransactionUtil {
              * at the same time.
              */
             afterCompletionCalled = true;
+            if (afterCompletion != null) {
+                try {
+                    afterCompletion.run();
+                } finally {
+                    afterCompletion = null;
+                }
+            }
             safeCloseEntityManager();
         }
 
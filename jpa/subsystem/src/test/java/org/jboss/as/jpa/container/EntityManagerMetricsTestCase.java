@@ -0,0 +1,86 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.jpa.container;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.jboss.as.ee.metrics.LatencyHistogram;
+import org.junit.Test;
+
+/**
+ * Tests the entity manager operation metrics recording.
+ */
+public class EntityManagerMetricsTestCase {
+
+    @Test
+    public void testRecordWithoutMetrics() {
+        long start = EntityManagerMetrics.start(null);
+        assertEquals(0L, start);
+        // must be a no-op
+        EntityManagerMetrics.record(null, EntityManagerMetrics.Operation.FIND, start);
+    }
+
+    @Test
+    public void testCountsAndTimes() {
+        EntityManagerMetrics metrics = new EntityManagerMetrics();
+        LatencyHistogram find = metrics.getOperationMetrics(EntityManagerMetrics.Operation.FIND);
+        find.record(100);
+        find.record(300);
+        find.record(5000);
+
+        assertEquals(3, find.getCount());
+        assertEquals(5400, find.getTotal());
+        assertEquals(1800, find.getAverage());
+        assertEquals(5000, find.getMax());
+        assertEquals(0, metrics.getOperationMetrics(EntityManagerMetrics.Operation.PERSIST).getCount());
+    }
+
+    @Test
+    public void testPercentiles() {
+        LatencyHistogram values = new EntityManagerMetrics().getOperationMetrics(EntityManagerMetrics.Operation.MERGE);
+        for (int i = 0; i < 99; i++) {
+            values.record(1000);
+        }
+        values.record(1000000);
+
+        // 1000ns falls in the [512, 1023] bucket
+        assertEquals(1023, values.getPercentile(50));
+        assertEquals(1023, values.getPercentile(99));
+        // never reported above the max
+        assertEquals(1000000, values.getPercentile(100));
+        assertTrue(values.getPercentile(90) <= values.getPercentile(99));
+    }
+
+    @Test
+    public void testReset() {
+        EntityManagerMetrics metrics = new EntityManagerMetrics();
+        LatencyHistogram flush = metrics.getOperationMetrics(EntityManagerMetrics.Operation.FLUSH);
+        flush.record(42);
+        metrics.reset();
+
+        assertEquals(0, flush.getCount());
+        assertEquals(0, flush.getMax());
+        assertEquals(0, flush.getPercentile(50));
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.jpa.container;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.SynchronizationType;
+import javax.transaction.Status;
+import javax.transaction.Transaction;
+import javax.transaction.TransactionManager;
+import javax.transaction.TransactionSynchronizationRegistry;
+
+import org.jboss.as.jpa.transaction.TransactionUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures how a transaction scoped entity manager resolves the underlying entity manager of the current JTA
+ * transaction, once it was created: from the entity manager cached per transaction, and through the
+ * TransactionSynchronizationRegistry lookup that was done for every call before.
+ * <p/>
+ * The transaction manager and registry are stubs, so only the cost of the resolution itself is measured. Run
+ * {@link #main(String[])} from the test class path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransactionScopedEntityManagerBenchmark {
+
+    private static final String PERSISTENCE_UNIT = "benchmark.jar#benchmark";
+
+    private TransactionManager transactionManager;
+    private TransactionSynchronizationRegistry transactionSynchronizationRegistry;
+    private TransactionScopedEntityManager transactionScopedEntityManager;
+
+    @Setup
+    public void setup() {
+        final EntityManager entityManager = stub(EntityManager.class, (proxy, method, args) -> null);
+        final Transaction transaction = stub(Transaction.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getStatus":
+                    return Status.STATUS_ACTIVE;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return null;
+            }
+        });
+        transactionManager = stub(TransactionManager.class, (proxy, method, args) -> "getTransaction".equals(method.getName()) ? transaction : null);
+        transactionSynchronizationRegistry = stub(TransactionSynchronizationRegistry.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getResource":
+                    return PERSISTENCE_UNIT.equals(args[0]) ? entityManager : null;
+                case "getTransactionStatus":
+                    return Status.STATUS_ACTIVE;
+                default:
+                    return null;
+            }
+        });
+        final EntityManagerFactory entityManagerFactory = stub(EntityManagerFactory.class, (proxy, method, args) -> entityManager);
+        transactionScopedEntityManager = new TransactionScopedEntityManager(PERSISTENCE_UNIT, Collections.emptyMap(), entityManagerFactory,
+                SynchronizationType.SYNCHRONIZED, transactionSynchronizationRegistry, transactionManager);
+        // the first call resolves the entity manager and caches it for the transaction
+        transactionScopedEntityManager.getEntityManager();
+    }
+
+    @Benchmark
+    public EntityManager cachedEntityManager() {
+        return transactionScopedEntityManager.getEntityManager();
+    }
+
+    @Benchmark
+    public EntityManager transactionSynchronizationRegistryLookup() {
+        return TransactionUtil.isInTx(transactionManager) ? TransactionUtil.getTransactionScopedEntityManager(PERSISTENCE_UNIT, transactionSynchronizationRegistry) : null;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TransactionScopedEntityManagerBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    private static <T> T stub(final Class<T> type, final InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, handler));
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.jpa.container;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.SynchronizationType;
+import javax.transaction.Status;
+import javax.transaction.Synchronization;
+import javax.transaction.Transaction;
+import javax.transaction.TransactionManager;
+import javax.transaction.TransactionSynchronizationRegistry;
+
+import org.jboss.tm.listener.TransactionListenerRegistry;
+import org.junit.Test;
+
+/**
+ * Tests that the transaction scoped entity manager resolves one entity manager per transaction and persistence unit
+ * when it is shared by threads running different transactions.
+ */
+public class TransactionScopedEntityManagerTestCase {
+
+    private static final String PERSISTENCE_UNIT = "test.jar#test";
+
+    private static final int THREADS = 8;
+
+    private static final int TRANSACTIONS = 50;
+
+    private static final int CALLS = 100;
+
+    private final ThreadLocal<TestTransaction> currentTransaction = new ThreadLocal<>();
+
+    private final AtomicInteger createdEntityManagers = new AtomicInteger();
+
+    @Test
+    public void testOneSynchronizationPerTransaction() throws Exception {
+        final TransactionManager transactionManager = stub(TransactionManager.class, TransactionListenerRegistry.class, (proxy, method, args) -> {
+            if ("getTransaction".equals(method.getName())) {
+                final TestTransaction transaction = currentTransaction.get();
+                return transaction == null ? null : transaction.proxy;
+            }
+            return null;
+        });
+        final TransactionSynchronizationRegistry transactionSynchronizationRegistry = stub(TransactionSynchronizationRegistry.class, null, (proxy, method, args) -> {
+            final TestTransaction transaction = currentTransaction.get();
+            switch (method.getName()) {
+                case "getResource":
+                    return transaction.resources.get(args[0]);
+                case "putResource":
+                    transaction.resources.put(args[0], args[1]);
+                    return null;
+                case "registerInterposedSynchronization":
+                    transaction.synchronizations.add((Synchronization) args[0]);
+                    return null;
+                case "getTransactionStatus":
+                    return Status.STATUS_ACTIVE;
+                default:
+                    return null;
+            }
+        });
+        final EntityManagerFactory entityManagerFactory = stub(EntityManagerFactory.class, null, (proxy, method, args) -> {
+            createdEntityManagers.incrementAndGet();
+            return stub(EntityManager.class, null, (em, emMethod, emArgs) -> null);
+        });
+        // two components sharing the persistence unit, each proxy is shared by all threads
+        final TransactionScopedEntityManager first = new TransactionScopedEntityManager(PERSISTENCE_UNIT, Collections.emptyMap(),
+                entityManagerFactory, SynchronizationType.SYNCHRONIZED, transactionSynchronizationRegistry, transactionManager);
+        final TransactionScopedEntityManager second = new TransactionScopedEntityManager(PERSISTENCE_UNIT, Collections.emptyMap(),
+                entityManagerFactory, SynchronizationType.SYNCHRONIZED, transactionSynchronizationRegistry, transactionManager);
+
+        final List<TestTransaction> transactions = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            final List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    for (int t = 0; t < TRANSACTIONS; t++) {
+                        final TestTransaction transaction = new TestTransaction();
+                        transactions.add(transaction);
+                        currentTransaction.set(transaction);
+                        final EntityManager entityManager = first.getEntityManager();
+                        for (int c = 0; c < CALLS; c++) {
+                            assertSame(entityManager, first.getEntityManager());
+                            assertSame(entityManager, second.getEntityManager());
+                        }
+                        transaction.complete();
+                        currentTransaction.remove();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(THREADS * TRANSACTIONS, transactions.size());
+        assertEquals(THREADS * TRANSACTIONS, createdEntityManagers.get());
+        for (TestTransaction transaction : transactions) {
+            assertEquals(1, transaction.synchronizations.size());
+        }
+    }
+
+    private static <T> T stub(final Class<T> type, final Class<?> other, final InvocationHandler handler) {
+        final Class<?>[] interfaces = other == null ? new Class<?>[] {type} : new Class<?>[] {type, other};
+        return type.cast(Proxy.newProxyInstance(TransactionScopedEntityManagerTestCase.class.getClassLoader(), interfaces, handler));
+    }
+
+    private static final class TestTransaction implements InvocationHandler {
+
+        final Transaction proxy = stub(Transaction.class, null, this);
+        final Map<Object, Object> resources = new ConcurrentHashMap<>();
+        final List<Synchronization> synchronizations = Collections.synchronizedList(new ArrayList<>());
+        volatile int status = Status.STATUS_ACTIVE;
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            switch (method.getName()) {
+                case "getStatus":
+                    return status;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "TestTransaction@" + Integer.toHexString(System.identityHashCode(proxy));
+                default:
+                    return null;
+            }
+        }
+
+        void complete() {
+            status = Status.STATUS_COMMITTED;
+            for (Synchronization synchronization : new ArrayList<>(synchronizations)) {
+                synchronization.afterCompletion(Status.STATUS_COMMITTED);
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.jpa.management;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ADDRESS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_ATTRIBUTE_OPERATION;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.lang.reflect.Proxy;
+
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.jpa.config.PersistenceUnitMetadataImpl;
+import org.jboss.as.jpa.service.PersistenceUnitServiceImpl;
+import org.jboss.as.jpa.subsystem.PersistenceUnitRegistryImpl;
+import org.jboss.dmr.ModelNode;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests reading the persistence unit bootstrap time metrics.
+ */
+public class PersistenceUnitBootstrapMetricsHandlerTestCase {
+
+    private static final String SCOPED_PU_NAME = "test.jar#orders";
+
+    @After
+    public void unregister() {
+        PersistenceUnitRegistryImpl.INSTANCE.remove(SCOPED_PU_NAME);
+    }
+
+    @Test
+    public void testBootstrapTimes() throws Exception {
+        final PersistenceUnitMetadataImpl pu = new PersistenceUnitMetadataImpl();
+        pu.setPersistenceUnitName("orders");
+        pu.setScopedPersistenceUnitName(SCOPED_PU_NAME);
+        PersistenceUnitRegistryImpl.INSTANCE.add(SCOPED_PU_NAME, new PersistenceUnitServiceImpl(null, pu, null, null, null, null, null, null) {
+            @Override
+            public long getBootstrapTime() {
+                return 42;
+            }
+
+            @Override
+            public long getPhaseOneBootstrapTime() {
+                return 7;
+            }
+        });
+
+        assertEquals(42, readMetric(PersistenceUnitBootstrapMetricsHandler.BOOTSTRAP_TIME.getName()).asLong());
+        assertEquals(7, readMetric(PersistenceUnitBootstrapMetricsHandler.BOOTSTRAP_PHASE_ONE_TIME.getName()).asLong());
+    }
+
+    @Test
+    public void testPersistenceUnitNotStarted() throws Exception {
+        assertFalse(readMetric(PersistenceUnitBootstrapMetricsHandler.BOOTSTRAP_TIME.getName()).isDefined());
+    }
+
+    private static ModelNode readMetric(final String attributeName) throws Exception {
+        final ModelNode result = new ModelNode();
+        final OperationContext context = (OperationContext) Proxy.newProxyInstance(PersistenceUnitBootstrapMetricsHandlerTestCase.class.getClassLoader(),
+                new Class<?>[] {OperationContext.class}, (proxy, method, args) -> "getResult".equals(method.getName()) ? result : null);
+        final ModelNode operation = new ModelNode();
+        operation.get(OP).set(READ_ATTRIBUTE_OPERATION);
+        operation.get(ADDRESS).set(PathAddress.pathAddress("deployment", "test.jar")
+                .append("subsystem", "jpa")
+                .append("hibernate-persistence-unit", SCOPED_PU_NAME).toModelNode());
+        operation.get(NAME).set(attributeName);
+        PersistenceUnitBootstrapMetricsHandler.INSTANCE.executeRuntimeStep(context, operation);
+        return result;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.jpa.management;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ADDRESS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.jpa.config.PersistenceUnitMetadataImpl;
+import org.jboss.as.jpa.service.PersistenceUnitServiceImpl;
+import org.jboss.as.jpa.subsystem.PersistenceUnitRegistryImpl;
+import org.jboss.dmr.ModelNode;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests the warm-up operation of lazily initialized persistence units.
+ */
+public class PersistenceUnitWarmUpHandlerTestCase {
+
+    private static final String SCOPED_PU_NAME = "test.jar#orders";
+
+    private final AtomicInteger warmUps = new AtomicInteger();
+
+    @After
+    public void unregister() {
+        PersistenceUnitRegistryImpl.INSTANCE.remove(SCOPED_PU_NAME);
+    }
+
+    @Test
+    public void testWarmUp() throws Exception {
+        register(null);
+        warmUp();
+        warmUp();
+        assertEquals(2, warmUps.get());
+    }
+
+    @Test
+    public void testWarmUpFailure() throws Exception {
+        register(new IllegalStateException("no database"));
+        try {
+            warmUp();
+            fail("warm-up failure was not reported");
+        } catch (OperationFailedException expected) {
+            assertTrue(expected.getMessage(), expected.getMessage().contains(SCOPED_PU_NAME));
+            assertTrue(expected.getMessage(), expected.getMessage().contains("no database"));
+        }
+    }
+
+    @Test
+    public void testPersistenceUnitNotStarted() throws Exception {
+        warmUp();
+        assertEquals(0, warmUps.get());
+    }
+
+    private void register(final RuntimeException failure) {
+        final PersistenceUnitMetadataImpl pu = new PersistenceUnitMetadataImpl();
+        pu.setPersistenceUnitName("orders");
+        pu.setScopedPersistenceUnitName(SCOPED_PU_NAME);
+        PersistenceUnitRegistryImpl.INSTANCE.add(SCOPED_PU_NAME, new PersistenceUnitServiceImpl(null, pu, null, null, null, null, null, null) {
+            @Override
+            public boolean warmUp() {
+                warmUps.incrementAndGet();
+                if (failure != null) {
+                    throw failure;
+                }
+                return true;
+            }
+        });
+    }
+
+    private static void warmUp() throws OperationFailedException {
+        final OperationContext context = (OperationContext) Proxy.newProxyInstance(PersistenceUnitWarmUpHandlerTestCase.class.getClassLoader(),
+                new Class<?>[] {OperationContext.class}, (proxy, method, args) -> null);
+        final ModelNode operation = new ModelNode();
+        operation.get(OP).set(PersistenceUnitWarmUpHandler.OPERATION_NAME);
+        operation.get(ADDRESS).set(PathAddress.pathAddress("deployment", "test.jar")
+                .append("subsystem", "jpa")
+                .append("hibernate-persistence-unit", SCOPED_PU_NAME).toModelNode());
+        PersistenceUnitWarmUpHandler.INSTANCE.executeRuntimeStep(context, operation);
+    }
+}
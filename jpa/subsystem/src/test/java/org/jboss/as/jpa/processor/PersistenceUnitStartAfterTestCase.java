@@ -0,0 +1,132 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.jpa.processor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+import org.jboss.as.jpa.config.Configuration;
+import org.jboss.as.jpa.config.PersistenceUnitMetadataHolder;
+import org.jboss.as.jpa.config.PersistenceUnitMetadataImpl;
+import org.jboss.as.jpa.service.PersistenceUnitServiceImpl;
+import org.jboss.as.server.deployment.Attachable;
+import org.jboss.as.server.deployment.Attachments;
+import org.jboss.as.server.deployment.DeploymentUnit;
+import org.jboss.as.server.deployment.DeploymentUnitProcessingException;
+import org.jboss.as.server.deployment.SimpleAttachable;
+import org.jboss.as.server.deployment.module.ResourceRoot;
+import org.jboss.msc.service.ServiceName;
+import org.jboss.vfs.VFS;
+import org.jipijapa.plugin.spi.PersistenceUnitMetadata;
+import org.junit.Test;
+
+/**
+ * Tests resolving the {@link Configuration#JPA_START_AFTER} persistence unit property into service dependencies.
+ */
+public class PersistenceUnitStartAfterTestCase {
+
+    private final List<PersistenceUnitMetadata> persistenceUnits = new ArrayList<>();
+
+    private final DeploymentUnit deploymentUnit = deploymentUnit("test.jar", persistenceUnits);
+
+    @Test
+    public void testNoStartAfter() throws Exception {
+        final PersistenceUnitMetadata pu = persistenceUnit("orders", null);
+        assertTrue(PersistenceUnitServiceHandler.getStartAfterDependencies(deploymentUnit, pu).isEmpty());
+        assertTrue(PersistenceUnitServiceHandler.getStartAfterDependencies(deploymentUnit, persistenceUnit("audit", " , ")).isEmpty());
+    }
+
+    @Test
+    public void testStartAfter() throws Exception {
+        final PersistenceUnitMetadata common = persistenceUnit("common", null);
+        final PersistenceUnitMetadata audit = persistenceUnit("audit", null);
+        final PersistenceUnitMetadata pu = persistenceUnit("orders", " common ,audit,common");
+        assertEquals(Arrays.asList(PersistenceUnitServiceImpl.getPUServiceName(common), PersistenceUnitServiceImpl.getPUServiceName(audit)),
+                PersistenceUnitServiceHandler.getStartAfterDependencies(deploymentUnit, pu));
+    }
+
+    @Test
+    public void testUnknownPersistenceUnit() {
+        persistenceUnit("common", null);
+        final PersistenceUnitMetadata pu = persistenceUnit("orders", "common,missing");
+        try {
+            PersistenceUnitServiceHandler.getStartAfterDependencies(deploymentUnit, pu);
+            fail("unknown persistence unit was accepted");
+        } catch (DeploymentUnitProcessingException expected) {
+            assertTrue(expected.getMessage(), expected.getMessage().contains("missing"));
+        }
+    }
+
+    @Test
+    public void testStartAfterItself() {
+        persistenceUnit("common", null);
+        final PersistenceUnitMetadata pu = persistenceUnit("orders", "common,orders");
+        try {
+            PersistenceUnitServiceHandler.getStartAfterDependencies(deploymentUnit, pu);
+            fail("persistence unit was allowed to start after itself");
+        } catch (DeploymentUnitProcessingException expected) {
+            assertTrue(expected.getMessage(), expected.getMessage().contains(pu.getScopedPersistenceUnitName()));
+        }
+    }
+
+    private PersistenceUnitMetadata persistenceUnit(final String name, final String startAfter) {
+        final PersistenceUnitMetadataImpl pu = new PersistenceUnitMetadataImpl();
+        pu.setPersistenceUnitName(name);
+        pu.setScopedPersistenceUnitName("test.jar#" + name);
+        final Properties properties = new Properties();
+        if (startAfter != null) {
+            properties.setProperty(Configuration.JPA_START_AFTER, startAfter);
+        }
+        pu.setProperties(properties);
+        persistenceUnits.add(pu);
+        return pu;
+    }
+
+    private static DeploymentUnit deploymentUnit(final String name, final List<PersistenceUnitMetadata> persistenceUnits) {
+        final ResourceRoot deploymentRoot = new ResourceRoot(VFS.getChild(name), null);
+        deploymentRoot.putAttachment(PersistenceUnitMetadataHolder.PERSISTENCE_UNITS, new PersistenceUnitMetadataHolder(persistenceUnits));
+        final Attachable attachable = new SimpleAttachable();
+        attachable.putAttachment(Attachments.DEPLOYMENT_ROOT, deploymentRoot);
+        return (DeploymentUnit) Proxy.newProxyInstance(PersistenceUnitStartAfterTestCase.class.getClassLoader(), new Class<?>[] {DeploymentUnit.class},
+                (proxy, method, args) -> {
+                    if (method.getDeclaringClass() == Attachable.class) {
+                        return method.invoke(attachable, args);
+                    }
+                    switch (method.getName()) {
+                        case "getName":
+                        case "toString":
+                            return name;
+                        default:
+                            return null;
+                    }
+                });
+    }
+}
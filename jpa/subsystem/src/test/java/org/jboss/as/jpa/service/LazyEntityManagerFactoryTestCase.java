@@ -0,0 +1,215 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.jpa.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.transaction.Transaction;
+import javax.transaction.TransactionManager;
+
+import org.jboss.as.jpa.config.Configuration;
+import org.jboss.as.jpa.config.PersistenceUnitMetadataImpl;
+import org.junit.Test;
+
+/**
+ * Tests the lazily initialized persistence unit (see {@link Configuration#JPA_LAZY}).
+ */
+public class LazyEntityManagerFactoryTestCase {
+
+    private final AtomicInteger builds = new AtomicInteger();
+
+    private final EntityManagerFactory providerEntityManagerFactory = stub(EntityManagerFactory.class, (proxy, method, args) -> {
+        switch (method.getName()) {
+            case "createEntityManager":
+                return stub(EntityManager.class, (em, emMethod, emArgs) -> null);
+            case "isOpen":
+                return true;
+            default:
+                return null;
+        }
+    });
+
+    private volatile Runnable onBuild = () -> { };
+
+    @Test
+    public void testFirstUse() {
+        final PersistenceUnitServiceImpl service = persistenceUnitService(lazy());
+        service.startEntityManagerFactory();
+        final EntityManagerFactory entityManagerFactory = service.getEntityManagerFactory();
+        assertTrue(entityManagerFactory.isOpen());
+        assertNull(service.getInitializedEntityManagerFactory());
+        assertEquals(0, builds.get());
+
+        entityManagerFactory.createEntityManager();
+        assertEquals(1, builds.get());
+        assertSame(providerEntityManagerFactory, service.getInitializedEntityManagerFactory());
+
+        entityManagerFactory.createEntityManager();
+        assertEquals(1, builds.get());
+    }
+
+    @Test
+    public void testConcurrentFirstUse() throws Exception {
+        onBuild = () -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        final PersistenceUnitServiceImpl service = persistenceUnitService(lazy());
+        service.startEntityManagerFactory();
+        final EntityManagerFactory entityManagerFactory = service.getEntityManagerFactory();
+
+        final int threads = 8;
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<EntityManager>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return entityManagerFactory.createEntityManager();
+                }));
+            }
+            start.countDown();
+            for (Future<EntityManager> result : results) {
+                result.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, builds.get());
+    }
+
+    @Test
+    public void testCallerTransactionSuspended() {
+        final ThreadLocal<Transaction> current = new ThreadLocal<>();
+        final TransactionManager transactionManager = stub(TransactionManager.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getTransaction":
+                    return current.get();
+                case "suspend":
+                    final Transaction suspended = current.get();
+                    current.remove();
+                    return suspended;
+                case "resume":
+                    current.set((Transaction) args[0]);
+                    return null;
+                default:
+                    return null;
+            }
+        });
+        final Transaction transaction = stub(Transaction.class, (proxy, method, args) -> null);
+        final AtomicReference<Transaction> buildTransaction = new AtomicReference<>(transaction);
+        onBuild = () -> buildTransaction.set(current.get());
+
+        final PersistenceUnitServiceImpl service = persistenceUnitService(lazy());
+        service.getTransactionManagerInjector().inject(transactionManager);
+        service.startEntityManagerFactory();
+        current.set(transaction);
+        service.getEntityManagerFactory().createEntityManager();
+
+        assertNull(buildTransaction.get());
+        assertSame(transaction, current.get());
+    }
+
+    @Test
+    public void testWarmUp() {
+        final PersistenceUnitServiceImpl service = persistenceUnitService(lazy());
+        service.startEntityManagerFactory();
+        assertTrue(service.warmUp());
+        assertFalse(service.warmUp());
+        assertEquals(1, builds.get());
+        assertSame(providerEntityManagerFactory, service.getInitializedEntityManagerFactory());
+    }
+
+    @Test
+    public void testCloseBeforeFirstUse() {
+        final PersistenceUnitServiceImpl service = persistenceUnitService(lazy());
+        service.startEntityManagerFactory();
+        final EntityManagerFactory entityManagerFactory = service.getEntityManagerFactory();
+        entityManagerFactory.close();
+        assertFalse(entityManagerFactory.isOpen());
+        try {
+            service.warmUp();
+            fail("closed entity manager factory was built");
+        } catch (IllegalStateException expected) {
+        }
+        assertEquals(0, builds.get());
+    }
+
+    @Test
+    public void testClassFileTransformerPreventsLazyBootstrap() {
+        final Properties properties = lazy();
+        properties.setProperty(Configuration.JPA_CONTAINER_CLASS_TRANSFORMER, "true");
+        assertFalse(persistenceUnitService(properties).isLazy());
+        assertTrue(persistenceUnitService(lazy()).isLazy());
+    }
+
+    private static Properties lazy() {
+        final Properties properties = new Properties();
+        properties.setProperty(Configuration.JPA_LAZY, "true");
+        return properties;
+    }
+
+    private PersistenceUnitServiceImpl persistenceUnitService(final Properties properties) {
+        final PersistenceUnitMetadataImpl pu = new PersistenceUnitMetadataImpl();
+        pu.setPersistenceUnitName("orders");
+        pu.setScopedPersistenceUnitName("test.jar#orders");
+        pu.setProperties(properties);
+        return new PersistenceUnitServiceImpl(null, pu, null, null, null, null, null, null) {
+            @Override
+            EntityManagerFactory buildLazyEntityManagerFactory() {
+                builds.incrementAndGet();
+                onBuild.run();
+                return providerEntityManagerFactory;
+            }
+        };
+    }
+
+    private static <T> T stub(final Class<T> type, final InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(LazyEntityManagerFactoryTestCase.class.getClassLoader(), new Class<?>[] {type}, handler));
+    }
+}
@@ -37,7 +37,11 @@ import static org.wildfly.extension.messaging.activemq.OperationDefinitionHelper
 import static org.wildfly.extension.messaging.activemq.OperationDefinitionHelper.runtimeReadOnlyOperation;
 import static org.wildfly.extension.messaging.activemq.logging.MessagingLogger.ROOT_LOGGER;
 
+import java.util.Map;
+
+import org.apache.activemq.artemis.api.core.SimpleString;
 import org.apache.activemq.artemis.core.server.ActiveMQServer;
+import org.apache.activemq.artemis.core.server.Queue;
 import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.ObjectListAttributeDefinition;
@@ -106,6 +110,19 @@ public abstract class AbstractQueueControlHandler<T> extends AbstractRuntimeOnly
     private static final AttributeDefinition NEW_PRIORITY = SimpleAttributeDefinitionBuilder.create("new-priority", INT)
             .setValidator(PRIORITY_VALIDATOR)
             .build();
+    private static final AttributeDefinition OFFSET = SimpleAttributeDefinitionBuilder.create("offset", INT)
+            .setAllowNull(true)
+            .setDefaultValue(new ModelNode(0))
+            .setValidator(new IntRangeValidator(0, true))
+            .build();
+    private static final AttributeDefinition LIMIT = SimpleAttributeDefinitionBuilder.create("limit", INT)
+            .setAllowNull(true)
+            .setValidator(new IntRangeValidator(1, true))
+            .build();
+    private static final AttributeDefinition HEADERS_ONLY = SimpleAttributeDefinitionBuilder.create("headers-only", BOOLEAN)
+            .setAllowNull(true)
+            .setDefaultValue(new ModelNode(false))
+            .build();
 
     protected abstract AttributeDefinition getMessageIDAttributeDefinition();
 
@@ -114,7 +131,7 @@ public abstract class AbstractQueueControlHandler<T> extends AbstractRuntimeOnly
     public void registerOperations(final ManagementResourceRegistration registry, ResourceDescriptionResolver resolver) {
 
         registry.registerOperationHandler(runtimeReadOnlyOperation(LIST_MESSAGES, resolver)
-                .setParameters(FILTER)
+                .setParameters(FILTER, OFFSET, LIMIT, HEADERS_ONLY)
                 .setReplyType(LIST)
                 .setReplyParameters(getReplyMessageParameterDefinitions())
                 .build(),
@@ -219,6 +236,7 @@ public abstract class AbstractQueueControlHandler<T> extends AbstractRuntimeOnly
                 this);
 
         registry.registerOperationHandler(runtimeReadOnlyOperation(LIST_DELIVERING_MESSAGES, resolver)
+                .setParameters(OFFSET, LIMIT, HEADERS_ONLY)
                 .setReplyType(LIST)
                 .setReplyParameters(getReplyMapConsumerMessageParameterDefinition())
                 .build(),
@@ -228,6 +246,7 @@ public abstract class AbstractQueueControlHandler<T> extends AbstractRuntimeOnly
                 .build(),
                 this);
         registry.registerOperationHandler(runtimeReadOnlyOperation(LIST_SCHEDULED_MESSAGES, resolver)
+                .setParameters(OFFSET, LIMIT, HEADERS_ONLY)
                 .setReplyType(LIST)
                 .setReplyParameters(getReplyMessageParameterDefinitions())
                 .build(),
@@ -262,19 +281,31 @@ public abstract class AbstractQueueControlHandler<T> extends AbstractRuntimeOnly
         try {
             if (LIST_MESSAGES.equals(operationName)) {
                 String filter = resolveFilter(context, operation);
-                String json = control.listMessagesAsJSON(filter);
-                context.getResult().set(ModelNode.fromJSONString(json));
+                if (isPaged(operation)) {
+                    context.getResult().set(createQueueBrowser(context, operation, server, queueName).listMessages(getCoreFilter(filter)));
+                } else {
+                    String json = control.listMessagesAsJSON(filter);
+                    context.getResult().set(ModelNode.fromJSONString(json));
+                }
             } else if (LIST_MESSAGES_AS_JSON.equals(operationName)) {
                 String filter = resolveFilter(context, operation);
                 context.getResult().set(control.listMessagesAsJSON(filter));
             } else if (LIST_DELIVERING_MESSAGES.equals(operationName)) {
-                String json = control.listDeliveringMessagesAsJSON();
-                context.getResult().set(ModelNode.fromJSONString(json));
+                if (isPaged(operation)) {
+                    context.getResult().set(createQueueBrowser(context, operation, server, queueName).listDeliveringMessages());
+                } else {
+                    String json = control.listDeliveringMessagesAsJSON();
+                    context.getResult().set(ModelNode.fromJSONString(json));
+                }
             } else if (LIST_DELIVERING_MESSAGES_AS_JSON.equals(operationName)) {
                 context.getResult().set(control.listDeliveringMessagesAsJSON());
             } else if (LIST_SCHEDULED_MESSAGES.equals(operationName)) {
-                String json = control.listScheduledMessagesAsJSON();
-                context.getResult().set(ModelNode.fromJSONString(json));
+                if (isPaged(operation)) {
+                    context.getResult().set(createQueueBrowser(context, operation, server, queueName).listScheduledMessages());
+                } else {
+                    String json = control.listScheduledMessagesAsJSON();
+                    context.getResult().set(ModelNode.fromJSONString(json));
+                }
             } else if (LIST_SCHEDULED_MESSAGES_AS_JSON.equals(operationName)) {
                 context.getResult().set(control.listScheduledMessagesAsJSON());
             } else if (COUNT_MESSAGES.equals(operationName)) {
@@ -393,8 +424,44 @@ public abstract class AbstractQueueControlHandler<T> extends AbstractRuntimeOnly
         };
     }
 
+    /**
+     * The listing operations browse the server queue directly (instead of going through the queue control and
+     * its JSON representation of the whole queue) as soon as one of the paging parameters is defined.
+     */
+    private static boolean isPaged(ModelNode operation) {
+        return operation.hasDefined(OFFSET.getName())
+                || operation.hasDefined(LIMIT.getName())
+                || operation.hasDefined(HEADERS_ONLY.getName());
+    }
+
+    private QueueBrowser createQueueBrowser(OperationContext context, ModelNode operation, ActiveMQServer server, String queueName) throws OperationFailedException {
+        final Queue queue = server.locateQueue(new SimpleString(getCoreQueueName(queueName)));
+        if (queue == null) {
+            throw ControllerLogger.ROOT_LOGGER.managementResourceNotFound(PathAddress.pathAddress(operation.require(OP_ADDR)));
+        }
+        final int offset = OFFSET.resolveModelAttribute(context, operation).asInt();
+        final ModelNode limit = LIMIT.resolveModelAttribute(context, operation);
+        final boolean headersOnly = HEADERS_ONLY.resolveModelAttribute(context, operation).asBoolean();
+        return new QueueBrowser(queue, offset, limit.isDefined() ? limit.asInt() : -1, headersOnly, this::getReplyMessage);
+    }
+
     protected abstract DelegatingQueueControl<T> getQueueControl(ActiveMQServer server, String queueName);
 
+    /**
+     * @return the name of the core queue backing the queue resource
+     */
+    protected abstract String getCoreQueueName(String queueName);
+
+    /**
+     * @return the core filter corresponding to the filter of a listing operation
+     */
+    protected abstract String getCoreFilter(String filter);
+
+    /**
+     * @return the representation of a message returned by the listing operations, from its core representation
+     */
+    protected abstract Map<String, Object> getReplyMessage(Map<String, Object> coreMessage);
+
     protected abstract Object handleAdditionalOperation(final String operationName, final ModelNode operation,
                                                         final OperationContext context, T queueControl) throws OperationFailedException;
 
@@ -0,0 +1,174 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.wildfly.extension.messaging.activemq;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.apache.activemq.artemis.api.core.ActiveMQException;
+import org.apache.activemq.artemis.api.core.SimpleString;
+import org.apache.activemq.artemis.core.filter.Filter;
+import org.apache.activemq.artemis.core.filter.impl.FilterImpl;
+import org.apache.activemq.artemis.core.server.MessageReference;
+import org.apache.activemq.artemis.core.server.Queue;
+import org.apache.activemq.artemis.core.server.ServerMessage;
+import org.apache.activemq.artemis.utils.LinkedListIterator;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Browses the messages of a server {@link Queue} page by page.
+ * <p/>
+ * Unlike the {@code list*MessagesAsJSON} methods of the queue controls, the messages are converted directly to
+ * {@link ModelNode}s and only the messages of the requested page are converted, so the memory used by a
+ * management operation is bounded by the page size instead of the queue depth.
+ * <p/>
+ * A browser lists a single page, it is not reusable.
+ */
+class QueueBrowser {
+
+    private final Queue queue;
+    private final int offset;
+    private final int limit;
+    private final boolean headersOnly;
+    private final Function<Map<String, Object>, Map<String, Object>> converter;
+
+    // number of messages matched (including skipped ones) and returned so far
+    private int matched;
+    private int returned;
+
+    /**
+     * @param queue       the server queue
+     * @param offset      the number of messages to skip
+     * @param limit       the maximum number of messages to return, or -1 to return all the messages after the offset
+     * @param headersOnly whether only the message headers are returned (without the message properties)
+     * @param converter   converts the core representation of a message to the representation returned by the operation
+     */
+    QueueBrowser(Queue queue, int offset, int limit, boolean headersOnly, Function<Map<String, Object>, Map<String, Object>> converter) {
+        this.queue = queue;
+        this.offset = offset;
+        this.limit = limit;
+        this.headersOnly = headersOnly;
+        this.converter = converter;
+    }
+
+    ModelNode listMessages(String filterString) throws ActiveMQException {
+        final Filter filter = FilterImpl.createFilter(filterString);
+        final ModelNode result = new ModelNode().setEmptyList();
+        queue.flushExecutor();
+        try (LinkedListIterator<MessageReference> iterator = queue.totalIterator()) {
+            addPage(result, iterator, filter);
+        }
+        return result;
+    }
+
+    ModelNode listScheduledMessages() {
+        final ModelNode result = new ModelNode().setEmptyList();
+        addPage(result, queue.getScheduledMessages().iterator(), null);
+        return result;
+    }
+
+    /**
+     * The page applies to the delivering messages of all the consumers, taken one consumer after the other.
+     */
+    ModelNode listDeliveringMessages() {
+        final ModelNode result = new ModelNode().setEmptyList();
+        for (Map.Entry<String, List<MessageReference>> entry : queue.getDeliveringMessages().entrySet()) {
+            if (isPageFull()) {
+                break;
+            }
+            final ModelNode elements = new ModelNode().setEmptyList();
+            addPage(elements, entry.getValue().iterator(), null);
+            if (elements.asInt() > 0) {
+                final ModelNode consumer = result.add();
+                consumer.get("consumerName").set(entry.getKey());
+                consumer.get("elements").set(elements);
+            }
+        }
+        return result;
+    }
+
+    private boolean isPageFull() {
+        return limit >= 0 && returned >= limit;
+    }
+
+    private void addPage(ModelNode result, Iterator<MessageReference> iterator, Filter filter) {
+        while (!isPageFull() && iterator.hasNext()) {
+            final MessageReference ref = iterator.next();
+            final ServerMessage message = ref.getMessage();
+            if (filter != null && !filter.match(message)) {
+                continue;
+            }
+            if (matched++ < offset) {
+                continue;
+            }
+            final Map<String, Object> map = headersOnly ? headers(message) : message.toMap();
+            result.add(toModelNode(converter.apply(map)));
+            returned++;
+        }
+    }
+
+    /**
+     * The headers that {@link ServerMessage#toMap()} returns, without the message properties.
+     */
+    private static Map<String, Object> headers(ServerMessage message) {
+        final Map<String, Object> map = new HashMap<>();
+        map.put("messageID", message.getMessageID());
+        if (message.getUserID() != null) {
+            map.put("userID", "ID:" + message.getUserID().toString());
+        }
+        final SimpleString address = message.getAddress();
+        map.put("address", address == null ? null : address.toString());
+        map.put("type", message.getType());
+        map.put("durable", message.isDurable());
+        map.put("expiration", message.getExpiration());
+        map.put("timestamp", message.getTimestamp());
+        map.put("priority", message.getPriority());
+        return map;
+    }
+
+    private static ModelNode toModelNode(Map<String, Object> map) {
+        final ModelNode node = new ModelNode().setEmptyObject();
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            final Object value = entry.getValue();
+            final ModelNode valueNode = node.get(entry.getKey());
+            if (value == null) {
+                continue;
+            } else if (value instanceof Boolean) {
+                valueNode.set((Boolean) value);
+            } else if (value instanceof Long) {
+                valueNode.set((Long) value);
+            } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                valueNode.set(((Number) value).intValue());
+            } else if (value instanceof Double || value instanceof Float) {
+                valueNode.set(((Number) value).doubleValue());
+            } else if (value instanceof byte[]) {
+                valueNode.set((byte[]) value);
+            } else {
+                valueNode.set(value.toString());
+            }
+        }
+        return node;
+    }
+}
@@ -31,6 +31,7 @@ import static org.jboss.dmr.ModelType.LONG;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.activemq.artemis.api.core.management.QueueControl;
 import org.apache.activemq.artemis.api.core.management.ResourceNames;
@@ -133,6 +134,21 @@ public class QueueControlHandler extends AbstractQueueControlHandler<QueueContro
         // no-op
     }
 
+    @Override
+    protected String getCoreQueueName(String queueName) {
+        return queueName;
+    }
+
+    @Override
+    protected String getCoreFilter(String filter) {
+        return filter;
+    }
+
+    @Override
+    protected Map<String, Object> getReplyMessage(Map<String, Object> coreMessage) {
+        return coreMessage;
+    }
+
     @Override
     protected DelegatingQueueControl<QueueControl> getQueueControl(ActiveMQServer server, String queueName) {
         final QueueControl control = QueueControl.class.cast(server.getManagementService().getResource(ResourceNames.CORE_QUEUE + queueName));
@@ -24,9 +24,14 @@ package org.wildfly.extension.messaging.activemq.jms;
 
 import static org.wildfly.extension.messaging.activemq.OperationDefinitionHelper.createNonEmptyStringAttribute;
 
+import java.util.Map;
+
 import org.apache.activemq.artemis.api.core.management.ResourceNames;
 import org.apache.activemq.artemis.api.jms.management.JMSQueueControl;
 import org.apache.activemq.artemis.core.server.ActiveMQServer;
+import org.apache.activemq.artemis.jms.client.ActiveMQDestination;
+import org.apache.activemq.artemis.jms.client.ActiveMQMessage;
+import org.apache.activemq.artemis.jms.client.SelectorTranslator;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
@@ -57,6 +62,21 @@ public class JMSQueueControlHandler extends AbstractQueueControlHandler<JMSQueue
         return JMSManagementHelper.JMS_MESSAGE_PARAMETERS;
     }
 
+    @Override
+    protected String getCoreQueueName(String queueName) {
+        return ActiveMQDestination.JMS_QUEUE_ADDRESS_PREFIX + queueName;
+    }
+
+    @Override
+    protected String getCoreFilter(String filter) {
+        return SelectorTranslator.convertToActiveMQFilterString(filter);
+    }
+
+    @Override
+    protected Map<String, Object> getReplyMessage(Map<String, Object> coreMessage) {
+        return ActiveMQMessage.coreMaptoJMSMap(coreMessage);
+    }
+
     protected AbstractQueueControlHandler.DelegatingQueueControl<JMSQueueControl> getQueueControl(ActiveMQServer server, String queueName){
         final JMSQueueControl control = JMSQueueControl.class.cast(server.getManagementService().getResource(ResourceNames.JMS_QUEUE + queueName));
         if (control == null) {
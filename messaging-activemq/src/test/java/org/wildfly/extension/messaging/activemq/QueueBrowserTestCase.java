@@ -0,0 +1,237 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.messaging.activemq;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.apache.activemq.artemis.api.core.SimpleString;
+import org.apache.activemq.artemis.core.server.MessageReference;
+import org.apache.activemq.artemis.core.server.Queue;
+import org.apache.activemq.artemis.core.server.ServerMessage;
+import org.apache.activemq.artemis.utils.LinkedListIterator;
+import org.jboss.dmr.ModelNode;
+import org.junit.Test;
+
+/**
+ * Tests the paging of {@link QueueBrowser}.
+ */
+public class QueueBrowserTestCase {
+
+    @Test
+    public void testPage() throws Exception {
+        ModelNode result = browser(queue(messages(0, 10)), 3, 4, false).listMessages(null);
+        assertIds(result, 3, 4, 5, 6);
+    }
+
+    @Test
+    public void testNoLimit() throws Exception {
+        ModelNode result = browser(queue(messages(0, 10)), 8, -1, false).listMessages(null);
+        assertIds(result, 8, 9);
+    }
+
+    @Test
+    public void testOffsetAfterLastMessage() throws Exception {
+        ModelNode result = browser(queue(messages(0, 10)), 10, 5, false).listMessages(null);
+        assertEquals(0, result.asInt());
+    }
+
+    @Test
+    public void testHeadersOnly() throws Exception {
+        ModelNode all = browser(queue(messages(0, 1)), 0, -1, false).listMessages(null);
+        assertTrue(all.get(0).has("color"));
+
+        ModelNode headers = browser(queue(messages(0, 1)), 0, -1, true).listMessages(null);
+        assertFalse(headers.get(0).has("color"));
+        assertEquals(0L, headers.get(0).get("messageID").asLong());
+        assertEquals(4, headers.get(0).get("priority").asInt());
+        assertEquals("jms.queue.test", headers.get(0).get("address").asString());
+    }
+
+    @Test
+    public void testConverterIsApplied() throws Exception {
+        Function<Map<String, Object>, Map<String, Object>> converter = map -> {
+            Map<String, Object> converted = new HashMap<>(map);
+            converted.put("converted", true);
+            return converted;
+        };
+        ModelNode result = new QueueBrowser(queue(messages(0, 2)), 0, -1, false, converter).listMessages(null);
+        assertEquals(2, result.asInt());
+        assertTrue(result.get(1).get("converted").asBoolean());
+    }
+
+    @Test
+    public void testScheduledMessages() {
+        ModelNode result = browser(queue(messages(0, 5)), 1, 2, false).listScheduledMessages();
+        assertIds(result, 1, 2);
+    }
+
+    @Test
+    public void testDeliveringMessagesPagedAcrossConsumers() {
+        Map<String, List<MessageReference>> delivering = new LinkedHashMap<>();
+        delivering.put("consumer-a", messages(0, 3));
+        delivering.put("consumer-b", messages(3, 3));
+        delivering.put("consumer-c", messages(6, 3));
+
+        ModelNode result = browser(queue(Collections.emptyList(), delivering), 2, 3, false).listDeliveringMessages();
+
+        assertEquals(2, result.asInt());
+        assertEquals("consumer-a", result.get(0).get("consumerName").asString());
+        assertIds(result.get(0).get("elements"), 2);
+        assertEquals("consumer-b", result.get(1).get("consumerName").asString());
+        assertIds(result.get(1).get("elements"), 3, 4);
+    }
+
+    private static QueueBrowser browser(Queue queue, int offset, int limit, boolean headersOnly) {
+        return new QueueBrowser(queue, offset, limit, headersOnly, Function.identity());
+    }
+
+    private static void assertIds(ModelNode result, long... ids) {
+        assertEquals(ids.length, result.asInt());
+        for (int i = 0; i < ids.length; i++) {
+            assertEquals(ids[i], result.get(i).get("messageID").asLong());
+        }
+    }
+
+    private static List<MessageReference> messages(long firstId, int count) {
+        List<MessageReference> refs = new ArrayList<>();
+        for (long id = firstId; id < firstId + count; id++) {
+            ServerMessage message = message(id);
+            refs.add(proxy(MessageReference.class, (name, args) -> "getMessage".equals(name) ? message : null));
+        }
+        return refs;
+    }
+
+    private static ServerMessage message(long id) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("messageID", id);
+        map.put("address", "jms.queue.test");
+        map.put("priority", (byte) 4);
+        map.put("color", "blue");
+        return proxy(ServerMessage.class, (name, args) -> {
+            switch (name) {
+                case "getMessageID":
+                    return id;
+                case "getAddress":
+                    return new SimpleString("jms.queue.test");
+                case "getPriority":
+                    return (byte) 4;
+                case "toMap":
+                    return new HashMap<>(map);
+                default:
+                    return null;
+            }
+        });
+    }
+
+    private static Queue queue(List<MessageReference> messages) {
+        return queue(messages, Collections.emptyMap());
+    }
+
+    private static Queue queue(List<MessageReference> messages, Map<String, List<MessageReference>> delivering) {
+        return proxy(Queue.class, (name, args) -> {
+            switch (name) {
+                case "totalIterator":
+                    return iterator(messages.iterator());
+                case "getScheduledMessages":
+                    return messages;
+                case "getDeliveringMessages":
+                    return delivering;
+                default:
+                    return null;
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static LinkedListIterator<MessageReference> iterator(Iterator<MessageReference> delegate) {
+        return proxy(LinkedListIterator.class, (name, args) -> {
+            switch (name) {
+                case "hasNext":
+                    return delegate.hasNext();
+                case "next":
+                    return delegate.next();
+                default:
+                    return null;
+            }
+        });
+    }
+
+    private interface Answer {
+        Object answer(String method, Object[] args);
+    }
+
+    /**
+     * A stub of the given interface answering the invoked methods, returning the default value of the primitive types
+     * for the methods that the answer leaves unanswered.
+     */
+    private static <T> T proxy(Class<T> type, Answer answer) {
+        return type.cast(Proxy.newProxyInstance(QueueBrowserTestCase.class.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return type.getSimpleName() + " stub";
+            }
+            Object result = answer.answer(method.getName(), args);
+            if (result == null && method.getReturnType().isPrimitive()) {
+                return defaultValue(method.getReturnType());
+            }
+            return result;
+        }));
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        } else if (type == byte.class) {
+            return (byte) 0;
+        } else if (type == short.class) {
+            return (short) 0;
+        } else if (type == int.class) {
+            return 0;
+        } else if (type == long.class) {
+            return 0L;
+        } else if (type == float.class) {
+            return 0F;
+        } else if (type == double.class) {
+            return 0D;
+        } else if (type == char.class) {
+            return (char) 0;
+        }
+        return null;
+    }
+}
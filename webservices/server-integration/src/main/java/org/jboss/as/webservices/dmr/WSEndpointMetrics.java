@@ -27,14 +27,18 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
 import java.security.AccessController;
+import java.util.Map;
 
 import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.ObjectMapAttributeDefinition;
+import org.jboss.as.controller.ObjectTypeAttributeDefinition;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.OperationStepHandler;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.server.CurrentServiceContainer;
+import org.jboss.as.webservices.invocation.OperationStatistics;
 import org.jboss.as.webservices.logging.WSLogger;
 import org.jboss.as.webservices.util.WSServices;
 import org.jboss.dmr.ModelNode;
@@ -87,13 +91,35 @@ final class WSEndpointMetrics implements OperationStepHandler {
             .build();
 
 
+    private static final String INVOCATION_COUNT = "invocation-count";
+
+    static final AttributeDefinition OPERATIONS = ObjectMapAttributeDefinition.Builder.of("operations",
+            ObjectTypeAttributeDefinition.Builder.of("operations",
+                    operationMetric(INVOCATION_COUNT),
+                    operationMetric(FAULT_COUNT.getName()),
+                    operationMetric(MIN_PROCESSING_TIME.getName()),
+                    operationMetric(MAX_PROCESSING_TIME.getName()),
+                    operationMetric(AVERAGE_PROCESSING_TIME.getName()),
+                    operationMetric(TOTAL_PROCESSING_TIME.getName()))
+                    .build())
+            .setAllowNull(true)
+            .setStorageRuntime()
+            .build();
+
     static final AttributeDefinition[] ATTRIBUTES = {MIN_PROCESSING_TIME, MAX_PROCESSING_TIME, AVERAGE_PROCESSING_TIME,
-            TOTAL_PROCESSING_TIME, REQUEST_COUNT, RESPONSE_COUNT, FAULT_COUNT};
+            TOTAL_PROCESSING_TIME, REQUEST_COUNT, RESPONSE_COUNT, FAULT_COUNT, OPERATIONS};
 
 
     private WSEndpointMetrics() {
     }
 
+    private static AttributeDefinition operationMetric(final String name) {
+        return new SimpleAttributeDefinitionBuilder(name, ModelType.LONG)
+                .setUndefinedMetricValue(new ModelNode(0))
+                .setStorageRuntime()
+                .build();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -154,6 +180,27 @@ final class WSEndpointMetrics implements OperationStepHandler {
             result.set(endpointMetrics.getResponseCount());
         } else if (FAULT_COUNT.getName().equals(metricName)) {
             result.set(endpointMetrics.getFaultCount());
+        } else if (OPERATIONS.getName().equals(metricName)) {
+            result.set(getOperationsMetric(OperationStatistics.forEndpoint(endpoint)));
+        }
+        return result;
+    }
+
+    /**
+     * @param operations the statistics keyed by WSDL operation name
+     * @return the value of the {@code operations} metric, only the invoked operations are listed
+     */
+    static ModelNode getOperationsMetric(final Map<String, OperationStatistics> operations) {
+        final ModelNode result = new ModelNode().setEmptyObject();
+        for (Map.Entry<String, OperationStatistics> entry : operations.entrySet()) {
+            final OperationStatistics statistics = entry.getValue();
+            final ModelNode node = result.get(entry.getKey());
+            node.get(INVOCATION_COUNT).set(statistics.getInvocationCount());
+            node.get(FAULT_COUNT.getName()).set(statistics.getFaultCount());
+            node.get(MIN_PROCESSING_TIME.getName()).set(statistics.getMinProcessingTime());
+            node.get(MAX_PROCESSING_TIME.getName()).set(statistics.getMaxProcessingTime());
+            node.get(AVERAGE_PROCESSING_TIME.getName()).set(statistics.getAverageProcessingTime());
+            node.get(TOTAL_PROCESSING_TIME.getName()).set(statistics.getTotalProcessingTime());
         }
         return result;
     }
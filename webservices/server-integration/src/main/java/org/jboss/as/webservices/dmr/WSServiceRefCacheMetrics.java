@@ -0,0 +1,70 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.webservices.dmr;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.webservices.webserviceref.WebServiceManagedReferenceFactory;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+
+/**
+ * Provides the metrics of the web service reference cache.
+ */
+final class WSServiceRefCacheMetrics implements OperationStepHandler {
+
+    static final WSServiceRefCacheMetrics INSTANCE = new WSServiceRefCacheMetrics();
+
+    static final AttributeDefinition SERVICE_REF_CACHE_HITS = new SimpleAttributeDefinitionBuilder("service-ref-cache-hits", ModelType.LONG, false)
+            .setUndefinedMetricValue(new ModelNode(0))
+            .setStorageRuntime()
+            .build();
+    static final AttributeDefinition SERVICE_REF_CACHE_MISSES = new SimpleAttributeDefinitionBuilder("service-ref-cache-misses", ModelType.LONG, false)
+            .setUndefinedMetricValue(new ModelNode(0))
+            .setStorageRuntime()
+            .build();
+
+    static final AttributeDefinition[] ATTRIBUTES = {SERVICE_REF_CACHE_HITS, SERVICE_REF_CACHE_MISSES};
+
+    private WSServiceRefCacheMetrics() {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+        final String metricName = operation.require(NAME).asString();
+        if (SERVICE_REF_CACHE_HITS.getName().equals(metricName)) {
+            context.getResult().set(WebServiceManagedReferenceFactory.getCacheHits());
+        } else if (SERVICE_REF_CACHE_MISSES.getName().equals(metricName)) {
+            context.getResult().set(WebServiceManagedReferenceFactory.getCacheMisses());
+        }
+        context.stepCompleted();
+    }
+}
@@ -28,7 +28,12 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.UndeclaredThrowableException;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+import javax.jws.WebMethod;
 import javax.management.MBeanException;
 import javax.xml.ws.soap.SOAPFaultException;
 
@@ -38,6 +43,7 @@ import org.jboss.as.naming.ManagedReference;
 import org.jboss.as.webservices.injection.WSComponent;
 import org.jboss.as.webservices.logging.WSLogger;
 import org.jboss.invocation.InterceptorContext;
+import org.jboss.invocation.proxy.MethodIdentifier;
 import org.jboss.msc.service.ServiceName;
 import org.jboss.wsf.spi.deployment.Endpoint;
 import org.jboss.wsf.spi.invocation.Invocation;
@@ -53,6 +59,9 @@ abstract class AbstractInvocationHandler extends org.jboss.ws.common.invocation.
    private volatile ServiceName componentViewName;
    private volatile ComponentView componentView;
    protected volatile ManagedReference reference;
+   private volatile Map<MethodIdentifier, Method> viewMethods;
+   private final ConcurrentMap<Method, Operation> operations = new ConcurrentHashMap<>();
+   private final ConcurrentMap<String, OperationStatistics> operationStatistics = new ConcurrentHashMap<>();
 
    /**
     * Initializes component view name.
@@ -87,6 +96,7 @@ abstract class AbstractInvocationHandler extends org.jboss.ws.common.invocation.
                             throw new RuntimeException(e);
                         }
                     }
+                    viewMethods = indexViewMethods(cv.getViewMethods());
                     componentView = cv;
                 }
             }
@@ -123,10 +133,10 @@ abstract class AbstractInvocationHandler extends org.jboss.ws.common.invocation.
                  ((WSComponent) component).setReference(reference);
              }
          }
-         final Method method = getComponentViewMethod(wsInvocation.getJavaMethod(), componentView.getViewMethods());
+         final Operation operation = getOperation(wsInvocation.getJavaMethod(), componentView);
          final InterceptorContext context = new InterceptorContext();
          prepareForInvocation(context, wsInvocation);
-         context.setMethod(method);
+         context.setMethod(operation.viewMethod);
          context.setParameters(wsInvocation.getArgs());
          context.putPrivateData(Component.class, component);
          context.putPrivateData(ComponentView.class, componentView);
@@ -134,7 +144,18 @@ abstract class AbstractInvocationHandler extends org.jboss.ws.common.invocation.
              context.putPrivateData(ManagedReference.class, reference);
          }
          // invoke method
-         final Object retObj = componentView.invoke(context);
+         final boolean statisticsEnabled = endpoint.getEndpointMetrics() != null;
+         final long start = statisticsEnabled ? System.nanoTime() : 0L;
+         boolean fault = true;
+         final Object retObj;
+         try {
+            retObj = componentView.invoke(context);
+            fault = false;
+         } finally {
+            if (statisticsEnabled) {
+               operation.statistics.record(System.nanoTime() - start, fault);
+            }
+         }
          // set return value
          wsInvocation.setReturnValue(retObj);
       }
@@ -166,6 +187,64 @@ abstract class AbstractInvocationHandler extends org.jboss.ws.common.invocation.
        throw new IllegalStateException();
    }
 
+   /**
+    * Gets the view method and statistics of an SEI method, the view method is looked up once per SEI method.
+    *
+    * @param seiMethod SEI method
+    * @param componentView the component view
+    * @return the operation
+    */
+   private Operation getOperation(final Method seiMethod, final ComponentView componentView) {
+       Operation operation = operations.get(seiMethod);
+       if (operation == null) {
+           final Method viewMethod = findComponentViewMethod(seiMethod, componentView);
+           final OperationStatistics statistics = operationStatistics.computeIfAbsent(getOperationName(seiMethod), name -> new OperationStatistics());
+           operation = new Operation(viewMethod, statistics);
+           final Operation existing = operations.putIfAbsent(seiMethod, operation);
+           if (existing != null) {
+               operation = existing;
+           }
+       }
+       return operation;
+   }
+
+   /**
+    * Gets the WSDL operation name of an SEI method, which is unique within the port type even for overloaded methods.
+    *
+    * @param seiMethod SEI method
+    * @return the operation name
+    */
+   static String getOperationName(final Method seiMethod) {
+       final WebMethod webMethod = seiMethod.getAnnotation(WebMethod.class);
+       if (webMethod != null && !webMethod.operationName().isEmpty()) {
+           return webMethod.operationName();
+       }
+       return seiMethod.getName();
+   }
+
+   private Method findComponentViewMethod(final Method seiMethod, final ComponentView componentView) {
+       final Map<MethodIdentifier, Method> viewMethods = this.viewMethods;
+       if (viewMethods != null) {
+           final Method viewMethod = viewMethods.get(MethodIdentifier.getIdentifierForMethod(seiMethod));
+           if (viewMethod != null && matches(seiMethod, viewMethod)) {
+               return viewMethod;
+           }
+       }
+       return getComponentViewMethod(seiMethod, componentView.getViewMethods());
+   }
+
+   private static Map<MethodIdentifier, Method> indexViewMethods(final Collection<Method> viewMethods) {
+       final Map<MethodIdentifier, Method> index = new HashMap<>();
+       for (final Method viewMethod : viewMethods) {
+           index.putIfAbsent(MethodIdentifier.getIdentifierForMethod(viewMethod), viewMethod);
+       }
+       return index;
+   }
+
+   Map<String, OperationStatistics> getOperationStatistics() {
+       return operationStatistics;
+   }
+
    protected void handleInvocationException(final Throwable t) throws Exception {
       if (t instanceof MBeanException) {
          throw ((MBeanException) t).getTargetException();
@@ -215,5 +294,18 @@ abstract class AbstractInvocationHandler extends org.jboss.ws.common.invocation.
        return true;
    }
 
+   /**
+    * The view method an SEI method is dispatched to, along with the statistics of its operation.
+    */
+   private static final class Operation {
+       private final Method viewMethod;
+       private final OperationStatistics statistics;
+
+       private Operation(final Method viewMethod, final OperationStatistics statistics) {
+           this.viewMethod = viewMethod;
+           this.statistics = statistics;
+       }
+   }
+
 }
 
@@ -0,0 +1,89 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.webservices.invocation;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.as.ee.metrics.LatencyHistogram;
+import org.jboss.wsf.spi.deployment.Endpoint;
+import org.jboss.wsf.spi.invocation.InvocationHandler;
+
+/**
+ * Invocation count and processing times of a single operation of a WS endpoint, recorded when the endpoint statistics
+ * are enabled. The processing times are recorded in nanoseconds in a {@link LatencyHistogram} and reported in
+ * milliseconds like the endpoint metrics.
+ */
+public final class OperationStatistics {
+
+    private final LatencyHistogram processingTimes = new LatencyHistogram();
+    private final LongAdder faults = new LongAdder();
+
+    /**
+     * Gets the operation statistics of an endpoint.
+     *
+     * @param endpoint the WS endpoint
+     * @return the statistics keyed by operation name, empty if the endpoint was not invoked yet
+     */
+    public static Map<String, OperationStatistics> forEndpoint(final Endpoint endpoint) {
+        final InvocationHandler invocationHandler = endpoint.getInvocationHandler();
+        if (invocationHandler instanceof AbstractInvocationHandler) {
+            return Collections.unmodifiableMap(((AbstractInvocationHandler) invocationHandler).getOperationStatistics());
+        }
+        return Collections.emptyMap();
+    }
+
+    void record(final long elapsedNanos, final boolean fault) {
+        processingTimes.record(elapsedNanos);
+        if (fault) {
+            faults.increment();
+        }
+    }
+
+    public long getInvocationCount() {
+        return processingTimes.getCount();
+    }
+
+    public long getFaultCount() {
+        return faults.sum();
+    }
+
+    public long getTotalProcessingTime() {
+        return TimeUnit.NANOSECONDS.toMillis(processingTimes.getTotal());
+    }
+
+    public long getMinProcessingTime() {
+        return TimeUnit.NANOSECONDS.toMillis(processingTimes.getMin());
+    }
+
+    public long getMaxProcessingTime() {
+        return TimeUnit.NANOSECONDS.toMillis(processingTimes.getMax());
+    }
+
+    public long getAverageProcessingTime() {
+        return TimeUnit.NANOSECONDS.toMillis(processingTimes.getAverage());
+    }
+}
@@ -294,4 +294,8 @@ public interface WSLogger extends BasicLogger {
 
     @Message(id = 68, value = "Service %s not available")
     OperationFailedException serviceNotAvailable(String serviceName);
+
+    @LogMessage(level = WARN)
+    @Message(id = 69, value = "Could not preload web service reference %s, it will be created when it is looked up")
+    void couldNotPreloadServiceRef(String serviceRefName, @Cause Throwable cause);
 }
@@ -49,6 +49,7 @@ import org.jboss.as.server.deployment.DeploymentUnitProcessingException;
 import org.jboss.as.server.deployment.DeploymentUnitProcessor;
 import org.jboss.as.server.deployment.reflect.DeploymentReflectionIndex;
 import org.jboss.as.webservices.logging.WSLogger;
+import org.jboss.as.webservices.util.WSAttachmentKeys;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationTarget;
 import org.jboss.jandex.ClassInfo;
@@ -97,6 +98,11 @@ public class WSRefAnnotationProcessor implements DeploymentUnitProcessor {
                 }
             }
         }
+
+        // Read the WSDL of the references found in the descriptors and annotations
+        for (final WebServiceManagedReferenceFactory factory : unit.getAttachmentList(WSAttachmentKeys.WS_REF_FACTORIES)) {
+            factory.preload();
+        }
     }
 
     public void undeploy(final DeploymentUnit unit) {
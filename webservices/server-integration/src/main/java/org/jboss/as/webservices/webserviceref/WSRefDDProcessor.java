@@ -39,7 +39,6 @@ import org.jboss.as.ee.component.EEApplicationClasses;
 import org.jboss.as.ee.component.FixedInjectionSource;
 import org.jboss.as.ee.component.ResourceInjectionTarget;
 import org.jboss.as.ee.component.deployers.AbstractDeploymentDescriptorBindingsProcessor;
-import org.jboss.as.server.deployment.Attachments;
 import org.jboss.as.server.deployment.DeploymentUnit;
 import org.jboss.as.server.deployment.DeploymentUnitProcessingException;
 import org.jboss.as.server.deployment.module.ResourceRoot;
@@ -71,8 +70,7 @@ public final class WSRefDDProcessor extends AbstractDeploymentDescriptorBindings
         final List<BindingConfiguration> bindingDescriptions = new LinkedList<BindingConfiguration>();
         for (final ServiceReferenceMetaData serviceRefMD : serviceRefsMD) {
             final UnifiedServiceRefMetaData serviceRefUMDM = getServiceRef(unit, componentDescription, serviceRefMD);
-            final Module module = unit.getAttachment(Attachments.MODULE);
-            WebServiceManagedReferenceFactory factory = new WebServiceManagedReferenceFactory(serviceRefUMDM, module.getClassLoader());
+            final WebServiceManagedReferenceFactory factory = WebServiceReferences.createWebServiceFactory(unit, serviceRefUMDM);
             final FixedInjectionSource valueSource = new FixedInjectionSource(factory, factory);
             final BindingConfiguration bindingConfiguration = new BindingConfiguration(serviceRefUMDM.getServiceRefName(), valueSource);
             bindingDescriptions.add(bindingConfiguration);
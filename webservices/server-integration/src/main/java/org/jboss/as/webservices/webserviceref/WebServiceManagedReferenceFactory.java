@@ -1,8 +1,18 @@
 package org.jboss.as.webservices.webserviceref;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import javax.xml.ws.Service;
+import javax.xml.ws.handler.HandlerResolver;
+
 import org.jboss.as.naming.ImmediateManagedReference;
 import org.jboss.as.naming.ManagedReference;
 import org.jboss.as.naming.ManagedReferenceFactory;
+import org.jboss.as.webservices.logging.WSLogger;
 import org.jboss.ws.common.utils.DelegateClassLoader;
 import org.jboss.wsf.spi.SPIProvider;
 import org.jboss.wsf.spi.SPIProviderResolver;
@@ -14,34 +24,172 @@ import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
  * A managed reference factory for web service refs
+ * <p/>
+ * Creating a reference parses the WSDL, so up to {@value #CACHE_SIZE} references are created per web service ref and
+ * handed out in turn. Only {@link Service} instances, which are thread safe, are cached unless {@value #SHARE_PORTS}
+ * is set, in which case the port proxies are assumed to be thread safe too. The cache is disabled by default.
+ * <p/>
+ * A cached {@link Service} is shared by every component that looked it up, so it must not be reconfigured. A cached
+ * service whose handler resolver or executor was changed is dropped from the cache and never handed out again, the
+ * next lookup creates a new one.
  *
  *
  * @author Stuart Douglas
  */
 public class WebServiceManagedReferenceFactory implements ManagedReferenceFactory {
 
+    public static final String CACHE_SIZE = "wildfly.ws.serviceRef.cacheSize";
+
+    public static final String SHARE_PORTS = "wildfly.ws.serviceRef.sharePorts";
+
+    public static final String PRELOAD = "wildfly.ws.serviceRef.preload";
+
+    private static final int CACHED_REFERENCES = Integer.parseInt(WildFlySecurityManager.getPropertyPrivileged(CACHE_SIZE, "0"));
+
+    private static final boolean CACHE_PORTS = Boolean.parseBoolean(WildFlySecurityManager.getPropertyPrivileged(SHARE_PORTS, "false"));
+
+    private static final boolean PRELOAD_REFERENCES = Boolean.parseBoolean(WildFlySecurityManager.getPropertyPrivileged(PRELOAD, "false"));
+
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+
     private final UnifiedServiceRefMetaData serviceRef;
-    private final ClassLoader classLoader;
+    private final Supplier<Object> referenceFactory;
+    private final boolean cachePorts;
+    private final AtomicReferenceArray<CachedReference> references;
+    private final AtomicInteger next = new AtomicInteger();
+    private volatile boolean cacheable;
 
     public WebServiceManagedReferenceFactory(final UnifiedServiceRefMetaData serviceRef, final ClassLoader classLoader) {
+        this(serviceRef, newServiceRefFactory(serviceRef, new DelegateClassLoader(ClassLoaderProvider.getDefaultProvider().getServerIntegrationClassLoader(), classLoader)),
+                CACHED_REFERENCES, CACHE_PORTS);
+    }
+
+    WebServiceManagedReferenceFactory(final UnifiedServiceRefMetaData serviceRef, final Supplier<Object> referenceFactory, final int cacheSize,
+            final boolean cachePorts) {
         this.serviceRef = serviceRef;
-        this.classLoader = new DelegateClassLoader(ClassLoaderProvider.getDefaultProvider().getServerIntegrationClassLoader(), classLoader);
+        this.referenceFactory = referenceFactory;
+        this.cachePorts = cachePorts;
+        this.references = cacheSize > 0 ? new AtomicReferenceArray<>(cacheSize) : null;
+        this.cacheable = references != null;
+    }
+
+    /**
+     * @return {@code true} if the references are to be created when the deployment is installed
+     */
+    static boolean isPreloadEnabled() {
+        return PRELOAD_REFERENCES && CACHED_REFERENCES > 0;
+    }
+
+    /**
+     * @return the number of references served from the cache since the server started
+     */
+    public static long getCacheHits() {
+        return HITS.sum();
+    }
+
+    /**
+     * @return the number of cacheable references that had to be created since the server started
+     */
+    public static long getCacheMisses() {
+        return MISSES.sum();
     }
 
     @Override
     public ManagedReference getReference() {
-        final ClassLoader oldCL = WildFlySecurityManager.getCurrentContextClassLoaderPrivileged();
+        if (!cacheable) {
+            return new ImmediateManagedReference(referenceFactory.get());
+        }
+        final int index = (next.getAndIncrement() & Integer.MAX_VALUE) % references.length();
+        final CachedReference cached = references.get(index);
+        if (cached != null) {
+            if (cached.isUnchanged()) {
+                HITS.increment();
+                return new ImmediateManagedReference(cached.reference);
+            }
+            // reconfigured by a component, which must not leak to the next lookups
+            references.compareAndSet(index, cached, null);
+        }
+        MISSES.increment();
+        final Object reference = referenceFactory.get();
+        if (!cachePorts && !(reference instanceof Service)) {
+            // port proxies are not thread safe
+            cacheable = false;
+            return new ImmediateManagedReference(reference);
+        }
+        final CachedReference created = new CachedReference(reference);
+        if (references.compareAndSet(index, null, created)) {
+            return new ImmediateManagedReference(reference);
+        }
+        final CachedReference concurrent = references.get(index);
+        return new ImmediateManagedReference(concurrent != null ? concurrent.reference : reference);
+    }
+
+    /**
+     * Creates the first cached reference, so that the WSDL is read before the reference is first looked up. A failure
+     * is only logged, the reference is then created on lookup.
+     */
+    void preload() {
+        if (!cacheable || references.get(0) != null) {
+            return;
+        }
         try {
-            WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(classLoader);
-            final ServiceRefFactory serviceRefFactory = getServiceRefFactory();
-            return new ImmediateManagedReference(serviceRefFactory.newServiceRef(serviceRef));
-        } finally {
-            WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(oldCL);
+            final Object reference = referenceFactory.get();
+            if (cachePorts || reference instanceof Service) {
+                references.compareAndSet(0, null, new CachedReference(reference));
+            } else {
+                cacheable = false;
+            }
+        } catch (RuntimeException e) {
+            WSLogger.ROOT_LOGGER.couldNotPreloadServiceRef(serviceRef.getServiceRefName(), e);
         }
     }
 
-    private ServiceRefFactory getServiceRefFactory() {
+    private static Supplier<Object> newServiceRefFactory(final UnifiedServiceRefMetaData serviceRef, final ClassLoader classLoader) {
+        return () -> {
+            final ClassLoader oldCL = WildFlySecurityManager.getCurrentContextClassLoaderPrivileged();
+            try {
+                WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(classLoader);
+                final ServiceRefFactory serviceRefFactory = getServiceRefFactory();
+                return serviceRefFactory.newServiceRef(serviceRef);
+            } finally {
+                WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(oldCL);
+            }
+        };
+    }
+
+    private static ServiceRefFactory getServiceRefFactory() {
         final SPIProvider spiProvider = SPIProviderResolver.getInstance().getProvider();
         return spiProvider.getSPI(ServiceRefFactoryFactory.class).newServiceRefFactory();
     }
+
+    /**
+     * A cached reference together with the configuration of the {@link Service} when it was created.
+     */
+    private static final class CachedReference {
+
+        final Object reference;
+        final HandlerResolver handlerResolver;
+        final Executor executor;
+
+        CachedReference(final Object reference) {
+            this.reference = reference;
+            if (reference instanceof Service) {
+                final Service service = (Service) reference;
+                this.handlerResolver = service.getHandlerResolver();
+                this.executor = service.getExecutor();
+            } else {
+                this.handlerResolver = null;
+                this.executor = null;
+            }
+        }
+
+        boolean isUnchanged() {
+            if (!(reference instanceof Service)) {
+                return true;
+            }
+            final Service service = (Service) reference;
+            return service.getHandlerResolver() == handlerResolver && service.getExecutor() == executor;
+        }
+    }
 }
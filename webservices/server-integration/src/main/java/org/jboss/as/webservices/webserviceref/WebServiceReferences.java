@@ -34,6 +34,7 @@ import org.jboss.as.server.deployment.DeploymentUnitProcessingException;
 import org.jboss.as.server.deployment.module.ResourceRoot;
 import org.jboss.as.webservices.util.ASHelper;
 import org.jboss.as.webservices.util.VirtualFileAdaptor;
+import org.jboss.as.webservices.util.WSAttachmentKeys;
 import org.jboss.modules.Module;
 import org.jboss.wsf.spi.deployment.UnifiedVirtualFile;
 import org.jboss.wsf.spi.metadata.j2ee.serviceref.UnifiedServiceRefMetaData;
@@ -51,14 +52,21 @@ public class WebServiceReferences {
 
     public static ManagedReferenceFactory createWebServiceFactory(final DeploymentUnit deploymentUnit, final String targetType, final WSRefAnnotationWrapper wsRefDescription, final AnnotatedElement target, String bindingName) throws DeploymentUnitProcessingException {
         final UnifiedServiceRefMetaData serviceRefUMDM = createServiceRef(deploymentUnit, targetType, wsRefDescription, target, bindingName, bindingName);
-        final Module module = deploymentUnit.getAttachment(Attachments.MODULE);
-        return new WebServiceManagedReferenceFactory(serviceRefUMDM, module.getClassLoader());
+        return createWebServiceFactory(deploymentUnit, serviceRefUMDM);
     }
 
     public static ManagedReferenceFactory createWebServiceFactory(final DeploymentUnit deploymentUnit, final String targetType, final WSRefAnnotationWrapper wsRefDescription, final AnnotatedElement target, String bindingName, final String refKey) throws DeploymentUnitProcessingException {
         final UnifiedServiceRefMetaData serviceRefUMDM = createServiceRef(deploymentUnit, targetType, wsRefDescription, target, bindingName, refKey);
+        return createWebServiceFactory(deploymentUnit, serviceRefUMDM);
+    }
+
+    static WebServiceManagedReferenceFactory createWebServiceFactory(final DeploymentUnit deploymentUnit, final UnifiedServiceRefMetaData serviceRefUMDM) {
         final Module module = deploymentUnit.getAttachment(Attachments.MODULE);
-        return new WebServiceManagedReferenceFactory(serviceRefUMDM, module.getClassLoader());
+        final WebServiceManagedReferenceFactory factory = new WebServiceManagedReferenceFactory(serviceRefUMDM, module.getClassLoader());
+        if (WebServiceManagedReferenceFactory.isPreloadEnabled()) {
+            deploymentUnit.addToAttachmentList(WSAttachmentKeys.WS_REF_FACTORIES, factory);
+        }
+        return factory;
     }
 
     private static UnifiedServiceRefMetaData createServiceRef(final DeploymentUnit unit, final String type, final WSRefAnnotationWrapper annotation, final AnnotatedElement annotatedElement, final String bindingName, final String refKey) throws DeploymentUnitProcessingException {
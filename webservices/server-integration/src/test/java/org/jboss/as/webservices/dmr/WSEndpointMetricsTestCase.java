@@ -0,0 +1,70 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.webservices.dmr;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.jboss.as.controller.ObjectMapAttributeDefinition;
+import org.jboss.as.webservices.invocation.OperationStatistics;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class WSEndpointMetricsTestCase {
+
+    @Test
+    public void testOperationsDefinition() {
+        Assert.assertTrue(WSEndpointMetrics.OPERATIONS instanceof ObjectMapAttributeDefinition);
+        Assert.assertEquals(ModelType.OBJECT, WSEndpointMetrics.OPERATIONS.getType());
+    }
+
+    @Test
+    public void testOperationsMetric() {
+        final Map<String, OperationStatistics> operations = new LinkedHashMap<>();
+        operations.put("echo", new OperationStatistics());
+        operations.put("echoTwice", new OperationStatistics());
+
+        final ModelNode metric = WSEndpointMetrics.getOperationsMetric(operations);
+        Assert.assertEquals(ModelType.OBJECT, metric.getType());
+        Assert.assertEquals(2, metric.keys().size());
+        for (String operation : operations.keySet()) {
+            final ModelNode node = metric.get(operation);
+            Assert.assertEquals(0, node.get("invocation-count").asLong());
+            Assert.assertEquals(0, node.get(WSEndpointMetrics.FAULT_COUNT.getName()).asLong());
+            Assert.assertEquals(0, node.get(WSEndpointMetrics.MIN_PROCESSING_TIME.getName()).asLong());
+            Assert.assertEquals(0, node.get(WSEndpointMetrics.MAX_PROCESSING_TIME.getName()).asLong());
+            Assert.assertEquals(0, node.get(WSEndpointMetrics.AVERAGE_PROCESSING_TIME.getName()).asLong());
+            Assert.assertEquals(0, node.get(WSEndpointMetrics.TOTAL_PROCESSING_TIME.getName()).asLong());
+        }
+    }
+
+    @Test
+    public void testNoOperations() {
+        final ModelNode metric = WSEndpointMetrics.getOperationsMetric(new LinkedHashMap<>());
+        Assert.assertEquals(ModelType.OBJECT, metric.getType());
+        Assert.assertTrue(metric.keys().isEmpty());
+    }
+}
@@ -25,7 +25,9 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.RunningMode;
+import org.jboss.as.controller.operations.common.Util;
 import org.jboss.as.server.Services;
 import org.jboss.as.server.moduleservice.ServiceModuleLoader;
 import org.jboss.as.subsystem.test.AbstractSubsystemBaseTest;
@@ -33,6 +35,8 @@ import org.jboss.as.subsystem.test.AdditionalInitialization;
 import org.jboss.as.subsystem.test.KernelServices;
 import org.jboss.as.subsystem.test.KernelServicesBuilder;
 import org.jboss.as.webservices.util.WSServices;
+import org.jboss.as.webservices.webserviceref.WebServiceManagedReferenceFactory;
+import org.jboss.dmr.ModelNode;
 import org.jboss.msc.service.ServiceContainer;
 import org.jboss.msc.service.ServiceController;
 import org.jboss.msc.service.ServiceName;
@@ -177,6 +181,21 @@ public class WebservicesSubsystemRuntimeTestCase extends AbstractSubsystemBaseTe
         Assert.assertEquals("##SOAP11_HTTP ##SOAP11_HTTP_MTOM ##SOAP12_HTTP ##SOAP12_HTTP_MTOM", epCfg.getPostHandlerChains().get(0).getProtocolBindings());
     }
 
+    @Test
+    public void testServiceRefCacheMetrics() throws Exception {
+        KernelServicesBuilder builder = createKernelServicesBuilder(createAdditionalInitialization()).setSubsystemXml(getSubsystemXml());
+        KernelServices mainServices = builder.build();
+        if (!mainServices.isSuccessfulBoot()) {
+            Assert.fail(mainServices.getBootError().toString());
+        }
+
+        PathAddress address = PathAddress.pathAddress(WSExtension.SUBSYSTEM_PATH);
+        ModelNode hits = mainServices.executeForResult(Util.getReadAttributeOperation(address, WSServiceRefCacheMetrics.SERVICE_REF_CACHE_HITS.getName()));
+        Assert.assertEquals(WebServiceManagedReferenceFactory.getCacheHits(), hits.asLong());
+        ModelNode misses = mainServices.executeForResult(Util.getReadAttributeOperation(address, WSServiceRefCacheMetrics.SERVICE_REF_CACHE_MISSES.getName()));
+        Assert.assertEquals(WebServiceManagedReferenceFactory.getCacheMisses(), misses.asLong());
+    }
+
     @SuppressWarnings("unchecked")
     public static <T> T getMSCService(final ServiceContainer container, final ServiceName serviceName, final Class<T> clazz) {
         ServiceController<T> service = (ServiceController<T>) container.getService(serviceName);
@@ -0,0 +1,93 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.webservices.invocation;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.jws.WebMethod;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OperationStatisticsTestCase {
+
+    @Test
+    public void testRecord() {
+        final OperationStatistics statistics = new OperationStatistics();
+        Assert.assertEquals(0, statistics.getInvocationCount());
+        Assert.assertEquals(0, statistics.getMinProcessingTime());
+        Assert.assertEquals(0, statistics.getAverageProcessingTime());
+
+        statistics.record(TimeUnit.MILLISECONDS.toNanos(10), false);
+        statistics.record(TimeUnit.MILLISECONDS.toNanos(30), true);
+        statistics.record(TimeUnit.MILLISECONDS.toNanos(20), false);
+
+        Assert.assertEquals(3, statistics.getInvocationCount());
+        Assert.assertEquals(1, statistics.getFaultCount());
+        Assert.assertEquals(10, statistics.getMinProcessingTime());
+        Assert.assertEquals(30, statistics.getMaxProcessingTime());
+        Assert.assertEquals(20, statistics.getAverageProcessingTime());
+        Assert.assertEquals(60, statistics.getTotalProcessingTime());
+    }
+
+    @Test
+    public void testConcurrentRecord() throws InterruptedException {
+        final OperationStatistics statistics = new OperationStatistics();
+        final Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            final long nanos = TimeUnit.MILLISECONDS.toNanos(i + 1);
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    statistics.record(nanos, false);
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assert.assertEquals(4000, statistics.getInvocationCount());
+        Assert.assertEquals(1, statistics.getMinProcessingTime());
+        Assert.assertEquals(4, statistics.getMaxProcessingTime());
+        Assert.assertEquals(10000, statistics.getTotalProcessingTime());
+    }
+
+    @Test
+    public void testOperationName() throws NoSuchMethodException {
+        Assert.assertEquals("echo", AbstractInvocationHandler.getOperationName(Endpoint.class.getMethod("echo", String.class)));
+        Assert.assertEquals("echoTwice", AbstractInvocationHandler.getOperationName(Endpoint.class.getMethod("echo", String.class, String.class)));
+        Assert.assertEquals("ping", AbstractInvocationHandler.getOperationName(Endpoint.class.getMethod("ping")));
+    }
+
+    interface Endpoint {
+
+        String echo(String message);
+
+        @WebMethod(operationName = "echoTwice")
+        String echo(String first, String second);
+
+        @WebMethod
+        void ping();
+    }
+}
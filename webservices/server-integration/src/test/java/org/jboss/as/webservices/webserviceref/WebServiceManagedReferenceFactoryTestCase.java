@@ -0,0 +1,128 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.webservices.webserviceref;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.namespace.QName;
+import javax.xml.ws.Service;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class WebServiceManagedReferenceFactoryTestCase {
+
+    private final List<Object> created = new ArrayList<>();
+
+    @Test
+    public void testServicesAreCached() {
+        final WebServiceManagedReferenceFactory factory = new WebServiceManagedReferenceFactory(null, this::newService, 2, false);
+        final long hits = WebServiceManagedReferenceFactory.getCacheHits();
+        final long misses = WebServiceManagedReferenceFactory.getCacheMisses();
+
+        final Object first = factory.getReference().getInstance();
+        final Object second = factory.getReference().getInstance();
+        Assert.assertNotSame(first, second);
+        Assert.assertSame(first, factory.getReference().getInstance());
+        Assert.assertSame(second, factory.getReference().getInstance());
+
+        Assert.assertEquals(2, created.size());
+        Assert.assertEquals(2, WebServiceManagedReferenceFactory.getCacheHits() - hits);
+        Assert.assertEquals(2, WebServiceManagedReferenceFactory.getCacheMisses() - misses);
+    }
+
+    @Test
+    public void testReconfiguredServiceIsNotHandedOut() {
+        final WebServiceManagedReferenceFactory factory = new WebServiceManagedReferenceFactory(null, this::newService, 1, false);
+        final long hits = WebServiceManagedReferenceFactory.getCacheHits();
+        final long misses = WebServiceManagedReferenceFactory.getCacheMisses();
+
+        final Service first = (Service) factory.getReference().getInstance();
+        first.setHandlerResolver(portInfo -> new ArrayList<>());
+        final Service second = (Service) factory.getReference().getInstance();
+        Assert.assertNotSame(first, second);
+        Assert.assertSame(second, factory.getReference().getInstance());
+
+        Assert.assertEquals(2, created.size());
+        Assert.assertEquals(1, WebServiceManagedReferenceFactory.getCacheHits() - hits);
+        Assert.assertEquals(2, WebServiceManagedReferenceFactory.getCacheMisses() - misses);
+    }
+
+    @Test
+    public void testPortsAreNotCached() {
+        final WebServiceManagedReferenceFactory factory = new WebServiceManagedReferenceFactory(null, this::newPort, 2, false);
+        final long hits = WebServiceManagedReferenceFactory.getCacheHits();
+        final long misses = WebServiceManagedReferenceFactory.getCacheMisses();
+
+        Assert.assertNotSame(factory.getReference().getInstance(), factory.getReference().getInstance());
+        Assert.assertNotSame(factory.getReference().getInstance(), factory.getReference().getInstance());
+
+        Assert.assertEquals(4, created.size());
+        Assert.assertEquals(0, WebServiceManagedReferenceFactory.getCacheHits() - hits);
+        // only the first lookup finds out that the reference is a port
+        Assert.assertEquals(1, WebServiceManagedReferenceFactory.getCacheMisses() - misses);
+    }
+
+    @Test
+    public void testSharedPortsAreCached() {
+        final WebServiceManagedReferenceFactory factory = new WebServiceManagedReferenceFactory(null, this::newPort, 1, true);
+        final long hits = WebServiceManagedReferenceFactory.getCacheHits();
+
+        Assert.assertSame(factory.getReference().getInstance(), factory.getReference().getInstance());
+
+        Assert.assertEquals(1, created.size());
+        Assert.assertEquals(1, WebServiceManagedReferenceFactory.getCacheHits() - hits);
+    }
+
+    @Test
+    public void testPreload() {
+        final WebServiceManagedReferenceFactory factory = new WebServiceManagedReferenceFactory(null, this::newService, 1, false);
+        factory.preload();
+        Assert.assertEquals(1, created.size());
+        Assert.assertSame(created.get(0), factory.getReference().getInstance());
+    }
+
+    @Test
+    public void testDisabledCache() {
+        final WebServiceManagedReferenceFactory factory = new WebServiceManagedReferenceFactory(null, this::newService, 0, false);
+        final long misses = WebServiceManagedReferenceFactory.getCacheMisses();
+
+        Assert.assertNotSame(factory.getReference().getInstance(), factory.getReference().getInstance());
+        Assert.assertEquals(0, WebServiceManagedReferenceFactory.getCacheMisses() - misses);
+    }
+
+    private Object newService() {
+        final Service service = new Service(null, new QName("urn:test", "TestService")) {
+        };
+        created.add(service);
+        return service;
+    }
+
+    private Object newPort() {
+        final Object port = new Object();
+        created.add(port);
+        return port;
+    }
+}
@@ -28,6 +28,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 import javax.enterprise.inject.spi.BeanManager;
 
@@ -63,6 +65,27 @@ public class WeldBootstrapService implements Service<WeldBootstrapService> {
 
     public static final ServiceName SERVICE_NAME = ServiceName.of("WeldBootstrapService");
 
+    /**
+     * The timed phases of the Weld bootstrap, exposed as runtime attributes of the deployment.
+     */
+    public enum BootstrapPhase {
+        CONTAINER_START("container-start-time"),
+        TYPE_DISCOVERY("type-discovery-time"),
+        BEAN_DEPLOYMENT("bean-deployment-time"),
+        VALIDATION("validation-time"),
+        END_INITIALIZATION("end-initialization-time");
+
+        private final String attributeName;
+
+        BootstrapPhase(String attributeName) {
+            this.attributeName = attributeName;
+        }
+
+        public String getAttributeName() {
+            return attributeName;
+        }
+    }
+
     private final WeldBootstrap bootstrap;
     private final WeldDeployment deployment;
     private final Environment environment;
@@ -76,6 +99,8 @@ public class WeldBootstrapService implements Service<WeldBootstrapService> {
     private final InjectedValue<ExecutorServices> executorServices = new InjectedValue<ExecutorServices>();
     private final InjectedValue<ExecutorService> serverExecutor = new InjectedValue<ExecutorService>();
 
+    private final AtomicLongArray phaseTimes = new AtomicLongArray(BootstrapPhase.values().length);
+
     private volatile boolean started;
 
     public WeldBootstrapService(WeldDeployment deployment, Environment environment, final String deploymentName) {
@@ -124,7 +149,9 @@ public class WeldBootstrapService implements Service<WeldBootstrapService> {
         ClassLoader oldTccl = WildFlySecurityManager.getCurrentContextClassLoaderPrivileged();
         try {
             WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(deployment.getModule().getClassLoader());
+            final long start = System.nanoTime();
             bootstrap.startContainer(deploymentName, environment, deployment);
+            recordPhaseTime(BootstrapPhase.CONTAINER_START, start);
             WeldProvider.containerInitialized(Container.instance(deploymentName), getBeanManager(), deployment);
         } finally {
             WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(oldTccl);
@@ -216,6 +243,28 @@ public class WeldBootstrapService implements Service<WeldBootstrapService> {
         return new HashSet<BeanDeploymentArchive>(beanDeploymentArchives.values());
     }
 
+    /**
+     * Records the duration of a bootstrap phase.
+     *
+     * @param phase the phase
+     * @param start the {@link System#nanoTime()} when the phase started
+     * @return the {@link System#nanoTime()} when the phase ended
+     */
+    long recordPhaseTime(BootstrapPhase phase, long start) {
+        final long end = System.nanoTime();
+        phaseTimes.set(phase.ordinal(), TimeUnit.NANOSECONDS.toMillis(end - start));
+        return end;
+    }
+
+    /**
+     * Gets the duration of a bootstrap phase.
+     *
+     * @return the duration in milliseconds, 0 if the phase did not complete yet
+     */
+    public long getPhaseTime(BootstrapPhase phase) {
+        return phaseTimes.get(phase.ordinal());
+    }
+
     public boolean isStarted() {
         return started;
     }
@@ -0,0 +1,112 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.weld;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.DEPLOYMENT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.SimpleAttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.SimpleResourceDefinition;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.registry.AttributeAccess;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.server.deployment.Services;
+import org.jboss.as.weld.WeldBootstrapService.BootstrapPhase;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.msc.service.ServiceController;
+
+/**
+ * Runtime resource of a CDI deployment, exposing the duration of the Weld bootstrap phases.
+ */
+class WeldDeploymentResourceDefinition extends SimpleResourceDefinition {
+
+    static final WeldDeploymentResourceDefinition INSTANCE = new WeldDeploymentResourceDefinition();
+
+    private static final Map<BootstrapPhase, SimpleAttributeDefinition> PHASE_TIMES = new EnumMap<>(BootstrapPhase.class);
+
+    static {
+        for (BootstrapPhase phase : BootstrapPhase.values()) {
+            PHASE_TIMES.put(phase, new SimpleAttributeDefinitionBuilder(phase.getAttributeName(), ModelType.LONG)
+                    .setUndefinedMetricValue(new ModelNode(0))
+                    .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+                    .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+                    .build());
+        }
+    }
+
+    private WeldDeploymentResourceDefinition() {
+        super(WeldExtension.PATH_SUBSYSTEM, WeldExtension.getResourceDescriptionResolver(DEPLOYMENT));
+    }
+
+    @Override
+    public void registerAttributes(ManagementResourceRegistration resourceRegistration) {
+        for (SimpleAttributeDefinition attribute : PHASE_TIMES.values()) {
+            resourceRegistration.registerMetric(attribute, PhaseTimeHandler.INSTANCE);
+        }
+    }
+
+    private static class PhaseTimeHandler extends AbstractRuntimeOnlyHandler {
+
+        static final PhaseTimeHandler INSTANCE = new PhaseTimeHandler();
+
+        @Override
+        protected void executeRuntimeStep(OperationContext context, ModelNode operation) {
+            final String name = operation.require(NAME).asString();
+            final PathAddress address = PathAddress.pathAddress(operation.require(OP_ADDR));
+            final WeldBootstrapService bootstrapService = getBootstrapService(context, address);
+            if (bootstrapService != null) {
+                for (Map.Entry<BootstrapPhase, SimpleAttributeDefinition> entry : PHASE_TIMES.entrySet()) {
+                    if (entry.getValue().getName().equals(name)) {
+                        context.getResult().set(bootstrapService.getPhaseTime(entry.getKey()));
+                    }
+                }
+            }
+            context.stepCompleted();
+        }
+
+        private static WeldBootstrapService getBootstrapService(OperationContext context, PathAddress address) {
+            for (PathElement element : address) {
+                if (DEPLOYMENT.equals(element.getKey())) {
+                    final ServiceController<?> controller = context.getServiceRegistry(false)
+                            .getService(Services.deploymentUnitName(element.getValue()).append(WeldBootstrapService.SERVICE_NAME));
+                    if (controller != null && controller.getService() instanceof WeldBootstrapService) {
+                        return (WeldBootstrapService) controller.getService();
+                    }
+                    return null;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -24,11 +24,18 @@ package org.jboss.as.weld;
 import java.util.Arrays;
 import java.util.Collection;
 
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
 import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.PersistentResourceDefinition;
 import org.jboss.as.controller.ReloadRequiredRemoveStepHandler;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
+import org.jboss.as.controller.registry.AttributeAccess;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.weld.discovery.ClassFileInfoCache;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 
@@ -45,6 +52,7 @@ class WeldResourceDefinition extends PersistentResourceDefinition {
     static final String REQUIRE_BEAN_DESCRIPTOR_ATTRIBUTE_NAME = "require-bean-descriptor";
     static final String NON_PORTABLE_MODE_ATTRIBUTE_NAME = "non-portable-mode";
     static final String DEVELOPMENT_MODE_ATTRIBUTE_NAME = "development-mode";
+    static final String THREAD_POOL_SIZE_ATTRIBUTE_NAME = "thread-pool-size";
 
     static final SimpleAttributeDefinition REQUIRE_BEAN_DESCRIPTOR_ATTRIBUTE =
             new SimpleAttributeDefinitionBuilder(REQUIRE_BEAN_DESCRIPTOR_ATTRIBUTE_NAME, ModelType.BOOLEAN, true)
@@ -64,6 +72,24 @@ class WeldResourceDefinition extends PersistentResourceDefinition {
             .setDefaultValue(new ModelNode(false))
             .build();
 
+    static final SimpleAttributeDefinition THREAD_POOL_SIZE_ATTRIBUTE =
+            new SimpleAttributeDefinitionBuilder(THREAD_POOL_SIZE_ATTRIBUTE_NAME, ModelType.INT, true)
+            .setAllowExpression(true)
+            .setValidator(new IntRangeValidator(1, true, true))
+            .build();
+
+    static final SimpleAttributeDefinition BOOTSTRAP_CACHE_HITS =
+            new SimpleAttributeDefinitionBuilder("bootstrap-cache-hits", ModelType.LONG)
+            .setUndefinedMetricValue(new ModelNode(0))
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+            .build();
+
+    static final SimpleAttributeDefinition BOOTSTRAP_CACHE_MISSES =
+            new SimpleAttributeDefinitionBuilder("bootstrap-cache-misses", ModelType.LONG)
+            .setUndefinedMetricValue(new ModelNode(0))
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+            .build();
+
     private WeldResourceDefinition() {
         super(
                 WeldExtension.PATH_SUBSYSTEM,
@@ -74,6 +100,30 @@ class WeldResourceDefinition extends PersistentResourceDefinition {
 
     @Override
     public Collection<AttributeDefinition> getAttributes() {
-        return Arrays.asList(new AttributeDefinition[] {REQUIRE_BEAN_DESCRIPTOR_ATTRIBUTE, NON_PORTABLE_MODE_ATTRIBUTE, DEVELOPMENT_MODE_ATTRIBUTE});
+        return Arrays.asList(new AttributeDefinition[] {REQUIRE_BEAN_DESCRIPTOR_ATTRIBUTE, NON_PORTABLE_MODE_ATTRIBUTE, DEVELOPMENT_MODE_ATTRIBUTE, THREAD_POOL_SIZE_ATTRIBUTE});
+    }
+
+    /**
+     * Registers the metrics of the bootstrap cache, see {@link ClassFileInfoCache}.
+     */
+    static void registerMetrics(ManagementResourceRegistration registration) {
+        registration.registerMetric(BOOTSTRAP_CACHE_HITS, BootstrapCacheMetricsHandler.INSTANCE);
+        registration.registerMetric(BOOTSTRAP_CACHE_MISSES, BootstrapCacheMetricsHandler.INSTANCE);
+    }
+
+    private static class BootstrapCacheMetricsHandler extends AbstractRuntimeOnlyHandler {
+
+        static final BootstrapCacheMetricsHandler INSTANCE = new BootstrapCacheMetricsHandler();
+
+        @Override
+        protected void executeRuntimeStep(OperationContext context, ModelNode operation) {
+            final String name = operation.require(ModelDescriptionConstants.NAME).asString();
+            if (BOOTSTRAP_CACHE_HITS.getName().equals(name)) {
+                context.getResult().set(ClassFileInfoCache.getHits());
+            } else if (BOOTSTRAP_CACHE_MISSES.getName().equals(name)) {
+                context.getResult().set(ClassFileInfoCache.getMisses());
+            }
+            context.stepCompleted();
+        }
     }
 }
@@ -91,10 +91,16 @@ public class WeldStartService implements Service<WeldStartService> {
                 action.setup(null);
             }
             WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(classLoader);
-            bootstrap.getValue().getBootstrap().startInitialization();
-            bootstrap.getValue().getBootstrap().deployBeans();
-            bootstrap.getValue().getBootstrap().validateBeans();
-            bootstrap.getValue().getBootstrap().endInitialization();
+            final WeldBootstrapService bootstrapService = bootstrap.getValue();
+            long start = System.nanoTime();
+            bootstrapService.getBootstrap().startInitialization();
+            start = bootstrapService.recordPhaseTime(WeldBootstrapService.BootstrapPhase.TYPE_DISCOVERY, start);
+            bootstrapService.getBootstrap().deployBeans();
+            start = bootstrapService.recordPhaseTime(WeldBootstrapService.BootstrapPhase.BEAN_DEPLOYMENT, start);
+            bootstrapService.getBootstrap().validateBeans();
+            start = bootstrapService.recordPhaseTime(WeldBootstrapService.BootstrapPhase.VALIDATION, start);
+            bootstrapService.getBootstrap().endInitialization();
+            bootstrapService.recordPhaseTime(WeldBootstrapService.BootstrapPhase.END_INITIALIZATION, start);
         } finally {
 
             for (SetupAction action : setupActions) {
@@ -40,6 +40,7 @@ import javax.transaction.UserTransaction;
 import org.jboss.as.ee.component.EEApplicationDescription;
 import org.jboss.as.ee.component.EEModuleDescription;
 import org.jboss.as.ee.naming.JavaNamespaceSetup;
+import org.jboss.as.ee.utils.DeploymentCacheFile;
 import org.jboss.as.ee.weld.WeldDeploymentMarker;
 import org.jboss.as.jpa.config.Configuration;
 import org.jboss.as.jpa.config.PersistenceUnitMetadataHolder;
@@ -65,6 +66,7 @@ import org.jboss.as.server.deployment.module.ResourceRoot;
 import org.jboss.as.txn.service.TransactionManagerService;
 import org.jboss.as.txn.service.UserTransactionService;
 import org.jboss.as.weld.WeldBootstrapService;
+import org.jboss.as.weld.WeldExtension;
 import org.jboss.as.weld.WeldStartService;
 import org.jboss.as.weld.deployment.BeanDeploymentArchiveImpl;
 import org.jboss.as.weld.deployment.BeanDeploymentModule;
@@ -72,6 +74,7 @@ import org.jboss.as.weld.deployment.CdiAnnotationMarker;
 import org.jboss.as.weld.deployment.WeldAttachments;
 import org.jboss.as.weld.deployment.WeldDeployment;
 import org.jboss.as.weld.deployment.WeldPortableExtensions;
+import org.jboss.as.weld.discovery.ClassFileInfoCache;
 import org.jboss.as.weld.discovery.WeldClassFileServices;
 import org.jboss.as.weld.logging.WeldLogger;
 import org.jboss.as.weld.services.TCCLSingletonService;
@@ -149,9 +152,13 @@ public class WeldDeploymentProcessor implements DeploymentUnitProcessor {
 
         WeldLogger.DEPLOYMENT_LOGGER.startingServicesForCDIDeployment(phaseContext.getDeploymentUnit().getName());
 
+        // exposes the bootstrap phase times
+        deploymentUnit.getAttachment(Attachments.DEPLOYMENT_RESOURCE_SUPPORT).getDeploymentSubsystemModel(WeldExtension.SUBSYSTEM_NAME);
+
         final Module module = deploymentUnit.getAttachment(Attachments.MODULE);
         final ModuleSpecification moduleSpecification = deploymentUnit.getAttachment(Attachments.MODULE_SPECIFICATION);
         final CompositeIndex rootIndex = deploymentUnit.getAttachment(Attachments.COMPOSITE_ANNOTATION_INDEX);
+        final String contentHash = getContentHash(deploymentUnit);
 
         final Set<BeanDeploymentArchiveImpl> beanDeploymentArchives = new HashSet<BeanDeploymentArchiveImpl>();
         final Map<ModuleIdentifier, BeanDeploymentModule> bdmsByIdentifier = new HashMap<ModuleIdentifier, BeanDeploymentModule>();
@@ -208,7 +215,7 @@ public class WeldDeploymentProcessor implements DeploymentUnitProcessor {
 
             final CompositeIndex index = subDeployment.getAttachment(Attachments.COMPOSITE_ANNOTATION_INDEX);
             if (index != null) {
-                bdm.addService(ClassFileServices.class, new WeldClassFileServices(index, subDeploymentModule.getClassLoader()));
+                bdm.addService(ClassFileServices.class, createClassFileServices(index, subDeploymentModule.getClassLoader(), deploymentUnit, subDeployment, contentHash));
             }
         }
 
@@ -229,7 +236,7 @@ public class WeldDeploymentProcessor implements DeploymentUnitProcessor {
         final EjbInjectionServices ejbInjectionServices = new WeldEjbInjectionServices(deploymentUnit.getServiceRegistry(),
                 eeModuleDescription, eeApplicationDescription, deploymentRoot.getRoot(), module);
         final ResourceInjectionServices resourceInjectionServices = new WeldResourceInjectionServices(deploymentUnit.getServiceRegistry(), eeModuleDescription, module);
-        final WeldClassFileServices classFileServices = (rootIndex != null ? new WeldClassFileServices(rootIndex, module.getClassLoader()) : null);
+        final WeldClassFileServices classFileServices = (rootIndex != null ? createClassFileServices(rootIndex, module.getClassLoader(), deploymentUnit, deploymentUnit, contentHash) : null);
 
 
         rootBeanDeploymentModule.addService(EjbInjectionServices.class, ejbInjectionServices);
@@ -369,6 +376,37 @@ public class WeldDeploymentProcessor implements DeploymentUnitProcessor {
         return weldTransactionServiceName;
     }
 
+    /**
+     * Gets the content repository hash the Weld bootstrap cache is keyed by.
+     *
+     * @return the content hash, or null if the bootstrap cache is not used
+     */
+    private static String getContentHash(final DeploymentUnit deploymentUnit) {
+        if (!ClassFileInfoCache.isEnabled()) {
+            return null;
+        }
+        final String contentHash = DeploymentCacheFile.getContentHash(deploymentUnit);
+        if (contentHash == null) {
+            WeldLogger.DEPLOYMENT_LOGGER.bootstrapCacheNotUsed(deploymentUnit.getName());
+        }
+        return contentHash;
+    }
+
+    private static WeldClassFileServices createClassFileServices(final CompositeIndex index, final ClassLoader classLoader, final DeploymentUnit deploymentUnit,
+            final DeploymentUnit moduleUnit, final String contentHash) {
+        ClassFileInfoCache bootstrapCache = null;
+        if (contentHash != null) {
+            // the content hash does not cover the annotations indexed from other modules
+            if (!moduleUnit.getAttachmentList(Attachments.ADDITIONAL_ANNOTATION_INDEXES).isEmpty()
+                    || !deploymentUnit.getAttachmentList(Attachments.ADDITIONAL_ANNOTATION_INDEXES).isEmpty()) {
+                WeldLogger.DEPLOYMENT_LOGGER.bootstrapCacheNotUsedForModuleAnnotations(moduleUnit.getName());
+            } else {
+                bootstrapCache = ClassFileInfoCache.load(deploymentUnit.getName(), moduleUnit.getName(), contentHash);
+            }
+        }
+        return new WeldClassFileServices(index, classLoader, bootstrapCache);
+    }
+
     private void installBootstrapConfigurationService(WeldDeployment deployment, DeploymentUnit parentDeploymentUnit) {
         final boolean nonPortableMode = parentDeploymentUnit.getAttachment(WeldConfiguration.ATTACHMENT_KEY).isNonPortableMode();
         final ExternalConfiguration configuration = new ExternalConfigurationBuilder()
@@ -384,6 +422,9 @@ public class WeldDeploymentProcessor implements DeploymentUnitProcessor {
         if (serviceController != null) {
             serviceController.setMode(ServiceController.Mode.REMOVE);
         }
+        if (context.getParent() == null) {
+            ClassFileInfoCache.delete(context);
+        }
     }
 
 }
@@ -0,0 +1,144 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.weld.discovery;
+
+import java.lang.annotation.Annotation;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import org.jboss.weld.resources.spi.ClassFileInfo;
+
+/**
+ * Class file information backed by a {@link ClassFileInfoCache} entry. The queries that were not answered during a
+ * previous bootstrap are computed from the composite index and recorded in the cache, except for the assignability
+ * to classes that do not belong to the deployment and for the annotations found through annotation types or
+ * superclasses outside of the index.
+ */
+final class CachedClassFileInfo implements ClassFileInfo {
+
+    private final ClassFileInfoCache cache;
+    private final ClassFileInfoCache.Entry entry;
+    private final Supplier<WeldClassFileInfo> delegateFactory;
+    private volatile WeldClassFileInfo delegate;
+
+    CachedClassFileInfo(final ClassFileInfoCache cache, final ClassFileInfoCache.Entry entry, final Supplier<WeldClassFileInfo> delegateFactory) {
+        this.cache = cache;
+        this.entry = entry;
+        this.delegateFactory = delegateFactory;
+    }
+
+    CachedClassFileInfo(final ClassFileInfoCache cache, final ClassFileInfoCache.Entry entry, final WeldClassFileInfo delegate) {
+        this(cache, entry, () -> delegate);
+        this.delegate = delegate;
+    }
+
+    private WeldClassFileInfo delegate() {
+        WeldClassFileInfo delegate = this.delegate;
+        if (delegate == null) {
+            this.delegate = delegate = delegateFactory.get();
+        }
+        return delegate;
+    }
+
+    private boolean answer(final String key, final BooleanSupplier query) {
+        return answer(key, query, () -> true);
+    }
+
+    private boolean answer(final String key, final BooleanSupplier query, final BooleanSupplier cacheable) {
+        final Boolean answer = entry.answers.get(key);
+        if (answer != null) {
+            return answer;
+        }
+        final boolean result = query.getAsBoolean();
+        if (cacheable.getAsBoolean()) {
+            cache.record(entry, key, result);
+        }
+        return result;
+    }
+
+    @Override
+    public String getClassName() {
+        return entry.className;
+    }
+
+    @Override
+    public String getSuperclassName() {
+        if (entry.superclassName == null) {
+            return delegate().getSuperclassName();
+        }
+        return entry.superclassName;
+    }
+
+    @Override
+    public boolean isAnnotationDeclared(final Class<? extends Annotation> annotationType) {
+        return answer(ClassFileInfoCache.annotationDeclaredKey(annotationType.getName()), () -> delegate().isAnnotationDeclared(annotationType));
+    }
+
+    @Override
+    public boolean containsAnnotation(final Class<? extends Annotation> annotationType) {
+        return answer(ClassFileInfoCache.containsAnnotationKey(annotationType.getName()), () -> delegate().containsAnnotation(annotationType),
+                () -> delegate().isContainsAnnotationIndexed(annotationType));
+    }
+
+    @Override
+    public int getModifiers() {
+        return entry.modifiers;
+    }
+
+    @Override
+    public boolean hasCdiConstructor() {
+        return entry.hasCdiConstructor;
+    }
+
+    @Override
+    public boolean isAssignableFrom(final Class<?> javaClass) {
+        if (!cache.isDeploymentClass(javaClass)) {
+            return delegate().isAssignableFrom(javaClass);
+        }
+        return answer(ClassFileInfoCache.assignableFromKey(javaClass.getName()), () -> delegate().isAssignableFrom(javaClass));
+    }
+
+    @Override
+    public boolean isAssignableTo(final Class<?> javaClass) {
+        if (!cache.isDeploymentClass(javaClass)) {
+            return delegate().isAssignableTo(javaClass);
+        }
+        return answer(ClassFileInfoCache.assignableToKey(javaClass.getName()), () -> delegate().isAssignableTo(javaClass));
+    }
+
+    @Override
+    public boolean isVetoed() {
+        return entry.vetoed;
+    }
+
+    @Override
+    public boolean isTopLevelClass() {
+        return entry.topLevelClass;
+    }
+
+    @Override
+    public String toString() {
+        return entry.className;
+    }
+}
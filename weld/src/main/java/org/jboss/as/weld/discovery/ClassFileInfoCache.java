@@ -0,0 +1,287 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.weld.discovery;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import org.jboss.as.ee.utils.DeploymentCacheFile;
+import org.jboss.as.server.deployment.DeploymentUnit;
+import org.jboss.as.server.moduleservice.ServiceModuleLoader;
+import org.jboss.as.weld.logging.WeldLogger;
+import org.jboss.modules.Module;
+
+/**
+ * On-disk cache of the class file information Weld requests while bootstrapping a deployment module.
+ * <p/>
+ * The cache of a module is stored in a {@link DeploymentCacheFile} together with the content repository hash of the
+ * deployment it was computed from, a cache whose hash does not match the current content is discarded and rebuilt
+ * during the next bootstrap. The answers to assignability queries are only cached if the queried class belongs to the
+ * deployment, and the answers to annotation queries only if they were computed from the index alone, as the answer
+ * for any other class may change with the modules the deployment depends on. For the same reason, modules whose
+ * annotation index includes the annotations of other modules are not cached.
+ * <p/>
+ * The cache is disabled unless the {@value #BOOTSTRAP_CACHE} system property is set to {@code true}, it is stored in
+ * the {@value #BOOTSTRAP_CACHE_DIR} directory, by default {@code weld-bootstrap-cache} in the server data directory.
+ */
+public final class ClassFileInfoCache {
+
+    public static final String BOOTSTRAP_CACHE = "wildfly.weld.bootstrapCache";
+
+    public static final String BOOTSTRAP_CACHE_DIR = "wildfly.weld.bootstrapCache.dir";
+
+    private static final File DIRECTORY = DeploymentCacheFile.getDirectory(BOOTSTRAP_CACHE, BOOTSTRAP_CACHE_DIR, "weld-bootstrap-cache");
+
+    private static final int FORMAT_VERSION = 3;
+
+    private static final char ANNOTATION_DECLARED = 'D';
+    private static final char CONTAINS_ANNOTATION = 'C';
+    private static final char ASSIGNABLE_FROM = 'F';
+    private static final char ASSIGNABLE_TO = 'T';
+
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+
+    private final DeploymentCacheFile file;
+    private final Predicate<Class<?>> deploymentClass;
+    private final ConcurrentMap<String, Entry> entries;
+    private volatile boolean modified;
+
+    private ClassFileInfoCache(final DeploymentCacheFile file, final Predicate<Class<?>> deploymentClass, final ConcurrentMap<String, Entry> entries) {
+        this.file = file;
+        this.deploymentClass = deploymentClass;
+        this.entries = entries;
+    }
+
+    /**
+     * @return {@code true} if the bootstrap cache is enabled
+     */
+    public static boolean isEnabled() {
+        return DIRECTORY != null;
+    }
+
+    /**
+     * @return the number of class file lookups answered from a bootstrap cache since the server started
+     */
+    public static long getHits() {
+        return HITS.sum();
+    }
+
+    /**
+     * @return the number of class file lookups that were not found in a bootstrap cache since the server started
+     */
+    public static long getMisses() {
+        return MISSES.sum();
+    }
+
+    /**
+     * Load the cache of a deployment module, an empty cache is returned if there is no cache for the module or if it
+     * was computed from different deployment content.
+     *
+     * @param deploymentName the name of the top level deployment
+     * @param moduleName the name of the deployment module, the deployment name for the top level module
+     * @param contentHash the content repository hash of the top level deployment
+     * @return the cache
+     */
+    public static ClassFileInfoCache load(final String deploymentName, final String moduleName, final String contentHash) {
+        final String modulePrefix = ServiceModuleLoader.MODULE_PREFIX + deploymentName;
+        return load(DeploymentCacheFile.forModule(DIRECTORY, deploymentName, moduleName, FORMAT_VERSION, contentHash), type -> {
+            final Module module = Module.forClass(type);
+            if (module == null) {
+                return false;
+            }
+            final String name = module.getIdentifier().getName();
+            return name.equals(modulePrefix) || name.startsWith(modulePrefix + ".");
+        });
+    }
+
+    static ClassFileInfoCache load(final DeploymentCacheFile file, final Predicate<Class<?>> deploymentClass) {
+        final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+        try {
+            if (!file.read(in -> {
+                for (int i = in.readInt(); i > 0; i--) {
+                    final Entry entry = Entry.read(in);
+                    entries.put(entry.className, entry);
+                }
+                return true;
+            }) && file.exists()) {
+                WeldLogger.DEPLOYMENT_LOGGER.discardingBootstrapCache(file.getFile(), null);
+            }
+        } catch (IOException e) {
+            WeldLogger.DEPLOYMENT_LOGGER.discardingBootstrapCache(file.getFile(), e);
+            entries.clear();
+        }
+        return new ClassFileInfoCache(file, deploymentClass, entries);
+    }
+
+    /**
+     * Delete the caches of an undeployed deployment.
+     *
+     * @param deploymentUnit the top level deployment unit
+     */
+    public static void delete(final DeploymentUnit deploymentUnit) {
+        if (DIRECTORY != null) {
+            DeploymentCacheFile.delete(DIRECTORY, deploymentUnit);
+        }
+    }
+
+    /**
+     * Write the cache if it was modified since it was loaded.
+     */
+    public void store() {
+        if (!modified) {
+            return;
+        }
+        try {
+            file.write(out -> {
+                final List<Entry> snapshot = new ArrayList<>(entries.values());
+                out.writeInt(snapshot.size());
+                for (Entry entry : snapshot) {
+                    entry.write(out);
+                }
+            });
+            modified = false;
+        } catch (IOException e) {
+            WeldLogger.DEPLOYMENT_LOGGER.couldNotWriteBootstrapCache(file.getFile(), e);
+        }
+    }
+
+    /**
+     * @param type the class queried for assignability
+     * @return {@code true} if the type belongs to the deployment, so that the answer only depends on the deployment content
+     */
+    boolean isDeploymentClass(final Class<?> type) {
+        return deploymentClass.test(type);
+    }
+
+    Entry get(final String className) {
+        final Entry entry = entries.get(className);
+        if (entry != null) {
+            HITS.increment();
+        } else {
+            MISSES.increment();
+        }
+        return entry;
+    }
+
+    Entry put(final WeldClassFileInfo info) {
+        final Entry entry = new Entry(info.getClassName(), info.getModifiers(), info.hasCdiConstructor(), info.isVetoed(),
+                info.isTopLevelClass(), info.getSuperclassNameOrNull(), new ConcurrentHashMap<>());
+        final Entry previous = entries.putIfAbsent(entry.className, entry);
+        if (previous != null) {
+            return previous;
+        }
+        modified = true;
+        return entry;
+    }
+
+    void record(final Entry entry, final String key, final boolean answer) {
+        if (entry.answers.putIfAbsent(key, answer) == null) {
+            modified = true;
+        }
+    }
+
+    static String annotationDeclaredKey(final String annotation) {
+        return ANNOTATION_DECLARED + annotation;
+    }
+
+    static String containsAnnotationKey(final String annotation) {
+        return CONTAINS_ANNOTATION + annotation;
+    }
+
+    static String assignableFromKey(final String type) {
+        return ASSIGNABLE_FROM + type;
+    }
+
+    static String assignableToKey(final String type) {
+        return ASSIGNABLE_TO + type;
+    }
+
+    /**
+     * The cached information of a class, the answers to the annotation and assignability queries are keyed by the
+     * query type and the name of the queried class.
+     */
+    static final class Entry {
+
+        final String className;
+        final int modifiers;
+        final boolean hasCdiConstructor;
+        final boolean vetoed;
+        final boolean topLevelClass;
+        final String superclassName;
+        final ConcurrentMap<String, Boolean> answers;
+
+        Entry(final String className, final int modifiers, final boolean hasCdiConstructor, final boolean vetoed,
+                final boolean topLevelClass, final String superclassName, final ConcurrentMap<String, Boolean> answers) {
+            this.className = className;
+            this.modifiers = modifiers;
+            this.hasCdiConstructor = hasCdiConstructor;
+            this.vetoed = vetoed;
+            this.topLevelClass = topLevelClass;
+            this.superclassName = superclassName;
+            this.answers = answers;
+        }
+
+        static Entry read(final DataInputStream in) throws IOException {
+            final String className = in.readUTF();
+            final int modifiers = in.readInt();
+            final boolean hasCdiConstructor = in.readBoolean();
+            final boolean vetoed = in.readBoolean();
+            final boolean topLevelClass = in.readBoolean();
+            final String superclassName = in.readBoolean() ? in.readUTF() : null;
+            final ConcurrentMap<String, Boolean> answers = new ConcurrentHashMap<>();
+            for (int i = in.readInt(); i > 0; i--) {
+                answers.put(in.readUTF(), in.readBoolean());
+            }
+            return new Entry(className, modifiers, hasCdiConstructor, vetoed, topLevelClass, superclassName, answers);
+        }
+
+        void write(final DataOutputStream out) throws IOException {
+            out.writeUTF(className);
+            out.writeInt(modifiers);
+            out.writeBoolean(hasCdiConstructor);
+            out.writeBoolean(vetoed);
+            out.writeBoolean(topLevelClass);
+            out.writeBoolean(superclassName != null);
+            if (superclassName != null) {
+                out.writeUTF(superclassName);
+            }
+            final List<Map.Entry<String, Boolean>> snapshot = new ArrayList<>(answers.entrySet());
+            out.writeInt(snapshot.size());
+            for (Map.Entry<String, Boolean> answer : snapshot) {
+                out.writeUTF(answer.getKey());
+                out.writeBoolean(answer.getValue());
+            }
+        }
+    }
+}
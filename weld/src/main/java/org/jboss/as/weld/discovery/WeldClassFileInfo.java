@@ -97,6 +97,32 @@ public class WeldClassFileInfo implements ClassFileInfo {
         return containsAnnotation(classInfo, DotName.createSimple(annotation.getName()), annotation);
     }
 
+    /**
+     * Whether {@link #containsAnnotation(Class)} only reads classes of the index for the given annotation, i.e. the
+     * annotation is present on the class or one of its superclasses before any annotation type or superclass outside
+     * of the index is looked up by reflection.
+     */
+    boolean isContainsAnnotationIndexed(Class<? extends Annotation> annotation) {
+        final DotName requiredAnnotationName = DotName.createSimple(annotation.getName());
+        ClassInfo current = classInfo;
+        while (!current.annotations().containsKey(requiredAnnotationName)) {
+            for (DotName annotationName : current.annotations().keySet()) {
+                if (index.getClassByName(annotationName) == null) {
+                    return false;
+                }
+            }
+            final DotName superName = current.superName();
+            if (superName == null || OBJECT_NAME.equals(superName)) {
+                return true;
+            }
+            current = index.getClassByName(superName);
+            if (current == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public int getModifiers() {
         return classInfo.flags();
@@ -132,6 +158,11 @@ public class WeldClassFileInfo implements ClassFileInfo {
         return classInfo.superName().toString();
     }
 
+    String getSuperclassNameOrNull() {
+        final DotName superName = classInfo.superName();
+        return superName == null ? null : superName.toString();
+    }
+
     private boolean isVetoedTypeOrPackage() {
 
         if (isAnnotationDeclared(classInfo, DOT_NAME_VETOED)) {
@@ -43,6 +43,8 @@ public class WeldClassFileServices implements ClassFileServices {
 
     private final ClassLoader moduleClassLoader;
 
+    private volatile ClassFileInfoCache bootstrapCache;
+
     private class AnnotationClassAnnotationLoader extends CacheLoader<DotName, Set<String>> {
         @Override
         public Set<String> load(DotName name) throws Exception {
@@ -73,21 +75,49 @@ public class WeldClassFileServices implements ClassFileServices {
      * @param index
      */
     public WeldClassFileServices(CompositeIndex index, ClassLoader moduleClassLoader) {
+        this(index, moduleClassLoader, null);
+    }
+
+    /**
+     *
+     * @param index
+     * @param moduleClassLoader
+     * @param bootstrapCache the cache answering the class file lookups, may be null
+     */
+    public WeldClassFileServices(CompositeIndex index, ClassLoader moduleClassLoader, ClassFileInfoCache bootstrapCache) {
         if (index == null) {
             throw WeldLogger.ROOT_LOGGER.cannotUseAtRuntime(ClassFileServices.class.getSimpleName());
         }
         this.moduleClassLoader = moduleClassLoader;
         this.index = index;
+        this.bootstrapCache = bootstrapCache;
         this.annotationClassAnnotationsCache = CacheBuilder.newBuilder().build(new AnnotationClassAnnotationLoader());
     }
 
     @Override
     public ClassFileInfo getClassFileInfo(String className) {
+        final ClassFileInfoCache bootstrapCache = this.bootstrapCache;
+        if (bootstrapCache == null) {
+            return createClassFileInfo(className);
+        }
+        final ClassFileInfoCache.Entry entry = bootstrapCache.get(className);
+        if (entry != null) {
+            return new CachedClassFileInfo(bootstrapCache, entry, () -> createClassFileInfo(className));
+        }
+        final WeldClassFileInfo classFileInfo = createClassFileInfo(className);
+        return new CachedClassFileInfo(bootstrapCache, bootstrapCache.put(classFileInfo), classFileInfo);
+    }
+
+    private WeldClassFileInfo createClassFileInfo(String className) {
         return new WeldClassFileInfo(className, index, annotationClassAnnotationsCache, moduleClassLoader);
     }
 
     @Override
-    public void cleanupAfterBoot() {
+    public synchronized void cleanupAfterBoot() {
+        if (bootstrapCache != null) {
+            bootstrapCache.store();
+            bootstrapCache = null;
+        }
         if (annotationClassAnnotationsCache != null) {
             annotationClassAnnotationsCache.invalidateAll();
             annotationClassAnnotationsCache = null;
@@ -22,6 +22,7 @@
 
 package org.jboss.as.weld.logging;
 
+import java.io.File;
 import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Member;
@@ -249,4 +250,20 @@ public interface WeldLogger extends BasicLogger {
     @Message(id = 52, value = "Using deployment classloader to load proxy classes for module %s. Package-private access will not work. To fix this the module should declare dependencies on %s")
     void loadingProxiesUsingDeploymentClassLoader(ModuleIdentifier moduleIdentifier, String dependencies);
 
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 53, value = "Could not write the Weld bootstrap cache %s")
+    void couldNotWriteBootstrapCache(File file, @Cause Throwable cause);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = Message.NONE, value = "Deployment %s has no content repository hash, the Weld bootstrap cache is not used")
+    void bootstrapCacheNotUsed(String deploymentName);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = Message.NONE, value = "Deployment %s indexes the annotations of modules outside of its content, the Weld bootstrap cache is not used")
+    void bootstrapCacheNotUsedForModuleAnnotations(String deploymentName);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = Message.NONE, value = "Discarding the outdated Weld bootstrap cache %s")
+    void discardingBootstrapCache(File file, @Cause Throwable cause);
+
 }
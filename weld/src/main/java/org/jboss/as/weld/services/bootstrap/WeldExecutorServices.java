@@ -35,6 +35,8 @@ import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
  * Weld's ExecutorServices implementation. The executor is shared across all CDI-enabled deployments and used primarily for parallel Weld bootstrap.
+ * Its size is set by the {@code thread-pool-size} attribute of the Weld subsystem and defaults to the number of available processors plus one.
+ * Independent deployments bootstrap concurrently and share the pool.
  *
  * @author Jozef Hartinger
  *
@@ -44,11 +46,17 @@ public class WeldExecutorServices extends AbstractExecutorServices implements Se
     public static final ServiceName SERVICE_NAME = Services.JBOSS_AS.append("weld", "executor");
     private static final String THREAD_NAME_PATTERN = "Weld Thread Pool -- %t";
 
+    public static final int DEFAULT_BOUND = Runtime.getRuntime().availableProcessors() + 1;
+
     private final int bound;
-    private ExecutorService executor;
+    private volatile ExecutorService executor;
 
     public WeldExecutorServices() {
-        this.bound = Runtime.getRuntime().availableProcessors() + 1;
+        this(DEFAULT_BOUND);
+    }
+
+    public WeldExecutorServices(int bound) {
+        this.bound = bound;
     }
 
     @Override
@@ -87,16 +95,16 @@ public class WeldExecutorServices extends AbstractExecutorServices implements Se
     }
 
     @Override
-    protected synchronized int getThreadPoolSize() {
+    protected int getThreadPoolSize() {
         return bound;
     }
 
-    public synchronized ExecutorServices getValue() throws IllegalStateException, IllegalArgumentException {
+    public ExecutorServices getValue() throws IllegalStateException, IllegalArgumentException {
         return this;
     }
 
     @Override
-    public synchronized ExecutorService getTaskExecutor() {
+    public ExecutorService getTaskExecutor() {
         return executor;
     }
 
@@ -53,7 +53,7 @@ public class WeldSubsystemTestCase extends AbstractSubsystemBaseTest {
 
     @Override
     protected String getSubsystemXsdPath() throws Exception {
-        return "schema/jboss-as-weld_3_0.xsd";
+        return "schema/jboss-as-weld_4_0.xsd";
     }
 
     @Override
@@ -68,6 +68,11 @@ public class WeldSubsystemTestCase extends AbstractSubsystemBaseTest {
         standardSubsystemTest("subsystem_1_0.xml", false);
     }
 
+    @Test
+    public void testSubsystem30() throws Exception {
+        standardSubsystemTest("subsystem_3_0.xml", false);
+    }
+
     @Test
     public void testTransformersASEAP620() throws Exception {
         testTransformers10(ModelTestControllerVersion.EAP_6_2_0);
@@ -136,10 +141,57 @@ public class WeldSubsystemTestCase extends AbstractSubsystemBaseTest {
                 new FailedOperationTransformationConfig()
                         .addFailedAttribute(
                                 PathAddress.pathAddress(WeldExtension.PATH_SUBSYSTEM),
-                                new FalseOrUndefinedToTrueConfig (
+                                FailedOperationTransformationConfig.ChainedConfig.createBuilder(
                                         WeldResourceDefinition.NON_PORTABLE_MODE_ATTRIBUTE,
-                                        WeldResourceDefinition.REQUIRE_BEAN_DESCRIPTOR_ATTRIBUTE
-                                )
+                                        WeldResourceDefinition.REQUIRE_BEAN_DESCRIPTOR_ATTRIBUTE,
+                                        WeldResourceDefinition.THREAD_POOL_SIZE_ATTRIBUTE)
+                                        .addConfig(new FalseOrUndefinedToTrueConfig (
+                                                WeldResourceDefinition.NON_PORTABLE_MODE_ATTRIBUTE,
+                                                WeldResourceDefinition.REQUIRE_BEAN_DESCRIPTOR_ATTRIBUTE
+                                        ))
+                                        .addConfig(new FailedOperationTransformationConfig.NewAttributesConfig(WeldResourceDefinition.THREAD_POOL_SIZE_ATTRIBUTE))
+                                        .build()
+                        )
+        );
+    }
+
+    @Test
+    public void testTransformersWildFly10() throws Exception {
+        ModelTestControllerVersion controllerVersion = ModelTestControllerVersion.WILDFLY_10_0_0_FINAL;
+        ModelVersion modelVersion = ModelVersion.create(3, 0, 0);
+        KernelServicesBuilder builder = createKernelServicesBuilder(AdditionalInitialization.MANAGEMENT)
+                .setSubsystemXmlResource("subsystem_3_0.xml");
+        builder.createLegacyKernelServicesBuilder(AdditionalInitialization.MANAGEMENT, controllerVersion, modelVersion)
+                .addMavenResourceURL("org.wildfly:wildfly-weld:" + controllerVersion.getMavenGavVersion())
+                .skipReverseControllerCheck()
+                .dontPersistXml();
+
+        KernelServices mainServices = builder.build();
+        KernelServices legacyServices = mainServices.getLegacyServices(modelVersion);
+        Assert.assertTrue(mainServices.isSuccessfulBoot());
+        Assert.assertTrue(legacyServices.isSuccessfulBoot());
+
+        checkSubsystemModelTransformation(mainServices, modelVersion);
+    }
+
+    @Test
+    public void testTransformersRejectionWildFly10() throws Exception {
+        ModelTestControllerVersion controllerVersion = ModelTestControllerVersion.WILDFLY_10_0_0_FINAL;
+        ModelVersion modelVersion = ModelVersion.create(3, 0, 0);
+        KernelServicesBuilder builder = createKernelServicesBuilder(AdditionalInitialization.MANAGEMENT);
+        builder.createLegacyKernelServicesBuilder(AdditionalInitialization.MANAGEMENT, controllerVersion, modelVersion)
+                .addMavenResourceURL("org.wildfly:wildfly-weld:" + controllerVersion.getMavenGavVersion())
+                .skipReverseControllerCheck()
+                .dontPersistXml();
+
+        KernelServices mainServices = builder.build();
+        Assert.assertTrue(mainServices.isSuccessfulBoot());
+        Assert.assertTrue(mainServices.getLegacyServices(modelVersion).isSuccessfulBoot());
+        ModelTestUtils.checkFailedTransformedBootOperations(mainServices, modelVersion, parse(getSubsystemXml("subsystem-reject.xml")),
+                new FailedOperationTransformationConfig()
+                        .addFailedAttribute(
+                                PathAddress.pathAddress(WeldExtension.PATH_SUBSYSTEM),
+                                new FailedOperationTransformationConfig.NewAttributesConfig(WeldResourceDefinition.THREAD_POOL_SIZE_ATTRIBUTE)
                         )
         );
     }
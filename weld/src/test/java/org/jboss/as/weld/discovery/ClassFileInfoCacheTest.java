@@ -0,0 +1,133 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.jboss.as.weld.discovery;
+
+import java.io.File;
+import java.io.IOException;
+
+import javax.enterprise.inject.Vetoed;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.jboss.as.ee.utils.DeploymentCacheFile;
+import org.jboss.as.server.deployment.annotation.CompositeIndex;
+import org.jboss.weld.resources.spi.ClassFileInfo;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ClassFileInfoCacheTest {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testCachedAnswers() throws IOException {
+        final CompositeIndex index = IndexUtils.createIndex(Alpha.class, AlphaImpl.class, AbstractAlpha.class, Inject.class, Named.class);
+        final File file = new File(folder.getRoot(), "deployment.cache");
+
+        final WeldClassFileServices services = new WeldClassFileServices(index, getClass().getClassLoader(), load(file, "1"));
+        assertAlphaImpl(services.getClassFileInfo(AlphaImpl.class.getName()));
+        services.cleanupAfterBoot();
+        Assert.assertTrue(file.isFile());
+
+        final ClassFileInfoCache cache = load(file, "1");
+        final ClassFileInfoCache.Entry entry = cache.get(AlphaImpl.class.getName());
+        Assert.assertNotNull(entry);
+        Assert.assertEquals(AbstractAlpha.class.getName(), entry.superclassName);
+        Assert.assertEquals(Boolean.TRUE, entry.answers.get(ClassFileInfoCache.assignableToKey(Alpha.class.getName())));
+        Assert.assertEquals(Boolean.FALSE, entry.answers.get(ClassFileInfoCache.annotationDeclaredKey(Vetoed.class.getName())));
+
+        final WeldClassFileServices cachedServices = new WeldClassFileServices(index, getClass().getClassLoader(), load(file, "1"));
+        final ClassFileInfo cached = cachedServices.getClassFileInfo(AlphaImpl.class.getName());
+        Assert.assertTrue(cached instanceof CachedClassFileInfo);
+        assertAlphaImpl(cached);
+        // not answered during the first bootstrap
+        Assert.assertFalse(cached.isAssignableTo(Named.class));
+    }
+
+    @Test
+    public void testContentChange() throws IOException {
+        final CompositeIndex index = IndexUtils.createIndex(Alpha.class, AlphaImpl.class, AbstractAlpha.class, Inject.class, Named.class);
+        final File file = new File(folder.getRoot(), "deployment.cache");
+
+        final WeldClassFileServices services = new WeldClassFileServices(index, getClass().getClassLoader(), load(file, "1"));
+        services.getClassFileInfo(Alpha.class.getName());
+        services.cleanupAfterBoot();
+
+        Assert.assertNotNull(load(file, "1").get(Alpha.class.getName()));
+        Assert.assertNull(load(file, "2").get(Alpha.class.getName()));
+    }
+
+    @Test
+    public void testAssignabilityToOtherClassesIsNotCached() throws IOException {
+        final CompositeIndex index = IndexUtils.createIndex(Alpha.class, AlphaImpl.class, AbstractAlpha.class, Inject.class, Named.class);
+        final File file = new File(folder.getRoot(), "deployment.cache");
+
+        final WeldClassFileServices services = new WeldClassFileServices(index, getClass().getClassLoader(), load(file, "1"));
+        final ClassFileInfo alphaImpl = services.getClassFileInfo(AlphaImpl.class.getName());
+        Assert.assertTrue(alphaImpl.isAssignableTo(Alpha.class));
+        Assert.assertFalse(alphaImpl.isAssignableTo(Named.class));
+        Assert.assertFalse(alphaImpl.isAssignableFrom(Object.class));
+        services.cleanupAfterBoot();
+
+        final ClassFileInfoCache.Entry entry = load(file, "1").get(AlphaImpl.class.getName());
+        Assert.assertEquals(Boolean.TRUE, entry.answers.get(ClassFileInfoCache.assignableToKey(Alpha.class.getName())));
+        Assert.assertFalse(entry.answers.containsKey(ClassFileInfoCache.assignableToKey(Named.class.getName())));
+        Assert.assertFalse(entry.answers.containsKey(ClassFileInfoCache.assignableFromKey(Object.class.getName())));
+    }
+
+    @Test
+    public void testAnnotationsOutsideOfIndexAreNotCached() throws IOException {
+        final CompositeIndex index = IndexUtils.createIndex(Charlie.class, Inject.class);
+        final File file = new File(folder.getRoot(), "deployment.cache");
+
+        final WeldClassFileServices services = new WeldClassFileServices(index, getClass().getClassLoader(), load(file, "1"));
+        final ClassFileInfo charlie = services.getClassFileInfo(Charlie.class.getName());
+        Assert.assertTrue(charlie.containsAnnotation(AnnotationNotInIndex.class));
+        // answered from the meta-annotations of AnnotationNotInIndex, which is not in the index
+        Assert.assertFalse(charlie.containsAnnotation(Inject.class));
+        services.cleanupAfterBoot();
+
+        final ClassFileInfoCache.Entry entry = load(file, "1").get(Charlie.class.getName());
+        Assert.assertEquals(Boolean.TRUE, entry.answers.get(ClassFileInfoCache.containsAnnotationKey(AnnotationNotInIndex.class.getName())));
+        Assert.assertFalse(entry.answers.containsKey(ClassFileInfoCache.containsAnnotationKey(Inject.class.getName())));
+    }
+
+    private static ClassFileInfoCache load(File file, String contentHash) {
+        // the test classes play the part of the deployment classes
+        return ClassFileInfoCache.load(new DeploymentCacheFile(file, 1, contentHash),
+                type -> type.getName().startsWith(ClassFileInfoCacheTest.class.getPackage().getName()));
+    }
+
+    private static void assertAlphaImpl(ClassFileInfo alphaImpl) {
+        Assert.assertEquals(AlphaImpl.class.getName(), alphaImpl.getClassName());
+        Assert.assertEquals(AbstractAlpha.class.getName(), alphaImpl.getSuperclassName());
+        Assert.assertTrue(alphaImpl.isTopLevelClass());
+        Assert.assertFalse(alphaImpl.isVetoed());
+        Assert.assertFalse(alphaImpl.isAnnotationDeclared(Vetoed.class));
+        Assert.assertTrue(alphaImpl.isAssignableTo(Alpha.class));
+    }
+}